@@ -0,0 +1,22 @@
+-- =====================================================
+-- Substring Search Indexes for Genes
+-- =====================================================
+-- Safe to re-run. Each statement must run outside a transaction block
+-- (CONCURRENTLY), which psql autocommit does by default.
+--
+-- pg_trgm GIN index on lower(name) serves GeneSearchRepository.searchByName
+-- (lower(name) LIKE '%x%') with a bitmap index scan instead of a sequential
+-- scan; the lower() B-tree index serves case-insensitive exact lookups.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_genes_name_trgm
+    ON genes USING gin (lower(name) gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_genes_name_lower
+    ON genes (lower(name));
+
+ANALYZE genes;
+
+-- Verification query
+SELECT indexname, indexdef FROM pg_indexes WHERE tablename = 'genes' ORDER BY indexname;
@@ -0,0 +1,40 @@
+#!/usr/bin/env bash
+# Runs gene-lookup.js against gene-service twice - platform threads, then virtual threads - and
+# prints throughput and p99 latency for both. Requires k6, a built jar, Redis and PostgreSQL.
+#
+# The summary lines are also appended to loadtest/results/<date>-<commit>.txt, together with the
+# machine and settings, so runs can be committed and compared across releases.
+#
+# Usage (from gene-service/): loadtest/compare-thread-models.sh
+# Extra JVM/Spring arguments can be passed through APP_ARGS.
+set -euo pipefail
+
+JAR=$(ls target/gene-service-*.jar | head -n 1)
+PORT=${PORT:-8080}
+export BASE_URL=${BASE_URL:-http://localhost:${PORT}}
+RESULTS="loadtest/results/$(date +%F)-$(git rev-parse --short HEAD).txt"
+mkdir -p loadtest/results
+{
+    echo "# $(date -u +%FT%TZ) $(git rev-parse --short HEAD)"
+    echo "# java: $(java -version 2>&1 | head -n 1), cpus: $(nproc), rate: ${RATE:-2000}/s, duration: ${DURATION:-2m}"
+    echo "# args: ${APP_ARGS:-none}"
+} >> "$RESULTS"
+
+run() {
+    local label=$1 virtual=$2
+    java -jar "$JAR" --server.port="$PORT" --spring.threads.virtual.enabled="$virtual" ${APP_ARGS:-} \
+        > "target/loadtest-${label}.log" 2>&1 &
+    local pid=$!
+    trap 'kill $pid 2>/dev/null || true' EXIT
+
+    until curl -fs "${BASE_URL}/actuator/health" > /dev/null; do sleep 1; done
+    LABEL=$label k6 run --quiet loadtest/gene-lookup.js | tee -a "$RESULTS"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+run platform false
+run virtual true
+echo "Results appended to $RESULTS"
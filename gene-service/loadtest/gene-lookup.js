@@ -0,0 +1,77 @@
+// Load test for GET /api/genes/{name}, used to compare the platform-thread and virtual-thread
+// request models (see compare-thread-models.sh).
+//
+// Each run starts from a cold cache: setup() logs in as admin and clears the gene cache, so the
+// first requests per gene take the slow path (single-flight, Redisson lock, JDBC) while the rest
+// are Redis/near-cache hits. A share of requests ask for unknown genes to exercise negative caching.
+//
+// Environment:
+//   BASE_URL        default http://localhost:8080
+//   ADMIN_USER      admin username for the cache clear (optional; skip clearing if unset)
+//   ADMIN_PASSWORD  admin password
+//   RATE            target requests per second (default 2000)
+//   DURATION        test duration (default 2m)
+//   LABEL           tag added to the summary file name (e.g. "platform" or "virtual")
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const RATE = parseInt(__ENV.RATE || '2000', 10);
+const DURATION = __ENV.DURATION || '2m';
+const LABEL = __ENV.LABEL || 'run';
+
+const GENES = [
+    'ALK', 'APC', 'ATM', 'BRAF', 'BRCA1', 'BRCA2', 'CDKN2A', 'EGFR', 'ERBB2', 'FGFR1',
+    'FGFR2', 'FGFR3', 'KEAP1', 'KRAS', 'MDM2', 'MET', 'MYC', 'NF1', 'NOTCH1', 'NTRK1',
+    'NTRK2', 'NTRK3', 'PIK3CA', 'PTEN', 'RB1', 'RET', 'ROS1', 'SMAD4', 'STK11', 'TP53',
+];
+const UNKNOWN_SHARE = 0.1;
+
+export const options = {
+    scenarios: {
+        gene_lookup: {
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+        },
+    },
+    summaryTrendStats: ['avg', 'med', 'p(90)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export function setup() {
+    if (!__ENV.ADMIN_USER) {
+        return;
+    }
+    const login = http.post(`${BASE_URL}/auth/login`,
+        JSON.stringify({ username: __ENV.ADMIN_USER, password: __ENV.ADMIN_PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' } });
+    check(login, { 'admin login succeeded': (r) => r.status === 200 });
+    const clear = http.del(`${BASE_URL}/api/cache/clear`, null,
+        { headers: { Authorization: `Bearer ${login.json('accessToken')}` } });
+    check(clear, { 'cache cleared': (r) => r.status === 200 });
+}
+
+export default function () {
+    const name = Math.random() < UNKNOWN_SHARE
+        ? `UNKNOWN${Math.floor(Math.random() * 1000)}`
+        : GENES[Math.floor(Math.random() * GENES.length)];
+    const res = http.get(`${BASE_URL}/api/genes/${name}`, { tags: { name: 'GET /api/genes/{name}' } });
+    check(res, { 'status is 200 or 404': (r) => r.status === 200 || r.status === 404 });
+}
+
+export function handleSummary(data) {
+    const duration = data.metrics.http_req_duration.values;
+    const line = `${LABEL}: ${data.metrics.http_reqs.values.rate.toFixed(0)} req/s, `
+        + `p50 ${duration.med.toFixed(1)} ms, p99 ${duration['p(99)'].toFixed(1)} ms, `
+        + `failed ${(data.metrics.http_req_failed.values.rate * 100).toFixed(2)}%\n`;
+    return {
+        stdout: line,
+        [`target/loadtest-${LABEL}.json`]: JSON.stringify(data, null, 2),
+    };
+}
@@ -0,0 +1,43 @@
+package com.gene.sphere.geneservice;
+
+import com.gene.sphere.geneservice.model.Gene;
+import com.gene.sphere.geneservice.model.GeneRecord;
+
+/**
+ * Shared sample data for the JMH benchmarks, sized like a typical curated gene row.
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * @return a fully populated TP53 record
+     */
+    public static GeneRecord tp53() {
+        return new GeneRecord(
+                "TP53",
+                "Tumor suppressor gene, guardian of genome",
+                "Controls cell cycle arrest, apoptosis and DNA repair in response to cellular stress",
+                "Loss of function causes uncontrolled proliferation and genomic instability",
+                "50% of all cancers, ~46% of lung adenocarcinomas",
+                "None approved, trials ongoing (APR-246, PC14586)",
+                "https://pubmed.ncbi.nlm.nih.gov/?term=TP53+lung+cancer");
+    }
+
+    /**
+     * @return the TP53 entity, as loaded from the database
+     */
+    public static Gene tp53Entity() {
+        GeneRecord dto = tp53();
+        Gene gene = new Gene();
+        gene.setName(dto.name());
+        gene.setDescription(dto.description());
+        gene.setNormalFunction(dto.normalFunction());
+        gene.setMutationEffect(dto.mutationEffect());
+        gene.setPrevalence(dto.prevalence());
+        gene.setTherapies(dto.therapies());
+        gene.setResearchLinks(dto.researchLinks());
+        return gene;
+    }
+}
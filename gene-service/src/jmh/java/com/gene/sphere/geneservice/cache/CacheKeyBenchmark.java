@@ -0,0 +1,30 @@
+package com.gene.sphere.geneservice.cache;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gene name normalization and cache key construction, done at least once per lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheKeyBenchmark {
+
+    @Param({"tp53", "BRCA1", "Cdkn2a"})
+    public String geneName;
+
+    @Benchmark
+    public String buildCacheKey() {
+        return RedisCacheService.buildCacheKey(geneName);
+    }
+
+    @Benchmark
+    public String buildNegativeCacheKey() {
+        return RedisCacheService.buildNegativeCacheKey(RedisCacheService.buildCacheKey(geneName));
+    }
+}
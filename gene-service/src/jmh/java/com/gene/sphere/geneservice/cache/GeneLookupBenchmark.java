@@ -0,0 +1,78 @@
+package com.gene.sphere.geneservice.cache;
+
+import com.gene.sphere.geneservice.BenchmarkFixtures;
+import com.gene.sphere.geneservice.model.GeneRecord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full {@link RedisCacheService#getGeneByName(String)} hit path, excluding network latency.
+ *
+ * <p>{@code NEAR} measures a near cache hit; {@code REDIS} disables the near cache so every call
+ * goes through normalization, the Redis lookup, value deserialization and metrics against an
+ * {@link InMemoryRedisTemplate}. With {@code refreshAhead=true}, the production default, the lookup
+ * is the pipelined {@code GET}/{@code GET}/{@code PTTL}; with {@code false} it is a plain {@code MGET}.
+ * The entry carries the default 5-day TTL, well outside the refresh window, so no refresh is queued.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneLookupBenchmark {
+
+    public enum Tier {
+        NEAR,
+        REDIS
+    }
+
+    @Param({"NEAR", "REDIS"})
+    public Tier tier;
+
+    @Param({"JSON", "BINARY"})
+    public GeneValueSerializer.Codec codec;
+
+    @Param({"true", "false"})
+    public boolean refreshAhead;
+
+    private RefreshAhead refreshAheadPolicy;
+
+    private RedisCacheService cacheService;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        InMemoryRedisTemplate redisTemplate = new InMemoryRedisTemplate(GeneValueSerializer.of(codec, 512));
+        GeneRecord gene = BenchmarkFixtures.tp53();
+        redisTemplate.opsForValue().set(RedisCacheService.buildCacheKey(gene.name()), gene, Duration.ofDays(5));
+
+        NearCache nearCache = new NearCache(redisTemplate, new RedisMessageListenerContainer(), meterRegistry,
+                tier == Tier.NEAR, 10_000, Duration.ofHours(1), "cache:gene:invalidate");
+        refreshAheadPolicy = new RefreshAhead(meterRegistry, refreshAhead, Duration.ofHours(1), 1.0, 1, 16);
+
+        // Database, lock, index and registry are not touched on the hit path
+        cacheService = new RedisCacheService(redisTemplate, null, null, nearCache, refreshAheadPolicy, null, null, null);
+        ReflectionTestUtils.setField(cacheService, "meterRegistry", meterRegistry);
+
+        if (cacheService.getGeneByName("tp53").isEmpty()) {
+            throw new IllegalStateException("Benchmark setup did not produce a cache hit");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        refreshAheadPolicy.shutdown();
+    }
+
+    @Benchmark
+    public Optional<GeneRecord> getGeneByName() {
+        return cacheService.getGeneByName("tp53");
+    }
+}
@@ -0,0 +1,52 @@
+package com.gene.sphere.geneservice.cache;
+
+import com.gene.sphere.geneservice.BenchmarkFixtures;
+import com.gene.sphere.geneservice.model.GeneRecord;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis value serialization of a {@link GeneRecord} with each {@link GeneValueSerializer.Codec}.
+ *
+ * <p>{@code JSON} is the {@code GenericJackson2JsonRedisSerializer} path used by default.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneSerializationBenchmark {
+
+    @Param({"JSON", "BINARY"})
+    public GeneValueSerializer.Codec codec;
+
+    private GeneValueSerializer serializer;
+
+    private GeneRecord gene;
+
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() {
+        serializer = GeneValueSerializer.of(codec, 512);
+        gene = BenchmarkFixtures.tp53();
+        serialized = serializer.serialize(gene);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(gene);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(serialized);
+    }
+
+    @Benchmark
+    public Object roundTrip() {
+        return serializer.deserialize(serializer.serialize(gene));
+    }
+}
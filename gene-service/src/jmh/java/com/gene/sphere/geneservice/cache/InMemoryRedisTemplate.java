@@ -0,0 +1,135 @@
+package com.gene.sphere.geneservice.cache;
+
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process stand-in for Redis, exposing just the value commands used on the cache read path.
+ *
+ * <p>Values are stored serialized and decoded on every read, so benchmarks include the value
+ * serializer cost; only the network round-trip is left out. Expiries set with {@code SET ... PX}
+ * are honoured and reported by {@code PTTL}. {@link #executePipelined(SessionCallback)} runs the
+ * callback's value and {@code PTTL} commands in order and returns their results, as a pipeline would.
+ * Unsupported commands throw {@link UnsupportedOperationException}.
+ */
+class InMemoryRedisTemplate extends RedisTemplate<String, Object> {
+
+    private final Map<String, byte[]> store = new ConcurrentHashMap<>();
+
+    private final Map<String, Long> expiresAtMillis = new ConcurrentHashMap<>();
+
+    private final RedisSerializer<Object> valueSerializer;
+
+    private final ValueOperations<String, Object> valueOperations;
+
+    InMemoryRedisTemplate(RedisSerializer<Object> valueSerializer) {
+        setKeySerializer(new StringRedisSerializer());
+        setValueSerializer(valueSerializer);
+        this.valueSerializer = valueSerializer;
+        this.valueOperations = proxy(ValueOperations.class, "InMemoryValueOperations",
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getOperations" -> this;
+                    default -> valueCommand(method.getName(), args);
+                });
+    }
+
+    @Override
+    public ValueOperations<String, Object> opsForValue() {
+        return valueOperations;
+    }
+
+    @Override
+    public Long getExpire(String key, TimeUnit timeUnit) {
+        if (read(key) == null) {
+            return -2L;
+        }
+        Long expiresAt = expiresAtMillis.get(key);
+        if (expiresAt == null) {
+            return -1L;
+        }
+        return timeUnit.convert(expiresAt - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public List<Object> executePipelined(SessionCallback<?> session) {
+        List<Object> results = new ArrayList<>();
+        ValueOperations<String, Object> pipelinedValues = proxy(ValueOperations.class, "PipelinedValueOperations",
+                (proxy, method, args) -> {
+                    results.add(valueCommand(method.getName(), args));
+                    return null;
+                });
+        RedisOperations<String, Object> pipeline = proxy(RedisOperations.class, "InMemoryPipeline",
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "opsForValue" -> pipelinedValues;
+                    case "getExpire" -> {
+                        TimeUnit timeUnit = args.length > 1 ? (TimeUnit) args[1] : TimeUnit.SECONDS;
+                        results.add(getExpire((String) args[0], timeUnit));
+                        yield null;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        session.execute(pipeline);
+        return results;
+    }
+
+    private Object valueCommand(String command, Object[] args) {
+        return switch (command) {
+            case "get" -> read(args[0]);
+            case "multiGet" -> {
+                List<Object> values = new ArrayList<>();
+                for (Object key : (Collection<?>) args[0]) {
+                    values.add(read(key));
+                }
+                yield values;
+            }
+            case "set" -> {
+                String key = (String) args[0];
+                store.put(key, valueSerializer.serialize(args[1]));
+                Duration ttl = args.length == 3 ? (Duration) args[2]
+                        : args.length == 4 ? Duration.of((Long) args[2], ((TimeUnit) args[3]).toChronoUnit())
+                        : null;
+                if (ttl != null) {
+                    expiresAtMillis.put(key, System.currentTimeMillis() + ttl.toMillis());
+                } else {
+                    expiresAtMillis.remove(key);
+                }
+                yield null;
+            }
+            default -> throw new UnsupportedOperationException(command);
+        };
+    }
+
+    private Object read(Object key) {
+        Long expiresAt = expiresAtMillis.get(key);
+        if (expiresAt != null && expiresAt <= System.currentTimeMillis()) {
+            return null;
+        }
+        byte[] bytes = store.get((String) key);
+        return bytes != null ? valueSerializer.deserialize(bytes) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<?> type, String name, InvocationHandler commands) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> name;
+                    default -> commands.invoke(proxy, method, args);
+                });
+    }
+}
@@ -0,0 +1,42 @@
+package com.gene.sphere.geneservice.factory;
+
+import com.gene.sphere.geneservice.BenchmarkFixtures;
+import com.gene.sphere.geneservice.model.Gene;
+import com.gene.sphere.geneservice.model.GeneRecord;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity/DTO mapping cost, paid on every database read and write.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneFactoryBenchmark {
+
+    private final GeneFactory factory = new GeneFactory();
+
+    private Gene entity;
+
+    private GeneRecord dto;
+
+    @Setup
+    public void setUp() {
+        entity = BenchmarkFixtures.tp53Entity();
+        dto = BenchmarkFixtures.tp53();
+    }
+
+    @Benchmark
+    public GeneRecord toDto() {
+        return factory.toDto(entity);
+    }
+
+    @Benchmark
+    public Gene fromDto() {
+        return factory.fromDto(dto);
+    }
+}
@@ -0,0 +1,61 @@
+package com.gene.sphere.geneservice.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token verification cost paid by {@link JwtAuthenticationFilter} on every authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET =
+            "benchmark-secret-benchmark-secret-benchmark-secret-benchmark-secret-0123456789";
+
+    private JwtTokenProvider tokenProvider;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, 3_600_000);
+        token = tokenProvider.generateToken(new UsernamePasswordAuthenticationToken(
+                "researcher", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return tokenProvider.validate(token);
+    }
+
+    @Benchmark
+    public String getUserName() {
+        return tokenProvider.getUserName(token);
+    }
+
+    /**
+     * Previous filter behaviour: validate, then parse again for the subject.
+     */
+    @Benchmark
+    public String validateAndGetUserName() {
+        return tokenProvider.validate(token) ? tokenProvider.getUserName(token) : null;
+    }
+
+    /**
+     * Stateless filter behaviour: one parse, authorities read from the roles claim.
+     */
+    @Benchmark
+    public List<GrantedAuthority> parseClaimsAndAuthorities() {
+        return tokenProvider.parseClaims(token).map(JwtTokenProvider::getAuthorities).orElse(List.of());
+    }
+}
@@ -0,0 +1,46 @@
+package com.gene.sphere.geneservice.cache;
+
+/**
+ * Snapshot of an asynchronous cache clear job, as returned to pollers.
+ *
+ * <p>While the job is {@code RUNNING}, {@code deletedCount} grows after every {@code UNLINK} batch;
+ * once it is {@code COMPLETED} or {@code FAILED}, {@code result} holds the final {@link ClearResult}
+ * (which may be a partial success).
+ *
+ * @param id           job identifier
+ * @param pattern      the Redis key pattern being cleared
+ * @param state        current job state
+ * @param deletedCount number of keys deleted so far
+ * @param startedAt    Unix timestamp (milliseconds) when the job was submitted
+ * @param finishedAt   Unix timestamp (milliseconds) when the job ended, null while running
+ * @param result       final outcome, null while running
+ */
+public record CacheClearJob(
+        String id,
+        String pattern,
+        State state,
+        long deletedCount,
+        long startedAt,
+        Long finishedAt,
+        ClearResult result
+) {
+
+    /**
+     * Lifecycle of a clear job.
+     */
+    public enum State {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    /**
+     * Checks if the job has ended (successfully or not).
+     *
+     * @return true if the job is COMPLETED or FAILED
+     */
+    public boolean isFinished() {
+        return state == State.COMPLETED || state == State.FAILED;
+    }
+}
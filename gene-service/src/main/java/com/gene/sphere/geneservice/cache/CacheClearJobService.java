@@ -0,0 +1,160 @@
+package com.gene.sphere.geneservice.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs cache clears asynchronously and tracks their progress.
+ *
+ * <p>Clearing a large keyspace can take far longer than an HTTP request should. Jobs submitted
+ * here run {@link RedisCacheService#clearByPattern(String, java.util.function.LongConsumer)} on a
+ * single background thread (clears are serialized so they never compete with each other), while
+ * callers poll {@link #getJob(String)} for the running deleted-key count and the final
+ * {@link ClearResult}.
+ *
+ * <p>Job state is kept in memory on the node that accepted the job; only the most recent
+ * {@code cache.clear-jobs.retained} finished jobs are retained.
+ */
+@Service
+public class CacheClearJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheClearJobService.class);
+
+    private final RedisCacheService cacheService;
+
+    private final MeterRegistry meterRegistry;
+
+    private final int retainedJobs;
+
+    private final Map<String, TrackedJob> jobs = new ConcurrentHashMap<>();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cache-clear-job");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * @param cacheService  the cache service performing the clears
+     * @param meterRegistry registry for job metrics
+     * @param retainedJobs  number of finished jobs kept for polling (default: 100)
+     */
+    public CacheClearJobService(
+            RedisCacheService cacheService,
+            MeterRegistry meterRegistry,
+            @Value("${cache.clear-jobs.retained:100}") int retainedJobs) {
+        this.cacheService = cacheService;
+        this.meterRegistry = meterRegistry;
+        this.retainedJobs = retainedJobs;
+    }
+
+    /**
+     * Submits a clear of every key matching {@code pattern}.
+     *
+     * @param pattern the Redis key pattern (validated by {@link RedisCacheService#clearByPattern})
+     * @return the PENDING job snapshot
+     */
+    public CacheClearJob submit(String pattern) {
+        pruneFinishedJobs();
+
+        TrackedJob job = new TrackedJob(UUID.randomUUID().toString(), pattern, System.currentTimeMillis());
+        jobs.put(job.id, job);
+        meterRegistry.counter("cache.clear_jobs.submitted").increment();
+
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            job.finish(CacheClearJob.State.FAILED, ClearResult.failure(pattern, "Clear job executor is shut down"));
+        }
+        logger.info("Submitted cache clear job {} for pattern: {}", job.id, pattern);
+        return job.snapshot();
+    }
+
+    /**
+     * Returns the current snapshot of a job.
+     *
+     * @param id the job identifier
+     * @return the job, or empty if unknown (never submitted here, or pruned)
+     */
+    public Optional<CacheClearJob> getJob(String id) {
+        return Optional.ofNullable(jobs.get(id)).map(TrackedJob::snapshot);
+    }
+
+    private void run(TrackedJob job) {
+        job.state = CacheClearJob.State.RUNNING;
+        try {
+            ClearResult result = cacheService.clearByPattern(job.pattern, job.deleted::set);
+            job.finish(result.success() ? CacheClearJob.State.COMPLETED : CacheClearJob.State.FAILED, result);
+            logger.info("Cache clear job {} finished: {}", job.id, result);
+        } catch (Exception e) {
+            logger.error("Cache clear job {} failed", job.id, e);
+            job.finish(CacheClearJob.State.FAILED, job.deleted.get() > 0
+                    ? ClearResult.partialSuccess(job.deleted.get(), job.pattern, String.valueOf(e.getMessage()))
+                    : ClearResult.failure(job.pattern, String.valueOf(e.getMessage())));
+        }
+        meterRegistry.counter("cache.clear_jobs.finished", "state", job.state.name()).increment();
+    }
+
+    private void pruneFinishedJobs() {
+        long finished = jobs.values().stream().filter(job -> job.result != null).count();
+        if (finished < retainedJobs) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(job -> job.result != null)
+                .sorted((a, b) -> Long.compare(a.startedAt, b.startedAt))
+                .limit(finished - retainedJobs + 1)
+                .forEach(job -> jobs.remove(job.id));
+    }
+
+    /**
+     * Stops accepting jobs; a running clear is interrupted.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Mutable job state shared between the worker thread and pollers.
+     */
+    private static final class TrackedJob {
+        private final String id;
+        private final String pattern;
+        private final long startedAt;
+        private final AtomicLong deleted = new AtomicLong();
+        private volatile CacheClearJob.State state = CacheClearJob.State.PENDING;
+        private volatile Long finishedAt;
+        private volatile ClearResult result;
+
+        private TrackedJob(String id, String pattern, long startedAt) {
+            this.id = id;
+            this.pattern = pattern;
+            this.startedAt = startedAt;
+        }
+
+        private void finish(CacheClearJob.State finalState, ClearResult finalResult) {
+            this.deleted.set(finalResult.deletedCount());
+            this.finishedAt = System.currentTimeMillis();
+            this.result = finalResult;
+            this.state = finalState;
+        }
+
+        private CacheClearJob snapshot() {
+            return new CacheClearJob(id, pattern, state, deleted.get(), startedAt, finishedAt, result);
+        }
+    }
+}
@@ -0,0 +1,446 @@
+package com.gene.sphere.geneservice.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Incrementally maintained registries of cache keys per namespace, for constant-time status.
+ *
+ * <p>Counting keys with {@code SCAN} walks the whole keyspace on every status call, which shows up
+ * in the Redis slowlog when monitoring polls frequently. Instead, each namespace has a registry
+ * whose cardinality is the key count:
+ * <ul>
+ *   <li><strong>Genes:</strong> the {@link GeneSearchIndex} name set ({@code idx:gene:names}),
+ *       added to on every gene write</li>
+ *   <li><strong>Negative entries:</strong> {@code idx:gene:missing}</li>
+ *   <li><strong>Mutations:</strong> {@code idx:mutation:keys}, the {@code mutation:} caches written
+ *       by the mutation service to the same database. Tracking is read-only: the keys themselves
+ *       are never touched</li>
+ * </ul>
+ *
+ * <p>Registries follow the keyspace through keyevent notifications of the configured database only
+ * ({@code __keyevent@<db>__:set|del|expired|evicted}). The server must publish them: operators set
+ * {@code notify-keyspace-events} to include {@code E$gxe}, e.g.
+ * {@code CONFIG SET notify-keyspace-events E$gxe} or {@code notify-keyspace-events E$gxe} in
+ * {@code redis.conf}. Setting {@code cache.status.configure-notifications=true} instead lets the
+ * service merge the flags in with {@code CONFIG SET} at startup; this changes server-wide
+ * configuration and is therefore off by default. Every node applies the same idempotent updates.
+ *
+ * <p><strong>Drift:</strong> Without the flags, expired and evicted keys stay registered and counts
+ * only grow. The flags are read with {@code CONFIG GET} at startup and on every reconciliation; while
+ * any is missing (or cannot be read), a warning is logged and {@link CacheStatus#approximate()} is set.
+ * A periodic reconciliation runs {@code EXISTS} on a bounded random sample of each registry and
+ * unregisters members whose key is gone, which also repairs notifications lost while the listener
+ * was disconnected.
+ *
+ * <p><strong>Memory:</strong> Per-namespace memory is estimated by running {@code MEMORY USAGE}
+ * on a few random registry members and multiplying the average by the count.
+ */
+@Component
+public class CacheKeyRegistry implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheKeyRegistry.class);
+
+    static final String NEGATIVE_REGISTRY_KEY = "idx:gene:missing";
+
+    static final String MUTATION_REGISTRY_KEY = "idx:mutation:keys";
+
+    /**
+     * Notification classes needed: keyevent channel ({@code E}), string commands ({@code $}),
+     * generic commands such as DEL/UNLINK ({@code g}), expired ({@code x}) and evicted ({@code e}).
+     */
+    static final String REQUIRED_NOTIFICATION_FLAGS = "E$gxe";
+
+    private static final String GENE_PREFIX = "gene:";
+
+    private static final String NEGATIVE_PREFIX = "missing:gene:";
+
+    /**
+     * Key prefix of the mutation service's caches ({@code mutation:<cache>::<key>}).
+     */
+    private static final String MUTATION_PREFIX = "mutation:";
+
+    /**
+     * Keyevent notifications that change key membership ({@code UNLINK} is reported as {@code del}).
+     */
+    private static final List<String> MEMBERSHIP_EVENTS = List.of("set", "del", "expired", "evicted");
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final GeneSearchIndex searchIndex;
+
+    private final MeterRegistry meterRegistry;
+
+    private final int memorySampleSize;
+
+    private final Duration reconcileInterval;
+
+    private final int reconcileSampleSize;
+
+    /**
+     * Whether the server was last seen publishing every required notification class.
+     */
+    private volatile boolean notificationsComplete = true;
+
+    private final ScheduledExecutorService reconcileExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cache-key-registry");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Subscribes to the keyevent notifications of {@code database}, turns them on on the server if
+     * enabled, and checks that the server publishes them.
+     *
+     * @param redisTemplate          string template for registry commands
+     * @param searchIndex            the gene name index, which doubles as the gene registry
+     * @param listenerContainer      container delivering keyevent notifications
+     * @param meterRegistry          registry for status metrics
+     * @param configureNotifications whether to merge the required flags into the server's
+     *                               {@code notify-keyspace-events} (default: false)
+     * @param memorySampleSize       keys sampled per namespace for memory estimates (default: 5)
+     * @param reconcileInterval      period of registry reconciliation (default: 1 minute, zero disables)
+     * @param reconcileSampleSize    members checked per registry on each reconciliation (default: 100)
+     * @param database               Redis database the cache lives in (default: 0)
+     */
+    public CacheKeyRegistry(
+            StringRedisTemplate redisTemplate,
+            GeneSearchIndex searchIndex,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${cache.status.configure-notifications:false}") boolean configureNotifications,
+            @Value("${cache.status.memory-sample-size:5}") int memorySampleSize,
+            @Value("${cache.status.reconcile-interval:1m}") Duration reconcileInterval,
+            @Value("${cache.status.reconcile-sample-size:100}") int reconcileSampleSize,
+            @Value("${spring.redis.database:0}") int database) {
+        this.redisTemplate = redisTemplate;
+        this.searchIndex = searchIndex;
+        this.meterRegistry = meterRegistry;
+        this.memorySampleSize = memorySampleSize;
+        this.reconcileInterval = reconcileInterval;
+        this.reconcileSampleSize = reconcileSampleSize;
+
+        if (configureNotifications) {
+            enableKeyspaceNotifications();
+        }
+        checkKeyspaceNotifications();
+        listenerContainer.addMessageListener(this, keyeventTopics(database));
+    }
+
+    /**
+     * Schedules the periodic reconciliation once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!reconcileInterval.isZero() && !reconcileInterval.isNegative()) {
+            long periodMillis = reconcileInterval.toMillis();
+            reconcileExecutor.scheduleWithFixedDelay(this::reconcile, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * The keyevent channels of {@code database} for every membership event.
+     *
+     * @param database Redis database number
+     * @return one channel per event in {@link #MEMBERSHIP_EVENTS}
+     */
+    static List<ChannelTopic> keyeventTopics(int database) {
+        return MEMBERSHIP_EVENTS.stream()
+                .map(event -> new ChannelTopic("__keyevent@" + database + "__:" + event))
+                .toList();
+    }
+
+    /**
+     * Applies a keyevent notification to the registries.
+     *
+     * <p>The channel is {@code __keyevent@<db>__:<event>} and the body is the affected key.
+     *
+     * @param message the notification
+     * @param pattern {@code null}; channels are subscribed to directly
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String event = channel.substring(channel.lastIndexOf(':') + 1);
+        String key = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            switch (event) {
+                case "set" -> onWrite(key);
+                case "del", "expired", "evicted" -> onRemove(key);
+                default -> {
+                    // Other events do not change key membership
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to apply keyspace event {} for key: {}", event, key, e);
+            meterRegistry.counter("cache.errors", "operation", "key_registry").increment();
+        }
+    }
+
+    /**
+     * Reads key counts and memory estimates for every namespace.
+     *
+     * <p>Costs two pipelined round-trips regardless of the number of keys: one for the registry
+     * cardinalities, {@code DBSIZE} and random samples; one for {@code MEMORY USAGE} of the samples.
+     * The status is flagged approximate while the server does not publish every required notification.
+     *
+     * @return current cache status
+     */
+    public CacheStatus snapshot() {
+        List<Object> counts = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForZSet().zCard(GeneSearchIndex.NAMES_KEY);
+                ops.opsForSet().size(NEGATIVE_REGISTRY_KEY);
+                ops.opsForSet().size(MUTATION_REGISTRY_KEY);
+                ops.execute((RedisCallback<Long>) connection -> connection.serverCommands().dbSize());
+                ops.opsForZSet().randomMembers(GeneSearchIndex.NAMES_KEY, memorySampleSize);
+                ops.opsForSet().distinctRandomMembers(NEGATIVE_REGISTRY_KEY, memorySampleSize);
+                ops.opsForSet().distinctRandomMembers(MUTATION_REGISTRY_KEY, memorySampleSize);
+                return null;
+            }
+        });
+
+        long geneKeys = asLong(counts.get(0));
+        long negativeKeys = asLong(counts.get(1));
+        long mutationKeys = asLong(counts.get(2));
+        long totalKeys = asLong(counts.get(3));
+
+        List<String> geneSample = asStrings(counts.get(4)).stream().map(name -> GENE_PREFIX + name).toList();
+        List<String> negativeSample = asStrings(counts.get(5));
+        List<String> mutationSample = asStrings(counts.get(6));
+
+        List<String> sampled = Stream.of(geneSample, negativeSample, mutationSample).flatMap(List::stream).toList();
+        List<Object> usages = sampled.isEmpty() ? List.of() : redisTemplate.executePipelined(
+                (RedisCallback<Object>) connection -> {
+                    for (String key : sampled) {
+                        connection.execute("MEMORY",
+                                "USAGE".getBytes(StandardCharsets.UTF_8), key.getBytes(StandardCharsets.UTF_8));
+                    }
+                    return null;
+                });
+
+        Map<String, Long> memoryBytes = new LinkedHashMap<>();
+        memoryBytes.put("gene", estimate(usages, 0, geneSample.size(), geneKeys));
+        memoryBytes.put("negative", estimate(usages, geneSample.size(), negativeSample.size(), negativeKeys));
+        memoryBytes.put("mutation", estimate(usages, geneSample.size() + negativeSample.size(),
+                mutationSample.size(), mutationKeys));
+
+        return CacheStatus.of(totalKeys, geneKeys, negativeKeys, mutationKeys, memoryBytes, "AVAILABLE",
+                !notificationsComplete);
+    }
+
+    /**
+     * Unregisters sampled members whose key no longer exists.
+     *
+     * <p>Draws up to {@code reconcileSampleSize} random members per registry and checks them with
+     * pipelined {@code EXISTS}, so each run costs two round-trips and a bounded amount of server work
+     * however large the registries are. Also re-reads the server's notification flags. A key rewritten
+     * between the check and the removal is registered again by its next write.
+     */
+    void reconcile() {
+        try {
+            checkKeyspaceNotifications();
+
+            List<Object> samples = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    ops.opsForZSet().distinctRandomMembers(GeneSearchIndex.NAMES_KEY, reconcileSampleSize);
+                    ops.opsForSet().distinctRandomMembers(NEGATIVE_REGISTRY_KEY, reconcileSampleSize);
+                    ops.opsForSet().distinctRandomMembers(MUTATION_REGISTRY_KEY, reconcileSampleSize);
+                    return null;
+                }
+            });
+            List<String> geneNames = asStrings(samples.get(0));
+            List<String> negativeSample = asStrings(samples.get(1));
+            List<String> mutationSample = asStrings(samples.get(2));
+
+            List<String> keys = Stream.of(
+                    geneNames.stream().map(name -> GENE_PREFIX + name).toList(), negativeSample, mutationSample)
+                    .flatMap(List::stream).toList();
+            if (keys.isEmpty()) {
+                return;
+            }
+            List<Object> exists = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (String key : keys) {
+                        ops.hasKey(key);
+                    }
+                    return null;
+                }
+            });
+
+            List<String> staleGenes = missing(geneNames, exists, 0);
+            List<String> staleNegatives = missing(negativeSample, exists, geneNames.size());
+            List<String> staleMutations = missing(mutationSample, exists, geneNames.size() + negativeSample.size());
+
+            searchIndex.removeAll(staleGenes);
+            if (!staleNegatives.isEmpty()) {
+                redisTemplate.opsForSet().remove(NEGATIVE_REGISTRY_KEY, staleNegatives.toArray());
+            }
+            if (!staleMutations.isEmpty()) {
+                redisTemplate.opsForSet().remove(MUTATION_REGISTRY_KEY, staleMutations.toArray());
+            }
+            meterRegistry.counter("cache.status.reconciled", "namespace", "gene").increment(staleGenes.size());
+            meterRegistry.counter("cache.status.reconciled", "namespace", "negative").increment(staleNegatives.size());
+            meterRegistry.counter("cache.status.reconciled", "namespace", "mutation").increment(staleMutations.size());
+        } catch (Exception e) {
+            logger.warn("Failed to reconcile cache key registries", e);
+            meterRegistry.counter("cache.errors", "operation", "key_reconcile").increment();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reconcileExecutor.shutdownNow();
+    }
+
+    private void onWrite(String key) {
+        if (key.startsWith(NEGATIVE_PREFIX)) {
+            redisTemplate.opsForSet().add(NEGATIVE_REGISTRY_KEY, key);
+        } else if (key.startsWith(MUTATION_PREFIX)) {
+            redisTemplate.opsForSet().add(MUTATION_REGISTRY_KEY, key);
+        }
+        // Gene writes are indexed synchronously by RedisCacheService
+    }
+
+    private void onRemove(String key) {
+        if (key.startsWith(GENE_PREFIX)) {
+            searchIndex.remove(key.substring(GENE_PREFIX.length()));
+        } else if (key.startsWith(NEGATIVE_PREFIX)) {
+            redisTemplate.opsForSet().remove(NEGATIVE_REGISTRY_KEY, key);
+        } else if (key.startsWith(MUTATION_PREFIX)) {
+            redisTemplate.opsForSet().remove(MUTATION_REGISTRY_KEY, key);
+        }
+    }
+
+    /**
+     * Merges {@link #REQUIRED_NOTIFICATION_FLAGS} into the server's {@code notify-keyspace-events},
+     * keeping any classes already enabled for other consumers.
+     */
+    private void enableKeyspaceNotifications() {
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                Properties config = connection.serverCommands().getConfig("notify-keyspace-events");
+                String current = config != null ? config.getProperty("notify-keyspace-events", "") : "";
+                String merged = mergeNotificationFlags(current);
+                if (!merged.equals(current)) {
+                    connection.serverCommands().setConfig("notify-keyspace-events", merged);
+                    logger.info("Keyspace notifications changed from '{}' to '{}'", current, merged);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            logger.warn("Could not enable keyspace notifications; status counts will not follow expirations", e);
+            meterRegistry.counter("cache.errors", "operation", "notify_config").increment();
+        }
+    }
+
+    /**
+     * Reads the server's {@code notify-keyspace-events} and records whether every required class is
+     * published. Logs a warning when the flags go missing or cannot be read, since registries then
+     * drift and status counts are only approximate.
+     */
+    private void checkKeyspaceNotifications() {
+        boolean complete;
+        String current = null;
+        try {
+            current = redisTemplate.execute((RedisCallback<String>) connection -> {
+                Properties config = connection.serverCommands().getConfig("notify-keyspace-events");
+                return config != null ? config.getProperty("notify-keyspace-events", "") : "";
+            });
+            complete = current != null && mergeNotificationFlags(current).equals(current);
+        } catch (Exception e) {
+            logger.debug("Could not read notify-keyspace-events", e);
+            complete = false;
+        }
+        if (!complete && notificationsComplete) {
+            logger.warn("Redis notify-keyspace-events is '{}' but must include '{}'; cache status counts will "
+                    + "drift with expirations and are reported as approximate", current, REQUIRED_NOTIFICATION_FLAGS);
+        } else if (complete && !notificationsComplete) {
+            logger.info("Redis keyspace notifications are enabled; cache status counts follow expirations again");
+        }
+        notificationsComplete = complete;
+    }
+
+    /**
+     * Returns {@code current} plus any missing required flag. {@code A} already implies
+     * {@code $}, {@code g}, {@code x} and {@code e}.
+     *
+     * @param current the server's current flags
+     * @return the merged flags
+     */
+    static String mergeNotificationFlags(String current) {
+        StringBuilder merged = new StringBuilder(current);
+        for (char flag : REQUIRED_NOTIFICATION_FLAGS.toCharArray()) {
+            boolean impliedByAll = flag != 'E' && current.indexOf('A') >= 0;
+            if (!impliedByAll && merged.indexOf(String.valueOf(flag)) < 0) {
+                merged.append(flag);
+            }
+        }
+        return merged.toString();
+    }
+
+    private static long estimate(List<Object> usages, int from, int count, long keys) {
+        long total = 0;
+        int measured = 0;
+        for (int i = from; i < from + count && i < usages.size(); i++) {
+            if (usages.get(i) instanceof Long bytes) {
+                total += bytes;
+                measured++;
+            }
+        }
+        return measured == 0 ? 0L : total / measured * keys;
+    }
+
+    private static List<String> missing(List<String> members, List<Object> exists, int from) {
+        List<String> stale = new ArrayList<>();
+        for (int i = 0; i < members.size(); i++) {
+            if (Boolean.FALSE.equals(exists.get(from + i))) {
+                stale.add(members.get(i));
+            }
+        }
+        return stale;
+    }
+
+    private static long asLong(Object value) {
+        return value instanceof Long count ? count : 0L;
+    }
+
+    private static List<String> asStrings(Object value) {
+        if (value instanceof Collection<?> values) {
+            return values.stream().map(String::valueOf).toList();
+        }
+        return List.of();
+    }
+}
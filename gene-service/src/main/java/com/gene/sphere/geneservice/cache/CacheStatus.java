@@ -1,5 +1,7 @@
 package com.gene.sphere.geneservice.cache;
 
+import java.util.Map;
+
 /**
  * Cache statistics record for monitoring Redis cache performance and health.
  *
@@ -13,17 +15,23 @@ package com.gene.sphere.geneservice.cache;
  *
  * @param totalKeys    the total number of keys stored in Redis cache
  * @param geneKeys     the number of gene-related cache entries (keys matching "gene:*")
- * @param mutationKeys the number of mutation-related cache entries (keys matching "mutation:*")
+ * @param mutationKeys the number of mutation cache entries written by the mutation service (keys matching "mutation:*")
  * @param timestamp    the Unix timestamp (milliseconds) when these statistics were collected
  * @param status       the current cache availability status ("AVAILABLE", "UNAVAILABLE")
- * 
+ * @param negativeKeys the number of negative (not-found) entries (keys matching "missing:gene:*")
+ * @param memoryBytes  approximate memory used per namespace ("gene", "negative", "mutation"), in bytes
+ * @param approximate  whether counts may include expired keys because Redis does not publish the
+ *                     keyspace notifications the registries rely on
  */
 public record CacheStatus(
         Long totalKeys,
         Long geneKeys,
         Long mutationKeys,
         Long timestamp,
-        String status
+        String status,
+        Long negativeKeys,
+        Map<String, Long> memoryBytes,
+        boolean approximate
 ) {
 
     /**
@@ -46,7 +54,25 @@ public record CacheStatus(
      * @throws NullPointerException if any parameter is null
      */
     public static CacheStatus of(Long totalKeys, Long geneKeys, Long mutationKeys, String status) {
-        return new CacheStatus(totalKeys, geneKeys, mutationKeys, System.currentTimeMillis(), status);
+        return new CacheStatus(totalKeys, geneKeys, mutationKeys, System.currentTimeMillis(), status, 0L, Map.of(), false);
+    }
+
+    /**
+     * Creates cache statistics including negative entries and per-namespace memory estimates.
+     *
+     * @param totalKeys    the total number of keys currently in Redis, must not be null
+     * @param geneKeys     the number of gene-specific cache entries, must not be null
+     * @param negativeKeys the number of negative (not-found) entries, must not be null
+     * @param mutationKeys the number of mutation-specific cache entries, must not be null
+     * @param memoryBytes  approximate bytes per namespace, must not be null
+     * @param status       the current operational status of the cache, must not be null
+     * @param approximate  whether the counts may have drifted from the keyspace
+     * @return a new CacheStatus instance with current timestamp
+     */
+    public static CacheStatus of(Long totalKeys, Long geneKeys, Long negativeKeys, Long mutationKeys,
+                                 Map<String, Long> memoryBytes, String status, boolean approximate) {
+        return new CacheStatus(totalKeys, geneKeys, mutationKeys, System.currentTimeMillis(), status,
+                negativeKeys, Map.copyOf(memoryBytes), approximate);
     }
 
     /**
@@ -73,7 +99,7 @@ public record CacheStatus(
      * @return a new CacheStats instance with zero counts and "UNAVAILABLE" status
      */
     public static CacheStatus empty() {
-        return new CacheStatus(0L, 0L, 0L, System.currentTimeMillis(), "UNAVAILABLE");
+        return new CacheStatus(0L, 0L, 0L, System.currentTimeMillis(), "UNAVAILABLE", 0L, Map.of(), false);
     }
 
     /**
@@ -96,8 +122,8 @@ public record CacheStatus(
     @Override
     public String toString() {
         return String.format(
-                "CacheStats{total=%d, genes=%d, mutations=%d, status=%s, timestamp=%d}",
-                totalKeys, geneKeys, mutationKeys, status, timestamp
+                "CacheStats{total=%d, genes=%d, negative=%d, mutations=%d, status=%s, approximate=%b, timestamp=%d}",
+                totalKeys, geneKeys, negativeKeys, mutationKeys, status, approximate, timestamp
         );
     }
 }
\ No newline at end of file
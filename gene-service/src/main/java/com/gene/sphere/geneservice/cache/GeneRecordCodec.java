@@ -0,0 +1,242 @@
+package com.gene.sphere.geneservice.cache;
+
+import com.gene.sphere.geneservice.model.GeneRecord;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compact, schema-aware binary encoding of {@link GeneRecord} for Redis values.
+ *
+ * <p>JSON values repeat every field name and a {@code @class} type hint in each entry. Since the
+ * schema of a gene is fixed, the binary form stores only the field values, in declaration order:
+ * <pre>
+ * byte 0      MAGIC (0xC5) - never the first byte of a JSON document
+ * byte 1      format VERSION
+ * byte 2      flags (bit 0: payload is deflate-compressed)
+ * [varint]    uncompressed payload length (only if compressed)
+ * payload     7 fields, each: varint (UTF-8 length + 1, 0 = null) followed by the UTF-8 bytes
+ * </pre>
+ *
+ * <p><strong>Compression:</strong> Payloads of at least {@code compressionThreshold} bytes are
+ * deflated at {@link Deflater#BEST_SPEED}; the compressed form is kept only if it is smaller.
+ *
+ * <p><strong>Versioning:</strong> New fields must be appended and bump {@link #VERSION};
+ * {@link #decode(byte[])} rejects versions it does not know, which the caller treats as a miss.
+ *
+ * <p>Instances are immutable and thread-safe.
+ */
+public class GeneRecordCodec {
+
+    static final byte MAGIC = (byte) 0xC5;
+
+    static final byte VERSION = 1;
+
+    private static final int FLAG_DEFLATE = 1;
+
+    private static final int FIELD_COUNT = 7;
+
+    private final int compressionThreshold;
+
+    /**
+     * @param compressionThreshold payload size in bytes from which compression is attempted;
+     *                             zero or negative disables compression
+     */
+    public GeneRecordCodec(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    /**
+     * Checks whether bytes were produced by this codec.
+     *
+     * @param bytes serialized value
+     * @return true if the value starts with the binary header
+     */
+    public static boolean isBinary(byte[] bytes) {
+        return bytes != null && bytes.length >= 3 && bytes[0] == MAGIC;
+    }
+
+    /**
+     * Encodes a gene.
+     *
+     * @param gene the gene to encode, must not be null
+     * @return the binary representation
+     */
+    public byte[] encode(GeneRecord gene) {
+        byte[][] fields = {
+                utf8(gene.name()),
+                utf8(gene.description()),
+                utf8(gene.normalFunction()),
+                utf8(gene.mutationEffect()),
+                utf8(gene.prevalence()),
+                utf8(gene.therapies()),
+                utf8(gene.researchLinks())
+        };
+
+        int payloadSize = 0;
+        for (byte[] field : fields) {
+            int length = field == null ? 0 : field.length + 1;
+            payloadSize += varintSize(length) + (field == null ? 0 : field.length);
+        }
+        byte[] payload = new byte[payloadSize];
+        int position = 0;
+        for (byte[] field : fields) {
+            if (field == null) {
+                position = writeVarint(payload, position, 0);
+            } else {
+                position = writeVarint(payload, position, field.length + 1);
+                System.arraycopy(field, 0, payload, position, field.length);
+                position += field.length;
+            }
+        }
+
+        if (compressionThreshold > 0 && payload.length >= compressionThreshold) {
+            byte[] compressed = deflate(payload);
+            if (compressed.length + varintSize(payload.length) < payload.length) {
+                byte[] out = new byte[3 + varintSize(payload.length) + compressed.length];
+                out[0] = MAGIC;
+                out[1] = VERSION;
+                out[2] = FLAG_DEFLATE;
+                int offset = writeVarint(out, 3, payload.length);
+                System.arraycopy(compressed, 0, out, offset, compressed.length);
+                return out;
+            }
+        }
+
+        byte[] out = new byte[3 + payload.length];
+        out[0] = MAGIC;
+        out[1] = VERSION;
+        out[2] = 0;
+        System.arraycopy(payload, 0, out, 3, payload.length);
+        return out;
+    }
+
+    /**
+     * Decodes a gene produced by {@link #encode(GeneRecord)}.
+     *
+     * @param bytes the binary representation
+     * @return the decoded gene
+     * @throws IllegalArgumentException if the header, version or payload is invalid
+     */
+    public GeneRecord decode(byte[] bytes) {
+        if (!isBinary(bytes)) {
+            throw new IllegalArgumentException("Not a binary gene record");
+        }
+        if (bytes[1] != VERSION) {
+            throw new IllegalArgumentException("Unsupported gene record version: " + bytes[1]);
+        }
+
+        byte[] payload;
+        int position;
+        if ((bytes[2] & FLAG_DEFLATE) != 0) {
+            int[] cursor = {3};
+            int length = readVarint(bytes, cursor);
+            payload = inflate(bytes, cursor[0], length);
+            position = 0;
+        } else {
+            payload = bytes;
+            position = 3;
+        }
+
+        String[] fields = new String[FIELD_COUNT];
+        int[] cursor = {position};
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            int length = readVarint(payload, cursor);
+            if (length == 0) {
+                continue;
+            }
+            int size = length - 1;
+            if (cursor[0] + size > payload.length) {
+                throw new IllegalArgumentException("Truncated gene record");
+            }
+            fields[i] = new String(payload, cursor[0], size, StandardCharsets.UTF_8);
+            cursor[0] += size;
+        }
+        return new GeneRecord(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5], fields[6]);
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int varintSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    private static int writeVarint(byte[] buffer, int position, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+
+    private static int readVarint(byte[] buffer, int[] cursor) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (cursor[0] >= buffer.length) {
+                throw new IllegalArgumentException("Truncated gene record");
+            }
+            byte b = buffer[cursor[0]++];
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in gene record");
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length);
+            byte[] buffer = new byte[Math.max(64, input.length)];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input, int offset, int uncompressedLength) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(input, offset, input.length - offset);
+            byte[] out = new byte[uncompressedLength];
+            int total = 0;
+            while (total < uncompressedLength) {
+                int read = inflater.inflate(out, total, uncompressedLength - total);
+                if (read == 0 && (inflater.finished() || inflater.needsInput())) {
+                    break;
+                }
+                total += read;
+            }
+            if (total != uncompressedLength) {
+                throw new IllegalArgumentException("Truncated compressed gene record");
+            }
+            return out;
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupt compressed gene record", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GeneRecordCodec{version=%d, compressionThreshold=%d}", VERSION, compressionThreshold);
+    }
+}
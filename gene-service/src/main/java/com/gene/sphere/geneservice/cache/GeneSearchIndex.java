@@ -0,0 +1,308 @@
+package com.gene.sphere.geneservice.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Redis secondary index over the names of cached genes.
+ *
+ * <p>Replaces the {@code SCAN gene:*} + one {@code GET} per key approach of cache search, whose
+ * cost grew with the size of the keyspace. The index is maintained whenever a gene is written to
+ * or evicted from the cache, so a search touches only the index and the matching entries:
+ * <ul>
+ *   <li><strong>Prefix search:</strong> {@code idx:gene:names} is a sorted set of normalized names
+ *       (all scores 0), queried with {@code ZRANGEBYLEX [PREFIX (PREFIX<U+FFFF>}</li>
+ *   <li><strong>Substring search:</strong> {@code idx:gene:zgram:<g>} sorted sets (all scores 0) hold
+ *       every name containing the 1-, 2- or 3-gram {@code g}. Queries of up to 3 characters read the
+ *       first names of one set with {@code ZRANGEBYLEX - + LIMIT}, so even a one-letter query that
+ *       matches most genes returns in time proportional to the page size. Longer queries intersect
+ *       the sets of their trigrams ({@code ZINTER}, Redis 6.2+), which is bounded by the rarest
+ *       trigram, and verify candidates locally</li>
+ *   <li><strong>Registry:</strong> {@code idx:gene:zgrams} lists every gram set, so the whole index
+ *       can be dropped without scanning the keyspace</li>
+ * </ul>
+ *
+ * <p><strong>Consistency:</strong> Index updates are best-effort and separate from the value write.
+ * Names whose cache entry has expired are removed lazily by the caller when a search finds their
+ * value missing, and re-added on the next write.
+ */
+@Component
+public class GeneSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeneSearchIndex.class);
+
+    static final String NAMES_KEY = "idx:gene:names";
+
+    static final String GRAM_KEY_PREFIX = "idx:gene:zgram:";
+
+    static final String GRAM_REGISTRY_KEY = "idx:gene:zgrams";
+
+    /**
+     * Registry of the plain-set gram keys written by earlier versions; dropped by the startup rebuild.
+     */
+    static final String LEGACY_GRAM_REGISTRY_KEY = "idx:gene:grams";
+
+    /**
+     * Longest gram indexed; substring queries longer than this are answered by intersection.
+     */
+    static final int MAX_GRAM = 3;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final MeterRegistry meterRegistry;
+
+    private final boolean rebuildOnStartup;
+
+    /**
+     * @param redisTemplate    string template for index commands
+     * @param meterRegistry    registry for index metrics
+     * @param rebuildOnStartup whether an empty index is rebuilt from the cached keys at startup
+     */
+    public GeneSearchIndex(
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${cache.search.index.rebuild-on-startup:true}") boolean rebuildOnStartup) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    // ==================== MAINTENANCE ====================
+
+    /**
+     * Adds gene names to the index in a single pipeline.
+     *
+     * @param names normalized (uppercase) gene names
+     */
+    public void addAll(Collection<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (String name : names) {
+                        ops.opsForZSet().add(NAMES_KEY, name, 0);
+                        for (String gram : grams(name)) {
+                            ops.opsForZSet().add(GRAM_KEY_PREFIX + gram, name, 0);
+                            ops.opsForSet().add(GRAM_REGISTRY_KEY, GRAM_KEY_PREFIX + gram);
+                        }
+                    }
+                    return null;
+                }
+            });
+            meterRegistry.counter("cache.index.writes").increment(names.size());
+        } catch (Exception e) {
+            logger.warn("Failed to index {} gene names", names.size(), e);
+            meterRegistry.counter("cache.errors", "operation", "index_write").increment();
+        }
+    }
+
+    /**
+     * Adds a gene name to the index.
+     *
+     * @param name normalized (uppercase) gene name
+     */
+    public void add(String name) {
+        addAll(List.of(name));
+    }
+
+    /**
+     * Removes gene names from the index in a single pipeline.
+     *
+     * @param names normalized (uppercase) gene names
+     */
+    public void removeAll(Collection<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (String name : names) {
+                        ops.opsForZSet().remove(NAMES_KEY, name);
+                        for (String gram : grams(name)) {
+                            ops.opsForZSet().remove(GRAM_KEY_PREFIX + gram, name);
+                        }
+                    }
+                    return null;
+                }
+            });
+            meterRegistry.counter("cache.index.removals").increment(names.size());
+        } catch (Exception e) {
+            logger.warn("Failed to remove {} gene names from index", names.size(), e);
+            meterRegistry.counter("cache.errors", "operation", "index_remove").increment();
+        }
+    }
+
+    /**
+     * Removes a gene name from the index.
+     *
+     * @param name normalized (uppercase) gene name
+     */
+    public void remove(String name) {
+        removeAll(List.of(name));
+    }
+
+    /**
+     * Drops the whole index (names, every gram set and the registry).
+     */
+    public void clear() {
+        try {
+            Set<String> gramKeys = redisTemplate.opsForSet().members(GRAM_REGISTRY_KEY);
+            List<String> keys = new ArrayList<>(gramKeys != null ? gramKeys : Set.of());
+            keys.add(NAMES_KEY);
+            keys.add(GRAM_REGISTRY_KEY);
+            redisTemplate.delete(keys);
+        } catch (Exception e) {
+            logger.warn("Failed to clear gene search index", e);
+            meterRegistry.counter("cache.errors", "operation", "index_clear").increment();
+        }
+    }
+
+    /**
+     * Rebuilds an empty index from the gene keys already in Redis.
+     *
+     * <p>Covers entries cached before the index existed (or after the index was lost), and
+     * replaces the plain-set gram keys of earlier versions. This is the only place the index
+     * scans the keyspace, and only once at startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (!rebuildOnStartup) {
+            return;
+        }
+        try {
+            Long gramSets = redisTemplate.opsForSet().size(GRAM_REGISTRY_KEY);
+            if (gramSets != null && gramSets > 0) {
+                return;
+            }
+            dropLegacyGrams();
+            List<String> names = new ArrayList<>();
+            ScanOptions scanOptions = ScanOptions.scanOptions().match("gene:*").count(1000).build();
+            try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
+                while (cursor.hasNext()) {
+                    names.add(cursor.next().substring("gene:".length()));
+                    if (names.size() == 1000) {
+                        addAll(names);
+                        names.clear();
+                    }
+                }
+            }
+            addAll(names);
+            logger.info("Gene search index rebuilt from cached keys");
+        } catch (Exception e) {
+            logger.warn("Failed to rebuild gene search index", e);
+            meterRegistry.counter("cache.errors", "operation", "index_rebuild").increment();
+        }
+    }
+
+    private void dropLegacyGrams() {
+        Set<String> legacyKeys = redisTemplate.opsForSet().members(LEGACY_GRAM_REGISTRY_KEY);
+        if (legacyKeys == null || legacyKeys.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(legacyKeys);
+        keys.add(LEGACY_GRAM_REGISTRY_KEY);
+        redisTemplate.unlink(keys);
+        logger.info("Dropped {} gram sets of the previous index format", legacyKeys.size());
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Finds indexed names starting with {@code prefix}, in lexicographic order.
+     *
+     * @param prefix     normalized (uppercase) prefix, must not be empty
+     * @param maxResults maximum number of names to return
+     * @return matching names
+     */
+    public List<String> findByPrefix(String prefix, int maxResults) {
+        Set<String> names = redisTemplate.opsForZSet().rangeByLex(
+                NAMES_KEY,
+                RedisZSetCommands.Range.range().gte(prefix).lt(prefix + Character.MAX_VALUE),
+                RedisZSetCommands.Limit.limit().count(maxResults));
+        return names != null ? new ArrayList<>(names) : List.of();
+    }
+
+    /**
+     * Finds indexed names containing {@code fragment}, sorted alphabetically.
+     *
+     * @param fragment   normalized (uppercase) substring, must not be empty
+     * @param maxResults maximum number of names to return
+     * @return matching names
+     */
+    public List<String> findBySubstring(String fragment, int maxResults) {
+        List<String> gramKeys = substringQueryKeys(fragment);
+        if (gramKeys.size() == 1) {
+            // Every member contains the fragment: read the first page in lexicographic order
+            Set<String> names = redisTemplate.opsForZSet().rangeByLex(gramKeys.get(0),
+                    RedisZSetCommands.Range.unbounded(), RedisZSetCommands.Limit.limit().count(maxResults));
+            return names != null ? new ArrayList<>(names) : List.of();
+        }
+        Set<String> candidates = redisTemplate.opsForZSet().intersect(gramKeys.get(0), gramKeys.subList(1, gramKeys.size()));
+        if (candidates == null) {
+            return List.of();
+        }
+        // Trigram intersection may yield false positives (e.g., ABCXBCD for ABCD)
+        return candidates.stream()
+                .filter(name -> name.contains(fragment))
+                .sorted()
+                .limit(maxResults)
+                .toList();
+    }
+
+    /**
+     * Returns the gram sets whose intersection holds every name containing {@code fragment}:
+     * the fragment's own set if it is at most {@value #MAX_GRAM} characters, else its trigram sets.
+     * Candidates from an intersection must still be checked with {@link String#contains}.
+     *
+     * @param fragment normalized (uppercase) substring, must not be empty
+     * @return gram set keys to read or intersect
+     */
+    static List<String> substringQueryKeys(String fragment) {
+        if (fragment.length() <= MAX_GRAM) {
+            return List.of(GRAM_KEY_PREFIX + fragment);
+        }
+        List<String> gramKeys = new ArrayList<>();
+        for (int i = 0; i + MAX_GRAM <= fragment.length(); i++) {
+            gramKeys.add(GRAM_KEY_PREFIX + fragment.substring(i, i + MAX_GRAM));
+        }
+        return gramKeys;
+    }
+
+    /**
+     * Returns the distinct 1- to {@value #MAX_GRAM}-grams of a name.
+     *
+     * @param name normalized gene name
+     * @return grams of the name
+     */
+    static Set<String> grams(String name) {
+        Set<String> grams = new HashSet<>();
+        for (int n = 1; n <= MAX_GRAM; n++) {
+            for (int i = 0; i + n <= name.length(); i++) {
+                grams.add(name.substring(i, i + n));
+            }
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,82 @@
+package com.gene.sphere.geneservice.cache;
+
+import com.gene.sphere.geneservice.model.GeneRecord;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Value serializer that stores {@link GeneRecord}s with {@link GeneRecordCodec} and everything
+ * else (negative entries, pub/sub messages) as JSON.
+ *
+ * <p><strong>Codec selection:</strong> {@code cache.redis.value-codec} chooses how genes are
+ * <em>written</em>: {@code json} (default, unchanged format) or {@code binary}. Reads always detect
+ * the format from the first byte, so both formats can coexist in Redis while the setting is
+ * switched or rolled across nodes; old entries are rewritten on their next refresh or expiry.
+ */
+public class GeneValueSerializer implements RedisSerializer<Object> {
+
+    /**
+     * How gene values are written.
+     */
+    public enum Codec {
+        JSON,
+        BINARY
+    }
+
+    private final Codec codec;
+
+    private final GeneRecordCodec binaryCodec;
+
+    private final RedisSerializer<Object> jsonSerializer;
+
+    /**
+     * @param codec          format used when writing genes
+     * @param binaryCodec    binary gene codec
+     * @param jsonSerializer serializer for non-gene values and JSON-encoded genes
+     */
+    public GeneValueSerializer(Codec codec, GeneRecordCodec binaryCodec, RedisSerializer<Object> jsonSerializer) {
+        this.codec = codec;
+        this.binaryCodec = binaryCodec;
+        this.jsonSerializer = jsonSerializer;
+    }
+
+    /**
+     * Creates a serializer with the default JSON serializer.
+     *
+     * @param codec                format used when writing genes
+     * @param compressionThreshold payload size in bytes from which binary genes are compressed
+     * @return the serializer
+     */
+    public static GeneValueSerializer of(Codec codec, int compressionThreshold) {
+        return new GeneValueSerializer(codec, new GeneRecordCodec(compressionThreshold),
+                new GenericJackson2JsonRedisSerializer());
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (codec == Codec.BINARY && value instanceof GeneRecord gene) {
+            return binaryCodec.encode(gene);
+        }
+        return jsonSerializer.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (GeneRecordCodec.isBinary(bytes)) {
+            try {
+                return binaryCodec.decode(bytes);
+            } catch (IllegalArgumentException e) {
+                throw new SerializationException("Could not decode binary gene record", e);
+            }
+        }
+        return jsonSerializer.deserialize(bytes);
+    }
+
+    /**
+     * @return format used when writing genes
+     */
+    public Codec getCodec() {
+        return codec;
+    }
+}
@@ -0,0 +1,219 @@
+package com.gene.sphere.geneservice.cache;
+
+import com.gene.sphere.geneservice.model.GeneRecord;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.PatternMatchUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * In-process (L1) near cache for {@link GeneRecord} objects, sitting in front of Redis.
+ *
+ * <p>Hot genes (EGFR, KRAS, TP53, ...) are requested thousands of times a minute. Serving them
+ * from local memory avoids a Redis round-trip and JSON deserialization on every request:
+ * <ul>
+ *   <li><strong>Bounded:</strong> Size-limited with Caffeine's frequency-aware eviction</li>
+ *   <li><strong>Short-lived:</strong> Entries expire after a configurable TTL (default: 30 seconds),
+ *       which bounds staleness if an invalidation message is ever lost</li>
+ *   <li><strong>Cluster-coherent:</strong> Invalidations are published on a Redis pub/sub channel,
+ *       so evicting a gene on one node removes it from the near cache on every node</li>
+ * </ul>
+ *
+ * <p>Invalidation messages carry either a full cache key ({@code gene:TP53}) or a Redis glob
+ * pattern ({@code gene:BRCA*}). Patterns using only {@code *} are matched locally; anything more
+ * exotic ({@code ?}, {@code [...]}) conservatively clears the whole near cache.
+ *
+ * <p><strong>Metrics:</strong> {@code cache.near.hits}, {@code cache.near.misses} and
+ * {@code cache.near.invalidations} complement the Redis-tier {@code cache.hits}/{@code cache.misses}
+ * counters in {@link RedisCacheService}. Caffeine statistics are exported under {@code gene.near}.
+ */
+@Component
+public class NearCache implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(NearCache.class);
+
+    private final Cache<String, GeneRecord> cache;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+
+    private final String invalidationChannel;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    /**
+     * Creates the near cache and subscribes it to the invalidation channel.
+     *
+     * @param redisTemplate       template used to publish invalidation messages
+     * @param listenerContainer   container delivering invalidation messages from other nodes
+     * @param meterRegistry       registry for near cache metrics
+     * @param enabled             whether lookups are served from local memory (default: true)
+     * @param maxSize             maximum number of genes held locally (default: 10,000)
+     * @param ttl                 time-to-live of a local entry (default: 30 seconds)
+     * @param invalidationChannel Redis pub/sub channel for invalidations
+     */
+    public NearCache(
+            RedisTemplate<String, Object> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${cache.near.enabled:true}") boolean enabled,
+            @Value("${cache.near.max-size:10000}") long maxSize,
+            @Value("${cache.near.ttl:30s}") Duration ttl,
+            @Value("${cache.near.invalidation-channel:cache:gene:invalidate}") String invalidationChannel) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.invalidationChannel = invalidationChannel;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.hits = meterRegistry.counter("cache.near.hits");
+        this.misses = meterRegistry.counter("cache.near.misses");
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gene.near");
+        listenerContainer.addMessageListener(this, new ChannelTopic(invalidationChannel));
+
+        logger.info("NearCache initialized: enabled={}, maxSize={}, ttl={}, channel={}",
+                enabled, maxSize, ttl, invalidationChannel);
+    }
+
+    /**
+     * Looks up a gene in local memory.
+     *
+     * @param cacheKey the normalized cache key (e.g., {@code gene:TP53})
+     * @return the locally cached gene, or empty on a miss or when the near cache is disabled
+     */
+    public Optional<GeneRecord> get(String cacheKey) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        GeneRecord gene = cache.getIfPresent(cacheKey);
+        if (gene != null) {
+            hits.increment();
+            return Optional.of(gene);
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Stores a gene in local memory. No-op when the near cache is disabled.
+     *
+     * @param cacheKey the normalized cache key
+     * @param gene     the gene to store, must not be null
+     */
+    public void put(String cacheKey, GeneRecord gene) {
+        if (enabled && gene != null) {
+            cache.put(cacheKey, gene);
+        }
+    }
+
+    /**
+     * Invalidates a single key on this node and publishes the invalidation to all other nodes.
+     *
+     * @param cacheKey the normalized cache key to invalidate
+     */
+    public void invalidate(String cacheKey) {
+        invalidateLocally(cacheKey);
+        publish(cacheKey);
+    }
+
+    /**
+     * Invalidates all keys matching a Redis glob pattern on this node and on all other nodes.
+     *
+     * @param pattern the Redis key pattern (e.g., {@code gene:BRCA*})
+     */
+    public void invalidatePattern(String pattern) {
+        invalidateLocally(pattern);
+        publish(pattern);
+    }
+
+    /**
+     * Invalidates every gene held in the near cache, cluster-wide.
+     */
+    public void invalidateAll() {
+        invalidatePattern("gene:*");
+    }
+
+    /**
+     * Returns the approximate number of genes held locally.
+     *
+     * @return estimated entry count
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Receives invalidation messages published by any node (including this one).
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Object payload = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (payload instanceof String keyOrPattern) {
+                logger.debug("Received near cache invalidation: {}", keyOrPattern);
+                meterRegistry.counter("cache.near.invalidations", "source", "remote").increment();
+                invalidateLocally(keyOrPattern);
+            }
+        } catch (Exception e) {
+            // An unreadable message must not leave stale data behind
+            logger.warn("Unreadable near cache invalidation message, clearing near cache", e);
+            cache.invalidateAll();
+        }
+    }
+
+    // ==================== HELPER METHODS ====================
+
+    private void invalidateLocally(String keyOrPattern) {
+        meterRegistry.counter("cache.near.invalidations", "source", "local").increment();
+
+        if (!isGlob(keyOrPattern)) {
+            cache.invalidate(keyOrPattern);
+            return;
+        }
+        if (keyOrPattern.indexOf('?') >= 0 || keyOrPattern.indexOf('[') >= 0 || keyOrPattern.indexOf('\\') >= 0) {
+            cache.invalidateAll();
+            return;
+        }
+        cache.asMap().keySet().removeIf(key -> PatternMatchUtils.simpleMatch(keyOrPattern, key));
+    }
+
+    private boolean isGlob(String keyOrPattern) {
+        return keyOrPattern.indexOf('*') >= 0
+                || keyOrPattern.indexOf('?') >= 0
+                || keyOrPattern.indexOf('[') >= 0
+                || keyOrPattern.indexOf('\\') >= 0;
+    }
+
+    private void publish(String keyOrPattern) {
+        try {
+            redisTemplate.convertAndSend(invalidationChannel, keyOrPattern);
+        } catch (Exception e) {
+            // Other nodes converge once their local TTL expires
+            logger.warn("Failed to publish near cache invalidation for: {}", keyOrPattern, e);
+            meterRegistry.counter("cache.errors", "operation", "near_invalidate").increment();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.gene.sphere.geneservice.cache;
+
+/**
+ * Negative cache entry recording that a gene name does not exist in the database.
+ *
+ * <p>Stored under its own key namespace ({@code missing:gene:NAME}) with a short TTL, so
+ * repeated lookups for misspelled or nonexistent symbols are answered from Redis instead of
+ * taking the lock-and-query slow path every time. Keeping the namespace separate from
+ * {@code gene:*} means positive-entry scans, counts and searches never see these markers.</p>
+ *
+ * @param geneName the normalized (uppercase) gene name that was not found
+ * @param cachedAt Unix timestamp (milliseconds) when the miss was recorded
+ */
+public record NegativeCacheEntry(
+        String geneName,
+        long cachedAt
+) {
+
+    /**
+     * Creates a negative entry for the given gene name with the current timestamp.
+     *
+     * @param geneName the normalized gene name, must not be null
+     * @return a new NegativeCacheEntry
+     */
+    public static NegativeCacheEntry of(String geneName) {
+        return new NegativeCacheEntry(geneName, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,409 @@
+package com.gene.sphere.geneservice.cache;
+
+import com.gene.sphere.geneservice.model.GeneRecord;
+import com.gene.sphere.geneservice.service.GeneService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.redisson.api.RLockReactive;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.RedissonReactiveClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Non-blocking counterpart of {@link RedisCacheService} for gene lookup and cache search.
+ *
+ * <p>The blocking service holds a request thread for every Redis round-trip, lock wait and
+ * database query. This service returns {@link Mono}/{@link Flux} pipelines instead, so a node can
+ * keep tens of thousands of slow clients in flight without a thread per request:
+ * <ul>
+ *   <li><strong>Cache:</strong> Lettuce reactive commands through {@link ReactiveRedisTemplate},
+ *       sharing keys, serialization and TTLs with the blocking service</li>
+ *   <li><strong>Near cache:</strong> The same in-process {@link NearCache} is consulted first</li>
+ *   <li><strong>Stampede prevention:</strong> Concurrent misses on one node share a single
+ *       cached {@link Mono}; across nodes, Redisson reactive locks guard the database load</li>
+ *   <li><strong>Database:</strong> JPA has no non-blocking driver, so misses run on a bounded
+ *       scheduler sized to the JDBC pool ({@code cache.reactive.database-threads}). Only misses
+ *       pay for a thread, and at most as many as the pool could use anyway</li>
+ *   <li><strong>Search:</strong> Reads the {@link GeneSearchIndex} with reactive commands</li>
+ * </ul>
+ *
+ * <p>Cache read and write failures degrade to database reads, as in the blocking path. Index
+ * maintenance on misses reuses the blocking {@link GeneSearchIndex} on the database scheduler.
+ */
+@Service
+public class ReactiveGeneCacheService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveGeneCacheService.class);
+
+    private final ReactiveRedisTemplate<String, Object> redisTemplate;
+
+    private final ReactiveStringRedisTemplate indexTemplate;
+
+    private final RedissonReactiveClient redisson;
+
+    private final GeneService geneService;
+
+    private final NearCache nearCache;
+
+    private final GeneSearchIndex searchIndex;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Duration cacheTtl;
+
+    private final Duration negativeTtl;
+
+    private final Duration lockWaitTime;
+
+    private final Duration lockLeaseTime;
+
+    private final int searchMaxResults;
+
+    /**
+     * Bounded pool for the blocking JPA calls of the miss path.
+     */
+    private final Scheduler databaseScheduler;
+
+    /**
+     * Loads in progress on this node, shared by every concurrent miss on the same key.
+     */
+    private final Map<String, Mono<GeneRecord>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param redisTemplate     reactive template with the gene value serializer
+     * @param indexTemplate     reactive string template for index queries
+     * @param redissonClient    Redisson client providing reactive locks
+     * @param geneService       the gene service for database fallback
+     * @param nearCache         the in-process L1 cache
+     * @param searchIndex       the secondary index over cached gene names
+     * @param meterRegistry     registry for reactive path metrics
+     * @param cacheTtl          time-to-live of cached genes (default: 5 days)
+     * @param negativeTtl       time-to-live of not-found entries (default: 1 minute, zero disables)
+     * @param lockWaitTime      maximum time to wait for the per-gene lock (default: 3 seconds)
+     * @param lockLeaseTime     lock auto-release time (default: 10 seconds)
+     * @param searchMaxResults  maximum number of genes returned by a search (default: 1000)
+     * @param databaseThreads   threads for blocking database calls (default: 10, the JDBC pool size)
+     * @param databaseQueueSize misses queued when all database threads are busy (default: 10,000)
+     */
+    public ReactiveGeneCacheService(
+            ReactiveRedisTemplate<String, Object> redisTemplate,
+            ReactiveStringRedisTemplate indexTemplate,
+            RedissonClient redissonClient,
+            GeneService geneService,
+            NearCache nearCache,
+            GeneSearchIndex searchIndex,
+            MeterRegistry meterRegistry,
+            @Value("${cache.redis.ttl:5d}") Duration cacheTtl,
+            @Value("${cache.redis.negative-ttl:1m}") Duration negativeTtl,
+            @Value("${cache.redis.lock-wait-time:3s}") Duration lockWaitTime,
+            @Value("${cache.redis.lock-lease-time:10s}") Duration lockLeaseTime,
+            @Value("${cache.search.max-results:1000}") int searchMaxResults,
+            @Value("${cache.reactive.database-threads:10}") int databaseThreads,
+            @Value("${cache.reactive.database-queue-size:10000}") int databaseQueueSize) {
+        this.redisTemplate = redisTemplate;
+        this.indexTemplate = indexTemplate;
+        this.redisson = redissonClient.reactive();
+        this.geneService = geneService;
+        this.nearCache = nearCache;
+        this.searchIndex = searchIndex;
+        this.meterRegistry = meterRegistry;
+        this.cacheTtl = cacheTtl;
+        this.negativeTtl = negativeTtl;
+        this.lockWaitTime = lockWaitTime;
+        this.lockLeaseTime = lockLeaseTime;
+        this.searchMaxResults = searchMaxResults;
+        this.databaseScheduler = Schedulers.newBoundedElastic(databaseThreads, databaseQueueSize, "gene-db");
+    }
+
+    // ==================== LOOKUP ====================
+
+    /**
+     * Retrieves a gene by name without blocking the caller.
+     *
+     * <p>Same flow as {@link RedisCacheService#getGeneByName(String)}: near cache, then one
+     * {@code MGET} of the positive and negative keys, then a coalesced, lock-guarded database load
+     * that back-fills the cache.
+     *
+     * @param name the gene name (case-insensitive)
+     * @return the gene, or an empty {@link Mono} if it does not exist or the name is blank
+     */
+    public Mono<GeneRecord> getGeneByName(String name) {
+        if (name == null || name.isBlank()) {
+            meterRegistry.counter("cache.reactive.requests.invalid").increment();
+            return Mono.empty();
+        }
+
+        String normalizedName = RedisCacheService.normalizeName(name);
+        String cacheKey = RedisCacheService.buildCacheKey(normalizedName);
+
+        return Mono.defer(() -> {
+            GeneRecord local = nearCache.get(cacheKey).orElse(null);
+            if (local != null) {
+                return Mono.just(local);
+            }
+            return lookupCache(cacheKey).flatMap(cached -> {
+                if (cached.gene() != null) {
+                    meterRegistry.counter("cache.reactive.hits").increment();
+                    nearCache.put(cacheKey, cached.gene());
+                    return Mono.just(cached.gene());
+                }
+                if (cached.negative()) {
+                    meterRegistry.counter("cache.reactive.negative.hits").increment();
+                    return Mono.<GeneRecord>empty();
+                }
+                meterRegistry.counter("cache.reactive.misses").increment();
+                return loadCoalesced(normalizedName, cacheKey)
+                        .doOnNext(gene -> nearCache.put(cacheKey, gene));
+            });
+        });
+    }
+
+    /**
+     * Reads the positive and negative entry of a gene with one {@code MGET}.
+     * Read errors are treated as a miss.
+     */
+    private Mono<CacheLookup> lookupCache(String cacheKey) {
+        return redisTemplate.opsForValue()
+                .multiGet(List.of(cacheKey, RedisCacheService.buildNegativeCacheKey(cacheKey)))
+                .map(values -> {
+                    if (values.size() == 2) {
+                        if (values.get(0) instanceof GeneRecord gene) {
+                            return new CacheLookup(gene, false);
+                        }
+                        if (values.get(1) instanceof NegativeCacheEntry) {
+                            return CacheLookup.NEGATIVE;
+                        }
+                    }
+                    return CacheLookup.MISS;
+                })
+                .defaultIfEmpty(CacheLookup.MISS)
+                .onErrorResume(e -> {
+                    logger.warn("Error reading from cache key: {}", cacheKey, e);
+                    meterRegistry.counter("cache.reactive.errors", "operation", "read").increment();
+                    return Mono.just(CacheLookup.MISS);
+                });
+    }
+
+    /**
+     * Joins the load already in progress for {@code cacheKey} on this node, or starts one.
+     */
+    private Mono<GeneRecord> loadCoalesced(String geneName, String cacheKey) {
+        return inFlight.computeIfAbsent(cacheKey, key -> loadWithLock(geneName, cacheKey)
+                .doFinally(signal -> inFlight.remove(key))
+                .cache());
+    }
+
+    /**
+     * Loads a gene under the per-gene distributed lock shared with the blocking service.
+     *
+     * <p>Reactive locks are not bound to a thread, so each attempt uses a random owner id for
+     * lock and unlock. On contention the cache is re-checked; on lock errors the database is
+     * queried directly.
+     */
+    private Mono<GeneRecord> loadWithLock(String geneName, String cacheKey) {
+        long lockOwner = ThreadLocalRandom.current().nextLong();
+        RLockReactive lock = redisson.getLock("lock:" + cacheKey);
+
+        return lock.tryLock(lockWaitTime.toMillis(), lockLeaseTime.toMillis(), TimeUnit.MILLISECONDS, lockOwner)
+                .onErrorResume(e -> {
+                    logger.error("Error acquiring reactive lock for gene: {}", geneName, e);
+                    meterRegistry.counter("cache.reactive.errors", "operation", "lock").increment();
+                    return Mono.just(false);
+                })
+                .flatMap(acquired -> {
+                    if (acquired) {
+                        meterRegistry.counter("cache.reactive.locks.acquired").increment();
+                        return Mono.usingWhen(
+                                Mono.just(lockOwner),
+                                owner -> fetchAndCache(geneName, cacheKey),
+                                owner -> unlock(lock, owner, geneName));
+                    }
+                    meterRegistry.counter("cache.reactive.locks.contention").increment();
+                    return lookupCache(cacheKey).flatMap(cached -> {
+                        if (cached.gene() != null) {
+                            return Mono.just(cached.gene());
+                        }
+                        return cached.negative() ? Mono.<GeneRecord>empty() : loadFromDatabase(geneName);
+                    });
+                });
+    }
+
+    private Mono<Void> unlock(RLockReactive lock, long owner, String geneName) {
+        return lock.unlock(owner).onErrorResume(e -> {
+            // The lease releases the lock eventually
+            logger.warn("Error releasing reactive lock for gene: {}", geneName, e);
+            return Mono.empty();
+        });
+    }
+
+    /**
+     * Double-checks the cache, then loads from the database and writes the result (or a
+     * negative entry) back.
+     */
+    private Mono<GeneRecord> fetchAndCache(String geneName, String cacheKey) {
+        return lookupCache(cacheKey).flatMap(cached -> {
+            if (cached.gene() != null) {
+                meterRegistry.counter("cache.reactive.double_check.hits").increment();
+                return Mono.just(cached.gene());
+            }
+            if (cached.negative()) {
+                return Mono.<GeneRecord>empty();
+            }
+            return loadFromDatabase(geneName)
+                    .flatMap(gene -> cacheGene(geneName, cacheKey, gene).thenReturn(gene))
+                    .switchIfEmpty(Mono.defer(() -> cacheNotFound(geneName, cacheKey).then(Mono.<GeneRecord>empty())));
+        });
+    }
+
+    private Mono<GeneRecord> loadFromDatabase(String geneName) {
+        return Mono.fromCallable(() -> {
+                    meterRegistry.counter("cache.reactive.database.queries").increment();
+                    // A null result completes the Mono empty
+                    return geneService.getGeneByName(geneName).orElse(null);
+                })
+                .subscribeOn(databaseScheduler);
+    }
+
+    private Mono<Void> cacheGene(String geneName, String cacheKey, GeneRecord gene) {
+        return redisTemplate.opsForValue().set(cacheKey, gene, cacheTtl)
+                .then(Mono.fromRunnable(() -> searchIndex.add(geneName)).subscribeOn(databaseScheduler))
+                .doOnSuccess(ignored -> meterRegistry.counter("cache.reactive.writes").increment())
+                .onErrorResume(e -> {
+                    logger.warn("Error caching gene: {}", geneName, e);
+                    meterRegistry.counter("cache.reactive.errors", "operation", "write").increment();
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Mono<Void> cacheNotFound(String geneName, String cacheKey) {
+        if (negativeTtl.isZero() || negativeTtl.isNegative()) {
+            return Mono.empty();
+        }
+        return redisTemplate.opsForValue()
+                .set(RedisCacheService.buildNegativeCacheKey(cacheKey), NegativeCacheEntry.of(geneName), negativeTtl)
+                .onErrorResume(e -> {
+                    logger.warn("Error writing negative cache entry for gene: {}", geneName, e);
+                    meterRegistry.counter("cache.reactive.errors", "operation", "negative_write").increment();
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    // ==================== SEARCH ====================
+
+    /**
+     * Streams cached genes whose name contains {@code pattern}, in alphabetical order.
+     *
+     * @param pattern the substring to search for, case-insensitive
+     * @return matching cached genes (empty if the pattern is blank)
+     */
+    public Flux<GeneRecord> searchGenesByPattern(String pattern) {
+        if (pattern == null || pattern.isBlank()) {
+            return Flux.empty();
+        }
+        String fragment = RedisCacheService.normalizeName(pattern);
+        List<String> gramKeys = GeneSearchIndex.substringQueryKeys(fragment);
+        // A single gram set already holds only matches, in order; an intersection must be verified
+        Flux<String> names = gramKeys.size() == 1
+                ? indexTemplate.opsForZSet().rangeByLex(gramKeys.get(0), Range.unbounded(),
+                        RedisZSetCommands.Limit.limit().count(searchMaxResults))
+                : indexTemplate.opsForZSet().intersect(gramKeys.get(0), gramKeys.subList(1, gramKeys.size()))
+                        .filter(name -> name.contains(fragment))
+                        .sort()
+                        .take(searchMaxResults);
+
+        return names
+                .collectList()
+                .flatMapMany(this::resolveIndexedGenes)
+                .onErrorResume(e -> searchFailed(pattern, e));
+    }
+
+    /**
+     * Streams cached genes whose name starts with {@code prefix}, in alphabetical order.
+     *
+     * @param prefix the name prefix, case-insensitive
+     * @return matching cached genes (empty if the prefix is blank)
+     */
+    public Flux<GeneRecord> searchGenesByPrefix(String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            return Flux.empty();
+        }
+        String normalizedPrefix = RedisCacheService.normalizeName(prefix);
+        return indexTemplate.opsForZSet()
+                .rangeByLex(GeneSearchIndex.NAMES_KEY,
+                        Range.rightOpen(normalizedPrefix, normalizedPrefix + Character.MAX_VALUE),
+                        RedisZSetCommands.Limit.limit().count(searchMaxResults))
+                .collectList()
+                .flatMapMany(this::resolveIndexedGenes)
+                .onErrorResume(e -> searchFailed(prefix, e));
+    }
+
+    /**
+     * Fetches the cached values of indexed names with one {@code MGET}, preserving order, and
+     * drops names whose entry has expired from the index.
+     */
+    private Flux<GeneRecord> resolveIndexedGenes(List<String> names) {
+        if (names.isEmpty()) {
+            return Flux.empty();
+        }
+        return redisTemplate.opsForValue()
+                .multiGet(names.stream().map(RedisCacheService::buildCacheKey).toList())
+                .flatMapMany(values -> {
+                    List<GeneRecord> genes = new ArrayList<>(names.size());
+                    List<String> stale = new ArrayList<>();
+                    for (int i = 0; i < names.size(); i++) {
+                        if (values.get(i) instanceof GeneRecord gene) {
+                            genes.add(gene);
+                        } else {
+                            stale.add(names.get(i));
+                        }
+                    }
+                    Mono<Void> cleanup = stale.isEmpty()
+                            ? Mono.empty()
+                            : Mono.fromRunnable(() -> searchIndex.removeAll(stale)).subscribeOn(databaseScheduler).then();
+                    return cleanup.thenMany(Flux.fromIterable(genes));
+                });
+    }
+
+    private Flux<GeneRecord> searchFailed(String pattern, Throwable e) {
+        logger.error("Error in reactive search for: {}", pattern, e);
+        meterRegistry.counter("cache.reactive.errors", "operation", "search").increment();
+        return Flux.empty();
+    }
+
+    /**
+     * Releases the database threads.
+     */
+    @PreDestroy
+    public void shutdown() {
+        databaseScheduler.dispose();
+    }
+
+    /**
+     * Outcome of a cache read: a gene, a negative entry, or a miss.
+     */
+    private record CacheLookup(GeneRecord gene, boolean negative) {
+        private static final CacheLookup MISS = new CacheLookup(null, false);
+        private static final CacheLookup NEGATIVE = new CacheLookup(null, true);
+    }
+}
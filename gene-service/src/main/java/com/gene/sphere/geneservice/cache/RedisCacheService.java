@@ -13,14 +13,21 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.RedisSystemException;
 import org.springframework.data.redis.core.Cursor;
-import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
 
 /**
  *  Redis cache service with distributed locking for gene data.
@@ -28,10 +35,20 @@ import java.util.concurrent.TimeUnit;
  * <p>This service provides efficient caching of {@link GeneRecord} objects using Redis
  * with stampede prevention through Redisson distributed locks. Key features:
  * <ul>
+ *   <li><strong>Near Cache:</strong> Hot genes are served from an in-process {@link NearCache}
+ *       without a Redis round-trip; invalidations are broadcast to all nodes via pub/sub</li>
  *   <li><strong>Cache-Aside Pattern:</strong> Cache hits return directly from Redis,
  *       misses fetch from database and populate cache</li>
+ *   <li><strong>Request Coalescing:</strong> Concurrent misses for the same gene on one node share
+ *       a single in-flight load ({@link SingleFlight}), so only one thread per node touches the lock</li>
  *   <li><strong>Stampede Prevention:</strong> Distributed locks ensure only one thread/instance
  *       queries database for the same gene, even under high concurrency</li>
+ *   <li><strong>Negative Caching:</strong> Unknown gene names are remembered for a short TTL under
+ *       {@code missing:gene:*}, so repeated lookups for nonexistent symbols skip the database</li>
+ *   <li><strong>Indexed Search:</strong> Cached gene names are kept in a Redis secondary index
+ *       ({@link GeneSearchIndex}), so search cost does not grow with the keyspace</li>
+ *   <li><strong>Refresh-Ahead:</strong> Hits close to expiry repopulate the entry in the background
+ *       ({@link RefreshAhead}), so hot genes never fall off the TTL cliff together</li>
  *   <li><strong>Graceful Degradation:</strong> Falls back to database if cache or locks fail</li>
  *   <li><strong>Production-Safe Operations:</strong> Uses SCAN instead of KEYS,
  *       batched deletions, configurable TTLs</li>
@@ -42,10 +59,15 @@ import java.util.concurrent.TimeUnit;
  *
  * <p><strong>Architecture:</strong>
  * <pre>
- * Request → Check Redis → HIT: Return immediately
- *                      → MISS: Acquire Lock → Fetch from DB → Cache → Return
- *                              ↓ Lock Failed
- *                              Wait → Retry Cache → Return
+ * Request → Check Near Cache → HIT: Return immediately
+ *                            → MISS: Check Redis → HIT: Populate Near Cache → Return
+ *                                                        (near expiry: schedule background refresh)
+ *                                                → NEGATIVE HIT: Return empty
+ *                                                → MISS: Join In-Flight Load (followers wait here)
+ *                                                        ↓ Leader
+ *                                                        Acquire Lock → Fetch from DB → Cache → Return
+ *                                                        ↓ Lock Failed
+ *                                                        Retry Cache → Return
  * </pre>
  *
  * @author Gene Service Team
@@ -57,6 +79,17 @@ public class RedisCacheService implements CacheService {
 
     private static final Logger logger = LoggerFactory.getLogger(RedisCacheService.class);
 
+    /**
+     * Prefix prepended to a gene cache key to form its negative cache key
+     * ({@code gene:FOO} → {@code missing:gene:FOO}).
+     */
+    private static final String NEGATIVE_KEY_PREFIX = "missing:";
+
+    /**
+     * Keys requested per SCAN page and removed per UNLINK command when clearing.
+     */
+    private static final int UNLINK_BATCH_SIZE = 1000;
+
     /**
      * Redis template for performing cache operations.
      * Thread-safe and handles connection pooling automatically.
@@ -78,6 +111,26 @@ public class RedisCacheService implements CacheService {
      */
     private final CacheConfig redisCacheConfig;
 
+    /**
+     * In-process L1 cache consulted before Redis.
+     */
+    private final NearCache nearCache;
+
+    /**
+     * Decides when hits near expiry are refreshed, and runs those refreshes.
+     */
+    private final RefreshAhead refreshAhead;
+
+    /**
+     * Secondary index over cached gene names, used by search.
+     */
+    private final GeneSearchIndex searchIndex;
+
+    /**
+     * Per-namespace key registries backing constant-time status.
+     */
+    private final CacheKeyRegistry keyRegistry;
+
     /**
      * Micrometer registry for tracking cache metrics and performance.
      */
@@ -92,6 +145,13 @@ public class RedisCacheService implements CacheService {
     @Value("${cache.redis.ttl:5d}")
     private Duration cacheTtl;
 
+    /**
+     * Time-to-live for negative (not-found) entries (default: 1 minute).
+     * Kept short so newly created genes become visible quickly. Zero disables negative caching.
+     */
+    @Value("${cache.redis.negative-ttl:1m}")
+    private Duration negativeTtl;
+
     /**
      * Maximum time to wait when trying to acquire a lock (default: 3 seconds).
      */
@@ -105,6 +165,17 @@ public class RedisCacheService implements CacheService {
     @Value("${cache.redis.lock-lease-time:10s}")
     private Duration lockLeaseTime;
 
+    /**
+     * Maximum number of genes returned by a cache search (default: 1000).
+     */
+    @Value("${cache.search.max-results:1000}")
+    private int searchMaxResults;
+
+    /**
+     * Coalesces concurrent cache misses for the same key into one in-flight load per node.
+     * Created after property injection because the follower timeout depends on the lock settings.
+     */
+    private SingleFlight<String, Optional<GeneRecord>> cacheLoads;
 
     /**
      * Constructs a new RedisCacheService with the specified dependencies.
@@ -120,16 +191,28 @@ public class RedisCacheService implements CacheService {
      * @param redisTemplate    the Redis template for cache operations, must not be null
      * @param geneService      the gene service for database fallback, must not be null
      * @param redissonClient   the Redisson client for distributed locking, must not be null
+     * @param nearCache        the in-process L1 cache, must not be null
+     * @param refreshAhead     the refresh-ahead policy and executor, must not be null
+     * @param searchIndex      the secondary index over cached gene names, must not be null
+     * @param keyRegistry      the per-namespace key registries, must not be null
      * @param redisCacheConfig optional cache configuration, can be null for defaults
      */
     public RedisCacheService(
             RedisTemplate<String, Object> redisTemplate,
             GeneService geneService,
             RedissonClient redissonClient,
+            NearCache nearCache,
+            RefreshAhead refreshAhead,
+            GeneSearchIndex searchIndex,
+            CacheKeyRegistry keyRegistry,
             @Autowired(required = false) CacheConfig redisCacheConfig) {
         this.redisTemplate = redisTemplate;
         this.geneService = geneService;
         this.redissonClient = redissonClient;
+        this.nearCache = nearCache;
+        this.refreshAhead = refreshAhead;
+        this.searchIndex = searchIndex;
+        this.keyRegistry = keyRegistry;
         this.redisCacheConfig = redisCacheConfig != null ? redisCacheConfig :
                 new CacheConfig(Duration.ofDays(5), "gene:", true);
 
@@ -137,6 +220,17 @@ public class RedisCacheService implements CacheService {
                 cacheTtl, lockWaitTime, lockLeaseTime);
     }
 
+    /**
+     * Creates the single-flight coalescer once lock timings are injected.
+     *
+     * <p>Followers wait at most as long as a leader can possibly take: the lock wait
+     * plus the lock lease.
+     */
+    @PostConstruct
+    void initSingleFlight() {
+        this.cacheLoads = new SingleFlight<>(meterRegistry, "gene", lockWaitTime.plus(lockLeaseTime));
+    }
+
     // ==================== PUBLIC API (CacheService Interface) ====================
 
     /**
@@ -145,12 +239,16 @@ public class RedisCacheService implements CacheService {
      * <p>This method implements a cache-aside pattern with distributed locking:
      * <ol>
      *   <li>Validates the input gene name</li>
-     *   <li>Checks Redis cache for existing entry (fast path)</li>
-     *   <li>If cache hit: returns cached {@link GeneRecord}</li>
-     *   <li>If cache miss: uses distributed lock to prevent stampede
+     *   <li>Checks the in-process {@link NearCache} (fastest path, no network)</li>
+     *   <li>Checks Redis for a positive or negative entry in one round-trip (fast path)</li>
+     *   <li>If cache hit: populates the near cache and returns cached {@link GeneRecord};
+     *       if the entry is close to expiry, a background refresh may be scheduled</li>
+     *   <li>If negative hit: returns empty without touching the database</li>
+     *   <li>If cache miss: joins the in-flight load for this gene if another thread on this
+     *       node already started one; otherwise uses distributed lock to prevent stampede
      *       <ul>
      *         <li>Lock acquired: fetch from database, cache result, return</li>
-     *         <li>Lock contention: wait briefly, retry cache (another thread likely populated it)</li>
+     *         <li>Lock contention: retry cache (another instance likely populated it)</li>
      *       </ul>
      *   </li>
      * </ol>
@@ -170,21 +268,111 @@ public class RedisCacheService implements CacheService {
             return Optional.empty();
         }
 
-        String normalizedName = name.toUpperCase();
+        String normalizedName = normalizeName(name);
         String cacheKey = buildCacheKey(normalizedName);
 
-        // Fast path: Check cache first
-        Optional<GeneRecord> cached = getFromCache(cacheKey);
-        if (cached.isPresent()) {
+        // Fastest path: Check in-process near cache (no network round-trip)
+        Optional<GeneRecord> local = nearCache.get(cacheKey);
+        if (local.isPresent()) {
+            logger.debug("Near cache hit for gene: {}", normalizedName);
+            return local;
+        }
+
+        // Fast path: Check Redis (positive and negative entry in one round-trip)
+        CacheLookup cached = refreshAhead.isEnabled() ? lookupCacheWithTtl(cacheKey) : lookupCache(cacheKey);
+        if (cached.isHit()) {
             meterRegistry.counter("cache.hits").increment();
             logger.debug("Cache hit for gene: {}", normalizedName);
-            return cached;
+            nearCache.put(cacheKey, cached.gene());
+            if (refreshAhead.shouldRefresh(cached.ttlMillis())) {
+                refreshAhead.submit(cacheKey, () -> refreshEntry(normalizedName, cacheKey));
+            }
+            return Optional.of(cached.gene());
+        }
+        if (cached.isNegative()) {
+            meterRegistry.counter("cache.negative.hits").increment();
+            logger.debug("Negative cache hit for gene: {}", normalizedName);
+            return Optional.empty();
         }
 
-        // Slow path: Cache miss - use distributed lock to prevent stampede
+        // Slow path: Cache miss - coalesce on this node, then use distributed lock to prevent stampede
         meterRegistry.counter("cache.misses").increment();
         logger.debug("Cache miss for gene: {}, acquiring lock", normalizedName);
-        return fetchWithLock(normalizedName, cacheKey);
+        Optional<GeneRecord> result = fetchCoalesced(normalizedName, cacheKey);
+        result.ifPresent(gene -> nearCache.put(cacheKey, gene));
+        return result;
+    }
+
+    /**
+     * Retrieves several genes at once in at most three network round-trips.
+     *
+     * <p>Designed for pages that display many genes together; replaces N calls to
+     * {@link #getGeneByName(String)} with:
+     * <ol>
+     *   <li>Near cache lookups (no network)</li>
+     *   <li>One {@code MGET} of the positive and negative keys of every remaining name</li>
+     *   <li>One {@code WHERE UPPER(name) IN (...)} query for the names Redis did not know</li>
+     *   <li>One pipelined write back-filling found genes and negative entries for missing ones</li>
+     * </ol>
+     *
+     * <p><strong>Stampede Prevention:</strong> The batch path does not take the per-gene
+     * distributed lock; misses are already collapsed into a single query per request.
+     * Cache read/write failures degrade to database reads, as in the single-gene path.
+     *
+     * @param names gene names to look up (case-insensitive); null/blank entries are ignored
+     * @return found genes keyed by uppercase name, in request order with duplicates removed;
+     *         names that do not exist are absent
+     */
+    public Map<String, GeneRecord> getGenesByNames(Collection<String> names) {
+        meterRegistry.counter("cache.batch.requests").increment();
+
+        List<String> normalizedNames = names.stream()
+                .filter(name -> name != null && !name.isBlank())
+                .map(RedisCacheService::normalizeName)
+                .distinct()
+                .toList();
+        Map<String, GeneRecord> found = new HashMap<>();
+
+        // Fastest path: near cache
+        List<String> redisCandidates = new ArrayList<>();
+        for (String name : normalizedNames) {
+            nearCache.get(buildCacheKey(name)).ifPresentOrElse(
+                    gene -> found.put(name, gene),
+                    () -> redisCandidates.add(name));
+        }
+
+        // Round-trip 1: one MGET for every positive and negative key
+        List<String> databaseCandidates = redisCandidates.isEmpty()
+                ? List.of()
+                : lookupCacheBatch(redisCandidates, found);
+
+        // Round-trip 2: one IN query for the remaining misses
+        if (!databaseCandidates.isEmpty()) {
+            meterRegistry.counter("cache.misses").increment(databaseCandidates.size());
+            meterRegistry.counter("cache.database.queries").increment();
+            Map<String, GeneRecord> loaded = geneService.getGenesByNames(databaseCandidates).stream()
+                    .collect(Collectors.toMap(gene -> gene.name().toUpperCase(), gene -> gene, (a, b) -> a));
+            List<String> missing = databaseCandidates.stream()
+                    .filter(name -> !loaded.containsKey(name))
+                    .toList();
+
+            // Round-trip 3: back-fill Redis in one pipeline
+            backfillCache(loaded, missing);
+            loaded.forEach((name, gene) -> {
+                found.put(name, gene);
+                nearCache.put(buildCacheKey(name), gene);
+            });
+        }
+
+        Map<String, GeneRecord> ordered = new LinkedHashMap<>();
+        for (String name : normalizedNames) {
+            GeneRecord gene = found.get(name);
+            if (gene != null) {
+                ordered.put(name, gene);
+            }
+        }
+        logger.debug("Batch lookup of {} genes: {} found", normalizedNames.size(), ordered.size());
+        return ordered;
     }
 
     /**
@@ -198,6 +386,8 @@ public class RedisCacheService implements CacheService {
      * </ul>
      *
      * <p>If the gene is not in cache, this operation is a no-op (no error thrown).
+     * Any negative entry for the name is removed too, and the entry is removed from the
+     * near cache on every node.
      *
      * @param geneName the name of the gene to evict from cache, must not be null or empty
      * @example
@@ -215,7 +405,9 @@ public class RedisCacheService implements CacheService {
         }
 
         String cacheKey = buildCacheKey(geneName);
-        redisTemplate.delete(cacheKey);
+        redisTemplate.delete(List.of(cacheKey, buildNegativeCacheKey(cacheKey)));
+        nearCache.invalidate(cacheKey);
+        searchIndex.remove(normalizeName(geneName));
         meterRegistry.counter("cache.evictions").increment();
         logger.info("Evicted gene from cache: {}", geneName);
     }
@@ -224,8 +416,10 @@ public class RedisCacheService implements CacheService {
      * Clears all gene entries from the Redis cache using production-safe SCAN.
      *
      * <p>This operation removes all cached genes (keys matching pattern {@code gene:*})
-     * but leaves other cache entries untouched. Uses SCAN instead of KEYS for
-     * production safety. Useful for:
+     * and all negative entries ({@code missing:gene:*}) but leaves other cache entries
+     * untouched. Keys are streamed from the SCAN cursor into {@code UNLINK} batches, so memory
+     * use does not depend on the number of keys and Redis frees values off its main thread.
+     * Useful for:
      * <ul>
      *   <li>Bulk cache invalidation after database updates</li>
      *   <li>Cache maintenance operations</li>
@@ -239,47 +433,273 @@ public class RedisCacheService implements CacheService {
         logger.info("Clearing all gene cache entries");
         meterRegistry.counter("cache.clears.all").increment();
 
+        AtomicLong deleted = new AtomicLong();
         try {
-            Set<String> keysToDelete = getKeysByPattern("gene:*", 50_000);
-
-            if (keysToDelete.isEmpty()) {
-                logger.info("No gene cache entries to clear");
-                return;
-            }
+            unlinkMatching("gene:*", deleted, count -> { });
+            unlinkMatching(buildNegativeCacheKey("gene:*"), deleted, count -> { });
 
-            long deleted = deleteKeysInBatches(keysToDelete);
-            logger.info("Cleared {} gene cache entries", deleted);
-            meterRegistry.counter("cache.clears.keys", "count", String.valueOf(deleted)).increment();
+            logger.info("Cleared {} gene cache entries", deleted.get());
+            meterRegistry.counter("cache.clears.keys", "count", String.valueOf(deleted.get())).increment();
 
         } catch (Exception e) {
             logger.error("Failed to clear cache", e);
             meterRegistry.counter("cache.errors", "operation", "clear").increment();
             throw new RuntimeException("Cache clearing failed", e);
+        } finally {
+            // Invalidate after the Redis delete so no node re-reads a soon-to-be-deleted entry
+            nearCache.invalidateAll();
+            searchIndex.clear();
         }
     }
 
     // ==================== CACHE OPERATIONS (Private) ====================
 
     /**
-     * Retrieves a gene from Redis cache without database fallback.
+     * Reads a gene's positive and negative cache entries without database fallback.
+     *
+     * <p>This is a pure cache read operation used by other methods. Both keys are fetched
+     * with a single {@code MGET}, so checking the negative cache costs no extra round-trip.
+     * Read errors are treated as a miss.
+     *
+     * @param cacheKey the Redis key of the positive entry
+     * @return the {@link CacheLookup} outcome: hit, negative hit or miss
+     */
+    private CacheLookup lookupCache(String cacheKey) {
+        try {
+            List<Object> values = redisTemplate.opsForValue()
+                    .multiGet(List.of(cacheKey, buildNegativeCacheKey(cacheKey)));
+            if (values != null && values.size() == 2) {
+                if (values.get(0) instanceof GeneRecord gene) {
+                    return CacheLookup.hit(gene);
+                }
+                if (values.get(1) instanceof NegativeCacheEntry) {
+                    return CacheLookup.NEGATIVE;
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("Error reading from cache key: {}", cacheKey, e);
+            meterRegistry.counter("cache.errors", "operation", "read").increment();
+        }
+        return CacheLookup.MISS;
+    }
+
+    /**
+     * Like {@link #lookupCache(String)}, but also reports the remaining TTL of the positive entry.
      *
-     * <p>This is a pure cache read operation used by other methods.
-     * Returns empty if key doesn't exist or value is not a GeneRecord.
+     * <p>{@code GET}, {@code GET} and {@code PTTL} are sent in one pipeline, so refresh-ahead
+     * costs no extra round-trip on the hit path.
      *
-     * @param cacheKey the Redis key to fetch
-     * @return {@link Optional} containing the gene if found and valid, empty otherwise
+     * @param cacheKey the Redis key of the positive entry
+     * @return the {@link CacheLookup} outcome, with {@code ttlMillis} set for hits
      */
-    private Optional<GeneRecord> getFromCache(String cacheKey) {
+    private CacheLookup lookupCacheWithTtl(String cacheKey) {
+        String negativeKey = buildNegativeCacheKey(cacheKey);
         try {
-            Object value = redisTemplate.opsForValue().get(cacheKey);
-            if (value instanceof GeneRecord gene) {
-                return Optional.of(gene);
+            List<Object> values = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    ops.opsForValue().get(cacheKey);
+                    ops.opsForValue().get(negativeKey);
+                    ops.getExpire(cacheKey, TimeUnit.MILLISECONDS);
+                    return null;
+                }
+            });
+            if (values.size() == 3) {
+                if (values.get(0) instanceof GeneRecord gene) {
+                    long ttlMillis = values.get(2) instanceof Long ttl ? ttl : -1L;
+                    return CacheLookup.hit(gene, ttlMillis);
+                }
+                if (values.get(1) instanceof NegativeCacheEntry) {
+                    return CacheLookup.NEGATIVE;
+                }
             }
         } catch (Exception e) {
             logger.warn("Error reading from cache key: {}", cacheKey, e);
             meterRegistry.counter("cache.errors", "operation", "read").increment();
         }
-        return Optional.empty();
+        return CacheLookup.MISS;
+    }
+
+    /**
+     * Reloads a gene from the database and rewrites its cache entry with a fresh TTL.
+     *
+     * <p>Runs on the {@link RefreshAhead} executor while callers keep being served the current
+     * value. The per-gene distributed lock is tried without waiting, so only one instance in the
+     * cluster refreshes a given key; if the lock is busy, the refresh is skipped. A gene deleted
+     * from the database is replaced by a negative entry.
+     *
+     * @param geneName the normalized gene name
+     * @param cacheKey the Redis cache key
+     */
+    private void refreshEntry(String geneName, String cacheKey) {
+        RLock lock = redissonClient.getLock("lock:" + cacheKey);
+        boolean acquired;
+        try {
+            acquired = lock.tryLock(0, lockLeaseTime.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (!acquired) {
+            logger.debug("Skipping refresh-ahead for gene: {}, lock is busy", geneName);
+            return;
+        }
+
+        try {
+            meterRegistry.counter("cache.database.queries").increment();
+            Optional<GeneRecord> result = geneService.getGeneByName(geneName);
+            if (result.isPresent()) {
+                redisTemplate.opsForValue().set(cacheKey, result.get(), cacheTtl);
+                searchIndex.add(geneName);
+                meterRegistry.counter("cache.writes").increment();
+                logger.debug("Refreshed gene ahead of expiry: {}", geneName);
+            } else {
+                redisTemplate.delete(cacheKey);
+                searchIndex.remove(geneName);
+                cacheNotFound(geneName, cacheKey);
+                logger.debug("Gene disappeared from database during refresh-ahead: {}", geneName);
+            }
+            // Other nodes may hold the previous value in their near caches
+            nearCache.invalidate(cacheKey);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reads positive and negative cache entries for several genes with a single {@code MGET}.
+     *
+     * <p>Hits are added to {@code found} (and the near cache). If Redis cannot be read, every
+     * name is returned as a miss so the caller falls back to the database.
+     *
+     * @param names normalized gene names to look up
+     * @param found map receiving the genes served from Redis
+     * @return the names with neither a positive nor a negative entry
+     */
+    private List<String> lookupCacheBatch(List<String> names, Map<String, GeneRecord> found) {
+        List<String> keys = new ArrayList<>(names.size() * 2);
+        for (String name : names) {
+            String cacheKey = buildCacheKey(name);
+            keys.add(cacheKey);
+            keys.add(buildNegativeCacheKey(cacheKey));
+        }
+
+        List<Object> values;
+        try {
+            values = redisTemplate.opsForValue().multiGet(keys);
+        } catch (Exception e) {
+            logger.warn("Error reading {} gene keys from cache", keys.size(), e);
+            meterRegistry.counter("cache.errors", "operation", "batch_read").increment();
+            return names;
+        }
+        if (values == null || values.size() != keys.size()) {
+            return names;
+        }
+
+        List<String> misses = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i);
+            if (values.get(2 * i) instanceof GeneRecord gene) {
+                meterRegistry.counter("cache.hits").increment();
+                found.put(name, gene);
+                nearCache.put(keys.get(2 * i), gene);
+            } else if (values.get(2 * i + 1) instanceof NegativeCacheEntry) {
+                meterRegistry.counter("cache.negative.hits").increment();
+            } else {
+                misses.add(name);
+            }
+        }
+        return misses;
+    }
+
+    /**
+     * Writes loaded genes and negative entries for missing names in a single pipeline.
+     *
+     * @param loaded  genes loaded from the database, keyed by uppercase name
+     * @param missing uppercase names the database does not contain
+     */
+    private void backfillCache(Map<String, GeneRecord> loaded, List<String> missing) {
+        boolean cacheMissing = !missing.isEmpty() && !negativeTtl.isZero() && !negativeTtl.isNegative();
+        if (loaded.isEmpty() && !cacheMissing) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    loaded.forEach((name, gene) ->
+                            ops.opsForValue().set(buildCacheKey(name), gene, cacheTtl));
+                    if (cacheMissing) {
+                        missing.forEach(name -> ops.opsForValue().set(
+                                buildNegativeCacheKey(buildCacheKey(name)), NegativeCacheEntry.of(name), negativeTtl));
+                    }
+                    return null;
+                }
+            });
+            searchIndex.addAll(loaded.keySet());
+            meterRegistry.counter("cache.writes").increment(loaded.size());
+            if (cacheMissing) {
+                meterRegistry.counter("cache.negative.writes").increment(missing.size());
+            }
+        } catch (Exception e) {
+            logger.warn("Error back-filling {} gene cache entries", loaded.size() + missing.size(), e);
+            meterRegistry.counter("cache.errors", "operation", "batch_write").increment();
+        }
+    }
+
+    /**
+     * Records that a gene does not exist, using the short negative TTL.
+     *
+     * @param geneName the normalized gene name
+     * @param cacheKey the Redis key of the positive entry
+     */
+    private void cacheNotFound(String geneName, String cacheKey) {
+        if (negativeTtl.isZero() || negativeTtl.isNegative()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(buildNegativeCacheKey(cacheKey), NegativeCacheEntry.of(geneName), negativeTtl);
+            meterRegistry.counter("cache.negative.writes").increment();
+            logger.debug("Cached not-found marker for gene: {} with TTL: {}", geneName, negativeTtl);
+        } catch (Exception e) {
+            logger.warn("Error writing negative cache entry for gene: {}", geneName, e);
+            meterRegistry.counter("cache.errors", "operation", "negative_write").increment();
+        }
+    }
+
+    /**
+     * Loads a missing gene through the per-node single-flight coalescer.
+     *
+     * <p>The first thread to miss on a key becomes the leader and runs {@link #fetchWithLock};
+     * every other thread on this node waits for the leader's result instead of contending
+     * for the distributed lock. If waiting fails (interrupt, timeout, leader error), the
+     * follower degrades gracefully to a direct DB query.
+     *
+     * @param geneName the normalized gene name (uppercase)
+     * @param cacheKey the Redis cache key, also used as the coalescing key
+     * @return {@link Optional} containing the gene record
+     */
+    private Optional<GeneRecord> fetchCoalesced(String geneName, String cacheKey) {
+        try {
+            return cacheLoads.execute(cacheKey, () -> fetchWithLock(geneName, cacheKey));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while waiting for in-flight load: {}", geneName, e);
+            meterRegistry.counter("cache.singleflight.interrupted").increment();
+            return geneService.getGeneByName(geneName);
+        } catch (TimeoutException e) {
+            logger.warn("Timed out waiting for in-flight load: {}, querying DB directly", geneName);
+            meterRegistry.counter("cache.singleflight.timeouts").increment();
+            return geneService.getGeneByName(geneName);
+        } catch (ExecutionException e) {
+            logger.error("In-flight load failed for gene: {}", geneName, e.getCause());
+            meterRegistry.counter("cache.errors", "operation", "singleflight").increment();
+            return geneService.getGeneByName(geneName);
+        }
     }
 
     /**
@@ -289,10 +709,16 @@ public class RedisCacheService implements CacheService {
      * <ol>
      *   <li>Try to acquire lock with configured timeout</li>
      *   <li>If acquired: fetch from DB, cache result, release lock</li>
-     *   <li>If contention: wait briefly, retry cache check (another thread populating)</li>
+     *   <li>If contention: retry cache check (another instance was populating)</li>
      *   <li>If interrupted/error: fallback to direct DB query (graceful degradation)</li>
      * </ol>
      *
+     * <p><strong>Virtual threads:</strong> No monitor is held while waiting for the lock, the
+     * database or Redis; Redisson and the pools park via {@code java.util.concurrent}, so a waiting
+     * virtual thread releases its carrier (see {@code VirtualThreadConfig}). Keep it that way: do not
+     * wrap this path in {@code synchronized}. The lock owner is the calling thread, which is unique
+     * for virtual threads as well.
+     *
      * @param geneName the normalized gene name (uppercase)
      * @param cacheKey the Redis cache key
      * @return {@link Optional} containing the gene record
@@ -320,8 +746,8 @@ public class RedisCacheService implements CacheService {
                     logger.debug("Lock released for gene: {}", geneName);
                 }
             } else {
-                // Lock contention - another thread is fetching
-                logger.debug("Lock contention for gene: {}, waiting for other thread", geneName);
+                // Lock contention - another instance is fetching
+                logger.debug("Lock contention for gene: {}, re-checking cache", geneName);
                 meterRegistry.counter("cache.locks.contention").increment();
                 return retryCache(cacheKey, geneName);
             }
@@ -353,10 +779,11 @@ public class RedisCacheService implements CacheService {
      *   <li>Double-check cache (race condition: another thread may have populated while waiting)</li>
      *   <li>If still empty: query database</li>
      *   <li>If found: save to Redis with TTL</li>
+     *   <li>If not found: save a negative entry with the short negative TTL</li>
      *   <li>Return result</li>
      * </ol>
      *
-     * <p>This method is only called by the thread that successfully acquired the lock.
+     * <p>This method is only called by the single-flight leader that successfully acquired the lock.
      *
      * @param geneName the normalized gene name
      * @param cacheKey the Redis cache key
@@ -365,11 +792,16 @@ public class RedisCacheService implements CacheService {
     private Optional<GeneRecord> fetchAndCache(String geneName, String cacheKey) {
         // Double-check cache (race condition protection)
         // Another thread might have filled it while we waited for lock
-        Optional<GeneRecord> cached = getFromCache(cacheKey);
-        if (cached.isPresent()) {
+        CacheLookup cached = lookupCache(cacheKey);
+        if (cached.isHit()) {
             logger.debug("Gene found in cache during double-check: {}", geneName);
             meterRegistry.counter("cache.double_check.hits").increment();
-            return cached;
+            return Optional.of(cached.gene());
+        }
+        if (cached.isNegative()) {
+            logger.debug("Gene known missing during double-check: {}", geneName);
+            meterRegistry.counter("cache.negative.hits").increment();
+            return Optional.empty();
         }
 
         // Cache still empty - fetch from database
@@ -382,12 +814,14 @@ public class RedisCacheService implements CacheService {
         result.ifPresentOrElse(
                 gene -> {
                     redisTemplate.opsForValue().set(cacheKey, gene, cacheTtl);
+                    searchIndex.add(geneName);
                     meterRegistry.counter("cache.writes").increment();
                     logger.debug("Cached gene: {} with TTL: {}", geneName, cacheTtl);
                 },
                 () -> {
                     logger.debug("Gene not found in database: {}", geneName);
                     meterRegistry.counter("cache.database.not_found").increment();
+                    cacheNotFound(geneName, cacheKey);
                 }
         );
 
@@ -395,37 +829,34 @@ public class RedisCacheService implements CacheService {
     }
 
     /**
-     * Retries cache check after waiting for another thread to populate it.
+     * Re-checks the cache after failing to acquire the lock held by another instance.
      *
      * <p>Strategy when lock contention occurs:
      * <ol>
-     *   <li>Wait briefly (100ms) for the lock-holding thread to complete DB query and cache</li>
-     *   <li>Check cache again (high probability it's now populated)</li>
+     *   <li>Check cache again - {@code tryLock} has already waited up to the configured
+     *       lock wait time, so no additional fixed sleep is needed</li>
      *   <li>If still empty: fallback to direct DB query (graceful degradation)</li>
      * </ol>
      *
-     * <p>This prevents multiple database queries while providing eventual consistency.
+     * <p>Only the single-flight leader of each node can get here, so at most one DB query
+     * per node results from contention.
      *
      * @param cacheKey the Redis cache key
      * @param geneName the gene name (for logging)
      * @return {@link Optional} containing the gene record
      */
     private Optional<GeneRecord> retryCache(String cacheKey, String geneName) {
-        // Wait briefly for the other thread to populate cache
-        try {
-            Thread.sleep(100); // 100ms should be enough for most DB queries
-        } catch (InterruptedException e) {
-            // Restore interrupted status and continue
-            Thread.currentThread().interrupt();
-            logger.debug("Interrupted during retry wait for gene: {}", geneName);
-        }
-
-        // Check cache again - likely populated by the lock-holding thread
-        Optional<GeneRecord> cached = getFromCache(cacheKey);
-        if (cached.isPresent()) {
+        // Check cache again - likely populated by the lock-holding instance
+        CacheLookup cached = lookupCache(cacheKey);
+        if (cached.isHit()) {
             logger.debug("Cache populated by other thread for gene: {}", geneName);
             meterRegistry.counter("cache.retry.hits").increment();
-            return cached;
+            return Optional.of(cached.gene());
+        }
+        if (cached.isNegative()) {
+            logger.debug("Other instance recorded gene as missing: {}", geneName);
+            meterRegistry.counter("cache.negative.hits").increment();
+            return Optional.empty();
         }
 
         // Still not in cache - fallback to DB query
@@ -458,10 +889,25 @@ public class RedisCacheService implements CacheService {
      * @return {@link ClearResult} containing operation outcome, deletion count, and status message
      */
     public ClearResult clearByPattern(String pattern) {
+        return clearByPattern(pattern, count -> { });
+    }
+
+    /**
+     * Clears cache entries matching the specified Redis pattern, reporting progress.
+     *
+     * <p>Same as {@link #clearByPattern(String)}; {@code onProgress} receives the running
+     * number of deleted keys after every {@code UNLINK} batch. Used by {@link CacheClearJobService}
+     * to expose progress of asynchronous clears.
+     *
+     * @param pattern    the Redis key pattern using glob syntax, must not be null or blank
+     * @param onProgress callback receiving the total number of keys deleted so far
+     * @return {@link ClearResult} containing operation outcome, deletion count, and status message
+     */
+    public ClearResult clearByPattern(String pattern, LongConsumer onProgress) {
         meterRegistry.counter("cache.clears.by_pattern.requests").increment();
 
         return switch (validatePattern(pattern)) {
-            case VALID -> executeClearOperation(pattern);
+            case VALID -> executeClearOperation(pattern, onProgress);
             case NULL_OR_BLANK -> ClearResult.failure(
                     pattern != null ? pattern : "",
                     "Pattern cannot be null or blank"
@@ -486,18 +932,19 @@ public class RedisCacheService implements CacheService {
     }
 
     /**
-     * Searches for genes in cache matching the specified pattern.
+     * Searches for genes in cache whose name contains the specified pattern.
      *
-     * <p>This method scans cached gene keys and returns matching gene records.
-     * Useful for:
+     * <p>This method resolves matching names from the {@link GeneSearchIndex} and fetches
+     * their cached values with a single {@code MGET}. Useful for:
      * <ul>
      *   <li>Finding all cached genes of a family (e.g., "BRCA")</li>
      *   <li>Cache inspection and debugging</li>
      *   <li>Batch operations on related genes</li>
      * </ul>
      *
-     * <p><strong>Performance Note:</strong> Uses Redis SCAN for production safety.
-     * For large caches, this may take time. Consider using more specific patterns.
+     * <p><strong>Performance Note:</strong> Cost depends on the number of matches, not on the
+     * number of cached keys. Results are sorted by name and capped at
+     * {@code cache.search.max-results}.
      *
      * @param pattern the search pattern (e.g., "BRCA", "TP5"), case-insensitive
      * @return list of gene records matching the pattern (empty if none found)
@@ -512,43 +959,13 @@ public class RedisCacheService implements CacheService {
             return new ArrayList<>();
         }
 
-        String normalizedPattern = pattern.trim().toUpperCase();
-        List<GeneRecord> matchingGenes = new ArrayList<>();
-
+        String normalizedPattern = normalizeName(pattern);
         try {
-            // Create Redis SCAN pattern
-            String scanPattern = redisCacheConfig.keyPrefix() + "*" + normalizedPattern + "*";
-
-            ScanOptions scanOptions = ScanOptions.scanOptions()
-                    .match(scanPattern)
-                    .count(100)
-                    .build();
-
-            // Scan and collect matching genes
-            redisTemplate.execute((RedisCallback<Void>) connection -> {
-                try (Cursor<byte[]> cursor = connection.scan(scanOptions)) {
-                    while (cursor.hasNext()) {
-                        String key = new String(cursor.next());
-                        Object value = redisTemplate.opsForValue().get(key);
-
-                        if (value instanceof GeneRecord geneRecord) {
-                            // Double-check the gene name matches our pattern
-                            if (geneRecord.name().toUpperCase().contains(normalizedPattern)) {
-                                matchingGenes.add(geneRecord);
-                            }
-                        }
-                    }
-                } catch (Exception e) {
-                    logger.error("Error during cache scan for pattern: {}", pattern, e);
-                    meterRegistry.counter("cache.errors", "operation", "scan").increment();
-                }
-                return null;
-            });
-
+            List<GeneRecord> matchingGenes = resolveIndexedGenes(
+                    searchIndex.findBySubstring(normalizedPattern, searchMaxResults));
             logger.info("Found {} cached genes matching pattern: {}", matchingGenes.size(), pattern);
             meterRegistry.counter("cache.search.results", "count", String.valueOf(matchingGenes.size())).increment();
             return matchingGenes;
-
         } catch (Exception e) {
             logger.error("Error searching genes by pattern: {}", pattern, e);
             meterRegistry.counter("cache.errors", "operation", "search").increment();
@@ -556,31 +973,94 @@ public class RedisCacheService implements CacheService {
         }
     }
 
+    /**
+     * Searches for genes in cache whose name starts with the specified prefix.
+     *
+     * <p>Uses a lexicographic range query on the {@link GeneSearchIndex}; results come back
+     * in alphabetical order, capped at {@code cache.search.max-results}.
+     *
+     * @param prefix the name prefix (e.g., "BRC"), case-insensitive
+     * @return list of gene records whose name starts with the prefix (empty if none found)
+     */
+    public List<GeneRecord> searchGenesByPrefix(String prefix) {
+        meterRegistry.counter("cache.search.requests", "mode", "prefix").increment();
+
+        if (prefix == null || prefix.trim().isEmpty()) {
+            meterRegistry.counter("cache.search.invalid").increment();
+            return new ArrayList<>();
+        }
+
+        try {
+            return resolveIndexedGenes(searchIndex.findByPrefix(normalizeName(prefix), searchMaxResults));
+        } catch (Exception e) {
+            logger.error("Error searching genes by prefix: {}", prefix, e);
+            meterRegistry.counter("cache.errors", "operation", "search").increment();
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Fetches the cached values of indexed names with one {@code MGET}, preserving order.
+     *
+     * <p>Names whose entry has expired or been deleted are dropped from the index so later
+     * searches do not pay for them again.
+     *
+     * @param names gene names resolved from the index
+     * @return the cached gene records, in the order of {@code names}
+     */
+    private List<GeneRecord> resolveIndexedGenes(List<String> names) {
+        if (names.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Object> values = redisTemplate.opsForValue()
+                .multiGet(names.stream().map(RedisCacheService::buildCacheKey).toList());
+        if (values == null) {
+            return new ArrayList<>();
+        }
+
+        List<GeneRecord> genes = new ArrayList<>(names.size());
+        List<String> stale = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            if (values.get(i) instanceof GeneRecord gene) {
+                genes.add(gene);
+            } else {
+                stale.add(names.get(i));
+            }
+        }
+        if (!stale.isEmpty()) {
+            logger.debug("Removing {} expired names from search index", stale.size());
+            searchIndex.removeAll(stale);
+        }
+        return genes;
+    }
+
     // ==================== MONITORING & HEALTH ====================
 
     /**
      * Retrieves comprehensive cache status and statistics.
      *
      * <p>This method provides operational visibility into the cache state by
-     * collecting key metrics about cached entries. Uses Redis SCAN for production safety.
+     * collecting key counts for genes, negative entries and mutations, plus approximate
+     * memory per namespace.
      *
-     * <p><strong>Performance Note:</strong> Uses Redis SCAN command which is production-safe,
-     * non-blocking, and handles large datasets efficiently through cursor-based iteration.
+     * <p><strong>Performance Note:</strong> Counts come from registries maintained on write,
+     * evict and expiry ({@link CacheKeyRegistry}), so the cost is constant regardless of the
+     * size of the keyspace - safe for frequent monitoring polls.
      *
      * <p><strong>Error Handling:</strong> If Redis is unavailable, returns empty
      * status rather than throwing exceptions to maintain service availability.
      *
      * @return {@link CacheStatus} containing current cache metrics and availability
-     * @see CacheStatus#of(Long, Long, Long, String)
+     * @see CacheStatus#of(Long, Long, Long, Long, Map, String, boolean)
      * @see CacheStatus#empty()
      */
     public CacheStatus getStatus() {
         meterRegistry.counter("cache.status.checks").increment();
 
         try {
-            long geneCount = countKeysByPattern("gene:*");
-            logger.debug("Cache status check: {} genes cached", geneCount);
-            return CacheStatus.of(geneCount, geneCount, 0L, "AVAILABLE");
+            CacheStatus status = keyRegistry.snapshot();
+            logger.debug("Cache status check: {} genes cached", status.geneKeys());
+            return status;
         } catch (Exception e) {
             logger.error("Failed to get cache status", e);
             meterRegistry.counter("cache.errors", "operation", "status").increment();
@@ -668,51 +1148,42 @@ public class RedisCacheService implements CacheService {
      * <ul>
      *   <li>{@code "tp53"} → {@code "gene:TP53"}</li>
      *   <li>{@code "BRCA1"} → {@code "gene:BRCA1"}</li>
-     *   <li>{@code "egfr"} → {@code "gene:EGFR"}</li>
+     *   <li>{@code " egfr "} → {@code "gene:EGFR"}</li>
      * </ul>
      *
-     * <p><strong>Design Decision:</strong> Gene names are normalized to uppercase
-     * to ensure case-insensitive caching (tp53, TP53, Tp53 all use same cache key).
+     * <p><strong>Design Decision:</strong> Gene names are normalized here, through
+     * {@link #normalizeName(String)}, so that every caller writes the same key
+     * (tp53, TP53, " Tp53" all use the same cache key).
      *
      * @param geneName the gene name to create a cache key for, must not be null
      * @return the formatted cache key string
      */
-    private String buildCacheKey(String geneName) {
-        String normalizedName = geneName.toUpperCase();
-        return String.format("gene:%s", normalizedName);
+    static String buildCacheKey(String geneName) {
+        return String.format("gene:%s", normalizeName(geneName));
     }
 
     /**
-     * Counts Redis keys matching a pattern using SCAN for production safety.
-     *
-     * <p>This method uses Redis SCAN command which:
-     * <ul>
-     *   <li>Is non-blocking (doesn't freeze Redis)</li>
-     *   <li>Uses cursor-based iteration</li>
-     *   <li>Handles large datasets efficiently</li>
-     *   <li>Provides configurable batch sizes</li>
-     * </ul>
+     * Normalizes a gene name the way every cache key, index entry and database lookup expects it:
+     * surrounding whitespace removed, uppercase ({@code " tp53"} → {@code "TP53"}).
      *
-     * @param pattern the Redis key pattern to match (e.g., "gene:*")
-     * @return count of keys matching the pattern, 0 if error occurs
+     * @param geneName the gene name as received, must not be null
+     * @return the normalized name
      */
-    private long countKeysByPattern(String pattern) {
-        ScanOptions scanOptions = ScanOptions.scanOptions()
-                .match(pattern)
-                .count(1000)
-                .build();
+    static String normalizeName(String geneName) {
+        return geneName.trim().toUpperCase();
+    }
 
-        try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
-            long count = 0;
-            while (cursor.hasNext()) {
-                cursor.next();
-                count++;
-            }
-            return count;
-        } catch (Exception e) {
-            logger.warn("Failed to scan keys with pattern: {}", pattern, e);
-            return 0L;
-        }
+    /**
+     * Builds the negative cache key (or pattern) for a gene cache key (or pattern).
+     *
+     * <p>Examples: {@code gene:FOO} → {@code missing:gene:FOO},
+     * {@code gene:BRCA*} → {@code missing:gene:BRCA*}
+     *
+     * @param cacheKey the positive cache key or {@code gene:}-prefixed pattern
+     * @return the corresponding key or pattern in the negative namespace
+     */
+    static String buildNegativeCacheKey(String cacheKey) {
+        return NEGATIVE_KEY_PREFIX + cacheKey;
     }
 
     /**
@@ -749,93 +1220,120 @@ public class RedisCacheService implements CacheService {
     }
 
     /**
-     * Deletes Redis keys in batches to avoid overwhelming Redis.
+     * Deletes every key matching a pattern, streaming from the SCAN cursor.
      *
      * <p>Production-safe deletion with:
      * <ul>
-     *   <li>Batched operations (1000 keys per batch)</li>
-     *   <li>Small delays between batches (10ms)</li>
-     *   <li>Graceful handling of interruptions</li>
+     *   <li>No key cap and no in-memory key set: each SCAN page is unlinked as it arrives</li>
+     *   <li>One multi-key {@code UNLINK} per batch of up to 1000 keys; Redis reclaims memory in
+     *       a background thread instead of blocking like {@code DEL}</li>
+     *   <li>Search index entries of deleted genes removed batch by batch</li>
      * </ul>
      *
-     * @param keys the set of keys to delete
-     * @return total number of keys actually deleted
+     * <p>Deleting while scanning is safe: SCAN still returns every key that exists for the
+     * whole iteration.
+     *
+     * @param pattern    the Redis key pattern to delete
+     * @param deleted    running total, incremented after every batch (also on partial failure)
+     * @param onProgress callback receiving the running total after every batch
      */
-    private long deleteKeysInBatches(Set<String> keys) {
-        final int BATCH_SIZE = 1000;
-        final int DELAY_MS = 10;
-        long totalDeleted = 0;
-
-        List<String> keyList = new ArrayList<>(keys);
-        int totalBatches = (int) Math.ceil((double) keyList.size() / BATCH_SIZE);
-
-        logger.debug("Deleting {} keys in {} batches", keyList.size(), totalBatches);
-
-        for (int i = 0; i < keyList.size(); i += BATCH_SIZE) {
-            int endIndex = Math.min(i + BATCH_SIZE, keyList.size());
-            List<String> batch = keyList.subList(i, endIndex);
-
-            Long deleted = redisTemplate.delete(batch);
-            totalDeleted += deleted != null ? deleted : 0;
+    private void unlinkMatching(String pattern, AtomicLong deleted, LongConsumer onProgress) {
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(pattern)
+                .count(UNLINK_BATCH_SIZE)
+                .build();
 
-            // Small delay between batches to be gentle on Redis
-            if (endIndex < keyList.size()) {
-                try {
-                    Thread.sleep(DELAY_MS);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    logger.warn("Batch deletion interrupted after {} keys", totalDeleted);
-                    break;
+        List<String> batch = new ArrayList<>(UNLINK_BATCH_SIZE);
+        try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == UNLINK_BATCH_SIZE) {
+                    unlinkBatch(batch, deleted, onProgress);
+                    batch.clear();
                 }
             }
         }
+        if (!batch.isEmpty()) {
+            unlinkBatch(batch, deleted, onProgress);
+        }
+    }
 
-        meterRegistry.counter("cache.deletions.batched", "count", String.valueOf(totalDeleted)).increment();
-        return totalDeleted;
+    /**
+     * Unlinks one batch of keys and updates the running total.
+     *
+     * @param batch      keys to unlink
+     * @param deleted    running total
+     * @param onProgress callback receiving the running total
+     */
+    private void unlinkBatch(List<String> batch, AtomicLong deleted, LongConsumer onProgress) {
+        Long unlinked = redisTemplate.unlink(batch);
+        searchIndex.removeAll(batch.stream()
+                .filter(key -> key.startsWith("gene:"))
+                .map(key -> key.substring("gene:".length()))
+                .toList());
+
+        long count = unlinked != null ? unlinked : 0L;
+        meterRegistry.counter("cache.deletions.unlinked").increment(count);
+        onProgress.accept(deleted.addAndGet(count));
     }
 
     /**
      * Executes the cache clear operation for a given Redis pattern.
      *
-     * <p>Scans for keys matching the pattern and deletes them in batches for safety.
-     * Returns a detailed result with success/failure status and error messages.
+     * <p>Streams keys matching the pattern, plus the matching negative entries, into
+     * {@code UNLINK} batches. Matching near cache entries are invalidated on every node, even
+     * if the Redis deletion fails part-way. If a failure happens after some keys were already
+     * deleted, the result is a partial success carrying the number deleted so far.
      *
-     * @param pattern the Redis key pattern to clear (e.g., "gene:BRCA*")
+     * @param pattern    the Redis key pattern to clear (e.g., "gene:BRCA*")
+     * @param onProgress callback receiving the running number of deleted keys
      * @return {@link ClearResult} indicating the outcome of the operation
      */
-    private ClearResult executeClearOperation(String pattern) {
+    private ClearResult executeClearOperation(String pattern, LongConsumer onProgress) {
+        AtomicLong deleted = new AtomicLong();
         try {
-            Set<String> keysToDelete = getKeysByPattern(pattern, 50_000);
+            unlinkMatching(pattern, deleted, onProgress);
+            unlinkMatching(buildNegativeCacheKey(pattern), deleted, onProgress);
 
-            if (keysToDelete.isEmpty()) {
-                logger.info("No cache entries found matching pattern: {}", pattern);
-                return ClearResult.success(0L, pattern);
-            }
-
-            long totalDeleted = deleteKeysInBatches(keysToDelete);
-            logger.info("Cleared {} cache entries for pattern: {}", totalDeleted, pattern);
+            logger.info("Cleared {} cache entries for pattern: {}", deleted.get(), pattern);
             meterRegistry.counter("cache.clears.by_pattern.success").increment();
 
-            return ClearResult.success(totalDeleted, pattern);
+            return ClearResult.success(deleted.get(), pattern);
 
         } catch (RedisConnectionFailureException e) {
             logger.error("Redis connection failed while clearing cache for pattern: {}", pattern, e);
             meterRegistry.counter("cache.errors", "operation", "clear_pattern", "type", "connection").increment();
-            return ClearResult.failure(pattern, "Redis connection failed - cache may be unavailable");
+            return clearFailure(pattern, deleted.get(), "Redis connection failed - cache may be unavailable");
 
         } catch (RedisSystemException e) {
             logger.error("Redis system error while clearing cache for pattern: {}", pattern, e);
             meterRegistry.counter("cache.errors", "operation", "clear_pattern", "type", "system").increment();
-            return ClearResult.failure(pattern, "Redis system error occurred during operation");
+            return clearFailure(pattern, deleted.get(), "Redis system error occurred during operation");
 
         } catch (Exception e) {
             logger.error("Unexpected error while clearing cache for pattern: {}", pattern, e);
             meterRegistry.counter("cache.errors", "operation", "clear_pattern", "type", "unexpected").increment();
-            return ClearResult.failure(pattern,
+            return clearFailure(pattern, deleted.get(),
                     "Unexpected error: " + (e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName()));
+        } finally {
+            nearCache.invalidatePattern(pattern);
         }
     }
 
+    /**
+     * Builds the result of a clear that failed, as a partial success if keys were already deleted.
+     *
+     * @param pattern the pattern being cleared
+     * @param deleted number of keys deleted before the failure
+     * @param message the error description
+     * @return {@link ClearResult#partialSuccess} or {@link ClearResult#failure}
+     */
+    private ClearResult clearFailure(String pattern, long deleted, String message) {
+        return deleted > 0
+                ? ClearResult.partialSuccess(deleted, pattern, message)
+                : ClearResult.failure(pattern, message);
+    }
+
     /**
      * Validates Redis pattern format and content for safety.
      *
@@ -920,6 +1418,34 @@ public class RedisCacheService implements CacheService {
         TOO_LONG
     }
 
+    /**
+     * Outcome of a cache read: a positive hit, a negative hit (gene known not to exist) or a miss.
+     *
+     * @param gene      the cached gene for a positive hit, null otherwise
+     * @param negative  true if a negative entry was found
+     * @param ttlMillis remaining TTL of a positive hit in milliseconds, -1 if not read
+     */
+    private record CacheLookup(GeneRecord gene, boolean negative, long ttlMillis) {
+        static final CacheLookup MISS = new CacheLookup(null, false, -1L);
+        static final CacheLookup NEGATIVE = new CacheLookup(null, true, -1L);
+
+        static CacheLookup hit(GeneRecord gene) {
+            return new CacheLookup(gene, false, -1L);
+        }
+
+        static CacheLookup hit(GeneRecord gene, long ttlMillis) {
+            return new CacheLookup(gene, false, ttlMillis);
+        }
+
+        boolean isHit() {
+            return gene != null;
+        }
+
+        boolean isNegative() {
+            return negative;
+        }
+    }
+
     /**
      * Configuration record for Redis cache behavior.
      *
@@ -0,0 +1,170 @@
+package com.gene.sphere.geneservice.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Refresh-ahead policy and executor for hot Redis cache entries.
+ *
+ * <p>Entries written during a warm-up share almost the same expiry, so without refresh-ahead the
+ * next request for each of them pays the full lock-plus-database path at roughly the same moment.
+ * Instead, a cache hit that lands close to expiry repopulates the entry in the background while
+ * the current value is still served:
+ * <ul>
+ *   <li><strong>Window:</strong> Only entries with less than {@code cache.redis.refresh-ahead.window}
+ *       remaining are considered (default: 1 hour)</li>
+ *   <li><strong>Probabilistic (XFetch):</strong> Within the window, a hit triggers a refresh when
+ *       {@code remaining <= window * beta * -ln(U)} for uniform random {@code U}. The probability
+ *       rises towards 1 as expiry approaches, so hot keys refresh early and refreshes of keys
+ *       written together are spread out instead of firing at the same instant</li>
+ *   <li><strong>Bounded:</strong> Refreshes run on a small fixed pool with a bounded queue; when
+ *       the queue is full the refresh is dropped (the entry simply expires as before)</li>
+ *   <li><strong>Deduplicated:</strong> At most one refresh per key is queued or running per node</li>
+ * </ul>
+ *
+ * <p><strong>Metrics:</strong> {@code cache.refresh_ahead.scheduled}, {@code .deduplicated},
+ * {@code .rejected}, {@code .completed} and {@code .failures}.
+ */
+@Component
+public class RefreshAhead {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshAhead.class);
+
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+
+    private final long windowMillis;
+
+    private final double beta;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param meterRegistry registry for refresh-ahead metrics
+     * @param enabled       whether hits may trigger background refreshes (default: true)
+     * @param window        remaining TTL below which a hit may trigger a refresh (default: 1 hour)
+     * @param beta          XFetch aggressiveness; values above 1 refresh earlier (default: 1.0)
+     * @param threads       number of refresh worker threads (default: 2)
+     * @param queueCapacity maximum number of queued refreshes (default: 256)
+     */
+    public RefreshAhead(
+            MeterRegistry meterRegistry,
+            @Value("${cache.redis.refresh-ahead.enabled:true}") boolean enabled,
+            @Value("${cache.redis.refresh-ahead.window:1h}") Duration window,
+            @Value("${cache.redis.refresh-ahead.beta:1.0}") double beta,
+            @Value("${cache.redis.refresh-ahead.threads:2}") int threads,
+            @Value("${cache.redis.refresh-ahead.queue-capacity:256}") int queueCapacity) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.windowMillis = window.toMillis();
+        this.beta = beta;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "cache-refresh-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        logger.info("RefreshAhead initialized: enabled={}, window={}, beta={}, threads={}, queueCapacity={}",
+                enabled, window, beta, threads, queueCapacity);
+    }
+
+    /**
+     * Returns whether hits should report the entry's remaining TTL.
+     *
+     * @return true if refresh-ahead is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Decides whether a hit with the given remaining TTL should trigger a refresh.
+     *
+     * @param remainingMillis remaining TTL in milliseconds; negative values (no TTL, unknown)
+     *                        never trigger a refresh
+     * @return true if the entry should be refreshed now
+     */
+    public boolean shouldRefresh(long remainingMillis) {
+        if (!enabled || remainingMillis < 0 || remainingMillis > windowMillis) {
+            return false;
+        }
+        // 1 - U lies in (0, 1], so the logarithm is finite
+        double u = 1.0 - ThreadLocalRandom.current().nextDouble();
+        return remainingMillis <= windowMillis * beta * -Math.log(u);
+    }
+
+    /**
+     * Queues a refresh for {@code key} unless one is already queued or running.
+     *
+     * @param key     the cache key being refreshed
+     * @param refresh the work that repopulates the entry
+     * @return true if the refresh was queued
+     */
+    public boolean submit(String key, Runnable refresh) {
+        if (!inFlight.add(key)) {
+            meterRegistry.counter("cache.refresh_ahead.deduplicated").increment();
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    refresh.run();
+                    meterRegistry.counter("cache.refresh_ahead.completed").increment();
+                } catch (Exception e) {
+                    logger.warn("Refresh-ahead failed for key: {}", key, e);
+                    meterRegistry.counter("cache.refresh_ahead.failures").increment();
+                } finally {
+                    inFlight.remove(key);
+                }
+            });
+            meterRegistry.counter("cache.refresh_ahead.scheduled").increment();
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key);
+            logger.debug("Refresh-ahead queue full, dropping refresh for key: {}", key);
+            meterRegistry.counter("cache.refresh_ahead.rejected").increment();
+            return false;
+        }
+    }
+
+    /**
+     * Stops accepting refreshes and waits briefly for running ones to finish.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+}
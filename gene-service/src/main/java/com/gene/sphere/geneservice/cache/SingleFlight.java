@@ -0,0 +1,91 @@
+package com.gene.sphere.geneservice.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * In-JVM request coalescing: at most one in-flight load per key.
+ *
+ * <p>The first caller for a key (the <em>leader</em>) runs the loader; every concurrent caller
+ * for the same key (a <em>follower</em>) waits on the leader's future instead of repeating the
+ * work. Once the load completes, the key is released so later calls start a fresh load.
+ *
+ * <p>Used by {@link RedisCacheService} so that on a cold miss only one thread per node even
+ * attempts the Redisson distributed lock; followers neither contend for the lock nor sleep.
+ *
+ * <p><strong>Thread Safety:</strong> Registration uses {@link ConcurrentHashMap#putIfAbsent}, so
+ * the loader never runs inside a map bin lock and may safely block (database, Redis, Redisson).
+ *
+ * @param <K> key type (e.g., the normalized cache key)
+ * @param <V> result type
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+
+    private final String name;
+
+    private final Duration followerTimeout;
+
+    /**
+     * @param meterRegistry   registry for {@code cache.singleflight.*} metrics
+     * @param name            value of the {@code name} tag, identifying the caller
+     * @param followerTimeout maximum time a follower waits for the leader's result
+     */
+    public SingleFlight(MeterRegistry meterRegistry, String name, Duration followerTimeout) {
+        this.meterRegistry = meterRegistry;
+        this.name = name;
+        this.followerTimeout = followerTimeout;
+    }
+
+    /**
+     * Runs {@code loader} for {@code key}, or joins the load already in flight for it.
+     *
+     * @param key    the coalescing key
+     * @param loader the work to perform if no load is in flight
+     * @return the loader's result (shared by all callers of the same flight)
+     * @throws InterruptedException if a follower is interrupted while waiting
+     * @throws ExecutionException   if the leader's loader threw
+     * @throws TimeoutException     if a follower waited longer than the follower timeout
+     */
+    public V execute(K key, Supplier<V> loader)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+
+        if (existing != null) {
+            meterRegistry.counter("cache.singleflight.followers", "name", name).increment();
+            return existing.get(followerTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        meterRegistry.counter("cache.singleflight.leaders", "name", name).increment();
+        try {
+            V result = loader.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Returns the number of loads currently in flight.
+     *
+     * @return in-flight key count
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
@@ -1,16 +1,22 @@
 package com.gene.sphere.geneservice.config;
 
+import com.gene.sphere.geneservice.cache.GeneRecordCodec;
+import com.gene.sphere.geneservice.cache.GeneValueSerializer;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -35,12 +41,36 @@ public class RedisConfig {
     @Value("${spring.data.redis.timeout:2000ms}")
     private Duration timeout;
 
+    // Pool sizing; when serving on virtual threads (VirtualThreadConfig) the pool, not Tomcat's thread
+    // count, bounds concurrent pipelined/blocking Redis work, so raise max-active with the backend in mind
+    @Value("${spring.data.redis.lettuce.pool.max-active:20}")
+    private int poolMaxActive;
+
+    @Value("${spring.data.redis.lettuce.pool.max-idle:10}")
+    private int poolMaxIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.min-idle:5}")
+    private int poolMinIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.max-wait:3s}")
+    private Duration poolMaxWait;
+
+    // Format used to write cached genes: "json" or "binary" (reads accept both)
+    @Value("${cache.redis.value-codec:json}")
+    private String valueCodec;
+
+    // Binary gene payloads of at least this many bytes are compressed (0 disables compression)
+    @Value("${cache.redis.compression-threshold:512}")
+    private int compressionThreshold;
+
     /**
      * Creates production-ready Redis connection factory with connection pooling.
+     * Declared as {@link LettuceConnectionFactory} so it also serves reactive templates.
      */
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
-        GenericObjectPoolConfig<?> poolConfig = getGenericObjectPoolConfig();
+    public LettuceConnectionFactory redisConnectionFactory() {
+        GenericObjectPoolConfig<?> poolConfig = getGenericObjectPoolConfig(
+                poolMaxActive, poolMaxIdle, poolMinIdle, poolMaxWait);
 
         // Client configuration with timeouts
         LettuceClientConfiguration clientConfig = LettucePoolingClientConfiguration.builder()
@@ -66,16 +96,17 @@ public class RedisConfig {
         return new LettuceConnectionFactory(serverConfig, clientConfig);
     }
 
-    private static GenericObjectPoolConfig<?> getGenericObjectPoolConfig() {
+    private static GenericObjectPoolConfig<?> getGenericObjectPoolConfig(
+            int maxActive, int maxIdle, int minIdle, Duration maxWait) {
         GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
-        // If all 20 connections are busy, the new requests must wait.
-        poolConfig.setMaxTotal(20);
-        // Max 10 connections that are ready to go instantly
-        poolConfig.setMaxIdle(10);
-        // Maintain at least 5 available connections ready for immediate use
-        poolConfig.setMinIdle(5);
-        // If all the 20 connections are busy, user needs to wait for 3 seconds maximum. After that, throw an error instead of waiting forever
-        poolConfig.setMaxWaitMillis(3000);
+        // If all connections (default: 20) are busy, the new requests must wait.
+        poolConfig.setMaxTotal(maxActive);
+        // Connections that are ready to go instantly (default: 10)
+        poolConfig.setMaxIdle(maxIdle);
+        // Maintain available connections ready for immediate use (default: 5)
+        poolConfig.setMinIdle(minIdle);
+        // If all connections are busy, wait at most this long (default: 3 seconds). After that, throw an error instead of waiting forever
+        poolConfig.setMaxWait(maxWait);
         // Test the connection before giving it to your application
         poolConfig.setTestOnBorrow(true);
         // Test connection when app returns it to the pool
@@ -122,9 +153,11 @@ public class RedisConfig {
             "timestamp": "2024-10-15T10:30:00Z"
         }*/
         GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
-        template.setValueSerializer(jsonSerializer);
         template.setHashValueSerializer(jsonSerializer);
 
+        // Gene values can be written in the compact binary format instead (see GeneValueSerializer)
+        template.setValueSerializer(geneValueSerializer(jsonSerializer));
+
         // Enable default serialization for all operations
         template.setEnableDefaultSerializer(true);
         template.setDefaultSerializer(jsonSerializer);
@@ -132,4 +165,36 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
-}
\ No newline at end of file
+
+    /**
+     * Reactive counterpart of {@link #redisTemplate(RedisConnectionFactory)} for the non-blocking
+     * lookup path; keys and values are serialized identically, so both paths share cache entries.
+     */
+    @Bean
+    public ReactiveRedisTemplate<String, Object> reactiveRedisTemplate(
+            ReactiveRedisConnectionFactory connectionFactory) {
+        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+        RedisSerializationContext<String, Object> serializationContext = RedisSerializationContext
+                .<String, Object>newSerializationContext(jsonSerializer)
+                .key(new StringRedisSerializer())
+                .hashKey(new StringRedisSerializer())
+                .value(geneValueSerializer(jsonSerializer))
+                .build();
+        return new ReactiveRedisTemplate<>(connectionFactory, serializationContext);
+    }
+
+    private GeneValueSerializer geneValueSerializer(GenericJackson2JsonRedisSerializer jsonSerializer) {
+        GeneValueSerializer.Codec codec = GeneValueSerializer.Codec.valueOf(valueCodec.trim().toUpperCase());
+        return new GeneValueSerializer(codec, new GeneRecordCodec(compressionThreshold), jsonSerializer);
+    }
+
+    /**
+     * Pub/sub listener container used to propagate near cache invalidations between nodes.
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
@@ -19,6 +19,17 @@ public class RedissonConfig {
     @Value("${spring.redis.password:}")
     private String redisPassword;
 
+    // Lock commands are multiplexed, so a small pool serves many (virtual) threads waiting on locks
+    @Value("${redisson.connection-pool-size:10}")
+    private int connectionPoolSize;
+
+    @Value("${redisson.connection-minimum-idle-size:2}")
+    private int connectionMinimumIdleSize;
+
+    // Lock waiters are woken through pub/sub; one subscription connection serves many waiters
+    @Value("${redisson.subscription-connection-pool-size:50}")
+    private int subscriptionConnectionPoolSize;
+
     @Bean
     public RedissonClient redissonClient() {
         Config config = new Config();
@@ -28,8 +39,9 @@ public class RedissonConfig {
         config.useSingleServer()
                 .setAddress(address)
                 .setPassword(redisPassword.isEmpty() ? null : redisPassword)
-                .setConnectionPoolSize(10)
-                .setConnectionMinimumIdleSize(2);
+                .setConnectionPoolSize(connectionPoolSize)
+                .setConnectionMinimumIdleSize(connectionMinimumIdleSize)
+                .setSubscriptionConnectionPoolSize(subscriptionConnectionPoolSize);
 
         return Redisson.create(config);
     }
@@ -79,6 +79,7 @@ public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthenticat
             .authorizeRequests()
                     .antMatchers("/auth/**").permitAll()
                     .antMatchers("/api/genes/**").permitAll() 
+                    .antMatchers("/api/reactive/genes/**").permitAll()
                     .antMatchers("/actuator/health", "/actuator/info").permitAll()
                     .antMatchers("/admin/**", "/actuator/**").hasRole("ADMIN")
                     .antMatchers("/api/**").hasAnyRole("USER", "ADMIN")
@@ -0,0 +1,47 @@
+package com.gene.sphere.geneservice.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executors;
+
+/**
+ * Opt-in virtual-thread request execution ({@code spring.threads.virtual.enabled=true}).
+ *
+ * <p>Request handling blocks on Redisson lock waits (up to {@code cache.redis.lock-wait-time}),
+ * single-flight followers, Lettuce pool borrows and JDBC calls. On Tomcat's platform-thread pool
+ * (200 threads by default) a cold cache saturates the pool while threads mostly wait. With this
+ * mode every request, including the cache slow path that runs on the request thread, gets its own
+ * virtual thread, so waiting costs no platform thread.
+ *
+ * <p><strong>Concurrency limits move to the pools:</strong> Without the implicit 200-thread cap,
+ * the Redis pool ({@code spring.data.redis.lettuce.pool.*}, see {@link RedisConfig}) and the
+ * JDBC pool ({@code spring.datasource.hikari.maximum-pool-size}) bound concurrent backend work;
+ * size them for the backends, not for the request rate.
+ *
+ * <p><strong>Pinning:</strong> The blocking paths park through {@code java.util.concurrent}
+ * primitives rather than monitors, so they unmount from the carrier thread.
+ * {@code RedisCacheServiceIntegrationTest} runs concurrent cold lookups on virtual threads and fails
+ * on any {@code jdk.VirtualThreadPinned} event; {@code -Djdk.tracePinnedThreads=short} shows
+ * pinning in a running service.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    /**
+     * Replaces Tomcat's request thread pool with a virtual-thread-per-task executor.
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        logger.info("Serving HTTP requests on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-virtual-", 0).factory()));
+    }
+}
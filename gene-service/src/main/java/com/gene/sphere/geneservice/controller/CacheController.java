@@ -1,5 +1,7 @@
 package com.gene.sphere.geneservice.controller;
 
+import com.gene.sphere.geneservice.cache.CacheClearJob;
+import com.gene.sphere.geneservice.cache.CacheClearJobService;
 import com.gene.sphere.geneservice.cache.RedisCacheService;
 import com.gene.sphere.geneservice.cache.CacheStatus;
 import com.gene.sphere.geneservice.cache.ClearResult;
@@ -32,6 +34,9 @@ public class CacheController {
     @Autowired
     private RedisHealthIndicator redisHealthIndicator;
 
+    @Autowired
+    private CacheClearJobService clearJobService;
+
     @Value("${cache.max-keys:1000}")
     private int maxKeys;
 
@@ -76,6 +81,34 @@ public class CacheController {
             );
         }
     }
+    /**
+     * Start an asynchronous clear of gene-related entries. Poll the returned job for progress.
+     * @param pattern Redis key pattern (default: gene:*)
+     * @return 202 Accepted with the CacheClearJob snapshot.
+     */
+    @PostMapping("/clear-jobs")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CacheClearJob> startClearJob(@RequestParam(defaultValue = "gene:*") String pattern) {
+        if (!pattern.startsWith("gene:")) {
+            return ResponseEntity.badRequest().build();
+        }
+        CacheClearJob job = clearJobService.submit(pattern);
+        return ResponseEntity.accepted().body(job);
+    }
+
+    /**
+     * Get the progress, and once finished the ClearResult, of an asynchronous clear job.
+     * @param jobId Identifier returned when the job was started.
+     * @return CacheClearJob snapshot, or 404 if the job is unknown.
+     */
+    @GetMapping("/clear-jobs/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CacheClearJob> getClearJob(@PathVariable String jobId) {
+        return clearJobService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     /**
      * Clear cache for a specific gene.
      * @param geneName Name of the gene to clear from cache.
@@ -99,11 +132,13 @@ public class CacheController {
 
     /**
      * Search for genes in the cache by pattern.
-     * @param pattern Pattern to match gene keys.
+     * @param pattern Pattern to match gene names.
+     * @param mode "contains" (default) matches anywhere in the name, "prefix" matches the start.
      * @return List of matching GeneRecord objects.
      */
     @GetMapping("/search")
-    public ResponseEntity<?> searchGenes(@RequestParam String pattern) {
+    public ResponseEntity<?> searchGenes(@RequestParam String pattern,
+                                         @RequestParam(defaultValue = "contains") String mode) {
         try {
             // Avoid * as it is a wildcard that matches all the possible keys in the cache.
             // Can cause performance issues by returning a huge result
@@ -112,7 +147,13 @@ public class CacheController {
                 return ResponseEntity.badRequest()
                         .body(Map.of("status", "error", "message", "Invalid pattern"));
             }
-            List<GeneRecord> matchingGenes = cacheService.searchGenesByPattern(pattern);
+            if (!"contains".equals(mode) && !"prefix".equals(mode)) {
+                return ResponseEntity.badRequest()
+                        .body(Map.of("status", "error", "message", "Mode must be 'contains' or 'prefix'"));
+            }
+            List<GeneRecord> matchingGenes = "prefix".equals(mode)
+                    ? cacheService.searchGenesByPrefix(pattern)
+                    : cacheService.searchGenesByPattern(pattern);
             logger.info("Found {} genes matching pattern: {}", matchingGenes.size(), pattern);
             return ResponseEntity.ok(matchingGenes);
         } catch (Exception e) {
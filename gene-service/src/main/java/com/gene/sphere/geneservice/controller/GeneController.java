@@ -1,7 +1,11 @@
 package com.gene.sphere.geneservice.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gene.sphere.geneservice.cache.RedisCacheService;
+import com.gene.sphere.geneservice.model.CursorPage;
+import com.gene.sphere.geneservice.model.GeneBatchResponse;
 import com.gene.sphere.geneservice.model.GeneRecord;
+import com.gene.sphere.geneservice.service.GeneServiceInterface;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,6 +13,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -17,9 +28,99 @@ public class GeneController {
 
     private static final Logger logger = LoggerFactory.getLogger(GeneController.class);
 
+    /**
+     * Maximum number of gene names accepted by a single batch request.
+     */
+    private static final int MAX_BATCH_SIZE = 100;
+
+    /**
+     * Maximum number of suggestions returned by autocomplete.
+     */
+    private static final int MAX_AUTOCOMPLETE_LIMIT = 50;
+
     @Autowired
     private RedisCacheService cacheService;
 
+    @Autowired
+    private GeneServiceInterface geneService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * List genes page by page - REAL DATABASE, KEYSET PAGINATION
+     * Example: /api/genes?size=100, then /api/genes?cursor={nextCursor}&size=100 until nextCursor is null
+     * Every page costs the same, however deep into the table it is.
+     */
+    @GetMapping
+    public ResponseEntity<?> getGenesPage(@RequestParam(required = false) String cursor,
+                                          @RequestParam(defaultValue = "100") int size) {
+        try {
+            CursorPage<GeneRecord> page = geneService.getGenesPage(cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("status", "error", "message", e.getMessage()));
+        }
+    }
+
+    /**
+     * Export all genes - REAL DATABASE, STREAMED
+     * Writes one JSON gene per line (application/x-ndjson) while rows are read from the database,
+     * so neither the service nor the client has to hold the whole table.
+     */
+    @GetMapping("/stream")
+    public void streamGenes(HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        OutputStream out = response.getOutputStream();
+        try {
+            long count = geneService.forEachGene(gene -> {
+                try {
+                    out.write(objectMapper.writeValueAsBytes(gene));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+            logger.info("Streamed {} genes", count);
+        } catch (UncheckedIOException e) {
+            // Usually the client disconnected; the response cannot be written to any more, so it is not flushed
+            logger.warn("Gene stream aborted: {}", e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * Autocomplete gene symbols - IN-MEMORY INDEX ONLY
+     * Example: /api/genes/autocomplete?q=tp5&limit=10
+     * Returns prefix matches first, then close matches for typos (e.g., "TP35" suggests "TP53").
+     * Neither the database nor Redis is queried, so this is safe to call on every keystroke.
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<String>> autocomplete(@RequestParam("q") String query,
+                                                     @RequestParam(defaultValue = "10") int limit) {
+        if (query == null || query.isBlank() || limit < 1 || limit > MAX_AUTOCOMPLETE_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(geneService.autocomplete(query, limit));
+    }
+
+    /**
+     * Search genes by name fragment - REAL DATABASE, TRIGRAM INDEX
+     * Example: /api/genes/search?q=p53&limit=20
+     * Returns genes whose name contains the fragment (case-insensitive), closest matches first.
+     * On PostgreSQL with pg_trgm this is answered from the trigram index instead of a table scan.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> searchGenes(@RequestParam("q") String query,
+                                         @RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok(geneService.searchGenesByName(query, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("status", "error", "message", e.getMessage()));
+        }
+    }
+
     /**
      * Get gene by name - REAL DATABASE + CACHE
      * This will:
@@ -47,6 +148,37 @@ public class GeneController {
         }
     }
 
+    /**
+     * Get many genes in one request - REAL DATABASE + CACHE
+     * Body: ["TP53", "KRAS", "EGFR"]
+     * This will:
+     * 1. Read all names from Redis with one MGET
+     * 2. Load only the misses with one database query
+     * 3. Back-fill the cache with one pipelined write
+     * Names that do not exist are listed in "notFound".
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<GeneBatchResponse> getGenesBatch(@RequestBody List<String> names) {
+        if (names == null || names.isEmpty() || names.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        logger.info("Batch lookup for {} genes", names.size());
+        try {
+            Map<String, GeneRecord> found = cacheService.getGenesByNames(names);
+            List<String> notFound = new ArrayList<>();
+            names.stream()
+                    .filter(name -> name != null && !name.isBlank())
+                    .map(name -> name.trim().toUpperCase())
+                    .distinct()
+                    .filter(name -> !found.containsKey(name))
+                    .forEach(notFound::add);
+            return ResponseEntity.ok(new GeneBatchResponse(List.copyOf(found.values()), notFound));
+        } catch (Exception e) {
+            logger.error("Error in batch lookup for {} genes", names.size(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     /**
      * Check if gene is in cache WITHOUT querying database
      */
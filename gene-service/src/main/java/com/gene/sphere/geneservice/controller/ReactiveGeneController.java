@@ -0,0 +1,78 @@
+package com.gene.sphere.geneservice.controller;
+
+import com.gene.sphere.geneservice.cache.ReactiveGeneCacheService;
+import com.gene.sphere.geneservice.model.GeneRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Non-blocking variants of the gene lookup and cache search endpoints.
+ *
+ * <p>Same contract as {@link GeneController#getGene(String)} and
+ * {@link CacheController#searchGenes(String, String)}, but backed by
+ * {@link ReactiveGeneCacheService}: the request thread is released while Redis and the database
+ * are awaited, and the response is written when the {@link Mono} completes.
+ */
+@RestController
+@RequestMapping("/api/reactive")
+public class ReactiveGeneController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveGeneController.class);
+
+    @Autowired
+    private ReactiveGeneCacheService reactiveCacheService;
+
+    /**
+     * Get gene by name - cache first, database on a miss, without blocking the request thread.
+     */
+    @GetMapping("/genes/{name}")
+    public Mono<ResponseEntity<GeneRecord>> getGene(@PathVariable String name) {
+        if (name == null || name.trim().isEmpty()) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return reactiveCacheService.getGeneByName(name)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                .onErrorResume(e -> {
+                    logger.error("Error searching for gene: {}", name, e);
+                    return Mono.just(ResponseEntity.internalServerError().build());
+                });
+    }
+
+    /**
+     * Search for genes in the cache by pattern.
+     * @param pattern Pattern to match gene names.
+     * @param mode "contains" (default) matches anywhere in the name, "prefix" matches the start.
+     * @return List of matching GeneRecord objects.
+     */
+    @GetMapping("/cache/search")
+    public Mono<ResponseEntity<?>> searchGenes(@RequestParam String pattern,
+                                               @RequestParam(defaultValue = "contains") String mode) {
+        if ("*".equals(pattern) || pattern == null || pattern.trim().isEmpty()) {
+            return Mono.just(ResponseEntity.badRequest()
+                    .body(Map.of("status", "error", "message", "Invalid pattern")));
+        }
+        if (!"contains".equals(mode) && !"prefix".equals(mode)) {
+            return Mono.just(ResponseEntity.badRequest()
+                    .body(Map.of("status", "error", "message", "Mode must be 'contains' or 'prefix'")));
+        }
+        return ("prefix".equals(mode)
+                ? reactiveCacheService.searchGenesByPrefix(pattern)
+                : reactiveCacheService.searchGenesByPattern(pattern))
+                .collectList()
+                .<ResponseEntity<?>>map(genes -> {
+                    logger.info("Found {} genes matching pattern: {}", genes.size(), pattern);
+                    return ResponseEntity.ok(genes);
+                })
+                .onErrorResume(e -> {
+                    logger.error("Error searching genes with pattern: {}", pattern, e);
+                    return Mono.just(ResponseEntity.internalServerError().build());
+                });
+    }
+}
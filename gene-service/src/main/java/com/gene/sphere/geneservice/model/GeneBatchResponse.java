@@ -0,0 +1,13 @@
+package com.gene.sphere.geneservice.model;
+
+import java.util.List;
+
+/**
+ * Response body for batch gene lookups.
+ * e.g. { "genes": [ {...TP53...}, {...KRAS...} ], "notFound": [ "FOO1" ] }
+ *
+ * @param genes    genes that were found, in request order (duplicates removed)
+ * @param notFound requested names (uppercased) that do not exist
+ */
+public record GeneBatchResponse(List<GeneRecord> genes, List<String> notFound) {
+}
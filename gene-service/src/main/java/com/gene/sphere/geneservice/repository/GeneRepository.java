@@ -1,11 +1,22 @@
 package com.gene.sphere.geneservice.repository;
 
 import com.gene.sphere.geneservice.model.Gene;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 /**
  * Spring Data JPA repository for {@link Gene} entities.
@@ -16,7 +27,7 @@ import java.util.Optional;
  * </p>
  */
 @Repository
-public interface GeneRepository extends JpaRepository<Gene,Integer> {
+public interface GeneRepository extends JpaRepository<Gene,Integer>, GeneSearchRepository {
 
     /**
      * Finds all genes whose name matches the provided value exactly.
@@ -38,11 +49,61 @@ public interface GeneRepository extends JpaRepository<Gene,Integer> {
      */
     Optional<Gene> findByNameIgnoreCase(String name);
 
+    /**
+     * Finds all genes whose uppercased name is in the given collection, in a single query.
+     * <p>
+     * Used by batch lookups to load every cache miss with one {@code IN (...)} statement
+     * instead of one query per gene.
+     * </p>
+     *
+     * @param names uppercase gene names to match (must not be empty)
+     * @return the matching genes (possibly empty, in no particular order)
+     */
+    @Query("SELECT g FROM Gene g WHERE UPPER(g.name) IN :names")
+    List<Gene> findAllByUpperNameIn(@Param("names") Collection<String> names);
+
+    /**
+     * Returns the next keyset page of genes, in id order.
+     * <p>
+     * Seeks past {@code afterId} on the primary key instead of using an offset, so every page
+     * costs the same. Pass {@code PageRequest.of(0, size)}; the slice reads one extra row to
+     * tell whether another page follows.
+     * </p>
+     *
+     * @param afterId  id of the last gene of the previous page (0 for the first page)
+     * @param pageable page size; the page number must be 0
+     * @return up to {@code size} genes with an id greater than {@code afterId}
+     */
+    Slice<Gene> findByIdGreaterThanOrderByIdAsc(Integer afterId, Pageable pageable);
+
+    /**
+     * Streams every gene in id order, fetching 1000 rows per round-trip.
+     * <p>
+     * Must be consumed inside a (read-only) transaction and closed afterwards.
+     * </p>
+     *
+     * @return a stream over all genes
+     */
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("SELECT g FROM Gene g ORDER BY g.id")
+    Stream<Gene> streamAllByOrderByIdAsc();
+
+    /**
+     * Loads only the names of all genes.
+     * <p>
+     * Used to build the in-memory autocomplete index without materializing full entities.
+     * </p>
+     *
+     * @return every gene name (possibly empty, in no particular order)
+     */
+    @Query("SELECT g.name FROM Gene g")
+    List<String> findAllNames();
+
     /**
      * Finds all genes whose name contains the given fragment, ignoring case.
      * <p>
      * This method returns a list to handle multiple matches properly.
-     * Use this for search functionality where multiple results are expected.
+     * Unbounded and unindexed; prefer {@link #searchByName(String, int)} for user-facing search.
      * </p>
      *
      * @param partOfName a substring to search within gene names (case-insensitive)
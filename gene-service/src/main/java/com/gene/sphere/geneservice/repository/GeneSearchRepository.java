@@ -0,0 +1,32 @@
+package com.gene.sphere.geneservice.repository;
+
+import com.gene.sphere.geneservice.model.Gene;
+
+import java.util.List;
+
+/**
+ * Ranked, index-backed substring search over genes.
+ * <p>
+ * On PostgreSQL with {@code pg_trgm} the query is served by the trigram GIN index from
+ * {@code database/scripts/add_gene_search_indexes.sql} and ranked by trigram similarity.
+ * On other databases (H2 in tests) a portable query with the same filter is used,
+ * ranked by name length.
+ * </p>
+ */
+public interface GeneSearchRepository {
+
+    /**
+     * Maximum number of genes a single search may return.
+     */
+    int MAX_SEARCH_LIMIT = 1000;
+
+    /**
+     * Finds genes whose name contains the given fragment, ignoring case, best matches first.
+     *
+     * @param fragment a substring to search within gene names (e.g., "BRC", "p53")
+     * @param limit    maximum number of genes to return (1 to {@value #MAX_SEARCH_LIMIT})
+     * @return matching genes, most similar names first; empty if the fragment is blank
+     * @throws IllegalArgumentException if the limit is out of range
+     */
+    List<Gene> searchByName(String fragment, int limit);
+}
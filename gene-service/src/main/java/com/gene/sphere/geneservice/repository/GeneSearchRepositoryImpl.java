@@ -0,0 +1,118 @@
+package com.gene.sphere.geneservice.repository;
+
+import com.gene.sphere.geneservice.model.Gene;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Native implementation of {@link GeneSearchRepository}.
+ * <p>
+ * {@link GeneRepository#findAllByNameContainingIgnoreCase(String)} compiles to
+ * {@code upper(name) like upper('%x%')}, which matches no index. Here the filter is written as
+ * {@code lower(name) LIKE :pattern}, so it matches the expression of the {@code gin_trgm_ops}
+ * index and PostgreSQL can answer it with a bitmap index scan. Only the matching rows are then
+ * ranked by {@code similarity()} and cut to the limit; {@code id} breaks ties so the order is stable.
+ * </p>
+ * <p>
+ * Whether {@code pg_trgm} is available is checked once, on the first search. Keep this class in
+ * step with {@code MutationSearchRepositoryImpl} in mutation-service, which implements the same
+ * query shape for the mutations table.
+ * </p>
+ */
+public class GeneSearchRepositoryImpl implements GeneSearchRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeneSearchRepositoryImpl.class);
+
+    private static final String TRIGRAM_SEARCH =
+            "SELECT * FROM genes WHERE lower(name) LIKE :pattern ESCAPE '!' "
+                    + "ORDER BY similarity(lower(name), :fragment) DESC, name, id";
+
+    // Portable fallback: a shorter name containing the fragment is the closer match
+    private static final String PORTABLE_SEARCH =
+            "SELECT * FROM genes WHERE lower(name) LIKE :pattern ESCAPE '!' "
+                    + "ORDER BY LENGTH(name), name, id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final DataSource dataSource;
+
+    private volatile Boolean trigramAvailable;
+
+    public GeneSearchRepositoryImpl(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Gene> searchByName(String fragment, int limit) {
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+        if (fragment == null || fragment.isBlank()) {
+            return List.of();
+        }
+        String normalized = fragment.trim().toLowerCase(Locale.ROOT);
+        boolean trigram = isTrigramAvailable();
+
+        Query query = entityManager.createNativeQuery(trigram ? TRIGRAM_SEARCH : PORTABLE_SEARCH, Gene.class)
+                .setParameter("pattern", "%" + escapeLike(normalized) + "%")
+                .setMaxResults(limit);
+        if (trigram) {
+            query.setParameter("fragment", normalized);
+        }
+        return query.getResultList();
+    }
+
+    /**
+     * Escapes LIKE wildcards so the fragment is matched literally. {@code !} is used as the escape
+     * character because backslashes are treated differently by each database and query parser.
+     */
+    static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    private boolean isTrigramAvailable() {
+        Boolean available = trigramAvailable;
+        if (available != null) {
+            return available;
+        }
+        try {
+            available = detectTrigram();
+            trigramAvailable = available;
+            return available;
+        } catch (SQLException e) {
+            // Not cached: detection is retried on the next search
+            logger.warn("Could not detect pg_trgm support, using portable search query", e);
+            return false;
+        }
+    }
+
+    private boolean detectTrigram() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!"PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+                return false;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm'")) {
+                if (resultSet.next()) {
+                    return true;
+                }
+            }
+            logger.warn("pg_trgm is not installed; gene searches will not be ranked by similarity. "
+                    + "Run database/scripts/add_gene_search_indexes.sql");
+            return false;
+        }
+    }
+}
@@ -1,8 +1,9 @@
 package com.gene.sphere.geneservice.security;
 
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -15,34 +16,57 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final UserDetailsService userDetailsService;
+    private final JwtAuthenticationMode mode;
+
+    public JwtAuthenticationFilter(VerifiedTokenCache verifiedTokenCache,
+                                   UserDetailsService userDetailsService,
+                                   @Value("${app.security.jwt.authentication-mode:USER_DETAILS}") JwtAuthenticationMode mode) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.userDetailsService = userDetailsService;
+        this.mode = mode;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String token = resolveToken(request);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validate(token)) {
-            String username = jwtTokenProvider.getUserName(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        if (StringUtils.hasText(token)) {
+            // Verified at most once per token lifetime; subject and roles come from the same claims
+            Optional<VerifiedToken> verified = verifiedTokenCache.verify(token);
+            if (verified.isPresent()) {
+                UserDetails userDetails = loadUser(verified.get());
 
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+                SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            System.out.println("Authenticated user: " + username + " with authorities: " + userDetails.getAuthorities());
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Authenticated user: " + userDetails.getUsername()
+                            + " with authorities: " + userDetails.getAuthorities());
+                }
+            }
         }
 
         filterChain.doFilter(request, response);
     }
 
+    private UserDetails loadUser(VerifiedToken token) {
+        if (mode == JwtAuthenticationMode.USER_DETAILS) {
+            return userDetailsService.loadUserByUsername(token.username());
+        }
+        // The password is never checked for an already-authenticated principal
+        return new User(token.username(), "", token.authorities());
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getServletPath();
@@ -58,4 +82,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         return null;
     }
-}
\ No newline at end of file
+}
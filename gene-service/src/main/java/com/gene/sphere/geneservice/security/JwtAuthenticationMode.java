@@ -0,0 +1,21 @@
+package com.gene.sphere.geneservice.security;
+
+/**
+ * How {@link JwtAuthenticationFilter} turns a valid token into an {@code Authentication}, set with
+ * {@code app.security.jwt.authentication-mode}. Defaults to {@link #USER_DETAILS}, the behavior of
+ * earlier releases; {@link #STATELESS} is opt-in.
+ */
+public enum JwtAuthenticationMode {
+
+    /**
+     * Subject and authorities come from the token's claims; no user store lookup per request.
+     * Role changes and disabled accounts take effect only when the user's current token expires.
+     */
+    STATELESS,
+
+    /**
+     * The user is reloaded from the {@code UserDetailsService} on every request, so disabled
+     * users and role changes apply immediately. The default.
+     */
+    USER_DETAILS
+}
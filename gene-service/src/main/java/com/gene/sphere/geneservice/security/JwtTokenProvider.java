@@ -1,20 +1,31 @@
 package com.gene.sphere.geneservice.security;
 
 import io.jsonwebtoken.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
-import java.util.Date;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
+
+    static final String ROLES_CLAIM = "roles";
+
     private final byte[] secretKey;
     private final long expiryMs;
 
+    // Thread-safe and immutable, so it is built once instead of on every parse
+    private final JwtParser parser;
+
     public JwtTokenProvider(@Value("${app.security.jwt.secret}") String secret,
                             @Value("${app.security.jwt.expiration:3600000}") long expiryMs) {
         if (expiryMs <= 0) {
@@ -22,6 +33,7 @@ public class JwtTokenProvider {
         }
         this.secretKey = secret.getBytes(StandardCharsets.UTF_8);
         this.expiryMs = expiryMs;
+        this.parser = Jwts.parserBuilder().setSigningKey(secretKey).build();
     }
 
     public String generateToken(Authentication authentication) {
@@ -34,11 +46,11 @@ public class JwtTokenProvider {
                 .map(authority -> authority.getAuthority())
                 .collect(Collectors.joining(","));
 
-        System.out.println("Generating token for user: " + username + " with roles: " + roles);
+        logger.debug("Generating token for user: {} with roles: {}", username, roles);
 
         return Jwts.builder()
                 .setSubject(username)
-                .claim("roles", roles)
+                .claim(ROLES_CLAIM, roles)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(SignatureAlgorithm.HS512, secretKey)
@@ -58,10 +70,43 @@ public class JwtTokenProvider {
         }
     }
 
+    /**
+     * Verifies the signature and expiry of a token, parsing it exactly once.
+     *
+     * @param token the compact JWS
+     * @return the verified claims, or empty if the token is invalid or expired
+     */
+    public Optional<Claims> parseClaims(String token) {
+        try {
+            return Optional.of(claims(token));
+        } catch (JwtException | IllegalArgumentException ex) {
+            logger.debug("Rejected JWT: {}", ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reads the authorities written by {@link #generateToken(Authentication)} from the
+     * comma-separated {@code roles} claim.
+     *
+     * @param claims verified token claims
+     * @return the granted authorities, empty if the claim is missing
+     */
+    public static List<GrantedAuthority> getAuthorities(Claims claims) {
+        String roles = claims.get(ROLES_CLAIM, String.class);
+        if (roles == null || roles.isBlank()) {
+            return List.of();
+        }
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        for (String role : roles.split(",")) {
+            if (!role.isBlank()) {
+                authorities.add(new SimpleGrantedAuthority(role.trim()));
+            }
+        }
+        return authorities;
+    }
+
     private Claims claims(String token) {
-        return Jwts.parser()
-                .setSigningKey(secretKey)
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
-}
\ No newline at end of file
+}
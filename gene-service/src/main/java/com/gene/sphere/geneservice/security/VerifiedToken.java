@@ -0,0 +1,27 @@
+package com.gene.sphere.geneservice.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+
+/**
+ * Identity carried by a JWT whose signature and expiry have been verified.
+ *
+ * @param username        the token subject
+ * @param authorities     authorities from the {@code roles} claim
+ * @param expiresAtMillis Unix timestamp (milliseconds) of the token's {@code exp} claim
+ */
+public record VerifiedToken(String username, List<GrantedAuthority> authorities, long expiresAtMillis) {
+
+    /**
+     * Creates a verified token from parsed claims.
+     *
+     * @param claims verified token claims
+     * @return the verified token
+     */
+    public static VerifiedToken from(Claims claims) {
+        long expiresAt = claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE;
+        return new VerifiedToken(claims.getSubject(), List.copyOf(JwtTokenProvider.getAuthorities(claims)), expiresAt);
+    }
+}
@@ -0,0 +1,131 @@
+package com.gene.sphere.geneservice.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of verified bearer tokens, so a token reused across requests is verified once.
+ *
+ * <p>Clients keep the same JWT for up to an hour. Without this cache every request repeats the
+ * HS512 signature check and the base64/JSON decoding of the claims; with it, a repeated token costs
+ * one SHA-256 digest and a map lookup:
+ * <ul>
+ *   <li><strong>Keyed by digest:</strong> Entries are keyed by the SHA-256 of the token, so raw
+ *       tokens are not retained in memory</li>
+ *   <li><strong>Expires with the token:</strong> Each entry expires exactly at the token's
+ *       {@code exp} claim, so an expired token is never accepted from the cache</li>
+ *   <li><strong>Bounded:</strong> Size-limited with Caffeine's frequency-aware eviction</li>
+ *   <li><strong>Positive only:</strong> Invalid tokens are not cached, so forged tokens cannot
+ *       flood the cache</li>
+ * </ul>
+ *
+ * <p><strong>Metrics:</strong> Caffeine statistics (hits, misses, evictions) are exported under
+ * {@code jwt.verified}; the hit rate is {@code cache.gets{result=hit}} over all gets.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    private final boolean enabled;
+
+    private final Cache<String, VerifiedToken> cache;
+
+    /**
+     * @param jwtTokenProvider verifies tokens on a cache miss
+     * @param meterRegistry    registry for cache metrics
+     * @param enabled          whether verified tokens are cached (default: true)
+     * @param maxSize          maximum number of cached tokens (default: 10,000)
+     */
+    public VerifiedTokenCache(
+            JwtTokenProvider jwtTokenProvider,
+            MeterRegistry meterRegistry,
+            @Value("${app.security.jwt.token-cache.enabled:true}") boolean enabled,
+            @Value("${app.security.jwt.token-cache.max-size:10000}") long maxSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ExpireAtTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified");
+    }
+
+    /**
+     * Verifies a token, reusing an earlier verification of the same token while it is unexpired.
+     *
+     * @param token the compact JWS
+     * @return the verified identity, or empty if the token is invalid or expired
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (!enabled) {
+            return jwtTokenProvider.parseClaims(token).map(VerifiedToken::from);
+        }
+
+        String key = digest(token);
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<VerifiedToken> verified = jwtTokenProvider.parseClaims(token).map(VerifiedToken::from);
+        verified.ifPresent(value -> cache.put(key, value));
+        return verified;
+    }
+
+    /**
+     * Drops all cached verifications, e.g. after rotating the signing secret.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * A new digest per call: instances are cheap to create, and requests run on one-shot virtual
+     * threads when {@code spring.threads.virtual.enabled} is set, so a per-thread instance would
+     * never be reused.
+     */
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Expires every entry at its token's {@code exp}, regardless of reads and writes.
+     */
+    private static final class ExpireAtTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
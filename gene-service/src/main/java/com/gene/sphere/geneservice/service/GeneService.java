@@ -1,13 +1,23 @@
 package com.gene.sphere.geneservice.service;
 
 import com.gene.sphere.geneservice.factory.GeneFactory;
+import com.gene.sphere.geneservice.model.CursorPage;
 import com.gene.sphere.geneservice.model.Gene;
 import com.gene.sphere.geneservice.model.GeneRecord;
 import com.gene.sphere.geneservice.repository.GeneRepository;
+import com.gene.sphere.geneservice.repository.GeneSearchRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Service layer encapsulating business logic for Gene operations.
@@ -16,12 +26,23 @@ import java.util.Optional;
  */
 @Service
 public class GeneService implements GeneServiceInterface {
+
+    /**
+     * Largest page accepted by {@link #getGenesPage(String, int)}.
+     */
+    public static final int MAX_PAGE_SIZE = 1000;
+
     private final GeneRepository geneRepository;
     private final GeneFactory factory;
+    private final GeneSymbolIndex symbolIndex;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
-    public GeneService(GeneRepository repo, GeneFactory factory) {
+    public GeneService(GeneRepository repo, GeneFactory factory, GeneSymbolIndex symbolIndex) {
         this.geneRepository = repo;
         this.factory = factory;
+        this.symbolIndex = symbolIndex;
     }
 
     /**
@@ -34,19 +55,80 @@ public class GeneService implements GeneServiceInterface {
         return geneRepository.findByNameIgnoreCase(name).map(factory::toDto);
     }
 
+    /**
+     * Get several genes by name with a single query (case insensitive exact match).
+     *
+     * @param names gene symbols to load; matched after uppercasing
+     * @return API DTOs for the genes that exist (missing names are simply absent)
+     */
+    public List<GeneRecord> getGenesByNames(Collection<String> names) {
+        if (names.isEmpty()) {
+            return List.of();
+        }
+        List<String> upperNames = names.stream().map(String::toUpperCase).distinct().toList();
+        return geneRepository.findAllByUpperNameIn(upperNames).stream().map(factory::toDto).toList();
+    }
+
     /**
      * Get all genes from DB.
+     * Loads every gene into memory; prefer {@link #getGenesPage(String, int)} or
+     * {@link #forEachGene(Consumer)} for large tables.
      */
     public List<GeneRecord> getAllGenes() {
         return geneRepository.findAll().stream().map(factory::toDto).toList();
     }
 
+    /**
+     * Get one keyset page of genes, in id order.
+     *
+     * @param cursor token from the previous page, or null for the first page
+     * @param size   page size (1 to {@value #MAX_PAGE_SIZE})
+     * @return the page and the cursor of the next one
+     * @throws IllegalArgumentException if the cursor or the size is invalid
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<GeneRecord> getGenesPage(String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        Slice<Gene> slice = geneRepository.findByIdGreaterThanOrderByIdAsc(
+                CursorPage.decodeCursor(cursor), PageRequest.of(0, size));
+        List<Gene> genes = slice.getContent();
+        String nextCursor = slice.hasNext() && !genes.isEmpty()
+                ? CursorPage.encodeCursor(genes.get(genes.size() - 1).getId())
+                : null;
+        return new CursorPage<>(genes.stream().map(factory::toDto).toList(), nextCursor);
+    }
+
+    /**
+     * Hand every gene to {@code consumer}, in id order, while rows are fetched in batches.
+     * Each entity is detached once consumed, so memory stays flat.
+     *
+     * @param consumer receives each gene; runs inside the read-only transaction
+     * @return the number of genes streamed
+     */
+    @Transactional(readOnly = true)
+    public long forEachGene(Consumer<GeneRecord> consumer) {
+        long count = 0;
+        try (Stream<Gene> genes = geneRepository.streamAllByOrderByIdAsc()) {
+            for (Gene gene : (Iterable<Gene>) genes::iterator) {
+                consumer.accept(factory.toDto(gene));
+                entityManager.detach(gene);
+                count++;
+            }
+        }
+        return count;
+    }
+
     /**
      * Create and save a new Gene entry.
+     * The name becomes available to autocomplete immediately.
      */
     public GeneRecord createGene(GeneRecord dto) {
         Gene g = factory.fromDto(dto);
-        return factory.toDto(geneRepository.save(g));
+        Gene saved = geneRepository.save(g);
+        symbolIndex.add(saved.getName());
+        return factory.toDto(saved);
     }
 
     /**
@@ -66,9 +148,23 @@ public class GeneService implements GeneServiceInterface {
 
     /**
      * Delete a gene by ID.
+     * The name is removed from autocomplete once the delete succeeds.
      */
     public void deleteGene(Integer id) {
+        Optional<String> name = geneRepository.findById(id).map(Gene::getName);
         geneRepository.deleteById(id);
+        name.ifPresent(symbolIndex::remove);
+    }
+
+    /**
+     * Suggest gene symbols for a typed prefix from the in-memory index (no database access).
+     *
+     * @param query typed text, case-insensitive
+     * @param limit maximum number of suggestions
+     * @return prefix matches first, then close fuzzy matches
+     */
+    public List<String> autocomplete(String query, int limit) {
+        return symbolIndex.suggest(query, limit);
     }
 
     /**
@@ -84,4 +180,20 @@ public class GeneService implements GeneServiceInterface {
                 .map(factory::toDto)
                 .toList();
     }
+
+    /**
+     * Search for genes containing the given substring (case insensitive), closest matches first.
+     * Uses the trigram index on PostgreSQL and returns at most {@code limit} genes.
+     *
+     * @param partOfName substring to search for in gene names
+     * @param limit      maximum number of genes to return
+     * @return list of matching genes, ranked by similarity
+     * @throws IllegalArgumentException if {@code limit} is outside 1..{@link GeneSearchRepository#MAX_SEARCH_LIMIT}
+     */
+    public List<GeneRecord> searchGenesByName(String partOfName, int limit) {
+        return geneRepository.searchByName(partOfName, limit)
+                .stream()
+                .map(factory::toDto)
+                .toList();
+    }
 }
\ No newline at end of file
@@ -1,13 +1,19 @@
 package com.gene.sphere.geneservice.service;
 
+import com.gene.sphere.geneservice.model.CursorPage;
 import com.gene.sphere.geneservice.model.GeneRecord;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface GeneServiceInterface {
     Optional<GeneRecord> getGeneByName(String name);
     List<GeneRecord> getAllGenes();
+    CursorPage<GeneRecord> getGenesPage(String cursor, int size);
+    long forEachGene(Consumer<GeneRecord> consumer);
     GeneRecord createGene(GeneRecord dto);
     GeneRecord updateGene(Integer id, GeneRecord dto);
     void deleteGene(Integer id);
+    List<String> autocomplete(String query, int limit);
+    List<GeneRecord> searchGenesByName(String partOfName, int limit);
 }
\ No newline at end of file
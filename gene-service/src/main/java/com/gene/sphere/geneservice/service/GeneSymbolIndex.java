@@ -0,0 +1,347 @@
+package com.gene.sphere.geneservice.service;
+
+import com.gene.sphere.geneservice.repository.GeneRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory index of gene symbols for typeahead autocomplete.
+ *
+ * <p>The database search ({@code LIKE '%x%'} on {@code genes.name}) cannot use an index and is
+ * too slow to run on every keystroke. This index keeps every normalized (uppercase) symbol in a
+ * sorted array and answers without touching Postgres or Redis:
+ * <ul>
+ *   <li><strong>Prefix matches:</strong> Binary search for the first symbol {@code >= query},
+ *       then a scan while symbols still start with it - O(log n + k)</li>
+ *   <li><strong>Fuzzy matches:</strong> Only if fewer than {@code k} symbols share the prefix,
+ *       symbols whose prefix is within a small edit distance of the query are added
+ *       (e.g., {@code TP35} suggests {@code TP53}), closest first. The sorted array is walked
+ *       as a trie with a Levenshtein row per node, so only prefixes within the edit budget are
+ *       visited, and the search stops as soon as {@code k} suggestions are found</li>
+ * </ul>
+ *
+ * <p><strong>Updates:</strong> The array is immutable and replaced on every change
+ * (copy-on-write), so readers never lock. Gene writes are rare and the array holds one entry
+ * per gene, so a copy per write is cheap. The index is built when the application is ready and
+ * updated by {@link GeneService} on create and delete; it is also rebuilt every
+ * {@code autocomplete.rebuild-interval} to pick up writes made on other nodes.
+ */
+@Component
+public class GeneSymbolIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeneSymbolIndex.class);
+
+    private final GeneRepository geneRepository;
+
+    private final MeterRegistry meterRegistry;
+
+    private final int maxEditDistance;
+
+    private final Duration rebuildInterval;
+
+    private volatile String[] symbols = new String[0];
+
+    private final ScheduledExecutorService rebuildExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "gene-symbol-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * @param geneRepository  repository the index is built from
+     * @param meterRegistry   registry for index metrics
+     * @param maxEditDistance upper bound on the edit distance of fuzzy matches (default: 2, zero disables)
+     * @param rebuildInterval period of full rebuilds from the database (default: 10 minutes, zero disables)
+     */
+    public GeneSymbolIndex(
+            GeneRepository geneRepository,
+            MeterRegistry meterRegistry,
+            @Value("${autocomplete.max-edit-distance:2}") int maxEditDistance,
+            @Value("${autocomplete.rebuild-interval:10m}") Duration rebuildInterval) {
+        this.geneRepository = geneRepository;
+        this.meterRegistry = meterRegistry;
+        this.maxEditDistance = maxEditDistance;
+        this.rebuildInterval = rebuildInterval;
+        meterRegistry.gauge("autocomplete.index.size", this, GeneSymbolIndex::size);
+    }
+
+    // ==================== MAINTENANCE ====================
+
+    /**
+     * Builds the index when the application is ready and schedules periodic rebuilds.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+        if (!rebuildInterval.isZero() && !rebuildInterval.isNegative()) {
+            long periodMillis = rebuildInterval.toMillis();
+            rebuildExecutor.scheduleWithFixedDelay(this::rebuild, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Replaces the index with every gene name currently in the database.
+     * On failure the previous index is kept.
+     */
+    public void rebuild() {
+        try {
+            long start = System.nanoTime();
+            replaceAll(geneRepository.findAllNames());
+            logger.info("Gene symbol index built with {} symbols in {} ms",
+                    size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Exception e) {
+            logger.warn("Failed to build gene symbol index", e);
+            meterRegistry.counter("autocomplete.errors", "operation", "rebuild").increment();
+        }
+    }
+
+    /**
+     * Adds a symbol; no-op if it is already indexed.
+     *
+     * @param name the gene name, normalized to uppercase
+     */
+    public synchronized void add(String name) {
+        String symbol = normalize(name);
+        String[] current = symbols;
+        int position = Arrays.binarySearch(current, symbol);
+        if (symbol.isEmpty() || position >= 0) {
+            return;
+        }
+        int insertAt = -position - 1;
+        String[] updated = new String[current.length + 1];
+        System.arraycopy(current, 0, updated, 0, insertAt);
+        updated[insertAt] = symbol;
+        System.arraycopy(current, insertAt, updated, insertAt + 1, current.length - insertAt);
+        symbols = updated;
+    }
+
+    /**
+     * Removes a symbol; no-op if it is not indexed.
+     *
+     * @param name the gene name, normalized to uppercase
+     */
+    public synchronized void remove(String name) {
+        String[] current = symbols;
+        int position = Arrays.binarySearch(current, normalize(name));
+        if (position < 0) {
+            return;
+        }
+        String[] updated = new String[current.length - 1];
+        System.arraycopy(current, 0, updated, 0, position);
+        System.arraycopy(current, position + 1, updated, position, current.length - position - 1);
+        symbols = updated;
+    }
+
+    /**
+     * Replaces the whole index.
+     *
+     * @param names the gene names to index
+     */
+    public synchronized void replaceAll(Collection<String> names) {
+        symbols = names.stream()
+                .map(GeneSymbolIndex::normalize)
+                .filter(symbol -> !symbol.isEmpty())
+                .distinct()
+                .sorted()
+                .toArray(String[]::new);
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Suggests up to {@code limit} symbols for a typed query: prefix matches in lexicographic
+     * order, followed by fuzzy matches ordered by edit distance when prefix matches run short.
+     *
+     * @param query the typed text, case-insensitive
+     * @param limit maximum number of suggestions
+     * @return suggested symbols (empty if the query is blank)
+     */
+    public List<String> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String[] snapshot = symbols;
+        List<String> suggestions = new ArrayList<>(Math.min(limit, 16));
+
+        int position = Arrays.binarySearch(snapshot, prefix);
+        for (int i = position >= 0 ? position : -position - 1;
+             i < snapshot.length && suggestions.size() < limit && snapshot[i].startsWith(prefix); i++) {
+            suggestions.add(snapshot[i]);
+        }
+
+        int maxDistance = fuzzyDistanceFor(prefix);
+        if (suggestions.size() < limit && maxDistance > 0) {
+            addFuzzyMatches(snapshot, prefix, maxDistance, limit, suggestions);
+        }
+        return suggestions;
+    }
+
+    /**
+     * Number of indexed symbols.
+     */
+    public int size() {
+        return symbols.length;
+    }
+
+    /**
+     * Allowed typos grow with the query: none for 1-2 characters (too many accidental matches),
+     * one up to 5 characters, then the configured maximum.
+     */
+    private int fuzzyDistanceFor(String query) {
+        int allowed = query.length() <= 2 ? 0 : query.length() <= 5 ? 1 : 2;
+        return Math.min(allowed, maxEditDistance);
+    }
+
+    /**
+     * Adds symbols whose closest prefix is within {@code maxDistance} edits of {@code query}, one
+     * distance at a time so closer matches come first and the search ends at {@code limit}.
+     */
+    private static void addFuzzyMatches(String[] snapshot, String query, int maxDistance, int limit,
+                                        List<String> suggestions) {
+        FuzzyWalk walk = new FuzzyWalk(snapshot, query, maxDistance, limit, suggestions);
+        for (int distance = 1; distance <= maxDistance; distance++) {
+            // Each pass adds the symbols exactly this many edits away, in lexicographic order
+            if (!walk.visit(0, snapshot.length, 0, distance)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Levenshtein automaton over the sorted symbols, treated as an implicit trie.
+     *
+     * <p>Symbols sharing a prefix form a contiguous range of the array, and the child ranges of a
+     * node are found by binary search on the next character, so a node costs O(log n) to locate and
+     * O(query length) to evaluate. Each node carries the Levenshtein row of the query against its
+     * prefix: once every entry exceeds the budget no extension can come back within it and the
+     * subtree is skipped; once the whole query is within budget every symbol below matches and the
+     * range is added without further edits.
+     */
+    private static final class FuzzyWalk {
+
+        private final String[] symbols;
+
+        private final String query;
+
+        private final int limit;
+
+        private final List<String> suggestions;
+
+        private final Set<String> suggested;
+
+        /**
+         * Row per trie depth; a prefix longer than query + maxDistance is always out of budget.
+         */
+        private final int[][] rows;
+
+        FuzzyWalk(String[] symbols, String query, int maxDistance, int limit, List<String> suggestions) {
+            this.symbols = symbols;
+            this.query = query;
+            this.limit = limit;
+            this.suggestions = suggestions;
+            this.suggested = new HashSet<>(suggestions);
+            this.rows = new int[query.length() + maxDistance + 2][query.length() + 1];
+            for (int i = 0; i <= query.length(); i++) {
+                rows[0][i] = i;
+            }
+        }
+
+        /**
+         * Visits the children of the node whose symbols are {@code symbols[from, to)}, all sharing
+         * the prefix of length {@code depth} whose row is {@code rows[depth]}.
+         *
+         * @return false once {@code limit} suggestions have been collected
+         */
+        boolean visit(int from, int to, int depth, int budget) {
+            int n = query.length();
+            int start = from;
+            if (start < to && symbols[start].length() == depth) {
+                // The prefix itself, already handled by the parent's row
+                start++;
+            }
+            int[] parent = rows[depth];
+            int[] row = rows[depth + 1];
+            while (start < to) {
+                char next = symbols[start].charAt(depth);
+                int end = childEnd(start, to, depth, next);
+
+                row[0] = depth + 1;
+                int rowMin = row[0];
+                for (int i = 1; i <= n; i++) {
+                    int substitution = parent[i - 1] + (query.charAt(i - 1) == next ? 0 : 1);
+                    row[i] = Math.min(substitution, Math.min(parent[i], row[i - 1]) + 1);
+                    rowMin = Math.min(rowMin, row[i]);
+                }
+
+                if (row[n] <= budget) {
+                    if (!addRange(start, end)) {
+                        return false;
+                    }
+                } else if (rowMin <= budget && !visit(start, end, depth + 1, budget)) {
+                    return false;
+                }
+                start = end;
+            }
+            return true;
+        }
+
+        /**
+         * First index in {@code (from, to)} whose character at {@code depth} sorts after {@code next}.
+         */
+        private int childEnd(int from, int to, int depth, char next) {
+            int low = from + 1;
+            int high = to;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (symbols[mid].charAt(depth) > next) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+
+        private boolean addRange(int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (suggestions.size() >= limit) {
+                    return false;
+                }
+                if (suggested.add(symbols[i])) {
+                    suggestions.add(symbols[i]);
+                }
+            }
+            return suggestions.size() < limit;
+        }
+    }
+
+    private static String normalize(String name) {
+        return name == null ? "" : name.trim().toUpperCase();
+    }
+
+    /**
+     * Stops periodic rebuilds.
+     */
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+}
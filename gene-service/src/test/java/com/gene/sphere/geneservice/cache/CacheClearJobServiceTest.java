@@ -0,0 +1,102 @@
+package com.gene.sphere.geneservice.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CacheClearJobServiceTest {
+
+    private RedisCacheService cacheService;
+    private CacheClearJobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        cacheService = mock(RedisCacheService.class);
+        jobService = new CacheClearJobService(cacheService, new SimpleMeterRegistry(), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobService.shutdown();
+    }
+
+    @Test
+    void submit_shouldExposeProgressWhileRunning_andFinalResultWhenDone() throws Exception {
+        CountDownLatch progressReported = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(cacheService.clearByPattern(eq("gene:*"), any())).thenAnswer(invocation -> {
+            LongConsumer onProgress = invocation.getArgument(1);
+            onProgress.accept(1000L);
+            progressReported.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            onProgress.accept(1500L);
+            return ClearResult.success(1500L, "gene:*");
+        });
+
+        CacheClearJob submitted = jobService.submit("gene:*");
+        assertTrue(progressReported.await(5, TimeUnit.SECONDS));
+
+        CacheClearJob running = jobService.getJob(submitted.id()).orElseThrow();
+        assertEquals(CacheClearJob.State.RUNNING, running.state());
+        assertEquals(1000L, running.deletedCount());
+        assertNull(running.result());
+
+        release.countDown();
+        CacheClearJob finished = awaitFinished(submitted.id());
+        assertEquals(CacheClearJob.State.COMPLETED, finished.state());
+        assertEquals(1500L, finished.deletedCount());
+        assertEquals(1500L, finished.result().deletedCount());
+        assertNotNull(finished.finishedAt());
+    }
+
+    @Test
+    void submit_shouldMarkJobFailed_whenClearFails() throws Exception {
+        when(cacheService.clearByPattern(eq("gene:BAD"), any()))
+                .thenReturn(ClearResult.failure("gene:BAD", "Redis connection failed"));
+
+        CacheClearJob finished = awaitFinished(jobService.submit("gene:BAD").id());
+
+        assertEquals(CacheClearJob.State.FAILED, finished.state());
+        assertFalse(finished.result().success());
+    }
+
+    @Test
+    void submit_shouldReportPartialSuccess_whenClearThrowsAfterDeletingKeys() throws Exception {
+        when(cacheService.clearByPattern(eq("gene:*"), any())).thenAnswer(invocation -> {
+            LongConsumer onProgress = invocation.getArgument(1);
+            onProgress.accept(42L);
+            throw new IllegalStateException("connection reset");
+        });
+
+        CacheClearJob finished = awaitFinished(jobService.submit("gene:*").id());
+
+        assertEquals(CacheClearJob.State.FAILED, finished.state());
+        assertEquals(42L, finished.result().deletedCount());
+        assertTrue(finished.result().message().startsWith("Partially cleared 42"));
+    }
+
+    @Test
+    void getJob_shouldReturnEmpty_forUnknownId() {
+        assertTrue(jobService.getJob("unknown").isEmpty());
+    }
+
+    private CacheClearJob awaitFinished(String id) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        CacheClearJob job = jobService.getJob(id).orElseThrow();
+        while (!job.isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            job = jobService.getJob(id).orElseThrow();
+        }
+        return job;
+    }
+}
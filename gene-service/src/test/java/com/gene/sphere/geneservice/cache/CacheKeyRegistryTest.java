@@ -0,0 +1,186 @@
+package com.gene.sphere.geneservice.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CacheKeyRegistryTest {
+
+    private StringRedisTemplate redisTemplate;
+    private SetOperations<String, String> setOperations;
+    private GeneSearchIndex searchIndex;
+    private RedisMessageListenerContainer listenerContainer;
+    private CacheKeyRegistry registry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        setOperations = mock(SetOperations.class);
+        searchIndex = mock(GeneSearchIndex.class);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(redisTemplate.execute(any(RedisCallback.class))).thenReturn("Ex$eg");
+
+        listenerContainer = mock(RedisMessageListenerContainer.class);
+        registry = newRegistry();
+    }
+
+    @Test
+    void mergeNotificationFlags_shouldAddOnlyMissingFlags() {
+        assertEquals("E$gxe", CacheKeyRegistry.mergeNotificationFlags(""));
+        assertEquals("Kx" + "E$ge", CacheKeyRegistry.mergeNotificationFlags("Kx"));
+        assertEquals("E$gxe", CacheKeyRegistry.mergeNotificationFlags("E$gxe"));
+    }
+
+    @Test
+    void mergeNotificationFlags_shouldTreatAllAsCoveringEventClasses() {
+        assertEquals("KAE", CacheKeyRegistry.mergeNotificationFlags("KA"));
+    }
+
+    @Test
+    void constructor_shouldSubscribeToMembershipEventsOfItsDatabaseOnly() {
+        verify(listenerContainer).addMessageListener(registry, List.of(
+                new ChannelTopic("__keyevent@2__:set"),
+                new ChannelTopic("__keyevent@2__:del"),
+                new ChannelTopic("__keyevent@2__:expired"),
+                new ChannelTopic("__keyevent@2__:evicted")));
+        // Only the CONFIG GET check; nothing is changed on the server
+        verify(redisTemplate, times(1)).execute(any(RedisCallback.class));
+    }
+
+    @Test
+    void onMessage_shouldRegisterNegativeWrites() {
+        registry.onMessage(event("set", "missing:gene:NOPE"), null);
+
+        verify(setOperations).add(CacheKeyRegistry.NEGATIVE_REGISTRY_KEY, "missing:gene:NOPE");
+    }
+
+    @Test
+    void onMessage_shouldUnregisterExpiredAndDeletedKeys() {
+        registry.onMessage(event("expired", "gene:TP53"), null);
+        registry.onMessage(event("del", "missing:gene:NOPE"), null);
+
+        verify(searchIndex).remove("TP53");
+        verify(setOperations).remove(CacheKeyRegistry.NEGATIVE_REGISTRY_KEY, "missing:gene:NOPE");
+    }
+
+    @Test
+    void onMessage_shouldTrackMutationServiceKeys() {
+        registry.onMessage(event("set", "mutation:geneCounts::all"), null);
+        registry.onMessage(event("expired", "mutation:actionable::KRAS"), null);
+
+        verify(setOperations).add(CacheKeyRegistry.MUTATION_REGISTRY_KEY, "mutation:geneCounts::all");
+        verify(setOperations).remove(CacheKeyRegistry.MUTATION_REGISTRY_KEY, "mutation:actionable::KRAS");
+        verifyNoInteractions(searchIndex);
+    }
+
+    @Test
+    void onMessage_shouldIgnoreUnrelatedKeysAndEvents() {
+        registry.onMessage(event("set", "lock:gene:TP53"), null);
+        registry.onMessage(event("set", "idx:gene:names"), null);
+        registry.onMessage(event("expire", "gene:TP53"), null);
+
+        verifyNoInteractions(setOperations, searchIndex);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void snapshot_shouldReportMutationCountAndSampledMemory() {
+        // ARRANGE
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(
+                3L, 1L, 2L, 10L,
+                List.of("TP53"), List.of("missing:gene:NOPE"), List.of("mutation:geneCounts::all")));
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(100L, 50L, 400L));
+
+        // ACT
+        CacheStatus status = registry.snapshot();
+
+        // ASSERT
+        assertEquals(2L, status.mutationKeys());
+        assertEquals(800L, status.memoryBytes().get("mutation"));
+        assertEquals(300L, status.memoryBytes().get("gene"));
+        assertEquals(50L, status.memoryBytes().get("negative"));
+        assertEquals(10L, status.totalKeys());
+        assertFalse(status.approximate());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void snapshot_shouldBeApproximate_whenExpiryNotificationsAreMissing() {
+        // ARRANGE
+        when(redisTemplate.execute(any(RedisCallback.class))).thenReturn("Kg");
+        CacheKeyRegistry withoutExpiry = newRegistry();
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(
+                0L, 0L, 0L, 0L, List.of(), List.of(), List.of()));
+
+        // ACT & ASSERT
+        assertTrue(withoutExpiry.snapshot().approximate());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void snapshot_shouldBeApproximate_whenNotificationConfigCannotBeRead() {
+        // ARRANGE
+        when(redisTemplate.execute(any(RedisCallback.class))).thenThrow(new IllegalStateException("CONFIG disabled"));
+        CacheKeyRegistry unknown = newRegistry();
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(
+                0L, 0L, 0L, 0L, List.of(), List.of(), List.of()));
+
+        // ACT & ASSERT
+        assertTrue(unknown.snapshot().approximate());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reconcile_shouldUnregisterOnlySampledMembersWhoseKeyIsGone() {
+        // ARRANGE
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(
+                List.of(List.of("TP53", "KRAS"), List.of("missing:gene:NOPE"), List.of("mutation:geneCounts::all")),
+                List.of(false, true, false, true));
+
+        // ACT
+        registry.reconcile();
+
+        // ASSERT
+        verify(searchIndex).removeAll(List.of("TP53"));
+        verify(setOperations).remove(CacheKeyRegistry.NEGATIVE_REGISTRY_KEY, "missing:gene:NOPE");
+        verify(setOperations, never()).remove(eq(CacheKeyRegistry.MUTATION_REGISTRY_KEY), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reconcile_shouldSkipExistenceChecks_whenRegistriesAreEmpty() {
+        // ARRANGE
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(
+                List.of(List.of(), List.of(), List.of()));
+
+        // ACT
+        registry.reconcile();
+
+        // ASSERT
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+        verifyNoInteractions(searchIndex, setOperations);
+    }
+
+    private CacheKeyRegistry newRegistry() {
+        return new CacheKeyRegistry(redisTemplate, searchIndex, listenerContainer,
+                new SimpleMeterRegistry(), false, 5, Duration.ZERO, 100, 2);
+    }
+
+    private static DefaultMessage event(String event, String key) {
+        return new DefaultMessage(("__keyevent@0__:" + event).getBytes(), key.getBytes());
+    }
+}
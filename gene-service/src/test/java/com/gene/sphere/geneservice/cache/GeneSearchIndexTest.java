@@ -0,0 +1,65 @@
+package com.gene.sphere.geneservice.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GeneSearchIndexTest {
+
+    @Test
+    void grams_shouldContainEveryOneToThreeCharacterSubstring() {
+        Set<String> grams = GeneSearchIndex.grams("TP53");
+
+        assertEquals(Set.of("T", "P", "5", "3", "TP", "P5", "53", "TP5", "P53"), grams);
+    }
+
+    @Test
+    void grams_shouldHandleNamesShorterThanLongestGram() {
+        assertEquals(Set.of("A", "B", "AB"), GeneSearchIndex.grams("AB"));
+        assertTrue(GeneSearchIndex.grams("").isEmpty());
+    }
+
+    @Test
+    void grams_shouldDeduplicateRepeatedSubstrings() {
+        Set<String> grams = GeneSearchIndex.grams("AAAA");
+
+        assertEquals(Set.of("A", "AA", "AAA"), grams);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findBySubstring_shouldReadOnlyOnePageOfShortGramSets() {
+        // ARRANGE
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.rangeByLex(eq("idx:gene:zgram:A"), any(RedisZSetCommands.Range.class), any(RedisZSetCommands.Limit.class)))
+                .thenReturn(new LinkedHashSet<>(List.of("A1BG", "A2M")));
+        GeneSearchIndex index = new GeneSearchIndex(redisTemplate, new SimpleMeterRegistry(), false);
+
+        // ACT
+        List<String> names = index.findBySubstring("A", 2);
+
+        // ASSERT
+        assertEquals(List.of("A1BG", "A2M"), names);
+        verify(zSetOperations).rangeByLex(eq("idx:gene:zgram:A"), any(RedisZSetCommands.Range.class),
+                argThat(limit -> limit.getCount() == 2));
+        verify(zSetOperations, never()).intersect(anyString(), anyCollection());
+    }
+
+    @Test
+    void substringQueryKeys_shouldUseTrigramsForLongFragments() {
+        assertEquals(List.of("idx:gene:zgram:BRC", "idx:gene:zgram:RCA"), GeneSearchIndex.substringQueryKeys("BRCA"));
+        assertEquals(List.of("idx:gene:zgram:BR"), GeneSearchIndex.substringQueryKeys("BR"));
+    }
+}
@@ -0,0 +1,107 @@
+package com.gene.sphere.geneservice.cache;
+
+import com.gene.sphere.geneservice.model.GeneRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeneValueSerializerTest {
+
+    private final GeneRecord tp53 = new GeneRecord(
+            "TP53", "Tumor suppressor gene", "DNA repair", "Loss of function",
+            "50% of all cancers", "None", "http://example.com/tp53");
+
+    @Test
+    void binary_shouldRoundTripGeneRecord() {
+        // ARRANGE
+        GeneValueSerializer serializer = GeneValueSerializer.of(GeneValueSerializer.Codec.BINARY, 512);
+
+        // ACT
+        byte[] bytes = serializer.serialize(tp53);
+
+        // ASSERT
+        assertTrue(GeneRecordCodec.isBinary(bytes));
+        assertEquals(tp53, serializer.deserialize(bytes));
+    }
+
+    @Test
+    void binary_shouldBeSmallerThanJson() {
+        // ARRANGE
+        GeneValueSerializer binary = GeneValueSerializer.of(GeneValueSerializer.Codec.BINARY, 512);
+        GeneValueSerializer json = GeneValueSerializer.of(GeneValueSerializer.Codec.JSON, 512);
+
+        // ACT
+        int binarySize = binary.serialize(tp53).length;
+        int jsonSize = json.serialize(tp53).length;
+
+        // ASSERT
+        assertTrue(binarySize * 2 < jsonSize, "binary=" + binarySize + " json=" + jsonSize);
+    }
+
+    @Test
+    void binary_shouldPreserveNullAndUnicodeFields() {
+        // ARRANGE
+        GeneRecord gene = new GeneRecord("BRCA1", null, "", "Δ exon 11 – frameshift", null, null, null);
+        GeneValueSerializer serializer = GeneValueSerializer.of(GeneValueSerializer.Codec.BINARY, 512);
+
+        // ACT & ASSERT
+        assertEquals(gene, serializer.deserialize(serializer.serialize(gene)));
+    }
+
+    @Test
+    void binary_shouldCompressLargePayloadsAboveThreshold() {
+        // ARRANGE
+        String longText = "Homologous recombination repair of double-strand breaks. ".repeat(40);
+        GeneRecord gene = new GeneRecord("BRCA2", longText, longText, longText, "10%", "PARP inhibitors", null);
+        GeneRecordCodec compressing = new GeneRecordCodec(512);
+        GeneRecordCodec plain = new GeneRecordCodec(0);
+
+        // ACT
+        byte[] compressed = compressing.encode(gene);
+        byte[] uncompressed = plain.encode(gene);
+
+        // ASSERT
+        assertEquals(1, compressed[2] & 1);
+        assertEquals(0, uncompressed[2] & 1);
+        assertTrue(compressed.length < uncompressed.length / 4);
+        assertEquals(gene, compressing.decode(compressed));
+    }
+
+    @Test
+    void shouldReadJsonEntriesRegardlessOfWriteCodec() {
+        // ARRANGE
+        byte[] json = GeneValueSerializer.of(GeneValueSerializer.Codec.JSON, 512).serialize(tp53);
+        GeneValueSerializer binary = GeneValueSerializer.of(GeneValueSerializer.Codec.BINARY, 512);
+
+        // ACT & ASSERT
+        assertFalse(GeneRecordCodec.isBinary(json));
+        assertEquals(tp53, binary.deserialize(json));
+    }
+
+    @Test
+    void binary_shouldUseJsonForNonGeneValues() {
+        // ARRANGE
+        GeneValueSerializer serializer = GeneValueSerializer.of(GeneValueSerializer.Codec.BINARY, 512);
+        NegativeCacheEntry entry = NegativeCacheEntry.of("UNKNOWN1");
+
+        // ACT
+        byte[] bytes = serializer.serialize(entry);
+
+        // ASSERT
+        assertFalse(GeneRecordCodec.isBinary(bytes));
+        assertEquals(entry, serializer.deserialize(bytes));
+        assertEquals("TP53", serializer.deserialize(serializer.serialize("TP53")));
+    }
+
+    @Test
+    void deserialize_shouldRejectUnknownVersion() {
+        // ARRANGE
+        GeneValueSerializer serializer = GeneValueSerializer.of(GeneValueSerializer.Codec.BINARY, 512);
+        byte[] bytes = serializer.serialize(tp53);
+        bytes[1] = (byte) (GeneRecordCodec.VERSION + 1);
+
+        // ACT & ASSERT
+        assertThrows(SerializationException.class, () -> serializer.deserialize(bytes));
+    }
+}
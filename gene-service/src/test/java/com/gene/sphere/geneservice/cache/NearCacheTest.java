@@ -0,0 +1,101 @@
+package com.gene.sphere.geneservice.cache;
+
+import com.gene.sphere.geneservice.model.GeneRecord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class NearCacheTest {
+
+    private RedisTemplate<String, Object> redisTemplate;
+    private RedisMessageListenerContainer listenerContainer;
+    private SimpleMeterRegistry meterRegistry;
+    private NearCache nearCache;
+
+    private final GeneRecord tp53 = new GeneRecord(
+            "TP53", "Tumor suppressor gene", "DNA repair", "Loss of function",
+            "50% of all cancers", "None", "http://example.com/tp53");
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        listenerContainer = mock(RedisMessageListenerContainer.class);
+        meterRegistry = new SimpleMeterRegistry();
+        doReturn(new GenericJackson2JsonRedisSerializer()).when(redisTemplate).getValueSerializer();
+
+        nearCache = new NearCache(redisTemplate, listenerContainer, meterRegistry,
+                true, 100, Duration.ofMinutes(1), "cache:gene:invalidate");
+    }
+
+    @Test
+    void get_shouldReturnStoredGene_andCountHitsAndMisses() {
+        assertTrue(nearCache.get("gene:TP53").isEmpty());
+
+        nearCache.put("gene:TP53", tp53);
+
+        assertEquals(tp53, nearCache.get("gene:TP53").orElseThrow());
+        assertEquals(1.0, meterRegistry.counter("cache.near.hits").count());
+        assertEquals(1.0, meterRegistry.counter("cache.near.misses").count());
+    }
+
+    @Test
+    void constructor_shouldSubscribeToInvalidationChannel() {
+        verify(listenerContainer).addMessageListener(eq(nearCache), any());
+    }
+
+    @Test
+    void invalidate_shouldRemoveLocallyAndPublishToOtherNodes() {
+        nearCache.put("gene:TP53", tp53);
+
+        nearCache.invalidate("gene:TP53");
+
+        assertTrue(nearCache.get("gene:TP53").isEmpty());
+        verify(redisTemplate).convertAndSend("cache:gene:invalidate", "gene:TP53");
+    }
+
+    @Test
+    void invalidatePattern_shouldOnlyRemoveMatchingKeys() {
+        nearCache.put("gene:BRCA1", tp53);
+        nearCache.put("gene:BRCA2", tp53);
+        nearCache.put("gene:TP53", tp53);
+
+        nearCache.invalidatePattern("gene:BRCA*");
+
+        assertTrue(nearCache.get("gene:BRCA1").isEmpty());
+        assertTrue(nearCache.get("gene:BRCA2").isEmpty());
+        assertTrue(nearCache.get("gene:TP53").isPresent());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void onMessage_shouldApplyInvalidationsPublishedByOtherNodes() {
+        nearCache.put("gene:TP53", tp53);
+        byte[] body = ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize("gene:TP53");
+
+        nearCache.onMessage(new DefaultMessage("cache:gene:invalidate".getBytes(), body), null);
+
+        assertTrue(nearCache.get("gene:TP53").isEmpty());
+        verify(redisTemplate, never()).convertAndSend(anyString(), any());
+    }
+
+    @Test
+    void disabledNearCache_shouldNeverServeHits() {
+        NearCache disabled = new NearCache(redisTemplate, listenerContainer, meterRegistry,
+                false, 100, Duration.ofMinutes(1), "cache:gene:invalidate");
+
+        disabled.put("gene:TP53", tp53);
+
+        assertTrue(disabled.get("gene:TP53").isEmpty());
+    }
+}
@@ -0,0 +1,162 @@
+package com.gene.sphere.geneservice.cache;
+
+import com.gene.sphere.geneservice.model.GeneRecord;
+import com.gene.sphere.geneservice.service.GeneService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLockReactive;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.RedissonReactiveClient;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.ReactiveZSetOperations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ReactiveGeneCacheServiceTest {
+
+    private static final GeneRecord TP53 = new GeneRecord(
+            "TP53", "Tumor suppressor gene", "DNA repair", "Loss of function",
+            "50% of all cancers", "None specific", "http://example.com/tp53");
+
+    private ReactiveValueOperations<String, Object> valueOperations;
+    private ReactiveZSetOperations<String, String> zSetOperations;
+    private RLockReactive lock;
+    private GeneService geneService;
+    private NearCache nearCache;
+    private GeneSearchIndex searchIndex;
+    private SimpleMeterRegistry meterRegistry;
+    private ReactiveGeneCacheService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ReactiveRedisTemplate<String, Object> redisTemplate = mock(ReactiveRedisTemplate.class);
+        valueOperations = mock(ReactiveValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        ReactiveStringRedisTemplate indexTemplate = mock(ReactiveStringRedisTemplate.class);
+        zSetOperations = mock(ReactiveZSetOperations.class);
+        when(indexTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        RedissonReactiveClient reactiveClient = mock(RedissonReactiveClient.class);
+        lock = mock(RLockReactive.class);
+        when(redissonClient.reactive()).thenReturn(reactiveClient);
+        when(reactiveClient.getLock(anyString())).thenReturn(lock);
+        when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class), anyLong())).thenReturn(Mono.just(true));
+        when(lock.unlock(anyLong())).thenReturn(Mono.empty());
+
+        geneService = mock(GeneService.class);
+        nearCache = mock(NearCache.class);
+        when(nearCache.get(anyString())).thenReturn(Optional.empty());
+        searchIndex = mock(GeneSearchIndex.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        service = new ReactiveGeneCacheService(redisTemplate, indexTemplate, redissonClient, geneService,
+                nearCache, searchIndex, meterRegistry, Duration.ofDays(5), Duration.ofMinutes(1),
+                Duration.ofSeconds(3), Duration.ofSeconds(10), 1000, 2, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void getGeneByName_shouldReturnCachedGene_withoutQueryingDatabase() {
+        // ARRANGE
+        when(valueOperations.multiGet(List.of("gene:TP53", "missing:gene:TP53")))
+                .thenReturn(Mono.just(Arrays.asList(TP53, null)));
+
+        // ACT
+        GeneRecord result = service.getGeneByName("tp53").block();
+
+        // ASSERT
+        assertEquals(TP53, result);
+        verify(nearCache).put("gene:TP53", TP53);
+        verifyNoInteractions(geneService, lock);
+        assertEquals(1.0, meterRegistry.counter("cache.reactive.hits").count());
+    }
+
+    @Test
+    void getGeneByName_shouldLoadFromDatabaseUnderLock_andCacheOnMiss() {
+        // ARRANGE
+        when(valueOperations.multiGet(anyList())).thenReturn(Mono.just(Arrays.asList(null, null)));
+        when(valueOperations.set(anyString(), any(), any(Duration.class))).thenReturn(Mono.just(true));
+        when(geneService.getGeneByName("TP53")).thenReturn(Optional.of(TP53));
+
+        // ACT
+        GeneRecord result = service.getGeneByName("TP53").block();
+
+        // ASSERT
+        assertEquals(TP53, result);
+        verify(valueOperations).set("gene:TP53", TP53, Duration.ofDays(5));
+        verify(searchIndex).add("TP53");
+        verify(lock).unlock(anyLong());
+        assertEquals(1.0, meterRegistry.counter("cache.reactive.database.queries").count());
+    }
+
+    @Test
+    void getGeneByName_shouldWriteNegativeEntry_whenGeneDoesNotExist() {
+        // ARRANGE
+        when(valueOperations.multiGet(anyList())).thenReturn(Mono.just(Arrays.asList(null, null)));
+        when(valueOperations.set(anyString(), any(), any(Duration.class))).thenReturn(Mono.just(true));
+        when(geneService.getGeneByName("NOPE")).thenReturn(Optional.empty());
+
+        // ACT
+        GeneRecord result = service.getGeneByName("NOPE").block();
+
+        // ASSERT
+        assertNull(result);
+        verify(valueOperations).set(eq("missing:gene:NOPE"), any(NegativeCacheEntry.class), eq(Duration.ofMinutes(1)));
+        verify(lock).unlock(anyLong());
+    }
+
+    @Test
+    void getGeneByName_shouldFallBackToDatabase_whenCacheReadFails() {
+        // ARRANGE
+        when(valueOperations.multiGet(anyList())).thenReturn(Mono.error(new IllegalStateException("down")));
+        when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class), anyLong()))
+                .thenReturn(Mono.error(new IllegalStateException("down")));
+        when(geneService.getGeneByName("TP53")).thenReturn(Optional.of(TP53));
+
+        // ACT
+        GeneRecord result = service.getGeneByName("TP53").block();
+
+        // ASSERT
+        assertEquals(TP53, result);
+        assertEquals(2.0, meterRegistry.counter("cache.reactive.errors", "operation", "read").count());
+    }
+
+    @Test
+    void searchGenesByPattern_shouldResolveIndexedNames_andDropStaleOnes() {
+        // ARRANGE
+        when(zSetOperations.rangeByLex(eq("idx:gene:zgram:TP"), any(Range.class), any(RedisZSetCommands.Limit.class)))
+                .thenReturn(Flux.just("TP53", "TP63"));
+        when(valueOperations.multiGet(List.of("gene:TP53", "gene:TP63")))
+                .thenReturn(Mono.just(Arrays.asList(TP53, null)));
+
+        // ACT
+        List<GeneRecord> result = service.searchGenesByPattern("tp").collectList().block();
+
+        // ASSERT
+        assertEquals(List.of(TP53), result);
+        verify(searchIndex).removeAll(List.of("TP63"));
+    }
+}
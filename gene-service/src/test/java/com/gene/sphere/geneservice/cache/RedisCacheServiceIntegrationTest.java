@@ -7,6 +7,9 @@ import com.gene.sphere.geneservice.security.JwtTokenProvider;
 import com.gene.sphere.geneservice.service.GeneService;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.redisson.api.RLock;
@@ -26,9 +29,18 @@ import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -50,6 +62,9 @@ class RedisCacheServiceIntegrationTest {
     @Autowired
     private RedisCacheService cacheService;
 
+    @Autowired
+    private NearCache nearCache;
+
     @MockBean
     private GeneService geneService;
 
@@ -78,6 +93,8 @@ class RedisCacheServiceIntegrationTest {
         registry.add("spring.redis.timeout", () -> "5000ms");
         registry.add("spring.data.redis.timeout", () -> "5000ms");
         registry.add("spring.redis.lettuce.shutdown-timeout", () -> "200ms");
+        // The throwaway container may be reconfigured; shared servers are configured by operators
+        registry.add("cache.status.configure-notifications", () -> "true");
     }
 
     @TestConfiguration
@@ -96,6 +113,8 @@ class RedisCacheServiceIntegrationTest {
         } catch (Exception e) {
             // Ignore connection errors in setup
         }
+        // The near cache outlives the Redis flush because the Spring context is shared between tests
+        nearCache.invalidateAll();
         reset(geneService, redissonClient, rLock);
 
         // Mock Redisson lock behavior - always allow lock acquisition
@@ -237,6 +256,226 @@ class RedisCacheServiceIntegrationTest {
 
         var secondResult = cacheService.getGeneByName(geneName);
         assertFalse(secondResult.isPresent());
+        // Second lookup is answered by the negative cache entry
+        verify(geneService, times(1)).getGeneByName(geneName);
+        assertTrue(redisTemplate.hasKey("missing:gene:" + geneName));
+        assertFalse(redisTemplate.hasKey("gene:" + geneName));
+    }
+
+    @Test
+    void testEvictGene_ShouldRemoveNegativeEntry() {
+        String geneName = "NEWGENE";
+        when(geneService.getGeneByName(geneName)).thenReturn(Optional.empty());
+        cacheService.getGeneByName(geneName);
+
+        cacheService.evictGene(geneName);
+
+        assertFalse(redisTemplate.hasKey("missing:gene:" + geneName));
+        cacheService.getGeneByName(geneName);
         verify(geneService, times(2)).getGeneByName(geneName);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testNearCache_ShouldServeHotGeneWithoutRedisRoundTrip() {
+        String geneName = "EGFR";
+        GeneRecord geneRecord = new GeneRecord(
+                "EGFR",
+                "Epidermal growth factor receptor",
+                "Receptor tyrosine kinase",
+                "Activating mutations drive proliferation",
+                "15% of lung adenocarcinomas",
+                "Osimertinib",
+                "https://egfr.org"
+        );
+        when(geneService.getGeneByName(geneName)).thenReturn(Optional.of(geneRecord));
+
+        cacheService.getGeneByName(geneName);
+
+        // Remove the Redis entry behind the service's back - the near cache still holds it
+        redisTemplate.delete("gene:EGFR");
+
+        var nearHit = cacheService.getGeneByName(geneName);
+        assertTrue(nearHit.isPresent());
+        assertEquals(geneRecord, nearHit.get());
+        verify(geneService, times(1)).getGeneByName(geneName);
+
+        // Eviction goes through the near cache as well
+        cacheService.evictGene(geneName);
+        assertTrue(nearCache.get("gene:EGFR").isEmpty());
+    }
+
+    @Test
+    void testBatchLookup_ShouldLoadMissesWithOneQueryAndBackfillCache() {
+        GeneRecord tp53 = new GeneRecord("TP53", "Tumor suppressor", "DNA repair", "Loss of function",
+                "50% of cancers", "None", "https://tp53.org");
+        GeneRecord kras = new GeneRecord("KRAS", "Oncogene", "Signaling", "Gain of function",
+                "30% of lung cancers", "Sotorasib", "https://kras.org");
+        redisTemplate.opsForValue().set("gene:TP53", tp53);
+        when(geneService.getGenesByNames(List.of("KRAS", "NONEXISTENT"))).thenReturn(List.of(kras));
+
+        var result = cacheService.getGenesByNames(List.of("tp53", "kras", "NONEXISTENT", "KRAS"));
+
+        assertEquals(List.of("TP53", "KRAS"), List.copyOf(result.keySet()));
+        assertEquals(tp53, result.get("TP53"));
+        assertEquals(kras, result.get("KRAS"));
+        verify(geneService, times(1)).getGenesByNames(List.of("KRAS", "NONEXISTENT"));
+
+        // Back-filled: positive entry for KRAS, negative entry for NONEXISTENT
+        assertEquals(kras, redisTemplate.opsForValue().get("gene:KRAS"));
+        assertTrue(redisTemplate.hasKey("missing:gene:NONEXISTENT"));
+
+        // Second batch is answered entirely from cache
+        cacheService.getGenesByNames(List.of("TP53", "KRAS", "NONEXISTENT"));
+        verify(geneService, times(1)).getGenesByNames(anyCollection());
+    }
+
+    @Test
+    void testSingleAndBatchLookup_ShouldShareOneKeyForPaddedNames() {
+        GeneRecord egfr = new GeneRecord("EGFR", "Receptor tyrosine kinase", "Growth signaling",
+                "L858R activates the kinase", "15% of NSCLC", "Osimertinib", "https://egfr.org");
+        when(geneService.getGenesByNames(List.of("EGFR"))).thenReturn(List.of(egfr));
+
+        cacheService.getGenesByNames(List.of(" egfr "));
+        nearCache.invalidateAll();
+        var single = cacheService.getGeneByName(" EGFR");
+
+        assertEquals(egfr, single.orElseThrow());
+        assertEquals(egfr, redisTemplate.opsForValue().get("gene:EGFR"));
+        verify(geneService, never()).getGeneByName(anyString());
+    }
+
+    @Test
+    void testColdLookupsOnVirtualThreads_ShouldNotPinCarrierThreads() throws Exception {
+        GeneRecord myc = new GeneRecord("MYC", "Transcription factor", "Cell growth",
+                "Amplification drives proliferation", "20% of cancers", "None approved", "https://myc.org");
+        when(geneService.getGeneByName("MYC")).thenAnswer(invocation -> {
+            // A slow query, so that concurrent requests queue behind the single-flight leader
+            Thread.sleep(50);
+            return Optional.of(myc);
+        });
+        Path dump = Files.createTempFile("virtual-thread-pinning", ".jfr");
+
+        try (Recording recording = new Recording();
+             ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+            List<Future<Optional<GeneRecord>>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                results.add(requests.submit(() -> cacheService.getGeneByName("MYC")));
+            }
+            for (Future<Optional<GeneRecord>> result : results) {
+                assertEquals(myc, result.get(10, TimeUnit.SECONDS).orElseThrow());
+            }
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        // Every wait on the slow path (single-flight, lock, Redis, database) must unmount the thread
+        List<RecordedEvent> pinned = RecordingFile.readAllEvents(dump);
+        Files.deleteIfExists(dump);
+        assertTrue(pinned.isEmpty(), () -> "Virtual thread pinned at " + pinned.get(0).getStackTrace());
+        verify(geneService, times(1)).getGeneByName("MYC");
+    }
+
+    @Test
+    void testRefreshAhead_ShouldRepopulateEntryCloseToExpiryInBackground() throws Exception {
+        GeneRecord braf = new GeneRecord("BRAF", "Serine/threonine kinase", "MAPK signaling",
+                "V600E activates the pathway", "50% of melanomas", "Vemurafenib", "https://braf.org");
+        redisTemplate.opsForValue().set("gene:BRAF", braf, Duration.ofSeconds(5));
+        when(geneService.getGeneByName("BRAF")).thenReturn(Optional.of(braf));
+
+        // Served from the current entry while the refresh runs in the background
+        var result = cacheService.getGeneByName("BRAF");
+        assertEquals(braf, result.orElseThrow());
+
+        verify(geneService, timeout(2000)).getGeneByName("BRAF");
+        long deadline = System.currentTimeMillis() + 2000;
+        while (redisTemplate.getExpire("gene:BRAF", TimeUnit.SECONDS) < 60
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(redisTemplate.getExpire("gene:BRAF", TimeUnit.SECONDS) > 60);
+    }
+
+    @Test
+    void testSearch_ShouldResolveMatchesFromIndexMaintainedOnWrites() {
+        for (String name : List.of("BRCA1", "BRCA2", "ABRAXAS1", "TP53")) {
+            when(geneService.getGeneByName(name)).thenReturn(Optional.of(new GeneRecord(
+                    name, "desc", "function", "effect", "prevalence", "therapies", "links")));
+            cacheService.getGeneByName(name);
+        }
+
+        var contains = cacheService.searchGenesByPattern("bra");
+        assertEquals(List.of("ABRAXAS1", "BRCA1", "BRCA2"), contains.stream().map(GeneRecord::name).toList());
+
+        var longer = cacheService.searchGenesByPattern("RCA2");
+        assertEquals(List.of("BRCA2"), longer.stream().map(GeneRecord::name).toList());
+
+        var prefix = cacheService.searchGenesByPrefix("BR");
+        assertEquals(List.of("BRCA1", "BRCA2"), prefix.stream().map(GeneRecord::name).toList());
+
+        // Evicted genes leave the index
+        cacheService.evictGene("BRCA1");
+        assertEquals(List.of("BRCA2"), cacheService.searchGenesByPrefix("BR").stream().map(GeneRecord::name).toList());
+
+        // Entries that vanished behind the index's back are dropped lazily
+        redisTemplate.delete("gene:BRCA2");
+        assertTrue(cacheService.searchGenesByPrefix("BR").isEmpty());
+    }
+
+    @Test
+    void testStatus_ShouldReportRegistryCountsAndFollowExpiry() throws Exception {
+        GeneRecord alk = new GeneRecord("ALK", "Receptor tyrosine kinase", "Neural development",
+                "Fusions drive NSCLC", "5% of NSCLC", "Alectinib", "https://alk.org");
+        when(geneService.getGeneByName("ALK")).thenReturn(Optional.of(alk));
+        when(geneService.getGeneByName("NOPE")).thenReturn(Optional.empty());
+
+        cacheService.getGeneByName("ALK");
+        cacheService.getGeneByName("NOPE");
+        // Written by the mutation service's cache manager sharing the database
+        redisTemplate.opsForValue().set("mutation:geneCounts::all", "[]", Duration.ofMinutes(5));
+
+        // Negative and mutation entries are registered from keyspace notifications, which arrive asynchronously
+        CacheStatus status = awaitStatus(s -> s.negativeKeys() == 1 && s.mutationKeys() == 1);
+        assertEquals(1L, status.geneKeys());
+        assertEquals(1L, status.mutationKeys());
+        assertTrue(status.totalKeys() >= 3);
+        assertTrue(status.memoryBytes().get("gene") > 0);
+        assertTrue(status.memoryBytes().get("mutation") > 0);
+        assertTrue(status.isAvailable());
+        assertFalse(status.approximate());
+
+        // Expiry removes the gene from the registry without any application call
+        redisTemplate.expire("gene:ALK", Duration.ofMillis(10));
+        status = awaitStatus(s -> s.geneKeys() == 0);
+        assertEquals(0L, status.geneKeys());
+    }
+
+    private CacheStatus awaitStatus(Predicate<CacheStatus> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 3000;
+        CacheStatus status = cacheService.getStatus();
+        while (!condition.test(status) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            status = cacheService.getStatus();
+        }
+        return status;
+    }
+
+    @Test
+    void testClearByPattern_ShouldStreamAllKeysInBatchesAndReportProgress() {
+        for (int i = 0; i < 2_500; i++) {
+            redisTemplate.opsForValue().set("gene:G" + i, "value");
+        }
+        redisTemplate.opsForValue().set("missing:gene:G_MISSING", "value");
+        redisTemplate.opsForValue().set("other:key", "value");
+        List<Long> progress = new CopyOnWriteArrayList<>();
+
+        ClearResult result = cacheService.clearByPattern("gene:*", progress::add);
+
+        assertTrue(result.success());
+        assertEquals(2_501L, result.deletedCount());
+        assertTrue(progress.size() >= 3, "expected one progress report per UNLINK batch");
+        assertEquals(2_501L, progress.get(progress.size() - 1));
+        assertTrue(redisTemplate.hasKey("other:key"));
+    }
+}
@@ -0,0 +1,104 @@
+package com.gene.sphere.geneservice.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RefreshAheadTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RefreshAhead refreshAhead;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        refreshAhead = new RefreshAhead(meterRegistry, true, Duration.ofHours(1), 1.0, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshAhead.shutdown();
+    }
+
+    @Test
+    void shouldRefresh_shouldNeverTrigger_outsideWindowOrWithoutTtl() {
+        for (int i = 0; i < 1_000; i++) {
+            assertFalse(refreshAhead.shouldRefresh(Duration.ofHours(2).toMillis()));
+            assertFalse(refreshAhead.shouldRefresh(-1));
+            assertFalse(refreshAhead.shouldRefresh(-2));
+        }
+    }
+
+    @Test
+    void shouldRefresh_shouldBecomeLikelier_asExpiryApproaches() {
+        int nearExpiry = 0;
+        int earlyInWindow = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (refreshAhead.shouldRefresh(Duration.ofSeconds(10).toMillis())) {
+                nearExpiry++;
+            }
+            if (refreshAhead.shouldRefresh(Duration.ofMinutes(55).toMillis())) {
+                earlyInWindow++;
+            }
+        }
+        // P(refresh) = exp(-remaining / window): ~99.7% vs ~40%
+        assertTrue(nearExpiry > 9_800, "near expiry: " + nearExpiry);
+        assertTrue(earlyInWindow > 3_000 && earlyInWindow < 5_000, "early in window: " + earlyInWindow);
+    }
+
+    @Test
+    void shouldRefresh_shouldNeverTrigger_whenDisabled() {
+        RefreshAhead disabled = new RefreshAhead(meterRegistry, false, Duration.ofHours(1), 1.0, 1, 1);
+        try {
+            assertFalse(disabled.isEnabled());
+            assertFalse(disabled.shouldRefresh(1));
+        } finally {
+            disabled.shutdown();
+        }
+    }
+
+    @Test
+    void submit_shouldDeduplicateRefreshesOfSameKey() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+
+        assertTrue(refreshAhead.submit("gene:TP53", () -> {
+            await(release);
+            done.countDown();
+        }));
+        assertFalse(refreshAhead.submit("gene:TP53", () -> fail("duplicate refresh must not run")));
+
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(1.0, meterRegistry.counter("cache.refresh_ahead.deduplicated").count());
+    }
+
+    @Test
+    void submit_shouldDropRefresh_whenQueueIsFull() {
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            assertTrue(refreshAhead.submit("gene:A", () -> await(release))); // occupies the single worker
+            assertTrue(refreshAhead.submit("gene:B", () -> { }));            // fills the single queue slot
+            assertFalse(refreshAhead.submit("gene:C", () -> { }));
+
+            assertEquals(1.0, meterRegistry.counter("cache.refresh_ahead.rejected").count());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.gene.sphere.geneservice.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight<String, String> singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>(meterRegistry, "test", Duration.ofSeconds(5));
+    }
+
+    @Test
+    void execute_shouldRunLoaderOnce_forConcurrentCallersOfSameKey() throws Exception {
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(pool.submit(() -> singleFlight.execute("gene:TP53", () -> {
+                loads.incrementAndGet();
+                leaderStarted.countDown();
+                await(releaseLeader);
+                return "TP53";
+            })));
+            assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+            for (int i = 1; i < callers; i++) {
+                results.add(pool.submit(() -> singleFlight.execute("gene:TP53", () -> {
+                    loads.incrementAndGet();
+                    return "DUPLICATE";
+                })));
+            }
+            // Wait until every follower has joined the flight before releasing the leader
+            while (meterRegistry.counter("cache.singleflight.followers", "name", "test").count() < callers - 1) {
+                Thread.onSpinWait();
+            }
+            releaseLeader.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("TP53", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+            assertEquals(0, singleFlight.inFlightCount());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_shouldStartNewFlight_afterPreviousCompleted() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.execute("gene:KRAS", () -> "v" + loads.incrementAndGet());
+        String second = singleFlight.execute("gene:KRAS", () -> "v" + loads.incrementAndGet());
+
+        assertEquals("v2", second);
+        assertEquals(2.0, meterRegistry.counter("cache.singleflight.leaders", "name", "test").count());
+    }
+
+    @Test
+    void execute_shouldPropagateLeaderFailure_andReleaseKey() {
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("gene:EGFR", () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.gene.sphere.geneservice.config;
+
+import org.apache.coyote.ProtocolHandler;
+import org.apache.coyote.http11.Http11NioProtocol;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadConfigTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void customizer_shouldRunRequestsOnVirtualThreads() throws Exception {
+        // ARRANGE
+        TomcatProtocolHandlerCustomizer<ProtocolHandler> customizer = (TomcatProtocolHandlerCustomizer<ProtocolHandler>)
+                new VirtualThreadConfig().virtualThreadProtocolHandlerCustomizer();
+        Http11NioProtocol protocol = new Http11NioProtocol();
+
+        // ACT
+        customizer.customize(protocol);
+        Executor executor = protocol.getExecutor();
+        CompletableFuture<Thread> thread = new CompletableFuture<>();
+        executor.execute(() -> thread.complete(Thread.currentThread()));
+
+        // ASSERT
+        Thread worker = thread.get(5, TimeUnit.SECONDS);
+        assertTrue(worker.isVirtual());
+        assertTrue(worker.getName().startsWith("http-virtual-"));
+    }
+}
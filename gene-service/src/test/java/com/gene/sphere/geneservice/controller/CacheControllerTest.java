@@ -1,5 +1,7 @@
 package com.gene.sphere.geneservice.controller;
 
+import com.gene.sphere.geneservice.cache.CacheClearJob;
+import com.gene.sphere.geneservice.cache.CacheClearJobService;
 import com.gene.sphere.geneservice.cache.ClearResult;
 import com.gene.sphere.geneservice.cache.RedisCacheService;
 import com.gene.sphere.geneservice.config.RedisHealthIndicator;
@@ -17,7 +19,9 @@ import org.springframework.test.web.servlet.MockMvc;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import java.util.List;
+import java.util.Optional;
 
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -31,6 +35,9 @@ class CacheControllerTest {
 
     @MockBean
     private RedisHealthIndicator redisHealthIndicator;
+
+    @MockBean
+    private CacheClearJobService clearJobService;
     
     @MockBean
     private JwtAuthenticationFilter jwtAuthenticationFilter;
@@ -126,6 +133,30 @@ class CacheControllerTest {
         verify(redisCacheService).searchGenesByPattern("TPP");
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    void searchGenes_ShouldUsePrefixSearch_WhenModeIsPrefix() throws Exception {
+        // Arrange
+        when(redisCacheService.searchGenesByPrefix("KR")).thenReturn(List.of(krasGeneRecord));
+
+        // Act and assert
+        mockMvc.perform(get("/api/cache/search?pattern=KR&mode=prefix"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("KRAS"));
+
+        verify(redisCacheService).searchGenesByPrefix("KR");
+        verify(redisCacheService, never()).searchGenesByPattern(anyString());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void searchGenes_ShouldReturnBadRequest_WhenModeIsUnknown() throws Exception {
+        mockMvc.perform(get("/api/cache/search?pattern=KR&mode=regex"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(redisCacheService);
+    }
+
     @Test
     @WithMockUser(roles = "USER")
     void searchGenes_ShouldReturnBadRequest_WhenPatternIsInvalid() throws Exception {
@@ -177,4 +208,42 @@ class CacheControllerTest {
                 .andExpect(jsonPath("$.deletedCount").value(0))
                 .andExpect(jsonPath("$.message").value("Failed to clear cache entries for pattern 'KRASS': Pattern must start with 'gene:' prefix for security"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void startClearJob_ShouldReturnAccepted_WithPendingJob() throws Exception {
+        // Arrange
+        when(clearJobService.submit("gene:BRCA*")).thenReturn(new CacheClearJob(
+                "job-1", "gene:BRCA*", CacheClearJob.State.PENDING, 0L, 1L, null, null));
+
+        // Act and assert
+        mockMvc.perform(post("/api/cache/clear-jobs?pattern=gene:BRCA*"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value("job-1"))
+                .andExpect(jsonPath("$.state").value("PENDING"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getClearJob_ShouldReturnProgressAndResult() throws Exception {
+        // Arrange
+        when(clearJobService.getJob("job-1")).thenReturn(Optional.of(new CacheClearJob(
+                "job-1", "gene:*", CacheClearJob.State.COMPLETED, 120_000L, 1L, 2L,
+                ClearResult.success(120_000L, "gene:*"))));
+
+        // Act and assert
+        mockMvc.perform(get("/api/cache/clear-jobs/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedCount").value(120000))
+                .andExpect(jsonPath("$.result.success").value(true));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getClearJob_ShouldReturnNotFound_WhenJobIsUnknown() throws Exception {
+        when(clearJobService.getJob("missing")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/cache/clear-jobs/missing"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -3,6 +3,7 @@ package com.gene.sphere.geneservice.controller;
 
 import com.gene.sphere.geneservice.cache.RedisCacheService;
 import com.gene.sphere.geneservice.config.RedisHealthIndicator;
+import com.gene.sphere.geneservice.model.CursorPage;
 import com.gene.sphere.geneservice.model.Gene;
 import com.gene.sphere.geneservice.model.GeneRecord;
 import com.gene.sphere.geneservice.security.JwtAuthenticationFilter;
@@ -18,6 +19,7 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.Mockito.verify;
@@ -124,4 +126,79 @@ class GeneControllerTest {
         // VERIFY: Service was called
         verify(geneService).getGeneByName("TP53");
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser
+    void autocomplete_shouldReturnSuggestions_fromSymbolIndex() throws Exception {
+        // ARRANGE
+        when(geneService.autocomplete("tp5", 10)).thenReturn(List.of("TP53", "TP53BP1"));
+
+        // ACT & ASSERT
+        mock.perform(get("/api/genes/autocomplete").param("q", "tp5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("TP53"))
+                .andExpect(jsonPath("$[1]").value("TP53BP1"));
+
+        verify(geneService).autocomplete("tp5", 10);
+    }
+
+    @Test
+    @WithMockUser
+    void autocomplete_shouldRejectBlankQueryOrInvalidLimit() throws Exception {
+        mock.perform(get("/api/genes/autocomplete").param("q", " "))
+                .andExpect(status().isBadRequest());
+        mock.perform(get("/api/genes/autocomplete").param("q", "tp").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        mock.perform(get("/api/genes/autocomplete").param("q", "tp").param("limit", "51"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    void searchGenes_shouldReturnRankedMatches_withRequestedLimit() throws Exception {
+        // ARRANGE
+        when(geneService.searchGenesByName("p53", 5)).thenReturn(List.of(tp53GeneRecord));
+
+        // ACT & ASSERT
+        mock.perform(get("/api/genes/search").param("q", "p53").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("TP53"));
+
+        verify(geneService).searchGenesByName("p53", 5);
+    }
+
+    @Test
+    @WithMockUser
+    void searchGenes_shouldReturnBadRequest_whenLimitIsRejected() throws Exception {
+        when(geneService.searchGenesByName("p53", 0)).thenThrow(new IllegalArgumentException("Limit must be between 1 and 1000"));
+
+        mock.perform(get("/api/genes/search").param("q", "p53").param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Limit must be between 1 and 1000"));
+    }
+
+    @Test
+    @WithMockUser
+    void getGenesPage_shouldReturnItemsAndNextCursor() throws Exception {
+        // ARRANGE
+        String cursor = CursorPage.encodeCursor(2);
+        when(geneService.getGenesPage(null, 2)).thenReturn(new CursorPage<>(List.of(tp53GeneRecord, krasGeneRecord), cursor));
+
+        // ACT & ASSERT
+        mock.perform(get("/api/genes").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].name").value("TP53"))
+                .andExpect(jsonPath("$.items[1].name").value("KRAS"))
+                .andExpect(jsonPath("$.nextCursor").value(cursor));
+    }
+
+    @Test
+    @WithMockUser
+    void getGenesPage_shouldReturnBadRequest_whenServiceRejectsArguments() throws Exception {
+        when(geneService.getGenesPage("bad", 100)).thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+        mock.perform(get("/api/genes").param("cursor", "bad"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid cursor"));
+    }
+}
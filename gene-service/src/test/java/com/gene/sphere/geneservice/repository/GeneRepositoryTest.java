@@ -209,6 +209,40 @@ class GeneRepositoryTest {
         assertTrue(result.stream().anyMatch(g -> "BRCA1".equals(g.getName())));
     }
 
+    // ===== TESTS FOR searchByName() (portable query on H2) =====
+
+    @Test
+    void searchByName_shouldRankShorterMatchesFirst_andApplyLimit() {
+        // ARRANGE
+        var tp53bp1Gene = new Gene();
+        tp53bp1Gene.setName("TP53BP1");
+        tp53bp1Gene.setDescription("TP53 binding protein 1");
+        entityManager.persistAndFlush(tp53bp1Gene);
+
+        // ACT
+        var result = geneRepository.searchByName("p53", 10);
+        var limited = geneRepository.searchByName("p53", 1);
+
+        // ASSERT
+        assertEquals(List.of("TP53", "TP53BP1"), result.stream().map(Gene::getName).toList());
+        assertEquals(1, limited.size());
+        assertEquals("TP53", limited.get(0).getName());
+    }
+
+    @Test
+    void searchByName_shouldMatchWildcardsLiterally_andIgnoreBlankFragments() {
+        assertTrue(geneRepository.searchByName("%", 10).isEmpty());
+        assertTrue(geneRepository.searchByName("_", 10).isEmpty());
+        assertTrue(geneRepository.searchByName(" ", 10).isEmpty());
+    }
+
+    @Test
+    void searchByName_shouldRejectInvalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> geneRepository.searchByName("TP53", 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> geneRepository.searchByName("TP53", GeneSearchRepository.MAX_SEARCH_LIMIT + 1));
+    }
+
     // ===== TESTS FOR JpaRepository inherited methods =====
 
     @Test
@@ -431,6 +465,34 @@ class GeneRepositoryTest {
         assertEquals(longDescription, saved.getDescription());
     }
 
+    // ===== TESTS FOR findAllByUpperNameIn() =====
+
+    @Test
+    void findAllByUpperNameIn_shouldReturnAllMatchingGenes_inOneQuery() {
+        // ACT
+        List<Gene> result = geneRepository.findAllByUpperNameIn(List.of("TP53", "KRAS", "NONEXISTENT"));
+
+        // ASSERT
+        assertEquals(2, result.size());
+        assertTrue(result.stream().anyMatch(g -> g.getName().equals("TP53")));
+        assertTrue(result.stream().anyMatch(g -> g.getName().equals("KRAS")));
+    }
+
+    @Test
+    void findAllByUpperNameIn_shouldMatchStoredNamesCaseInsensitively() {
+        // ARRANGE
+        var lowerCaseGene = new Gene();
+        lowerCaseGene.setName("Egfr");
+        entityManager.persistAndFlush(lowerCaseGene);
+
+        // ACT
+        List<Gene> result = geneRepository.findAllByUpperNameIn(List.of("EGFR"));
+
+        // ASSERT
+        assertEquals(1, result.size());
+        assertEquals("Egfr", result.get(0).getName());
+    }
+
     @Test
     void repository_shouldHandleSpecialCharacters() {
         // ARRANGE
@@ -0,0 +1,134 @@
+package com.gene.sphere.geneservice.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET =
+            "test-secret-test-secret-test-secret-test-secret-test-secret-test-secret-0123";
+
+    private JwtTokenProvider tokenProvider;
+    private VerifiedTokenCache tokenCache;
+    private UserDetailsService userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, 60_000);
+        tokenCache = new VerifiedTokenCache(tokenProvider, new SimpleMeterRegistry(), true, 100);
+        userDetailsService = mock(UserDetailsService.class);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void statelessMode_shouldAuthenticateFromClaimsWithoutUserLookup() throws Exception {
+        // ARRANGE
+        JwtAuthenticationFilter filter =
+                new JwtAuthenticationFilter(tokenCache, userDetailsService, JwtAuthenticationMode.STATELESS);
+        String token = tokenFor("admin", "ROLE_ADMIN", "ROLE_USER");
+
+        // ACT
+        filter.doFilter(requestWith(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        // ASSERT
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        assertEquals("admin", authentication.getName());
+        assertEquals(Set.of("ROLE_ADMIN", "ROLE_USER"), authorityNames(authentication));
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void userDetailsMode_shouldLoadUserFromStore() throws Exception {
+        // ARRANGE
+        JwtAuthenticationFilter filter =
+                new JwtAuthenticationFilter(tokenCache, userDetailsService, JwtAuthenticationMode.USER_DETAILS);
+        when(userDetailsService.loadUserByUsername("user"))
+                .thenReturn(User.withUsername("user").password("x").roles("USER").build());
+        // The store is authoritative in this mode, even if the token claims more
+        String token = tokenFor("user", "ROLE_ADMIN");
+
+        // ACT
+        filter.doFilter(requestWith(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        // ASSERT
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertEquals(Set.of("ROLE_USER"), authorityNames(authentication));
+        verify(userDetailsService).loadUserByUsername("user");
+    }
+
+    @Test
+    void shouldNotAuthenticateInvalidToken() throws Exception {
+        // ARRANGE
+        JwtAuthenticationFilter filter =
+                new JwtAuthenticationFilter(tokenCache, userDetailsService, JwtAuthenticationMode.STATELESS);
+        String token = tokenFor("admin", "ROLE_ADMIN") + "tampered";
+        MockFilterChain chain = new MockFilterChain();
+
+        // ACT
+        filter.doFilter(requestWith(token), new MockHttpServletResponse(), chain);
+
+        // ASSERT
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertNotNull(chain.getRequest(), "request should continue down the chain");
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    void getAuthorities_shouldReturnEmptyListWhenTokenHasNoRoles() {
+        // ARRANGE
+        String token = tokenFor("nobody");
+
+        // ACT
+        List<GrantedAuthority> authorities =
+                JwtTokenProvider.getAuthorities(tokenProvider.parseClaims(token).orElseThrow());
+
+        // ASSERT
+        assertTrue(authorities.isEmpty());
+    }
+
+    private String tokenFor(String username, String... roles) {
+        List<SimpleGrantedAuthority> authorities = Arrays.stream(roles)
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+        return tokenProvider.generateToken(new UsernamePasswordAuthenticationToken(username, null, authorities));
+    }
+
+    private static MockHttpServletRequest requestWith(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/genes/TP53");
+        request.setServletPath("/api/genes/TP53");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private static Set<String> authorityNames(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet());
+    }
+}
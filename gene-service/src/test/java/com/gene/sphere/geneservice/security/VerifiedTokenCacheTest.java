@@ -0,0 +1,94 @@
+package com.gene.sphere.geneservice.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET =
+            "test-secret-test-secret-test-secret-test-secret-test-secret-test-secret-0123";
+
+    @Test
+    void verify_shouldParseRepeatedTokenOnlyOnce() {
+        // ARRANGE
+        JwtTokenProvider tokenProvider = spy(new JwtTokenProvider(SECRET, 60_000));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VerifiedTokenCache cache = new VerifiedTokenCache(tokenProvider, meterRegistry, true, 100);
+        String token = tokenFor(tokenProvider, "admin", "ROLE_ADMIN");
+
+        // ACT
+        Optional<VerifiedToken> first = cache.verify(token);
+        Optional<VerifiedToken> second = cache.verify(token);
+
+        // ASSERT
+        assertTrue(first.isPresent());
+        assertEquals(first, second);
+        assertEquals("admin", second.get().username());
+        assertEquals(List.of("ROLE_ADMIN"),
+                second.get().authorities().stream().map(GrantedAuthority::getAuthority).toList());
+        verify(tokenProvider, times(1)).parseClaims(token);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "jwt.verified").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void verify_shouldNotCacheInvalidTokens() {
+        // ARRANGE
+        JwtTokenProvider tokenProvider = spy(new JwtTokenProvider(SECRET, 60_000));
+        VerifiedTokenCache cache = new VerifiedTokenCache(tokenProvider, new SimpleMeterRegistry(), true, 100);
+        String forged = tokenFor(tokenProvider, "admin", "ROLE_ADMIN") + "x";
+
+        // ACT
+        Optional<VerifiedToken> first = cache.verify(forged);
+        Optional<VerifiedToken> second = cache.verify(forged);
+
+        // ASSERT
+        assertTrue(first.isEmpty());
+        assertTrue(second.isEmpty());
+        verify(tokenProvider, times(2)).parseClaims(forged);
+    }
+
+    @Test
+    void verify_shouldStopServingTokenAfterItsExpiry() throws InterruptedException {
+        // ARRANGE - exp has second precision, so a 1s token expires within the next second
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET, 1_000);
+        VerifiedTokenCache cache = new VerifiedTokenCache(tokenProvider, new SimpleMeterRegistry(), true, 100);
+        String token = tokenFor(tokenProvider, "user", "ROLE_USER");
+        cache.verify(token);
+
+        // ACT
+        Thread.sleep(1_100);
+
+        // ASSERT
+        assertTrue(cache.verify(token).isEmpty());
+    }
+
+    @Test
+    void verify_shouldParseEveryTimeWhenDisabled() {
+        // ARRANGE
+        JwtTokenProvider tokenProvider = spy(new JwtTokenProvider(SECRET, 60_000));
+        VerifiedTokenCache cache = new VerifiedTokenCache(tokenProvider, new SimpleMeterRegistry(), false, 100);
+        String token = tokenFor(tokenProvider, "user", "ROLE_USER");
+
+        // ACT
+        cache.verify(token);
+        cache.verify(token);
+
+        // ASSERT
+        verify(tokenProvider, times(2)).parseClaims(token);
+    }
+
+    private static String tokenFor(JwtTokenProvider tokenProvider, String username, String role) {
+        return tokenProvider.generateToken(new UsernamePasswordAuthenticationToken(
+                username, null, List.of(new SimpleGrantedAuthority(role))));
+    }
+}
@@ -1,6 +1,7 @@
 package com.gene.sphere.geneservice.service;
 
 import com.gene.sphere.geneservice.factory.GeneFactory;
+import com.gene.sphere.geneservice.model.CursorPage;
 import com.gene.sphere.geneservice.model.Gene;
 import com.gene.sphere.geneservice.model.GeneRecord;
 import com.gene.sphere.geneservice.repository.GeneRepository;
@@ -9,6 +10,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -23,6 +26,8 @@ class GeneServiceTest {
     private GeneRepository geneRepository;
     @Mock
     private GeneFactory geneFactory;
+    @Mock
+    private GeneSymbolIndex symbolIndex;
     @InjectMocks
     private GeneService geneService;
 
@@ -112,6 +117,31 @@ class GeneServiceTest {
         verify(geneFactory).toDto(tp53Gene);
     }
 
+    @Test
+    void getGenesByNames_shouldUppercaseNames_andUseSingleQuery() {
+        // ARRANGE
+        when(geneRepository.findAllByUpperNameIn(List.of("TP53", "KRAS"))).thenReturn(List.of(tp53Gene, krasGene));
+        when(geneFactory.toDto(tp53Gene)).thenReturn(tp53GeneRecord);
+        when(geneFactory.toDto(krasGene)).thenReturn(krasGeneRecord);
+
+        // ACT
+        List<GeneRecord> result = geneService.getGenesByNames(List.of("tp53", "KRAS", "Tp53"));
+
+        // ASSERT
+        assertEquals(List.of(tp53GeneRecord, krasGeneRecord), result);
+        verify(geneRepository, times(1)).findAllByUpperNameIn(List.of("TP53", "KRAS"));
+    }
+
+    @Test
+    void getGenesByNames_shouldNotQuery_whenNoNamesGiven() {
+        // ACT
+        List<GeneRecord> result = geneService.getGenesByNames(List.of());
+
+        // ASSERT
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(geneRepository);
+    }
+
     @Test
     void getGeneByName_shouldReturnEmpty_whenNameNotFound() {
         // ARRANGE - Set up test conditions
@@ -155,6 +185,32 @@ class GeneServiceTest {
         verifyNoInteractions(geneFactory);
     }
 
+    @Test
+    void deleteGene_shouldRemoveNameFromAutocompleteIndex_whenGeneExists() {
+        // ARRANGE
+        when(geneRepository.findById(tp53Gene.getId())).thenReturn(Optional.of(tp53Gene));
+
+        // ACT
+        geneService.deleteGene(tp53Gene.getId());
+
+        // ASSERT
+        verify(geneRepository).deleteById(tp53Gene.getId());
+        verify(symbolIndex).remove("TP53");
+    }
+
+    @Test
+    void autocomplete_shouldDelegateToSymbolIndex_withoutQueryingRepository() {
+        // ARRANGE
+        when(symbolIndex.suggest("tp", 10)).thenReturn(List.of("TP53", "TP63"));
+
+        // ACT
+        List<String> result = geneService.autocomplete("tp", 10);
+
+        // ASSERT
+        assertEquals(List.of("TP53", "TP63"), result);
+        verifyNoInteractions(geneRepository);
+    }
+
     @Test
     void getAllGenes_shouldReturnGenes_WhenGenesAreFound() {
         // ARRANGE - Set up test conditions
@@ -258,6 +314,7 @@ class GeneServiceTest {
         verify(geneFactory).fromDto(inputData);
         verify(geneRepository).save(newGene);
         verify(geneFactory).toDto(savedGene);
+        verify(symbolIndex).add("BRCA1");
     }
 
 
@@ -337,4 +394,28 @@ class GeneServiceTest {
         verify(geneRepository, never()).save(any(Gene.class));
         verifyNoInteractions(geneFactory);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getGenesPage_shouldReturnCursorOfLastGene_whenMorePagesFollow() {
+        // ARRANGE
+        when(geneRepository.findByIdGreaterThanOrderByIdAsc(0, PageRequest.of(0, 2)))
+                .thenReturn(new SliceImpl<>(List.of(tp53Gene, krasGene), PageRequest.of(0, 2), true));
+        when(geneFactory.toDto(tp53Gene)).thenReturn(tp53GeneRecord);
+        when(geneFactory.toDto(krasGene)).thenReturn(krasGeneRecord);
+
+        // ACT
+        CursorPage<GeneRecord> page = geneService.getGenesPage(null, 2);
+
+        // ASSERT
+        assertEquals(List.of(tp53GeneRecord, krasGeneRecord), page.items());
+        assertEquals(krasGene.getId(), CursorPage.decodeCursor(page.nextCursor()));
+    }
+
+    @Test
+    void getGenesPage_shouldRejectInvalidSizeOrCursor() {
+        assertThrows(IllegalArgumentException.class, () -> geneService.getGenesPage(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> geneService.getGenesPage(null, GeneService.MAX_PAGE_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> geneService.getGenesPage("not-a-cursor", 10));
+        verifyNoInteractions(geneRepository);
+    }
+}
@@ -0,0 +1,173 @@
+package com.gene.sphere.geneservice.service;
+
+import com.gene.sphere.geneservice.repository.GeneRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class GeneSymbolIndexTest {
+
+    private GeneRepository geneRepository;
+    private GeneSymbolIndex index;
+
+    @BeforeEach
+    void setUp() {
+        geneRepository = mock(GeneRepository.class);
+        index = new GeneSymbolIndex(geneRepository, new SimpleMeterRegistry(), 2, Duration.ZERO);
+        when(geneRepository.findAllNames()).thenReturn(List.of("TP53", "tp53bp1", "TP63", "KRAS", "BRCA1", "BRCA2"));
+        index.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+    }
+
+    @Test
+    void rebuild_shouldNormalizeAndDeduplicateNames() {
+        assertEquals(6, index.size());
+        assertEquals(List.of("TP53", "TP53BP1"), index.suggest("tp53", 2));
+    }
+
+    @Test
+    void suggest_shouldReturnPrefixMatchesInOrder_upToLimit() {
+        assertEquals(List.of("BRCA1", "BRCA2"), index.suggest("brc", 10));
+        assertEquals(List.of("BRCA1"), index.suggest("BRC", 1));
+    }
+
+    @Test
+    void suggest_shouldAddFuzzyMatches_whenPrefixMatchesRunShort() {
+        // "TP35" is one transposed digit away from a prefix of TP53
+        List<String> suggestions = index.suggest("TP35", 10);
+
+        assertTrue(suggestions.contains("TP53"), suggestions.toString());
+        assertFalse(suggestions.contains("KRAS"));
+    }
+
+    @Test
+    void suggest_shouldNotFuzzMatch_veryShortQueries() {
+        assertEquals(List.of(), index.suggest("XR", 10));
+        assertEquals(List.of(), index.suggest(" ", 10));
+    }
+
+    @Test
+    void addAndRemove_shouldUpdateIndexWithoutRebuild() {
+        index.add("tp73");
+        index.add("TP73");
+        assertEquals(List.of("TP53", "TP53BP1", "TP63", "TP73"), index.suggest("TP", 10));
+
+        index.remove("TP63");
+        assertEquals(List.of("TP53", "TP53BP1", "TP73"), index.suggest("TP", 10));
+        verify(geneRepository, times(1)).findAllNames();
+    }
+
+    @Test
+    void rebuild_shouldKeepPreviousIndex_whenRepositoryFails() {
+        when(geneRepository.findAllNames()).thenThrow(new IllegalStateException("db down"));
+
+        index.rebuild();
+
+        assertEquals(6, index.size());
+    }
+
+    @Test
+    void suggest_shouldOrderFuzzyMatchesByDistance_andStopAtLimit() {
+        // ARRANGE
+        index.replaceAll(List.of("ARCA1", "BRCA1", "BRCA11", "BRCA2", "BRCB1", "KRAS"));
+
+        // ACT & ASSERT
+        // BRCA1 and BRCA11 are one edit from "BRCA1X"; ARCA1, BRCA2 and BRCB1 are two
+        assertEquals(List.of("BRCA1", "BRCA11", "ARCA1", "BRCA2", "BRCB1"), index.suggest("BRCA1X", 10));
+        assertEquals(List.of("BRCA1", "BRCA11", "ARCA1"), index.suggest("BRCA1X", 3));
+    }
+
+    @Test
+    void suggest_shouldMatchExhaustivePrefixDistanceSearch() {
+        // ARRANGE
+        Random random = new Random(42);
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            names.add(randomSymbol(random));
+        }
+        index.replaceAll(names);
+        List<String> symbols = names.stream().distinct().sorted().toList();
+
+        for (int q = 0; q < 300; q++) {
+            String query = randomSymbol(random);
+            int limit = 1 + random.nextInt(12);
+
+            // ACT
+            List<String> suggestions = index.suggest(query, limit);
+
+            // ASSERT
+            assertEquals(exhaustiveSuggest(symbols, query, limit), suggestions, query);
+        }
+    }
+
+    private static String randomSymbol(Random random) {
+        // Small alphabet so that near misses are common
+        String alphabet = "ABCK1";
+        int length = 3 + random.nextInt(5);
+        StringBuilder symbol = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            symbol.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return symbol.toString();
+    }
+
+    /**
+     * Reference implementation: prefix matches, then every symbol bucketed by the edit distance of
+     * its closest prefix, with the same per-length typo allowance as the index.
+     */
+    private static List<String> exhaustiveSuggest(List<String> symbols, String query, int limit) {
+        int maxDistance = query.length() <= 2 ? 0 : query.length() <= 5 ? 1 : 2;
+        List<String> result = new ArrayList<>();
+        for (String symbol : symbols) {
+            if (symbol.startsWith(query) && result.size() < limit) {
+                result.add(symbol);
+            }
+        }
+        for (int distance = 1; distance <= maxDistance; distance++) {
+            for (String symbol : symbols) {
+                if (result.size() < limit && !symbol.startsWith(query) && prefixDistance(query, symbol) == distance) {
+                    result.add(symbol);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static int prefixDistance(String query, String symbol) {
+        int best = Integer.MAX_VALUE;
+        for (int length = 0; length <= symbol.length(); length++) {
+            best = Math.min(best, levenshtein(query, symbol.substring(0, length)));
+        }
+        return best;
+    }
+
+    private static int levenshtein(String a, String b) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            d[i][0] = i;
+        }
+        for (int j = 0; j <= b.length(); j++) {
+            d[0][j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = d[i - 1][j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                d[i][j] = Math.min(substitution, Math.min(d[i - 1][j], d[i][j - 1]) + 1);
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+}
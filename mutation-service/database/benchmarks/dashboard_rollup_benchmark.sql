@@ -0,0 +1,166 @@
+-- =====================================================
+-- Benchmark: Dashboard Aggregates Before/After Rollup Tables
+-- =====================================================
+-- Generates a synthetic copy of the mutations table (5 million rows by
+-- default) in its own schema, then captures the query plans of the dashboard
+-- aggregates computed from the mutations table (as the views in
+-- gene-service/database/views/create_dashboard_views.sql do) and read from
+-- the rollup tables of scripts/create_mutation_rollups.sql.
+--
+-- Usage (run from mutation-service/):
+--   psql -d genesphere -v rows=5000000 -f database/benchmarks/dashboard_rollup_benchmark.sql
+--
+-- Expected plan change:
+--   before: Parallel Seq Scan on mutations -> Sort -> GroupAggregate, plus a
+--           second full scan for every COUNT(DISTINCT sample_id) subquery
+--   after:  Index Scan using idx_mutation_gene_rollup_mutations ... rows=20
+--           Index Scan using mutation_gene_rollup_pkey / totals seq scan of 1 row
+-- The last section measures what the triggers add to writes: a 100,000 row
+-- INSERT and DELETE with and without them.
+-- Compare "Execution Time" and "Buffers: shared hit/read" between the runs.
+-- Drop the schema afterwards: DROP SCHEMA mutation_rollup_bench CASCADE;
+
+\set ON_ERROR_STOP on
+\if :{?rows}
+\else
+    \set rows 5000000
+\endif
+\timing on
+
+DROP SCHEMA IF EXISTS mutation_rollup_bench CASCADE;
+CREATE SCHEMA mutation_rollup_bench;
+SET search_path = mutation_rollup_bench, public;
+
+CREATE TABLE mutations (
+    id BIGSERIAL PRIMARY KEY,
+    gene_name VARCHAR(50) NOT NULL,
+    chromosome VARCHAR(5) NOT NULL,
+    position BIGINT NOT NULL,
+    reference_allele VARCHAR(1000) NOT NULL,
+    alternate_allele VARCHAR(1000) NOT NULL,
+    mutation_type VARCHAR(50) NOT NULL,
+    patient_id VARCHAR(100) NOT NULL,
+    sample_id VARCHAR(100),
+    protein_change VARCHAR(100),
+    cancer_type VARCHAR(100) NOT NULL,
+    clinical_significance VARCHAR(50),
+    allele_frequency DECIMAL(5,4)
+);
+
+-- ~20,000 genes with real drivers over-represented, ~10,000 samples
+INSERT INTO mutations (gene_name, chromosome, position, reference_allele, alternate_allele,
+                       mutation_type, patient_id, sample_id, protein_change, cancer_type,
+                       clinical_significance, allele_frequency)
+SELECT CASE WHEN g % 10 = 0
+                THEN (ARRAY['TP53', 'KRAS', 'EGFR', 'STK11', 'KEAP1', 'NF1', 'BRAF', 'PIK3CA', 'TP53BP1', 'ALK'])[1 + (g / 10) % 10]
+                ELSE 'G' || lpad(to_hex(g % 20000), 4, '0') || chr(65 + g % 26)
+           END,
+       (1 + g % 22)::text,
+       1 + (g::bigint * 7919) % 248956422,
+       (ARRAY['A', 'C', 'G', 'T'])[1 + g % 4],
+       (ARRAY['C', 'G', 'T', 'A'])[1 + g % 4],
+       (ARRAY['SNV', 'deletion', 'insertion'])[1 + g % 3],
+       'TCGA-' || lpad((g % 9973)::text, 4, '0'),
+       'TCGA-' || lpad((g % 9973)::text, 4, '0') || '-01',
+       'p.' || chr(65 + g % 26) || (1 + g % 1200) || chr(65 + (g / 26) % 26),
+       (ARRAY['Lung Adenocarcinoma', 'Lung Squamous Cell Carcinoma', 'Small Cell Lung Cancer'])[1 + g % 3],
+       (ARRAY['Pathogenic', 'Likely Pathogenic', 'Uncertain Significance', NULL])[1 + g % 4],
+       round((g % 10000) / 10000.0, 4)
+FROM generate_series(1, :rows) AS g;
+
+-- Indexes that existed before (create_mutations_table.sql)
+CREATE INDEX idx_mutations_gene ON mutations (gene_name);
+CREATE INDEX idx_mutations_sample ON mutations (sample_id);
+CREATE INDEX idx_mutations_type ON mutations (mutation_type);
+ANALYZE mutations;
+
+-- ==================== BEFORE ====================
+
+-- top_mutated_genes
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT gene_name, COUNT(*) AS mutation_count, COUNT(DISTINCT sample_id) AS sample_count,
+       ROUND((COUNT(DISTINCT sample_id)::numeric / (SELECT COUNT(DISTINCT sample_id) FROM mutations) * 100), 2)
+FROM mutations GROUP BY gene_name ORDER BY mutation_count DESC LIMIT 20;
+
+-- gene_mutation_stats, one gene
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT gene_name, COUNT(*), COUNT(DISTINCT sample_id),
+       ROUND((COUNT(DISTINCT sample_id)::numeric / (SELECT COUNT(DISTINCT sample_id) FROM mutations) * 100), 2),
+       STRING_AGG(DISTINCT mutation_type, ', ')
+FROM mutations WHERE gene_name = 'KRAS' GROUP BY gene_name;
+
+-- mutation_type_distribution
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT mutation_type, COUNT(*),
+       ROUND((COUNT(*)::numeric / (SELECT COUNT(*) FROM mutations) * 100), 2)
+FROM mutations GROUP BY mutation_type ORDER BY 2 DESC;
+
+-- sample_mutation_burden
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT sample_id, COUNT(*) AS mutation_count, COUNT(DISTINCT gene_name)
+FROM mutations GROUP BY sample_id ORDER BY mutation_count DESC LIMIT 100;
+
+-- Trigger-free write cost, for the comparison below
+EXPLAIN (ANALYZE, BUFFERS)
+INSERT INTO mutations (gene_name, chromosome, position, reference_allele, alternate_allele,
+                       mutation_type, patient_id, sample_id, cancer_type)
+SELECT 'G' || lpad(to_hex(g % 20000), 4, '0') || 'Z', '1', g, 'A', 'T', 'SNV',
+       'BENCH-' || (g % 500), 'BENCH-' || (g % 500) || '-01', 'Lung Adenocarcinoma'
+FROM generate_series(1, 100000) AS g;
+
+EXPLAIN (ANALYZE, BUFFERS)
+DELETE FROM mutations WHERE patient_id LIKE 'BENCH-%';
+
+-- ==================== AFTER ====================
+
+-- Creates the rollup tables and triggers in this schema and backfills them
+\ir ../scripts/create_mutation_rollups.sql
+
+-- top_mutated_genes
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT r.gene_name, r.mutation_count, r.sample_count,
+       ROUND(r.sample_count::numeric / NULLIF(t.sample_count, 0) * 100, 2)
+FROM mutation_gene_rollup r CROSS JOIN mutation_rollup_totals t
+ORDER BY r.mutation_count DESC, r.gene_name LIMIT 20;
+
+-- gene_mutation_stats, one gene
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT r.gene_name, r.mutation_count, r.sample_count,
+       ROUND(r.sample_count::numeric / NULLIF(t.sample_count, 0) * 100, 2),
+       (SELECT STRING_AGG(mutation_type, ', ') FROM mutation_gene_type_counts c WHERE c.gene_name = r.gene_name)
+FROM mutation_gene_rollup r CROSS JOIN mutation_rollup_totals t
+WHERE r.gene_name = 'KRAS';
+
+-- mutation_type_distribution
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT r.mutation_type, r.mutation_count,
+       ROUND(r.mutation_count::numeric / NULLIF(t.mutation_count, 0) * 100, 2)
+FROM mutation_type_rollup r CROSS JOIN mutation_rollup_totals t
+ORDER BY r.mutation_count DESC;
+
+-- sample_mutation_burden
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT sample_id, mutation_count, gene_count
+FROM mutation_sample_rollup ORDER BY mutation_count DESC, sample_id LIMIT 100;
+
+-- Write cost with the triggers maintaining the rollups
+EXPLAIN (ANALYZE, BUFFERS)
+INSERT INTO mutations (gene_name, chromosome, position, reference_allele, alternate_allele,
+                       mutation_type, patient_id, sample_id, cancer_type)
+SELECT 'G' || lpad(to_hex(g % 20000), 4, '0') || 'Z', '1', g, 'A', 'T', 'SNV',
+       'BENCH-' || (g % 500), 'BENCH-' || (g % 500) || '-01', 'Lung Adenocarcinoma'
+FROM generate_series(1, 100000) AS g;
+
+EXPLAIN (ANALYZE, BUFFERS)
+DELETE FROM mutations WHERE patient_id LIKE 'BENCH-%';
+
+-- Correctness after the incremental inserts and deletes: both rows must be equal
+SELECT mutation_count, sample_count, gene_count FROM mutation_rollup_totals
+UNION ALL
+SELECT COUNT(*), COUNT(DISTINCT COALESCE(sample_id, patient_id)), COUNT(DISTINCT gene_name) FROM mutations;
+
+-- Rollup sizes, to weigh against the query speedup
+SELECT relname, pg_size_pretty(pg_total_relation_size(relid)) AS size
+FROM pg_stat_user_tables WHERE schemaname = 'mutation_rollup_bench' ORDER BY relname;
+
+RESET search_path;
@@ -0,0 +1,109 @@
+-- =====================================================
+-- Benchmark: Substring Search Before/After Trigram Indexes
+-- =====================================================
+-- Generates a synthetic copy of the mutations table (5 million rows by
+-- default) in its own schema, then captures the query plans of the gene and
+-- cancer type searches without and with the indexes from
+-- scripts/add_search_indexes.sql.
+--
+-- Usage:
+--   psql -d genesphere -v rows=5000000 -f database/benchmarks/trigram_search_benchmark.sql
+--
+-- Expected plan change for the filtered searches:
+--   before: Seq Scan on mutations ... Filter: (lower(gene_name) ~~ '%tp5%')
+--   after:  Bitmap Heap Scan on mutations
+--             -> Bitmap Index Scan on idx_mutations_gene_trgm
+-- Compare "Execution Time" and "Buffers: shared hit/read" between the two runs.
+-- Drop the schema afterwards: DROP SCHEMA mutation_search_bench CASCADE;
+
+\set ON_ERROR_STOP on
+\if :{?rows}
+\else
+    \set rows 5000000
+\endif
+\timing on
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+DROP SCHEMA IF EXISTS mutation_search_bench CASCADE;
+CREATE SCHEMA mutation_search_bench;
+SET search_path = mutation_search_bench, public;
+
+CREATE TABLE mutations (
+    id BIGSERIAL PRIMARY KEY,
+    gene_name VARCHAR(50) NOT NULL,
+    chromosome VARCHAR(5) NOT NULL,
+    position BIGINT NOT NULL,
+    reference_allele VARCHAR(1000) NOT NULL,
+    alternate_allele VARCHAR(1000) NOT NULL,
+    mutation_type VARCHAR(50) NOT NULL,
+    patient_id VARCHAR(100) NOT NULL,
+    sample_id VARCHAR(100),
+    protein_change VARCHAR(100),
+    cancer_type VARCHAR(100) NOT NULL,
+    clinical_significance VARCHAR(50),
+    allele_frequency DECIMAL(5,4)
+);
+
+-- ~20,000 distinct synthetic symbols plus real driver genes, skewed like real cohorts
+INSERT INTO mutations (gene_name, chromosome, position, reference_allele, alternate_allele,
+                       mutation_type, patient_id, sample_id, protein_change, cancer_type,
+                       clinical_significance, allele_frequency)
+SELECT CASE WHEN g % 10 = 0
+                THEN (ARRAY['TP53', 'KRAS', 'EGFR', 'STK11', 'KEAP1', 'NF1', 'BRAF', 'PIK3CA', 'TP53BP1', 'ALK'])[1 + (g / 10) % 10]
+                ELSE 'G' || lpad(to_hex(g % 20000), 4, '0') || chr(65 + g % 26)
+           END,
+       (1 + g % 22)::text,
+       1 + (g::bigint * 7919) % 248956422,
+       (ARRAY['A', 'C', 'G', 'T'])[1 + g % 4],
+       (ARRAY['C', 'G', 'T', 'A'])[1 + g % 4],
+       (ARRAY['SNV', 'deletion', 'insertion'])[1 + g % 3],
+       'TCGA-' || lpad((g % 1000)::text, 2, '0') || '-' || lpad((g % 9973)::text, 4, '0') || '-01',
+       'TCGA-' || lpad((g % 1000)::text, 2, '0') || '-' || lpad((g % 9973)::text, 4, '0') || '-01',
+       'p.' || chr(65 + g % 26) || (1 + g % 1200) || chr(65 + (g / 26) % 26),
+       (ARRAY['Lung Adenocarcinoma', 'Lung Squamous Cell Carcinoma', 'Small Cell Lung Cancer'])[1 + g % 3],
+       (ARRAY['Pathogenic', 'Likely Pathogenic', 'Uncertain Significance', NULL])[1 + g % 4],
+       round((g % 10000) / 10000.0, 4)
+FROM generate_series(1, :rows) AS g;
+
+-- Indexes that existed before (create_mutations_table.sql)
+CREATE INDEX idx_mutations_gene ON mutations (gene_name);
+CREATE INDEX idx_mutations_cancer_type ON mutations (cancer_type);
+ANALYZE mutations;
+
+-- ==================== BEFORE ====================
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM mutations WHERE lower(gene_name) LIKE '%tp5%' ESCAPE '!'
+ORDER BY LENGTH(gene_name), gene_name, id LIMIT 100;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM mutations WHERE lower(cancer_type) LIKE '%squamous%' ESCAPE '!'
+ORDER BY LENGTH(cancer_type), cancer_type, id LIMIT 100;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM mutations WHERE lower(gene_name) = lower('STK11');
+
+-- ==================== AFTER ====================
+
+CREATE INDEX idx_mutations_gene_trgm ON mutations USING gin (lower(gene_name) gin_trgm_ops);
+CREATE INDEX idx_mutations_cancer_type_trgm ON mutations USING gin (lower(cancer_type) gin_trgm_ops);
+CREATE INDEX idx_mutations_gene_lower ON mutations (lower(gene_name));
+ANALYZE mutations;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM mutations WHERE lower(gene_name) LIKE '%tp5%' ESCAPE '!'
+ORDER BY similarity(lower(gene_name), 'tp5') DESC, gene_name, id LIMIT 100;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM mutations WHERE lower(cancer_type) LIKE '%squamous%' ESCAPE '!'
+ORDER BY similarity(lower(cancer_type), 'squamous') DESC, cancer_type, id LIMIT 100;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM mutations WHERE lower(gene_name) = lower('STK11');
+
+-- Index sizes, to weigh against the query speedup
+SELECT indexrelname, pg_size_pretty(pg_relation_size(indexrelid)) AS size
+FROM pg_stat_user_indexes WHERE schemaname = 'mutation_search_bench' ORDER BY indexrelname;
+
+RESET search_path;
@@ -0,0 +1,38 @@
+-- =====================================================
+-- Substring Search Indexes for Mutations
+-- =====================================================
+-- Run after create_mutations_table.sql. Safe to re-run.
+--
+-- Case-insensitive substring filters (LOWER(col) LIKE '%x%') cannot use the
+-- B-tree indexes from create_mutations_table.sql, so every search was a
+-- sequential scan of the whole table. pg_trgm GIN indexes on lower(col) let
+-- PostgreSQL answer them with a bitmap index scan; the lower() B-tree indexes
+-- serve the case-insensitive equality lookups (LOWER(col) = LOWER(:value)).
+--
+-- CONCURRENTLY avoids locking out writes while the indexes build, so each
+-- statement must run outside a transaction block (psql autocommit is fine).
+-- See database/benchmarks/trigram_search_benchmark.sql for the plan change.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Substring search: searchByGeneName / findByGeneNameContainingIgnoreCase
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_mutations_gene_trgm
+    ON mutations USING gin (lower(gene_name) gin_trgm_ops);
+
+-- Substring search: searchByCancerType / findByCancerTypeContainingIgnoreCase
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_mutations_cancer_type_trgm
+    ON mutations USING gin (lower(cancer_type) gin_trgm_ops);
+
+-- Case-insensitive equality: findByGeneNameCaseInsensitive, findByGeneNameAndClinicalSignificance
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_mutations_gene_lower
+    ON mutations (lower(gene_name));
+
+-- Case-insensitive equality: findByProteinChange, existsByGeneNameAndProteinChange
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_mutations_protein_change_lower
+    ON mutations (lower(protein_change));
+
+-- Refresh statistics so the planner picks up the expression indexes
+ANALYZE mutations;
+
+-- Verification query
+SELECT indexname, indexdef FROM pg_indexes WHERE tablename = 'mutations' ORDER BY indexname;
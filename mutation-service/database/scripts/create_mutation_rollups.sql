@@ -0,0 +1,305 @@
+-- =====================================================
+-- Incrementally Maintained Dashboard Rollups
+-- =====================================================
+-- Run after create_mutations_table.sql. Safe to re-run.
+--
+-- The dashboard views (gene_mutation_stats, mutation_type_distribution,
+-- top_mutated_genes, sample_mutation_burden) aggregate the whole mutations
+-- table on every load, and each percentage repeats
+-- SELECT COUNT(DISTINCT sample_id) FROM mutations as a subquery. These tables
+-- hold the same aggregates, so the dashboard reads become index lookups:
+--
+--   mutation_gene_rollup      per gene: mutations, distinct samples
+--   mutation_gene_type_counts per gene and mutation type: mutations
+--   mutation_type_rollup      per mutation type: mutations
+--   mutation_sample_rollup    per sample: mutations, distinct genes
+--   mutation_rollup_totals    one row: mutations, samples, genes
+--
+-- Distinct counts cannot be maintained from a delta alone, so
+-- mutation_gene_sample_counts keeps the number of mutations per
+-- (gene, sample). A gene's sample count changes only when one of its pairs
+-- goes from 0 to 1 mutations or back, and likewise for a sample's gene count.
+--
+-- Maintenance is done by statement-level triggers with transition tables, so
+-- every write path is covered with one call per statement rather than per row:
+-- JPA saves and deletes, and the COPY ingestion's
+-- INSERT ... ON CONFLICT DO UPDATE (which fires both the INSERT and the UPDATE
+-- trigger). The deltas are applied in the writer's transaction, so the rollups
+-- are exactly as consistent as the mutations table.
+--
+-- Notes:
+--   * The sample key is COALESCE(sample_id, patient_id), as in the in-memory
+--     mutation matrix; rows without a sample id count as their patient.
+--   * Every write statement updates the single totals row, so concurrent
+--     writers serialize on it until commit. Writes are single rows from the
+--     API or one ingestion job at a time, so this is not a bottleneck today.
+--   * Deltas are applied in key order to avoid deadlocks between writers.
+--   * TRUNCATE mutations empties the rollups. Any other bulk change made with
+--     the triggers disabled must be followed by SELECT mutation_rollups_rebuild();
+--
+-- Installing this script backfills the rollups under a SHARE lock on
+-- mutations (reads continue, writes wait). See
+-- database/benchmarks/dashboard_rollup_benchmark.sql for the plan change.
+
+-- ==================== TABLES ====================
+
+CREATE TABLE IF NOT EXISTS mutation_gene_sample_counts (
+    gene_name VARCHAR(50) NOT NULL,
+    sample_id VARCHAR(100) NOT NULL,
+    mutation_count BIGINT NOT NULL,
+    PRIMARY KEY (gene_name, sample_id)
+);
+
+CREATE TABLE IF NOT EXISTS mutation_gene_rollup (
+    gene_name VARCHAR(50) PRIMARY KEY,
+    mutation_count BIGINT NOT NULL,
+    sample_count BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS mutation_gene_type_counts (
+    gene_name VARCHAR(50) NOT NULL,
+    mutation_type VARCHAR(50) NOT NULL,
+    mutation_count BIGINT NOT NULL,
+    PRIMARY KEY (gene_name, mutation_type)
+);
+
+CREATE TABLE IF NOT EXISTS mutation_type_rollup (
+    mutation_type VARCHAR(50) PRIMARY KEY,
+    mutation_count BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS mutation_sample_rollup (
+    sample_id VARCHAR(100) PRIMARY KEY,
+    mutation_count BIGINT NOT NULL,
+    gene_count BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS mutation_rollup_totals (
+    id BOOLEAN PRIMARY KEY DEFAULT TRUE CHECK (id),
+    mutation_count BIGINT NOT NULL,
+    sample_count BIGINT NOT NULL,
+    gene_count BIGINT NOT NULL
+);
+
+-- Top-N reads: ORDER BY ... DESC LIMIT n walks these indexes
+CREATE INDEX IF NOT EXISTS idx_mutation_gene_rollup_mutations
+    ON mutation_gene_rollup (mutation_count DESC, gene_name);
+CREATE INDEX IF NOT EXISTS idx_mutation_gene_rollup_samples
+    ON mutation_gene_rollup (sample_count DESC, gene_name);
+CREATE INDEX IF NOT EXISTS idx_mutation_sample_rollup_mutations
+    ON mutation_sample_rollup (mutation_count DESC, sample_id);
+
+-- ==================== DELTA MAINTENANCE ====================
+
+-- Applies +1/-1 deltas for (gene, sample, mutation type) triples.
+CREATE OR REPLACE FUNCTION mutation_rollups_apply(
+    p_genes TEXT[], p_samples TEXT[], p_types TEXT[], p_deltas INT[]
+) RETURNS VOID LANGUAGE plpgsql AS $$
+BEGIN
+    IF p_genes IS NULL THEN
+        RETURN;
+    END IF;
+
+    WITH delta AS (
+        SELECT gene_name, sample_id, SUM(delta)::BIGINT AS delta
+        FROM unnest(p_genes, p_samples, p_deltas) AS d(gene_name, sample_id, delta)
+        GROUP BY gene_name, sample_id
+        HAVING SUM(delta) <> 0
+    ),
+    pairs AS (
+        INSERT INTO mutation_gene_sample_counts AS c (gene_name, sample_id, mutation_count)
+        SELECT gene_name, sample_id, delta FROM delta ORDER BY gene_name, sample_id
+        ON CONFLICT (gene_name, sample_id)
+            DO UPDATE SET mutation_count = c.mutation_count + EXCLUDED.mutation_count
+        RETURNING c.gene_name, c.sample_id, c.mutation_count
+    ),
+    -- presence: +1 if the pair went from 0 to some mutations, -1 if it went back to 0
+    changes AS (
+        SELECT p.gene_name, p.sample_id, d.delta,
+               CASE WHEN p.mutation_count > 0 AND p.mutation_count - d.delta <= 0 THEN 1
+                    WHEN p.mutation_count <= 0 AND p.mutation_count - d.delta > 0 THEN -1
+                    ELSE 0 END AS presence
+        FROM pairs p
+        JOIN delta d USING (gene_name, sample_id)
+    ),
+    gene_delta AS (
+        SELECT gene_name, SUM(delta) AS delta, SUM(presence) AS presence
+        FROM changes GROUP BY gene_name
+    ),
+    genes AS (
+        INSERT INTO mutation_gene_rollup AS r (gene_name, mutation_count, sample_count)
+        SELECT gene_name, delta, presence FROM gene_delta ORDER BY gene_name
+        ON CONFLICT (gene_name) DO UPDATE
+            SET mutation_count = r.mutation_count + EXCLUDED.mutation_count,
+                sample_count = r.sample_count + EXCLUDED.sample_count
+        RETURNING r.gene_name, r.mutation_count
+    ),
+    sample_delta AS (
+        SELECT sample_id, SUM(delta) AS delta, SUM(presence) AS presence
+        FROM changes GROUP BY sample_id
+    ),
+    samples AS (
+        INSERT INTO mutation_sample_rollup AS r (sample_id, mutation_count, gene_count)
+        SELECT sample_id, delta, presence FROM sample_delta ORDER BY sample_id
+        ON CONFLICT (sample_id) DO UPDATE
+            SET mutation_count = r.mutation_count + EXCLUDED.mutation_count,
+                gene_count = r.gene_count + EXCLUDED.gene_count
+        RETURNING r.sample_id, r.mutation_count
+    )
+    UPDATE mutation_rollup_totals t
+    SET mutation_count = t.mutation_count + (SELECT COALESCE(SUM(delta), 0) FROM delta),
+        sample_count = t.sample_count + (
+            SELECT COALESCE(SUM(CASE WHEN s.mutation_count > 0 AND s.mutation_count - d.delta <= 0 THEN 1
+                                     WHEN s.mutation_count <= 0 AND s.mutation_count - d.delta > 0 THEN -1
+                                     ELSE 0 END), 0)
+            FROM samples s JOIN sample_delta d USING (sample_id)),
+        gene_count = t.gene_count + (
+            SELECT COALESCE(SUM(CASE WHEN g.mutation_count > 0 AND g.mutation_count - d.delta <= 0 THEN 1
+                                     WHEN g.mutation_count <= 0 AND g.mutation_count - d.delta > 0 THEN -1
+                                     ELSE 0 END), 0)
+            FROM genes g JOIN gene_delta d USING (gene_name))
+    WHERE t.id;
+
+    INSERT INTO mutation_gene_type_counts AS c (gene_name, mutation_type, mutation_count)
+    SELECT gene_name, mutation_type, SUM(delta)
+    FROM unnest(p_genes, p_types, p_deltas) AS d(gene_name, mutation_type, delta)
+    GROUP BY gene_name, mutation_type
+    HAVING SUM(delta) <> 0
+    ORDER BY gene_name, mutation_type
+    ON CONFLICT (gene_name, mutation_type)
+        DO UPDATE SET mutation_count = c.mutation_count + EXCLUDED.mutation_count;
+
+    INSERT INTO mutation_type_rollup AS r (mutation_type, mutation_count)
+    SELECT mutation_type, SUM(delta)
+    FROM unnest(p_types, p_deltas) AS d(mutation_type, delta)
+    GROUP BY mutation_type
+    HAVING SUM(delta) <> 0
+    ORDER BY mutation_type
+    ON CONFLICT (mutation_type)
+        DO UPDATE SET mutation_count = r.mutation_count + EXCLUDED.mutation_count;
+
+    -- Keys that dropped to zero are removed, so row counts match the distinct counts
+    DELETE FROM mutation_gene_sample_counts c
+    USING unnest(p_genes, p_samples) AS d(gene_name, sample_id)
+    WHERE c.gene_name = d.gene_name AND c.sample_id = d.sample_id AND c.mutation_count = 0;
+    DELETE FROM mutation_gene_rollup r
+    WHERE r.gene_name = ANY (p_genes) AND r.mutation_count = 0;
+    DELETE FROM mutation_sample_rollup r
+    WHERE r.sample_id = ANY (p_samples) AND r.mutation_count = 0;
+    DELETE FROM mutation_gene_type_counts c
+    USING unnest(p_genes, p_types) AS d(gene_name, mutation_type)
+    WHERE c.gene_name = d.gene_name AND c.mutation_type = d.mutation_type AND c.mutation_count = 0;
+    DELETE FROM mutation_type_rollup r
+    WHERE r.mutation_type = ANY (p_types) AND r.mutation_count = 0;
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION mutation_rollups_trigger() RETURNS TRIGGER LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM mutation_rollups_apply(
+            array_agg(gene_name), array_agg(COALESCE(sample_id, patient_id)),
+            array_agg(mutation_type), array_agg(1))
+        FROM new_rows;
+    ELSIF TG_OP = 'DELETE' THEN
+        PERFORM mutation_rollups_apply(
+            array_agg(gene_name), array_agg(COALESCE(sample_id, patient_id)),
+            array_agg(mutation_type), array_agg(-1))
+        FROM old_rows;
+    ELSE
+        -- Only rows whose rollup keys changed; e.g. allele frequency updates cost nothing
+        PERFORM mutation_rollups_apply(
+            array_agg(c.gene_name), array_agg(c.sample_id), array_agg(c.mutation_type), array_agg(c.delta))
+        FROM (
+            SELECT o.gene_name, COALESCE(o.sample_id, o.patient_id) AS sample_id, o.mutation_type,
+                   n.gene_name AS new_gene, COALESCE(n.sample_id, n.patient_id) AS new_sample, n.mutation_type AS new_type
+            FROM old_rows o JOIN new_rows n USING (id)
+        ) k
+        CROSS JOIN LATERAL (VALUES (k.gene_name, k.sample_id, k.mutation_type, -1),
+                                   (k.new_gene, k.new_sample, k.new_type, 1))
+            AS c(gene_name, sample_id, mutation_type, delta)
+        WHERE (k.gene_name, k.sample_id, k.mutation_type) IS DISTINCT FROM (k.new_gene, k.new_sample, k.new_type);
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION mutation_rollups_truncate() RETURNS TRIGGER LANGUAGE plpgsql AS $$
+BEGIN
+    TRUNCATE mutation_gene_sample_counts, mutation_gene_rollup, mutation_gene_type_counts,
+             mutation_type_rollup, mutation_sample_rollup;
+    UPDATE mutation_rollup_totals SET mutation_count = 0, sample_count = 0, gene_count = 0;
+    RETURN NULL;
+END;
+$$;
+
+DROP TRIGGER IF EXISTS mutation_rollups_insert ON mutations;
+CREATE TRIGGER mutation_rollups_insert
+    AFTER INSERT ON mutations
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION mutation_rollups_trigger();
+
+DROP TRIGGER IF EXISTS mutation_rollups_update ON mutations;
+CREATE TRIGGER mutation_rollups_update
+    AFTER UPDATE ON mutations
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION mutation_rollups_trigger();
+
+DROP TRIGGER IF EXISTS mutation_rollups_delete ON mutations;
+CREATE TRIGGER mutation_rollups_delete
+    AFTER DELETE ON mutations
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION mutation_rollups_trigger();
+
+DROP TRIGGER IF EXISTS mutation_rollups_truncate ON mutations;
+CREATE TRIGGER mutation_rollups_truncate
+    AFTER TRUNCATE ON mutations
+    FOR EACH STATEMENT EXECUTE FUNCTION mutation_rollups_truncate();
+
+-- ==================== FULL REBUILD ====================
+
+-- Recomputes every rollup from the mutations table. Blocks writes while it runs.
+CREATE OR REPLACE FUNCTION mutation_rollups_rebuild() RETURNS VOID LANGUAGE plpgsql AS $$
+BEGIN
+    LOCK TABLE mutations IN SHARE MODE;
+
+    TRUNCATE mutation_gene_sample_counts, mutation_gene_rollup, mutation_gene_type_counts,
+             mutation_type_rollup, mutation_sample_rollup, mutation_rollup_totals;
+
+    INSERT INTO mutation_gene_sample_counts (gene_name, sample_id, mutation_count)
+    SELECT gene_name, COALESCE(sample_id, patient_id), COUNT(*)
+    FROM mutations GROUP BY 1, 2;
+
+    INSERT INTO mutation_gene_rollup (gene_name, mutation_count, sample_count)
+    SELECT gene_name, SUM(mutation_count), COUNT(*)
+    FROM mutation_gene_sample_counts GROUP BY gene_name;
+
+    INSERT INTO mutation_sample_rollup (sample_id, mutation_count, gene_count)
+    SELECT sample_id, SUM(mutation_count), COUNT(*)
+    FROM mutation_gene_sample_counts GROUP BY sample_id;
+
+    INSERT INTO mutation_gene_type_counts (gene_name, mutation_type, mutation_count)
+    SELECT gene_name, mutation_type, COUNT(*)
+    FROM mutations GROUP BY gene_name, mutation_type;
+
+    INSERT INTO mutation_type_rollup (mutation_type, mutation_count)
+    SELECT mutation_type, SUM(mutation_count)
+    FROM mutation_gene_type_counts GROUP BY mutation_type;
+
+    INSERT INTO mutation_rollup_totals (mutation_count, sample_count, gene_count)
+    SELECT (SELECT COALESCE(SUM(mutation_count), 0) FROM mutation_type_rollup),
+           (SELECT COUNT(*) FROM mutation_sample_rollup),
+           (SELECT COUNT(*) FROM mutation_gene_rollup);
+END;
+$$;
+
+SELECT mutation_rollups_rebuild();
+
+ANALYZE mutation_gene_sample_counts, mutation_gene_rollup, mutation_gene_type_counts,
+        mutation_type_rollup, mutation_sample_rollup;
+
+-- Verification query: totals must match the mutations table
+SELECT t.mutation_count, (SELECT COUNT(*) FROM mutations) AS expected_mutations,
+       t.sample_count, (SELECT COUNT(DISTINCT COALESCE(sample_id, patient_id)) FROM mutations) AS expected_samples,
+       t.gene_count, (SELECT COUNT(DISTINCT gene_name) FROM mutations) AS expected_genes
+FROM mutation_rollup_totals t;
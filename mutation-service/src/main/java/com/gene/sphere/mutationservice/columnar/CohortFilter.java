@@ -0,0 +1,64 @@
+package com.gene.sphere.mutationservice.columnar;
+
+import java.util.List;
+
+/**
+ * Cohort selected by a scan of {@link MutationColumns}. Every condition is optional; a row must
+ * match all that are set. String conditions are case-insensitive and match any of their values.
+ *
+ * @param genes                 gene symbols
+ * @param chromosome            chromosome, with or without a {@code chr} prefix
+ * @param start                 first position on {@code chromosome} (inclusive)
+ * @param end                   last position on {@code chromosome} (inclusive)
+ * @param mutationTypes         mutation types (SNV, deletion, ...)
+ * @param cancerTypes           cancer types
+ * @param clinicalSignificances clinical significances
+ * @param minAlleleFrequency    minimum variant allele frequency; rows without one are excluded
+ * @param maxAlleleFrequency    maximum variant allele frequency; rows without one are excluded
+ */
+public record CohortFilter(
+        List<String> genes,
+        String chromosome,
+        Long start,
+        Long end,
+        List<String> mutationTypes,
+        List<String> cancerTypes,
+        List<String> clinicalSignificances,
+        Double minAlleleFrequency,
+        Double maxAlleleFrequency
+) {
+
+    public CohortFilter {
+        genes = genes == null ? List.of() : List.copyOf(genes);
+        mutationTypes = mutationTypes == null ? List.of() : List.copyOf(mutationTypes);
+        cancerTypes = cancerTypes == null ? List.of() : List.copyOf(cancerTypes);
+        clinicalSignificances = clinicalSignificances == null ? List.of() : List.copyOf(clinicalSignificances);
+        if ((start != null || end != null) && (chromosome == null || chromosome.isBlank())) {
+            throw new IllegalArgumentException("A position range requires a chromosome");
+        }
+        if (start != null && end != null && start > end) {
+            throw new IllegalArgumentException("Start must not be after end");
+        }
+        if (outOfRange(minAlleleFrequency) || outOfRange(maxAlleleFrequency)) {
+            throw new IllegalArgumentException("Allele frequencies must be between 0 and 1");
+        }
+        if (minAlleleFrequency != null && maxAlleleFrequency != null && minAlleleFrequency > maxAlleleFrequency) {
+            throw new IllegalArgumentException("Minimum allele frequency must not exceed the maximum");
+        }
+    }
+
+    /**
+     * Every mutation.
+     */
+    public static CohortFilter all() {
+        return new CohortFilter(null, null, null, null, null, null, null, null, null);
+    }
+
+    public static CohortFilter byGenes(List<String> genes) {
+        return new CohortFilter(genes, null, null, null, null, null, null, null, null);
+    }
+
+    private static boolean outOfRange(Double frequency) {
+        return frequency != null && (frequency.isNaN() || frequency < 0 || frequency > 1);
+    }
+}
@@ -0,0 +1,180 @@
+package com.gene.sphere.mutationservice.columnar;
+
+import com.gene.sphere.mutationservice.model.MutationDto;
+import com.gene.sphere.mutationservice.service.MutationChangedEvent;
+import com.gene.sphere.mutationservice.service.MutationRow;
+import com.gene.sphere.mutationservice.service.MutationSnapshot;
+import com.gene.sphere.mutationservice.service.MutationSnapshotMaintainer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Holds the current {@link MutationColumns} snapshot of the mutations table for cohort scans.
+ *
+ * <p>A snapshot is immutable, so scans never lock and always see one consistent version:
+ * <ul>
+ *   <li><strong>Startup:</strong> Loaded by the {@link MutationSnapshotMaintainer} when the application
+ *       is ready; {@link #isReady()} is false until then</li>
+ *   <li><strong>Writes:</strong> A committed {@link MutationChangedEvent} records the row's new
+ *       version (or its deletion) in a small overlay, and a new snapshot is published at once with
+ *       the overlay layered over the loaded columns ({@link MutationColumns#withChanges})</li>
+ *   <li><strong>Reloads:</strong> Every maintainer rebuild (after imports and every
+ *       {@code mutation-snapshots.rebuild-interval}) folds the overlay into the columns; once the overlay
+ *       holds {@code column-store.max-changes} rows, the store requests an early one</li>
+ * </ul>
+ * As in {@code GenomicIntervalIndex}, changes committed while a reload reads the table are replayed
+ * onto its result; a replayed row simply replaces itself. On failure the previous snapshot is kept.
+ */
+@Component
+public class MutationColumnStore implements MutationSnapshot {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MutationColumnStore.class);
+
+    private final MutationSnapshotMaintainer maintainer;
+
+    private final int maxChanges;
+
+    private volatile MutationColumns columns = MutationColumns.EMPTY;
+
+    private volatile boolean ready;
+
+    /**
+     * The last loaded snapshot, without changes. Guarded by {@code this}.
+     */
+    private MutationColumns loaded = MutationColumns.EMPTY;
+
+    /**
+     * Mutations changed since {@link #loaded}, by id; {@code null} for a deletion. Guarded by {@code this}.
+     */
+    private final TreeMap<Integer, MutationDto> changes = new TreeMap<>();
+
+    /**
+     * Changes committed while a reload is reading the table, replayed onto its result.
+     * Guarded by {@code this}; {@code null} when no reload is running.
+     */
+    private List<MutationChangedEvent> changesDuringLoad;
+
+    /**
+     * @param maintainer    reloads the snapshot from the mutations table
+     * @param meterRegistry registry for snapshot metrics
+     * @param maxChanges    overlay rows that trigger an early reload (default: 10000)
+     */
+    public MutationColumnStore(
+            MutationSnapshotMaintainer maintainer,
+            MeterRegistry meterRegistry,
+            @Value("${column-store.max-changes:10000}") int maxChanges) {
+        if (maxChanges < 1) {
+            throw new IllegalArgumentException("column-store.max-changes must be positive");
+        }
+        this.maintainer = maintainer;
+        this.maxChanges = maxChanges;
+        meterRegistry.gauge("mutation.columns.rows", this, store -> store.columns.rows());
+        meterRegistry.gauge("mutation.columns.changes", this, store -> store.columns.changedRows());
+        meterRegistry.gauge("mutation.columns.bytes", this, store -> store.columns.estimatedBytes());
+        maintainer.register(this);
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Whether the first snapshot has been loaded.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * The latest snapshot; read it once per request so every operator sees the same version.
+     */
+    public MutationColumns current() {
+        return columns;
+    }
+
+    // ==================== MAINTENANCE ====================
+
+    @Override
+    public String snapshotName() {
+        return "mutation-columns";
+    }
+
+    /**
+     * Starts a reload of the snapshot from every mutation, folding in the overlay on publish.
+     */
+    @Override
+    public synchronized Rebuild startRebuild() {
+        changesDuringLoad = new ArrayList<>();
+        return new ColumnRebuild();
+    }
+
+    /**
+     * Applies a committed create, update or delete to the overlay and publishes the result.
+     * Requests an early reload once the overlay reaches {@code column-store.max-changes} rows.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onMutationChanged(MutationChangedEvent event) {
+        changes.put(event.id(), event.after());
+        if (changesDuringLoad != null) {
+            changesDuringLoad.add(event);
+        }
+        columns = loaded.withChanges(changes, columns.version() + 1);
+        if (changes.size() >= maxChanges) {
+            maintainer.requestRebuild();
+        }
+    }
+
+    /**
+     * Loads the columns of one reload. Rows missing a gene, chromosome or position are skipped, as
+     * they cannot be returned as mutations.
+     */
+    private final class ColumnRebuild implements MutationSnapshot.Rebuild {
+
+        private final MutationColumns.Builder builder = new MutationColumns.Builder();
+
+        @Override
+        public void add(MutationRow row) {
+            if (row.geneName() == null || row.chromosome() == null || row.position() == null) {
+                return;
+            }
+            builder.add(row.id(), row.geneName(), row.chromosome(), row.position(), row.referenceAllele(),
+                    row.alternateAllele(), row.mutationType(), row.patientId(), row.sampleId(), row.proteinChange(),
+                    row.cancerType(), row.clinicalSignificance(), row.alleleFrequency());
+        }
+
+        @Override
+        public void publish() {
+            MutationColumnStore store = MutationColumnStore.this;
+            try {
+                MutationColumns built = builder.build(0);
+                MutationColumns published;
+                synchronized (store) {
+                    loaded = built;
+                    changes.clear();
+                    changesDuringLoad.forEach(event -> changes.put(event.id(), event.after()));
+                    published = built.withChanges(changes, columns.version() + 1);
+                    columns = published;
+                    ready = true;
+                }
+                LOGGER.info("Mutation column snapshot {} built with {} rows (~{} KiB)", published.version(),
+                        published.rows(), published.estimatedBytes() / 1024);
+            } finally {
+                discard();
+            }
+        }
+
+        @Override
+        public void discard() {
+            synchronized (MutationColumnStore.this) {
+                changesDuringLoad = null;
+            }
+        }
+    }
+}
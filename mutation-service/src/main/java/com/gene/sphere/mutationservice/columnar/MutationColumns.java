@@ -0,0 +1,653 @@
+package com.gene.sphere.mutationservice.columnar;
+
+import com.gene.sphere.mutationservice.model.CohortSummary;
+import com.gene.sphere.mutationservice.model.MutationDto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Immutable, column-oriented snapshot of the mutations table with scan operators.
+ *
+ * <p>A {@code Mutation} entity holds a dozen boxed fields and its own copy of every repeated string.
+ * Here each field is a primitive array indexed by row:
+ * <ul>
+ *   <li><strong>Strings:</strong> {@code int[]} codes into a {@link StringDictionary} per column, so
+ *       a chromosome, mutation type or cancer type is stored once however many rows repeat it.
+ *       Reference and alternate alleles share one dictionary, since both are mostly single bases</li>
+ *   <li><strong>Position:</strong> {@code long[]}</li>
+ *   <li><strong>Allele frequency:</strong> {@code short[]} fixed-point in units of 1/10000, which is
+ *       exactly the column's {@code DECIMAL(5,4)}; {@code -1} for none</li>
+ *   <li><strong>Sample:</strong> codes of {@code COALESCE(sample_id, patient_id)}, with a bit per row
+ *       recording that the sample id was missing, so the original value can be restored</li>
+ * </ul>
+ * That is about 55 bytes per row, against several hundred for entities.
+ *
+ * <p>{@link #select} evaluates one condition at a time over a bitmap of the rows (one {@code long}
+ * per 64 rows), skipping words already cleared; each condition is a sequential pass over one
+ * primitive array. Aggregations then visit only the set bits.
+ *
+ * <p><strong>Changes:</strong> {@link #withChanges} layers committed writes over a loaded snapshot
+ * without copying its columns: the loaded rows of changed ids are hidden, and the current version
+ * of each changed row is kept in a small overlay snapshot. Every operator runs over both and merges
+ * the results, so the overlay only has to stay small until the next full load replaces it.
+ */
+public final class MutationColumns {
+
+    /**
+     * Columns a cohort can be grouped by.
+     */
+    public enum Column {
+        GENE, CHROMOSOME, MUTATION_TYPE, CANCER_TYPE, CLINICAL_SIGNIFICANCE, SAMPLE, PROTEIN_CHANGE
+    }
+
+    static final short NO_ALLELE_FREQUENCY = -1;
+
+    static final int ALLELE_FREQUENCY_SCALE = 10_000;
+
+    private static final UnaryOperator<String> CASE_INSENSITIVE = value -> value.trim().toLowerCase(Locale.ROOT);
+
+    private static final UnaryOperator<String> CHROMOSOME = value -> {
+        String normalized = value.trim().toUpperCase(Locale.ROOT);
+        return normalized.startsWith("CHR") ? normalized.substring(3) : normalized;
+    };
+
+    static final MutationColumns EMPTY = new Builder().build(0);
+
+    private final int rows;
+    private final int visibleRows;
+    private final int changedRows;
+    private final long version;
+
+    private final int[] ids;
+    private final int[] genes;
+    private final int[] chromosomes;
+    private final long[] positions;
+    private final int[] referenceAlleles;
+    private final int[] alternateAlleles;
+    private final int[] mutationTypes;
+    private final int[] patients;
+    private final int[] samples;
+    private final BitSet sampleMissing;
+    private final int[] proteinChanges;
+    private final int[] cancerTypes;
+    private final int[] clinicalSignificances;
+    private final short[] alleleFrequencies;
+
+    private final StringDictionary geneDictionary;
+    private final StringDictionary chromosomeDictionary;
+    private final StringDictionary alleleDictionary;
+    private final StringDictionary mutationTypeDictionary;
+    private final StringDictionary patientDictionary;
+    private final StringDictionary sampleDictionary;
+    private final StringDictionary proteinChangeDictionary;
+    private final StringDictionary cancerTypeDictionary;
+    private final StringDictionary clinicalSignificanceDictionary;
+
+    /**
+     * Loaded rows whose mutation was changed since the load; empty unless built by {@link #withChanges}.
+     */
+    private final BitSet hidden;
+
+    /**
+     * Current version of the changed mutations, in id order; {@code null} unless built by {@link #withChanges}.
+     */
+    private final MutationColumns overlay;
+
+    private MutationColumns(Builder builder, long version) {
+        this.rows = builder.size;
+        this.visibleRows = rows;
+        this.changedRows = 0;
+        this.version = version;
+        this.ids = Arrays.copyOf(builder.ids, rows);
+        this.genes = Arrays.copyOf(builder.genes, rows);
+        this.chromosomes = Arrays.copyOf(builder.chromosomes, rows);
+        this.positions = Arrays.copyOf(builder.positions, rows);
+        this.referenceAlleles = Arrays.copyOf(builder.referenceAlleles, rows);
+        this.alternateAlleles = Arrays.copyOf(builder.alternateAlleles, rows);
+        this.mutationTypes = Arrays.copyOf(builder.mutationTypes, rows);
+        this.patients = Arrays.copyOf(builder.patients, rows);
+        this.samples = Arrays.copyOf(builder.samples, rows);
+        this.sampleMissing = (BitSet) builder.sampleMissing.clone();
+        this.proteinChanges = Arrays.copyOf(builder.proteinChanges, rows);
+        this.cancerTypes = Arrays.copyOf(builder.cancerTypes, rows);
+        this.clinicalSignificances = Arrays.copyOf(builder.clinicalSignificances, rows);
+        this.alleleFrequencies = Arrays.copyOf(builder.alleleFrequencies, rows);
+        this.geneDictionary = builder.geneDictionary.build();
+        this.chromosomeDictionary = builder.chromosomeDictionary.build();
+        this.alleleDictionary = builder.alleleDictionary.build();
+        this.mutationTypeDictionary = builder.mutationTypeDictionary.build();
+        this.patientDictionary = builder.patientDictionary.build();
+        this.sampleDictionary = builder.sampleDictionary.build();
+        this.proteinChangeDictionary = builder.proteinChangeDictionary.build();
+        this.cancerTypeDictionary = builder.cancerTypeDictionary.build();
+        this.clinicalSignificanceDictionary = builder.clinicalSignificanceDictionary.build();
+        this.hidden = new BitSet();
+        this.overlay = null;
+    }
+
+    private MutationColumns(MutationColumns loaded, BitSet hidden, MutationColumns overlay, int changedRows, long version) {
+        this.rows = loaded.rows;
+        this.visibleRows = rows - hidden.cardinality() + overlay.rows;
+        this.changedRows = changedRows;
+        this.version = version;
+        this.ids = loaded.ids;
+        this.genes = loaded.genes;
+        this.chromosomes = loaded.chromosomes;
+        this.positions = loaded.positions;
+        this.referenceAlleles = loaded.referenceAlleles;
+        this.alternateAlleles = loaded.alternateAlleles;
+        this.mutationTypes = loaded.mutationTypes;
+        this.patients = loaded.patients;
+        this.samples = loaded.samples;
+        this.sampleMissing = loaded.sampleMissing;
+        this.proteinChanges = loaded.proteinChanges;
+        this.cancerTypes = loaded.cancerTypes;
+        this.clinicalSignificances = loaded.clinicalSignificances;
+        this.alleleFrequencies = loaded.alleleFrequencies;
+        this.geneDictionary = loaded.geneDictionary;
+        this.chromosomeDictionary = loaded.chromosomeDictionary;
+        this.alleleDictionary = loaded.alleleDictionary;
+        this.mutationTypeDictionary = loaded.mutationTypeDictionary;
+        this.patientDictionary = loaded.patientDictionary;
+        this.sampleDictionary = loaded.sampleDictionary;
+        this.proteinChangeDictionary = loaded.proteinChangeDictionary;
+        this.cancerTypeDictionary = loaded.cancerTypeDictionary;
+        this.clinicalSignificanceDictionary = loaded.clinicalSignificanceDictionary;
+        this.hidden = hidden;
+        this.overlay = overlay;
+    }
+
+    /**
+     * This loaded snapshot with committed changes applied on top. Only the changed rows are encoded;
+     * the loaded columns are shared, not copied.
+     *
+     * @param changes the current version of every mutation changed since the load, by id, or
+     *                {@code null} for a deleted one. Mutations without a gene, chromosome or
+     *                position are dropped, as on load
+     * @param version version of the resulting snapshot
+     * @throws IllegalStateException if this snapshot already has changes applied
+     */
+    MutationColumns withChanges(SortedMap<Integer, MutationDto> changes, long version) {
+        if (overlay != null) {
+            throw new IllegalStateException("Changes can only be applied to a loaded snapshot");
+        }
+        BitSet changed = new BitSet(rows);
+        Builder builder = new Builder();
+        changes.forEach((id, mutation) -> {
+            // Loaded rows are in id order
+            int row = Arrays.binarySearch(ids, id);
+            if (row >= 0) {
+                changed.set(row);
+            }
+            if (mutation != null && mutation.geneName() != null && mutation.chromosome() != null
+                    && mutation.position() != null) {
+                builder.add(id, mutation.geneName(), mutation.chromosome(), mutation.position(),
+                        mutation.referenceAllele(), mutation.alternateAllele(), mutation.mutationType(),
+                        mutation.patientId(), mutation.sampleId(), mutation.proteinChange(), mutation.cancerType(),
+                        mutation.clinicalSignificance(), mutation.alleleFrequency());
+            }
+        });
+        return new MutationColumns(this, changed, builder.build(version), changes.size(), version);
+    }
+
+    /**
+     * Number of mutations in the snapshot.
+     */
+    public int rows() {
+        return visibleRows;
+    }
+
+    /**
+     * Number of mutations created, updated or deleted since the rows were loaded.
+     */
+    public int changedRows() {
+        return changedRows;
+    }
+
+    /**
+     * Version of the snapshot, incremented by every build.
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Approximate heap use of the columns and dictionaries, for metrics.
+     */
+    public long estimatedBytes() {
+        long columns = (long) rows * (11 * Integer.BYTES + Long.BYTES + Short.BYTES) + rows / Byte.SIZE
+                + hidden.size() / Byte.SIZE + (overlay == null ? 0 : overlay.estimatedBytes());
+        return columns + Stream.of(geneDictionary, chromosomeDictionary, alleleDictionary, mutationTypeDictionary,
+                        patientDictionary, sampleDictionary, proteinChangeDictionary, cancerTypeDictionary,
+                        clinicalSignificanceDictionary)
+                .mapToLong(StringDictionary::estimatedBytes)
+                .sum();
+    }
+
+    // ==================== FILTER ====================
+
+    /**
+     * Rows matching every condition of {@code filter}.
+     */
+    public Selection select(CohortFilter filter) {
+        long[] words = new long[(rows + Long.SIZE - 1) / Long.SIZE];
+        Arrays.fill(words, -1L);
+        if (rows % Long.SIZE != 0) {
+            words[words.length - 1] = (1L << (rows % Long.SIZE)) - 1;
+        }
+        if (!filter.genes().isEmpty()) {
+            retainCodes(words, genes, geneDictionary.matching(filter.genes(), CASE_INSENSITIVE));
+        }
+        if (filter.chromosome() != null && !filter.chromosome().isBlank()) {
+            retainCodes(words, chromosomes, chromosomeDictionary.matching(List.of(filter.chromosome()), CHROMOSOME));
+            if (filter.start() != null || filter.end() != null) {
+                retainPositions(words,
+                        filter.start() == null ? Long.MIN_VALUE : filter.start(),
+                        filter.end() == null ? Long.MAX_VALUE : filter.end());
+            }
+        }
+        if (!filter.mutationTypes().isEmpty()) {
+            retainCodes(words, mutationTypes, mutationTypeDictionary.matching(filter.mutationTypes(), CASE_INSENSITIVE));
+        }
+        if (!filter.cancerTypes().isEmpty()) {
+            retainCodes(words, cancerTypes, cancerTypeDictionary.matching(filter.cancerTypes(), CASE_INSENSITIVE));
+        }
+        if (!filter.clinicalSignificances().isEmpty()) {
+            retainCodes(words, clinicalSignificances,
+                    clinicalSignificanceDictionary.matching(filter.clinicalSignificances(), CASE_INSENSITIVE));
+        }
+        if (filter.minAlleleFrequency() != null || filter.maxAlleleFrequency() != null) {
+            retainAlleleFrequencies(words,
+                    filter.minAlleleFrequency() == null ? 0 : toFixedPoint(filter.minAlleleFrequency()),
+                    filter.maxAlleleFrequency() == null ? ALLELE_FREQUENCY_SCALE : toFixedPoint(filter.maxAlleleFrequency()));
+        }
+        for (int row = hidden.nextSetBit(0); row >= 0; row = hidden.nextSetBit(row + 1)) {
+            words[row >> 6] &= ~(1L << row);
+        }
+        return new Selection(words, overlay == null ? null : overlay.select(filter));
+    }
+
+    private void retainCodes(long[] words, int[] codes, boolean[] accepted) {
+        for (int w = 0; w < words.length; w++) {
+            long word = words[w];
+            if (word == 0) {
+                continue;
+            }
+            int base = w << 6;
+            int end = Math.min(Long.SIZE, rows - base);
+            long keep = 0;
+            for (int bit = 0; bit < end; bit++) {
+                int code = codes[base + bit];
+                if (code != StringDictionary.NULL && accepted[code]) {
+                    keep |= 1L << bit;
+                }
+            }
+            words[w] = word & keep;
+        }
+    }
+
+    private void retainPositions(long[] words, long start, long end) {
+        for (int w = 0; w < words.length; w++) {
+            long word = words[w];
+            if (word == 0) {
+                continue;
+            }
+            int base = w << 6;
+            int last = Math.min(Long.SIZE, rows - base);
+            long keep = 0;
+            for (int bit = 0; bit < last; bit++) {
+                long position = positions[base + bit];
+                if (position >= start && position <= end) {
+                    keep |= 1L << bit;
+                }
+            }
+            words[w] = word & keep;
+        }
+    }
+
+    private void retainAlleleFrequencies(long[] words, int min, int max) {
+        for (int w = 0; w < words.length; w++) {
+            long word = words[w];
+            if (word == 0) {
+                continue;
+            }
+            int base = w << 6;
+            int end = Math.min(Long.SIZE, rows - base);
+            long keep = 0;
+            for (int bit = 0; bit < end; bit++) {
+                short frequency = alleleFrequencies[base + bit];
+                if (frequency != NO_ALLELE_FREQUENCY && frequency >= min && frequency <= max) {
+                    keep |= 1L << bit;
+                }
+            }
+            words[w] = word & keep;
+        }
+    }
+
+    // ==================== AGGREGATIONS ====================
+
+    /**
+     * Matching rows per value of {@code column}, most frequent first (ties by value).
+     *
+     * @param limit maximum number of groups returned
+     */
+    public List<CohortSummary.GroupCount> countBy(Column column, Selection selection, int limit) {
+        Map<String, Long> counts = new HashMap<>();
+        addCounts(column, selection, counts);
+        return counts.entrySet().stream()
+                .map(entry -> new CohortSummary.GroupCount(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(CohortSummary.GroupCount::count).reversed()
+                        .thenComparing(CohortSummary.GroupCount::value, Comparator.nullsLast(Comparator.naturalOrder())))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Adds the selected rows per value of {@code column} to {@code counts}, keyed {@code null} for rows without one.
+     */
+    private void addCounts(Column column, Selection selection, Map<String, Long> counts) {
+        int[] codes = codes(column);
+        StringDictionary dictionary = dictionary(column);
+        long[] byCode = new long[dictionary.size() + 1]; // last slot: rows without a value
+        long[] words = selection.words;
+        for (int w = 0; w < words.length; w++) {
+            long word = words[w];
+            while (word != 0) {
+                int code = codes[(w << 6) + Long.numberOfTrailingZeros(word)];
+                byCode[code == StringDictionary.NULL ? byCode.length - 1 : code]++;
+                word &= word - 1;
+            }
+        }
+        for (int code = 0; code < byCode.length; code++) {
+            if (byCode[code] > 0) {
+                counts.merge(code == byCode.length - 1 ? null : dictionary.decode(code), byCode[code], Long::sum);
+            }
+        }
+        if (overlay != null) {
+            overlay.addCounts(column, selection.overlay, counts);
+        }
+    }
+
+    /**
+     * Distinct samples among the matching rows.
+     */
+    public int distinctSamples(Selection selection) {
+        BitSet seen = sampleCodes(selection);
+        if (overlay == null) {
+            return seen.cardinality();
+        }
+        // The overlay has its own dictionary, so samples are compared by value
+        Set<String> names = new HashSet<>();
+        for (int code = seen.nextSetBit(0); code >= 0; code = seen.nextSetBit(code + 1)) {
+            names.add(sampleDictionary.decode(code));
+        }
+        BitSet changed = overlay.sampleCodes(selection.overlay);
+        for (int code = changed.nextSetBit(0); code >= 0; code = changed.nextSetBit(code + 1)) {
+            names.add(overlay.sampleDictionary.decode(code));
+        }
+        return names.size();
+    }
+
+    private BitSet sampleCodes(Selection selection) {
+        BitSet seen = new BitSet(sampleDictionary.size());
+        long[] words = selection.words;
+        for (int w = 0; w < words.length; w++) {
+            long word = words[w];
+            while (word != 0) {
+                seen.set(samples[(w << 6) + Long.numberOfTrailingZeros(word)]);
+                word &= word - 1;
+            }
+        }
+        return seen;
+    }
+
+    /**
+     * Mean and histogram of the allele frequencies of the matching rows that have one.
+     *
+     * @param bins number of equal-width bins over [0, 1]
+     */
+    public CohortSummary.AlleleFrequencyDistribution alleleFrequencies(Selection selection, int bins) {
+        long[] histogram = new long[bins];
+        long[] countAndSum = new long[2];
+        addAlleleFrequencies(selection, histogram, countAndSum);
+        long count = countAndSum[0];
+        double mean = count == 0 ? 0.0 : (double) countAndSum[1] / count / ALLELE_FREQUENCY_SCALE;
+        return new CohortSummary.AlleleFrequencyDistribution(count, mean, Arrays.stream(histogram).boxed().toList());
+    }
+
+    private void addAlleleFrequencies(Selection selection, long[] histogram, long[] countAndSum) {
+        int bins = histogram.length;
+        long[] words = selection.words;
+        for (int w = 0; w < words.length; w++) {
+            long word = words[w];
+            while (word != 0) {
+                short frequency = alleleFrequencies[(w << 6) + Long.numberOfTrailingZeros(word)];
+                if (frequency != NO_ALLELE_FREQUENCY) {
+                    histogram[Math.min(frequency * bins / ALLELE_FREQUENCY_SCALE, bins - 1)]++;
+                    countAndSum[1] += frequency;
+                    countAndSum[0]++;
+                }
+                word &= word - 1;
+            }
+        }
+        if (overlay != null) {
+            overlay.addAlleleFrequencies(selection.overlay, histogram, countAndSum);
+        }
+    }
+
+    /**
+     * The first {@code limit} matching rows in id order, decoded back into DTOs.
+     */
+    public List<MutationDto> rows(Selection selection, int limit) {
+        List<MutationDto> result = new ArrayList<>(Math.min(limit, selection.count()));
+        // Both the loaded rows and the overlay are in id order, so they are merged as they are read
+        int row = nextRow(selection.words, 0);
+        int changed = overlay == null ? -1 : nextRow(selection.overlay.words, 0);
+        while (result.size() < limit && (row >= 0 || changed >= 0)) {
+            if (changed < 0 || (row >= 0 && ids[row] < overlay.ids[changed])) {
+                result.add(decode(row));
+                row = nextRow(selection.words, row + 1);
+            } else {
+                result.add(overlay.decode(changed));
+                changed = nextRow(selection.overlay.words, changed + 1);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * First selected row at or after {@code from}, or -1 if there is none.
+     */
+    private static int nextRow(long[] words, int from) {
+        int w = from >> 6;
+        if (w >= words.length) {
+            return -1;
+        }
+        long word = words[w] & (-1L << from);
+        while (word == 0) {
+            if (++w == words.length) {
+                return -1;
+            }
+            word = words[w];
+        }
+        return (w << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Mutation id of a row.
+     */
+    public int id(int row) {
+        return ids[row];
+    }
+
+    private MutationDto decode(int row) {
+        short frequency = alleleFrequencies[row];
+        String sample = sampleDictionary.decode(samples[row]);
+        return new MutationDto(
+                geneDictionary.decode(genes[row]),
+                chromosomeDictionary.decode(chromosomes[row]),
+                positions[row],
+                alleleDictionary.decode(referenceAlleles[row]),
+                alleleDictionary.decode(alternateAlleles[row]),
+                mutationTypeDictionary.decode(mutationTypes[row]),
+                patientDictionary.decode(patients[row]),
+                sampleMissing.get(row) ? null : sample,
+                proteinChangeDictionary.decode(proteinChanges[row]),
+                cancerTypeDictionary.decode(cancerTypes[row]),
+                clinicalSignificanceDictionary.decode(clinicalSignificances[row]),
+                frequency == NO_ALLELE_FREQUENCY ? null : BigDecimal.valueOf(frequency, 4));
+    }
+
+    private int[] codes(Column column) {
+        return switch (column) {
+            case GENE -> genes;
+            case CHROMOSOME -> chromosomes;
+            case MUTATION_TYPE -> mutationTypes;
+            case CANCER_TYPE -> cancerTypes;
+            case CLINICAL_SIGNIFICANCE -> clinicalSignificances;
+            case SAMPLE -> samples;
+            case PROTEIN_CHANGE -> proteinChanges;
+        };
+    }
+
+    private StringDictionary dictionary(Column column) {
+        return switch (column) {
+            case GENE -> geneDictionary;
+            case CHROMOSOME -> chromosomeDictionary;
+            case MUTATION_TYPE -> mutationTypeDictionary;
+            case CANCER_TYPE -> cancerTypeDictionary;
+            case CLINICAL_SIGNIFICANCE -> clinicalSignificanceDictionary;
+            case SAMPLE -> sampleDictionary;
+            case PROTEIN_CHANGE -> proteinChangeDictionary;
+        };
+    }
+
+    private static int toFixedPoint(double frequency) {
+        return (int) Math.round(frequency * ALLELE_FREQUENCY_SCALE);
+    }
+
+    /**
+     * Rows selected by {@link #select}, as a bitmap with one bit per row.
+     */
+    public static final class Selection {
+        private final long[] words;
+        private final Selection overlay;
+        private final int count;
+
+        private Selection(long[] words, Selection overlay) {
+            this.words = words;
+            this.overlay = overlay;
+            int bits = overlay == null ? 0 : overlay.count;
+            for (long word : words) {
+                bits += Long.bitCount(word);
+            }
+            this.count = bits;
+        }
+
+        /**
+         * Number of selected rows.
+         */
+        public int count() {
+            return count;
+        }
+    }
+
+    // ==================== BUILDER ====================
+
+    /**
+     * Appends rows while a snapshot is loaded; arrays grow by doubling and are trimmed by {@link #build}.
+     */
+    static final class Builder {
+        private int size;
+        private int[] ids = new int[1024];
+        private int[] genes = new int[1024];
+        private int[] chromosomes = new int[1024];
+        private long[] positions = new long[1024];
+        private int[] referenceAlleles = new int[1024];
+        private int[] alternateAlleles = new int[1024];
+        private int[] mutationTypes = new int[1024];
+        private int[] patients = new int[1024];
+        private int[] samples = new int[1024];
+        private final BitSet sampleMissing = new BitSet();
+        private int[] proteinChanges = new int[1024];
+        private int[] cancerTypes = new int[1024];
+        private int[] clinicalSignificances = new int[1024];
+        private short[] alleleFrequencies = new short[1024];
+
+        private final StringDictionary.Builder geneDictionary = new StringDictionary.Builder();
+        private final StringDictionary.Builder chromosomeDictionary = new StringDictionary.Builder();
+        private final StringDictionary.Builder alleleDictionary = new StringDictionary.Builder();
+        private final StringDictionary.Builder mutationTypeDictionary = new StringDictionary.Builder();
+        private final StringDictionary.Builder patientDictionary = new StringDictionary.Builder();
+        private final StringDictionary.Builder sampleDictionary = new StringDictionary.Builder();
+        private final StringDictionary.Builder proteinChangeDictionary = new StringDictionary.Builder();
+        private final StringDictionary.Builder cancerTypeDictionary = new StringDictionary.Builder();
+        private final StringDictionary.Builder clinicalSignificanceDictionary = new StringDictionary.Builder();
+
+        /**
+         * Appends one mutation, passed field by field so the load never materializes entities or DTOs.
+         */
+        void add(int id, String gene, String chromosome, long position, String referenceAllele,
+                 String alternateAllele, String mutationType, String patientId, String sampleId,
+                 String proteinChange, String cancerType, String clinicalSignificance, BigDecimal alleleFrequency) {
+            if (size == ids.length) {
+                grow();
+            }
+            ids[size] = id;
+            genes[size] = geneDictionary.encode(gene);
+            chromosomes[size] = chromosomeDictionary.encode(chromosome);
+            positions[size] = position;
+            referenceAlleles[size] = alleleDictionary.encode(referenceAllele);
+            alternateAlleles[size] = alleleDictionary.encode(alternateAllele);
+            mutationTypes[size] = mutationTypeDictionary.encode(mutationType);
+            patients[size] = patientDictionary.encode(patientId);
+            samples[size] = sampleDictionary.encode(sampleId != null ? sampleId : patientId);
+            if (sampleId == null) {
+                sampleMissing.set(size);
+            }
+            proteinChanges[size] = proteinChangeDictionary.encode(proteinChange);
+            cancerTypes[size] = cancerTypeDictionary.encode(cancerType);
+            clinicalSignificances[size] = clinicalSignificanceDictionary.encode(clinicalSignificance);
+            alleleFrequencies[size] = alleleFrequency == null
+                    ? NO_ALLELE_FREQUENCY
+                    : (short) Math.max(0, Math.min(ALLELE_FREQUENCY_SCALE,
+                    alleleFrequency.movePointRight(4).setScale(0, RoundingMode.HALF_UP).intValue()));
+            size++;
+        }
+
+        MutationColumns build(long version) {
+            return new MutationColumns(this, version);
+        }
+
+        private void grow() {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            genes = Arrays.copyOf(genes, capacity);
+            chromosomes = Arrays.copyOf(chromosomes, capacity);
+            positions = Arrays.copyOf(positions, capacity);
+            referenceAlleles = Arrays.copyOf(referenceAlleles, capacity);
+            alternateAlleles = Arrays.copyOf(alternateAlleles, capacity);
+            mutationTypes = Arrays.copyOf(mutationTypes, capacity);
+            patients = Arrays.copyOf(patients, capacity);
+            samples = Arrays.copyOf(samples, capacity);
+            proteinChanges = Arrays.copyOf(proteinChanges, capacity);
+            cancerTypes = Arrays.copyOf(cancerTypes, capacity);
+            clinicalSignificances = Arrays.copyOf(clinicalSignificances, capacity);
+            alleleFrequencies = Arrays.copyOf(alleleFrequencies, capacity);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.gene.sphere.mutationservice.columnar;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Dictionary encoding of a string column: each distinct value is stored once and rows hold its
+ * {@code int} code. {@code null} is encoded as {@link #NULL}.
+ *
+ * <p>Codes are assigned in order of first appearance. Filters are resolved against the dictionary
+ * once, into a {@code boolean[]} indexed by code, so the row scan itself compares no strings.
+ */
+final class StringDictionary {
+
+    static final int NULL = -1;
+
+    private final String[] values;
+
+    private StringDictionary(String[] values) {
+        this.values = values;
+    }
+
+    int size() {
+        return values.length;
+    }
+
+    /**
+     * The value of a code, or {@code null} for {@link #NULL}.
+     */
+    String decode(int code) {
+        return code == NULL ? null : values[code];
+    }
+
+    /**
+     * Codes whose value matches one of {@code wanted} after normalizing both sides.
+     *
+     * @param wanted    accepted values
+     * @param normalize applied to dictionary values and to {@code wanted} before comparing
+     * @return {@code matches[code]} is true for accepted codes
+     */
+    boolean[] matching(Collection<String> wanted, UnaryOperator<String> normalize) {
+        Set<String> accepted = wanted.stream().map(normalize).collect(Collectors.toSet());
+        boolean[] matches = new boolean[values.length];
+        for (int code = 0; code < values.length; code++) {
+            matches[code] = accepted.contains(normalize.apply(values[code]));
+        }
+        return matches;
+    }
+
+    /**
+     * Approximate heap use of the distinct values, for metrics.
+     */
+    long estimatedBytes() {
+        long bytes = 16L + 4L * values.length;
+        for (String value : values) {
+            bytes += 40 + value.length();
+        }
+        return bytes;
+    }
+
+    /**
+     * Assigns codes while a snapshot is loaded. Identical strings share one instance and one code.
+     */
+    static final class Builder {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int encode(String value) {
+            if (value == null) {
+                return NULL;
+            }
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = values.size();
+                codes.put(value, code);
+                values.add(value);
+            }
+            return code;
+        }
+
+        StringDictionary build() {
+            return new StringDictionary(values.toArray(new String[0]));
+        }
+    }
+}
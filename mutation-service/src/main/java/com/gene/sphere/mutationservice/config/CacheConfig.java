@@ -0,0 +1,140 @@
+package com.gene.sphere.mutationservice.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gene.sphere.mutationservice.model.GeneMutationCount;
+import com.gene.sphere.mutationservice.model.MutationDto;
+import com.gene.sphere.mutationservice.model.ProteinChangeCount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis-backed Spring cache for the mutation aggregations.
+ *
+ * <p>Each cache has its own TTL and a value serializer bound to its concrete type, so entries
+ * carry no class metadata and deserialize back into records. Keys are namespaced as
+ * {@code mutation:<cache>::<key>} so they never collide with gene-service keys on a shared Redis.
+ *
+ * <p><strong>Invalidation:</strong> Every write in {@code MutationService} evicts all three
+ * caches once the transaction commits, so the TTLs are only a safety net for writes that bypass
+ * the service (e.g., bulk SQL loads). Evictions scan keys in batches instead of issuing {@code KEYS}.
+ *
+ * <p><strong>Failures:</strong> Cache read and write errors are logged and the query runs
+ * against the database, so an unavailable Redis slows dashboards down instead of failing them.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig implements CachingConfigurer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CacheConfig.class);
+
+    /**
+     * Mutation count per gene, across the whole dataset (single entry).
+     */
+    public static final String GENE_COUNTS_CACHE = "geneCounts";
+
+    /**
+     * Protein change counts of one gene, keyed by gene symbol.
+     */
+    public static final String PROTEIN_CHANGE_COUNTS_CACHE = "proteinChangeCounts";
+
+    /**
+     * Actionable mutations, keyed by the normalized gene and significance lists.
+     */
+    public static final String ACTIONABLE_CACHE = "actionableMutations";
+
+    private static final String KEY_PREFIX = "mutation:";
+
+    @Value("${cache.mutation.gene-counts-ttl:24h}")
+    private Duration geneCountsTtl;
+
+    @Value("${cache.mutation.protein-change-counts-ttl:24h}")
+    private Duration proteinChangeCountsTtl;
+
+    @Value("${cache.mutation.actionable-ttl:6h}")
+    private Duration actionableTtl;
+
+    /**
+     * Cache manager with one configuration per cache; unknown cache names are not created.
+     */
+    @Bean
+    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory, ObjectMapper objectMapper) {
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(
+                connectionFactory, BatchStrategies.scan(1000));
+
+        return RedisCacheManager.builder(cacheWriter)
+                .withInitialCacheConfigurations(Map.of(
+                        GENE_COUNTS_CACHE,
+                        cacheConfiguration(geneCountsTtl, listOf(objectMapper, GeneMutationCount.class), objectMapper),
+                        PROTEIN_CHANGE_COUNTS_CACHE,
+                        cacheConfiguration(proteinChangeCountsTtl, listOf(objectMapper, ProteinChangeCount.class), objectMapper),
+                        ACTIONABLE_CACHE,
+                        cacheConfiguration(actionableTtl, listOf(objectMapper, MutationDto.class), objectMapper)))
+                .disableCreateOnMissingCache()
+                .transactionAware()
+                .enableStatistics()
+                .build();
+    }
+
+    private static RedisCacheConfiguration cacheConfiguration(Duration ttl, JavaType valueType, ObjectMapper objectMapper) {
+        Jackson2JsonRedisSerializer<Object> valueSerializer = new Jackson2JsonRedisSerializer<>(valueType);
+        valueSerializer.setObjectMapper(objectMapper);
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(ttl)
+                .prefixCacheNameWith(KEY_PREFIX)
+                .disableCachingNullValues()
+                .serializeKeysWith(SerializationPair.fromSerializer(new StringRedisSerializer()))
+                .serializeValuesWith(SerializationPair.fromSerializer(valueSerializer));
+    }
+
+    private static JavaType listOf(ObjectMapper objectMapper, Class<?> elementType) {
+        return objectMapper.getTypeFactory().constructCollectionType(List.class, elementType);
+    }
+
+    /**
+     * Treats cache failures as misses so queries fall back to the database.
+     */
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new CacheErrorHandler() {
+            @Override
+            public void handleCacheGetError(RuntimeException e, Cache cache, Object key) {
+                LOGGER.warn("Error reading cache {} key {}", cache.getName(), key, e);
+            }
+
+            @Override
+            public void handleCachePutError(RuntimeException e, Cache cache, Object key, Object value) {
+                LOGGER.warn("Error writing cache {} key {}", cache.getName(), key, e);
+            }
+
+            @Override
+            public void handleCacheEvictError(RuntimeException e, Cache cache, Object key) {
+                LOGGER.error("Error evicting cache {} key {}", cache.getName(), key, e);
+            }
+
+            @Override
+            public void handleCacheClearError(RuntimeException e, Cache cache) {
+                LOGGER.error("Error clearing cache {}", cache.getName(), e);
+            }
+        };
+    }
+}
@@ -0,0 +1,55 @@
+package com.gene.sphere.mutationservice.config;
+
+import com.gene.sphere.mutationservice.security.JwtAuthenticationEntryPoint;
+import com.gene.sphere.mutationservice.security.JwtAuthenticationFilter;
+import com.gene.sphere.mutationservice.security.JwtTokenVerifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+/**
+ * Stateless security for the mutation API, using the JWTs issued by gene-service.
+ *
+ * <p><strong>Rules:</strong>
+ * <ul>
+ *   <li><strong>Reads:</strong> {@code GET /api/**} requires the USER or ADMIN role</li>
+ *   <li><strong>Writes:</strong> Any other method on {@code /api/**} requires ADMIN</li>
+ *   <li><strong>Ingestion:</strong> Every {@code /api/ingest/**} endpoint, including job polling,
+ *       requires ADMIN, as jobs read files from the server's ingest directory</li>
+ *   <li><strong>Actuator:</strong> Health and info are public; everything else requires ADMIN</li>
+ * </ul>
+ * There are no sessions or cookies, so CSRF protection is disabled; a request is authenticated
+ * only by its {@code Authorization: Bearer} header.
+ */
+@Configuration
+public class SecurityConfig {
+
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtTokenVerifier tokenVerifier) throws Exception {
+        http
+                .csrf().disable()
+                .httpBasic().disable()
+                .formLogin().disable()
+                .authorizeRequests()
+                        .antMatchers("/actuator/health", "/actuator/info").permitAll()
+                        .antMatchers("/actuator/**").hasRole("ADMIN")
+                        .antMatchers("/api/ingest/**").hasRole("ADMIN")
+                        .antMatchers(HttpMethod.GET, "/api/**").hasAnyRole("USER", "ADMIN")
+                        .antMatchers("/api/**").hasRole("ADMIN")
+                        .anyRequest().authenticated()
+                .and()
+                .exceptionHandling()
+                        .authenticationEntryPoint(new JwtAuthenticationEntryPoint())
+                .and()
+                .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                .and()
+                .addFilterBefore(new JwtAuthenticationFilter(tokenVerifier), UsernamePasswordAuthenticationFilter.class)
+                .headers().frameOptions().deny();
+
+        return http.build();
+    }
+}
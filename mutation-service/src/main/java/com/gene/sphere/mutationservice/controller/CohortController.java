@@ -0,0 +1,110 @@
+package com.gene.sphere.mutationservice.controller;
+
+import com.gene.sphere.mutationservice.columnar.CohortFilter;
+import com.gene.sphere.mutationservice.columnar.MutationColumnStore;
+import com.gene.sphere.mutationservice.columnar.MutationColumns;
+import com.gene.sphere.mutationservice.model.CohortSummary;
+import com.gene.sphere.mutationservice.model.MutationDto;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST endpoints for ad-hoc cohort exploration: any combination of gene, region, mutation type,
+ * cancer type, clinical significance and allele frequency conditions, answered by scanning the
+ * in-memory {@link MutationColumnStore} snapshot instead of querying the database.
+ *
+ * <p>Writes committed on this node are visible at once; writes made on other nodes or by bulk SQL
+ * appear after the store's next reload.
+ */
+@RestController
+@RequestMapping("/api/mutations/cohort")
+public class CohortController {
+
+    private static final int MAX_GROUPS = 1000;
+
+    private static final int MAX_MUTATIONS = 10_000;
+
+    private static final int MAX_ALLELE_FREQUENCY_BINS = 100;
+
+    private final MutationColumnStore columnStore;
+
+    public CohortController(MutationColumnStore columnStore) {
+        this.columnStore = columnStore;
+    }
+
+    /**
+     * Counts of the matching mutations and samples, grouped by {@code groupBy}, with their allele
+     * frequency distribution.
+     */
+    @GetMapping("/summary")
+    public CohortSummary summary(@RequestParam(required = false) List<String> genes,
+                                 @RequestParam(required = false) String chromosome,
+                                 @RequestParam(required = false) Long start,
+                                 @RequestParam(required = false) Long end,
+                                 @RequestParam(required = false) List<String> mutationTypes,
+                                 @RequestParam(required = false) List<String> cancerTypes,
+                                 @RequestParam(required = false) List<String> significances,
+                                 @RequestParam(required = false) Double minVaf,
+                                 @RequestParam(required = false) Double maxVaf,
+                                 @RequestParam(defaultValue = "GENE") MutationColumns.Column groupBy,
+                                 @RequestParam(defaultValue = "20") int limit,
+                                 @RequestParam(defaultValue = "10") int vafBins) {
+        if (limit < 1 || limit > MAX_GROUPS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_GROUPS);
+        }
+        if (vafBins < 1 || vafBins > MAX_ALLELE_FREQUENCY_BINS) {
+            throw new IllegalArgumentException("vafBins must be between 1 and " + MAX_ALLELE_FREQUENCY_BINS);
+        }
+        CohortFilter filter = new CohortFilter(genes, chromosome, start, end, mutationTypes, cancerTypes,
+                significances, minVaf, maxVaf);
+        MutationColumns columns = readyColumns();
+        MutationColumns.Selection selection = columns.select(filter);
+        return new CohortSummary(
+                columns.rows(),
+                selection.count(),
+                columns.distinctSamples(selection),
+                columns.countBy(groupBy, selection, limit),
+                columns.alleleFrequencies(selection, vafBins),
+                columns.version());
+    }
+
+    /**
+     * The matching mutations in id order.
+     */
+    @GetMapping("/mutations")
+    public List<MutationDto> mutations(@RequestParam(required = false) List<String> genes,
+                                       @RequestParam(required = false) String chromosome,
+                                       @RequestParam(required = false) Long start,
+                                       @RequestParam(required = false) Long end,
+                                       @RequestParam(required = false) List<String> mutationTypes,
+                                       @RequestParam(required = false) List<String> cancerTypes,
+                                       @RequestParam(required = false) List<String> significances,
+                                       @RequestParam(required = false) Double minVaf,
+                                       @RequestParam(required = false) Double maxVaf,
+                                       @RequestParam(defaultValue = "1000") int limit) {
+        if (limit < 1 || limit > MAX_MUTATIONS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_MUTATIONS);
+        }
+        CohortFilter filter = new CohortFilter(genes, chromosome, start, end, mutationTypes, cancerTypes,
+                significances, minVaf, maxVaf);
+        MutationColumns columns = readyColumns();
+        return columns.rows(columns.select(filter), limit);
+    }
+
+    private MutationColumns readyColumns() {
+        if (!columnStore.isReady()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Mutation column snapshot is still being built");
+        }
+        return columnStore.current();
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("status", "error", "message", e.getMessage()));
+    }
+}
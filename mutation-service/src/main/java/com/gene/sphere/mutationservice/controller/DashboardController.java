@@ -0,0 +1,118 @@
+package com.gene.sphere.mutationservice.controller;
+
+import com.gene.sphere.mutationservice.model.DashboardSummary;
+import com.gene.sphere.mutationservice.model.GeneRollup;
+import com.gene.sphere.mutationservice.model.MutationTypeShare;
+import com.gene.sphere.mutationservice.model.SampleBurden;
+import com.gene.sphere.mutationservice.repository.MutationRollupRepository;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * REST endpoints for the dashboard's summary cards, gene table, pie and bar charts and burden histogram.
+ *
+ * <p>Served from the trigger-maintained rollup tables of {@code database/scripts/create_mutation_rollups.sql}
+ * through {@link MutationRollupRepository}; each read is an index lookup however large the mutations
+ * table grows, and reflects every committed write. Every endpoint returns 503 with a message while the
+ * rollup tables are not installed.
+ */
+@RestController
+@RequestMapping("/api/mutations/dashboard")
+public class DashboardController {
+
+    /**
+     * SQLSTATEs of a missing table: PostgreSQL {@code undefined_table} and the standard
+     * "base table or view not found" (H2).
+     */
+    private static final Set<String> MISSING_TABLE_STATES = Set.of("42P01", "42S02");
+
+    private final MutationRollupRepository rollups;
+
+    public DashboardController(MutationRollupRepository rollups) {
+        this.rollups = rollups;
+    }
+
+    /**
+     * Total mutations, samples and mutated genes; 503 until the rollups have been backfilled.
+     */
+    @GetMapping("/summary")
+    public DashboardSummary summary() {
+        return rollups.findSummary()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                        "Mutation rollups have not been built"));
+    }
+
+    /**
+     * The most frequently mutated genes with their sample percentage and mutation types.
+     */
+    @GetMapping("/genes/top")
+    public List<GeneRollup> topGenes(@RequestParam(defaultValue = "20") int limit,
+                                     @RequestParam(defaultValue = "MUTATIONS") MutationRollupRepository.GeneOrder orderBy) {
+        return rollups.findTopGenes(orderBy, limit);
+    }
+
+    @GetMapping("/genes/{geneName}")
+    public ResponseEntity<GeneRollup> gene(@PathVariable String geneName) {
+        return rollups.findGene(geneName.trim())
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Mutation counts and percentages per mutation type.
+     */
+    @GetMapping("/types")
+    public List<MutationTypeShare> typeDistribution() {
+        return rollups.findTypeDistribution();
+    }
+
+    /**
+     * Samples with the most mutations.
+     */
+    @GetMapping("/samples/burden")
+    public List<SampleBurden> sampleBurden(@RequestParam(defaultValue = "100") int limit) {
+        return rollups.findTopSampleBurden(limit);
+    }
+
+    @GetMapping("/samples/{sampleId}/burden")
+    public ResponseEntity<SampleBurden> sampleBurdenOf(@PathVariable String sampleId) {
+        return rollups.findSampleBurden(sampleId.trim())
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("status", "error", "message", e.getMessage()));
+    }
+
+    /**
+     * Reports rollup tables that were never installed as 503; any other SQL error is left to the
+     * default handling.
+     */
+    @ExceptionHandler(InvalidDataAccessResourceUsageException.class)
+    public ResponseEntity<Map<String, String>> handleMissingRollups(InvalidDataAccessResourceUsageException e) {
+        if (!isMissingTable(e)) {
+            throw e;
+        }
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("status", "error", "message",
+                "Mutation rollup tables are not installed; run database/scripts/create_mutation_rollups.sql"));
+    }
+
+    private static boolean isMissingTable(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql && MISSING_TABLE_STATES.contains(sql.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,55 @@
+package com.gene.sphere.mutationservice.controller;
+
+import com.gene.sphere.mutationservice.ingest.MutationIngestJob;
+import com.gene.sphere.mutationservice.ingest.MutationIngestRequest;
+import com.gene.sphere.mutationservice.ingest.MutationIngestService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * REST endpoints for bulk mutation ingestion.
+ *
+ * <p>Files are read from the server's {@code ingest.directory}, not uploaded: cBioPortal/TCGA
+ * MAF files run to gigabytes and are staged next to the service (see
+ * {@code database/scripts/download_cbioportal_data.sh}). Ingestion runs in the background;
+ * poll the job for progress.
+ */
+@RestController
+@RequestMapping("/api/ingest")
+public class IngestController {
+
+    private final MutationIngestService ingestService;
+
+    public IngestController(MutationIngestService ingestService) {
+        this.ingestService = ingestService;
+    }
+
+    /**
+     * Starts ingesting a MAF/TSV file.
+     * @param request File (relative to the ingest directory) and options.
+     * @return 202 with the PENDING job; poll {@code GET /api/ingest/jobs/{id}} for progress.
+     */
+    @PostMapping("/mutations")
+    public ResponseEntity<MutationIngestJob> ingestMutations(@RequestBody MutationIngestRequest request) {
+        return ResponseEntity.accepted().body(ingestService.submit(request));
+    }
+
+    /**
+     * Get the progress of an ingestion job.
+     * @param id Identifier returned when the job was started.
+     * @return MutationIngestJob snapshot, or 404 if the job is unknown.
+     */
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<MutationIngestJob> getJob(@PathVariable String id) {
+        return ingestService.getJob(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("status", "error", "message", e.getMessage()));
+    }
+}
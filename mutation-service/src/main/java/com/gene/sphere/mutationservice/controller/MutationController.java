@@ -0,0 +1,378 @@
+package com.gene.sphere.mutationservice.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gene.sphere.mutationservice.model.CursorPage;
+import com.gene.sphere.mutationservice.model.GeneMutationCount;
+import com.gene.sphere.mutationservice.model.MutationDto;
+import com.gene.sphere.mutationservice.model.ProteinChangeCount;
+import com.gene.sphere.mutationservice.model.ProteinChangeEstimate;
+import com.gene.sphere.mutationservice.model.ProteinChangeHotspots;
+import com.gene.sphere.mutationservice.model.VariantSpan;
+import com.gene.sphere.mutationservice.service.GenomicIntervalIndex;
+import com.gene.sphere.mutationservice.service.MutationQuery;
+import com.gene.sphere.mutationservice.service.MutationService;
+import com.gene.sphere.mutationservice.service.ProteinChangeHotspotIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * REST endpoints for mutations.
+ *
+ * <p>CRUD and the narrow lookups return plain lists. The aggregations under {@code /stats} and
+ * {@code /actionable} are served from the Redis cache and only recomputed after a write.
+ * The genome-browser queries under {@code /intervals} are served from the in-memory
+ * {@link GenomicIntervalIndex} without touching the database, and the lollipop plot data under
+ * {@code /hotspots} from the in-memory {@link ProteinChangeHotspotIndex}.
+ *
+ * <p>Every broad filter has two forms:
+ * <ul>
+ *   <li>{@code GET /api/mutations/{filter}?cursor=&size=} returns a {@link CursorPage}; pass
+ *       {@code nextCursor} back as {@code cursor} until it is {@code null}</li>
+ *   <li>{@code GET /api/mutations/{filter}/stream} writes every match as newline-delimited JSON
+ *       while the rows are read from the database</li>
+ * </ul>
+ * Streams are written on the request thread so they are not cut off by the async request timeout.
+ */
+@RestController
+@RequestMapping("/api/mutations")
+public class MutationController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MutationController.class);
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private static final String DEFAULT_SIZE = "" + MutationService.DEFAULT_PAGE_SIZE;
+
+    /**
+     * Maximum number of spans returned by one interval query.
+     */
+    private static final int MAX_INTERVAL_RESULTS = 10_000;
+
+    private final MutationService mutationService;
+    private final GenomicIntervalIndex intervalIndex;
+    private final ProteinChangeHotspotIndex hotspotIndex;
+    private final ObjectMapper objectMapper;
+
+    public MutationController(MutationService mutationService, GenomicIntervalIndex intervalIndex,
+                              ProteinChangeHotspotIndex hotspotIndex, ObjectMapper objectMapper) {
+        this.mutationService = mutationService;
+        this.intervalIndex = intervalIndex;
+        this.hotspotIndex = hotspotIndex;
+        this.objectMapper = objectMapper;
+    }
+
+    // ==================== CRUD ====================
+
+    @GetMapping("/{id:\\d+}")
+    public ResponseEntity<MutationDto> getMutation(@PathVariable Integer id) {
+        return mutationService.getMutation(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping
+    public ResponseEntity<MutationDto> createMutation(@RequestBody MutationDto mutation) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(mutationService.createMutation(mutation));
+    }
+
+    @PutMapping("/{id:\\d+}")
+    public MutationDto updateMutation(@PathVariable Integer id, @RequestBody MutationDto mutation) {
+        return mutationService.updateMutation(id, mutation);
+    }
+
+    @DeleteMapping("/{id:\\d+}")
+    public ResponseEntity<Void> deleteMutation(@PathVariable Integer id) {
+        mutationService.deleteMutation(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    // ==================== CACHED AGGREGATIONS ====================
+
+    /**
+     * Mutation count per gene, most mutated first.
+     */
+    @GetMapping("/stats/genes")
+    public List<GeneMutationCount> countMutationsPerGene() {
+        return mutationService.countMutationsPerGene();
+    }
+
+    /**
+     * Protein change counts (hotspots) of one gene, most frequent first.
+     */
+    @GetMapping("/stats/genes/{geneName}/protein-changes")
+    public List<ProteinChangeCount> countMutationsByProteinChange(@PathVariable String geneName) {
+        return mutationService.countMutationsByProteinChange(geneName);
+    }
+
+    /**
+     * Actionable mutations in driver genes.
+     * Example: /api/mutations/actionable?genes=EGFR,KRAS,ALK&significances=Pathogenic
+     */
+    @GetMapping("/actionable")
+    public List<MutationDto> findActionableMutations(
+            @RequestParam List<String> genes,
+            @RequestParam(defaultValue = "Pathogenic,Likely Pathogenic") List<String> significances) {
+        return mutationService.findActionableMutations(genes, significances);
+    }
+
+    // ==================== INTERVALS ====================
+
+    /**
+     * Spans of mutations in a window - IN-MEMORY INDEX ONLY
+     * Example: /api/mutations/intervals/chr17?start=7570000&end=7590000&overlap=true
+     * By default returns mutations starting in the window; with overlap=true also deletions
+     * that begin before it and reach into it.
+     */
+    @GetMapping("/intervals/{chromosome}")
+    public List<VariantSpan> intervals(@PathVariable String chromosome,
+                                       @RequestParam long start,
+                                       @RequestParam long end,
+                                       @RequestParam(defaultValue = "false") boolean overlap,
+                                       @RequestParam(defaultValue = "1000") int limit) {
+        requireWindow(start, end, limit);
+        return overlap
+                ? intervalIndex.findOverlapping(chromosome, start, end, limit)
+                : intervalIndex.findInRegion(chromosome, start, end, limit);
+    }
+
+    /**
+     * Number of mutations starting in a window (e.g., for density tracks) - IN-MEMORY INDEX ONLY
+     */
+    @GetMapping("/intervals/{chromosome}/count")
+    public Map<String, Integer> countIntervals(@PathVariable String chromosome,
+                                               @RequestParam long start,
+                                               @RequestParam long end) {
+        requireWindow(start, end, 1);
+        return Map.of("count", intervalIndex.countInRegion(chromosome, start, end));
+    }
+
+    /**
+     * The k mutations closest to a position, closest first - IN-MEMORY INDEX ONLY
+     */
+    @GetMapping("/intervals/{chromosome}/nearest")
+    public List<VariantSpan> nearest(@PathVariable String chromosome,
+                                     @RequestParam long position,
+                                     @RequestParam(defaultValue = "10") int k) {
+        requireWindow(position, position, k);
+        return intervalIndex.findNearest(chromosome, position, k);
+    }
+
+    private void requireWindow(long start, long end, int limit) {
+        if (start < 0 || end < start) {
+            throw new IllegalArgumentException("Window must satisfy 0 <= start <= end");
+        }
+        if (limit < 1 || limit > MAX_INTERVAL_RESULTS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_INTERVAL_RESULTS);
+        }
+        if (!intervalIndex.isReady()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Interval index is still being built");
+        }
+    }
+
+    // ==================== HOTSPOTS ====================
+
+    /**
+     * Most frequent protein changes of a gene, for a lollipop plot - IN-MEMORY INDEX ONLY
+     * Example: /api/mutations/hotspots/KRAS?limit=20&binSize=10
+     * With binSize, also returns mutation counts per bin of residues.
+     */
+    @GetMapping("/hotspots/{geneName}")
+    public ProteinChangeHotspots hotspots(@PathVariable String geneName,
+                                          @RequestParam(defaultValue = "20") int limit,
+                                          @RequestParam(required = false) Integer binSize) {
+        requireHotspotIndex();
+        return hotspotIndex.hotspots(geneName, limit, binSize);
+    }
+
+    /**
+     * Occurrences of one protein change in a gene; exact for hotspots, an upper bound for the long tail
+     * Example: /api/mutations/hotspots/EGFR/count?proteinChange=p.L858R
+     */
+    @GetMapping("/hotspots/{geneName}/count")
+    public ProteinChangeEstimate countHotspot(@PathVariable String geneName, @RequestParam String proteinChange) {
+        requireHotspotIndex();
+        return hotspotIndex.estimate(geneName, proteinChange);
+    }
+
+    private void requireHotspotIndex() {
+        if (!hotspotIndex.isReady()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Hotspot index is still being built");
+        }
+    }
+
+    // ==================== LOOKUPS ====================
+
+    @GetMapping("/protein-change/{proteinChange}")
+    public List<MutationDto> byProteinChange(@PathVariable String proteinChange) {
+        return mutationService.getByProteinChange(proteinChange);
+    }
+
+    @GetMapping("/gene/{geneName}/significance/{significance}")
+    public List<MutationDto> byGeneAndSignificance(@PathVariable String geneName, @PathVariable String significance) {
+        return mutationService.getByGeneAndSignificance(geneName, significance);
+    }
+
+    @GetMapping("/gene/{geneName}/high-frequency")
+    public List<MutationDto> highFrequencyMutations(@PathVariable String geneName,
+                                                    @RequestParam(defaultValue = "0.5") BigDecimal minFrequency) {
+        return mutationService.getHighFrequencyMutations(geneName, minFrequency);
+    }
+
+    @GetMapping("/gene/{geneName}/sample/{sampleId}")
+    public List<MutationDto> byGeneAndSample(@PathVariable String geneName, @PathVariable String sampleId) {
+        return mutationService.getByGeneAndSample(geneName, sampleId);
+    }
+
+    @GetMapping("/exists")
+    public Map<String, Boolean> exists(@RequestParam String gene, @RequestParam String proteinChange) {
+        return Map.of("exists", mutationService.exists(gene, proteinChange));
+    }
+
+    // ==================== PAGES ====================
+
+    @GetMapping("/gene/{geneName}")
+    public CursorPage<MutationDto> byGene(@PathVariable String geneName,
+                                          @RequestParam(required = false) String cursor,
+                                          @RequestParam(defaultValue = DEFAULT_SIZE) int size) {
+        return mutationService.findPage(MutationQuery.byGene(geneName), cursor, size);
+    }
+
+    @GetMapping("/genes")
+    public CursorPage<MutationDto> byGenes(@RequestParam List<String> names,
+                                           @RequestParam(required = false) String cursor,
+                                           @RequestParam(defaultValue = DEFAULT_SIZE) int size) {
+        return mutationService.findPage(MutationQuery.byGenes(names), cursor, size);
+    }
+
+    @GetMapping("/chromosome/{chromosome}")
+    public CursorPage<MutationDto> byChromosome(@PathVariable String chromosome,
+                                                @RequestParam(required = false) Long start,
+                                                @RequestParam(required = false) Long end,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(defaultValue = DEFAULT_SIZE) int size) {
+        return mutationService.findPage(chromosomeQuery(chromosome, start, end), cursor, size);
+    }
+
+    @GetMapping("/type/{mutationType}")
+    public CursorPage<MutationDto> byMutationType(@PathVariable String mutationType,
+                                                  @RequestParam(required = false) String cursor,
+                                                  @RequestParam(defaultValue = DEFAULT_SIZE) int size) {
+        return mutationService.findPage(MutationQuery.byMutationType(mutationType), cursor, size);
+    }
+
+    @GetMapping("/patient/{patientId}")
+    public CursorPage<MutationDto> byPatient(@PathVariable String patientId,
+                                             @RequestParam(required = false) String cursor,
+                                             @RequestParam(defaultValue = DEFAULT_SIZE) int size) {
+        return mutationService.findPage(MutationQuery.byPatient(patientId), cursor, size);
+    }
+
+    @GetMapping("/sample/{sampleId}")
+    public CursorPage<MutationDto> bySample(@PathVariable String sampleId,
+                                            @RequestParam(required = false) String cursor,
+                                            @RequestParam(defaultValue = DEFAULT_SIZE) int size) {
+        return mutationService.findPage(MutationQuery.bySample(sampleId), cursor, size);
+    }
+
+    @GetMapping("/significance/{significance}")
+    public CursorPage<MutationDto> byClinicalSignificance(@PathVariable String significance,
+                                                          @RequestParam(required = false) String cursor,
+                                                          @RequestParam(defaultValue = DEFAULT_SIZE) int size) {
+        return mutationService.findPage(MutationQuery.byClinicalSignificance(significance), cursor, size);
+    }
+
+    // ==================== STREAMS ====================
+
+    @GetMapping("/gene/{geneName}/stream")
+    public void streamByGene(@PathVariable String geneName, HttpServletResponse response) throws IOException {
+        stream(MutationQuery.byGene(geneName), response);
+    }
+
+    @GetMapping("/genes/stream")
+    public void streamByGenes(@RequestParam List<String> names, HttpServletResponse response) throws IOException {
+        stream(MutationQuery.byGenes(names), response);
+    }
+
+    @GetMapping("/chromosome/{chromosome}/stream")
+    public void streamByChromosome(@PathVariable String chromosome,
+                                   @RequestParam(required = false) Long start,
+                                   @RequestParam(required = false) Long end,
+                                   HttpServletResponse response) throws IOException {
+        stream(chromosomeQuery(chromosome, start, end), response);
+    }
+
+    @GetMapping("/type/{mutationType}/stream")
+    public void streamByMutationType(@PathVariable String mutationType, HttpServletResponse response) throws IOException {
+        stream(MutationQuery.byMutationType(mutationType), response);
+    }
+
+    @GetMapping("/patient/{patientId}/stream")
+    public void streamByPatient(@PathVariable String patientId, HttpServletResponse response) throws IOException {
+        stream(MutationQuery.byPatient(patientId), response);
+    }
+
+    @GetMapping("/sample/{sampleId}/stream")
+    public void streamBySample(@PathVariable String sampleId, HttpServletResponse response) throws IOException {
+        stream(MutationQuery.bySample(sampleId), response);
+    }
+
+    @GetMapping("/significance/{significance}/stream")
+    public void streamByClinicalSignificance(@PathVariable String significance, HttpServletResponse response) throws IOException {
+        stream(MutationQuery.byClinicalSignificance(significance), response);
+    }
+
+    /**
+     * Invalid filters, cursors and page sizes are client errors.
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("status", "error", "message", e.getMessage()));
+    }
+
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<Map<String, String>> handleNotFound(NoSuchElementException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("status", "error", "message", "Mutation not found"));
+    }
+
+    private static MutationQuery chromosomeQuery(String chromosome, Long start, Long end) {
+        if (start == null && end == null) {
+            return MutationQuery.byChromosome(chromosome);
+        }
+        return MutationQuery.byRegion(chromosome, start, end);
+    }
+
+    private void stream(MutationQuery query, HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        OutputStream out = response.getOutputStream();
+        try {
+            long count = mutationService.forEach(query, mutation -> {
+                try {
+                    out.write(objectMapper.writeValueAsBytes(mutation));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+            LOGGER.debug("Streamed {} mutations for {}", count, query);
+        } catch (UncheckedIOException e) {
+            // Usually the client disconnected; the transaction and cursor are already closed and the
+            // response cannot be written to any more, so it is not flushed
+            LOGGER.warn("Mutation stream for {} aborted: {}", query, e.getCause().getMessage());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.gene.sphere.mutationservice.controller;
+
+import com.gene.sphere.mutationservice.model.GenePairCounts;
+import com.gene.sphere.mutationservice.model.GenePairStatistics;
+import com.gene.sphere.mutationservice.model.Oncoprint;
+import com.gene.sphere.mutationservice.model.PairStatisticsReport;
+import com.gene.sphere.mutationservice.service.MutationMatrix;
+import com.gene.sphere.mutationservice.service.PairStatisticsService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * REST endpoints for sample x gene analyses: oncoprints, co-occurrence and mutual exclusivity.
+ *
+ * <p>Served from the in-memory {@link MutationMatrix} without touching the database; every
+ * endpoint returns 503 until the first build completes. {@code /statistics} adds Fisher's exact
+ * test and Benjamini-Hochberg q-values from {@link PairStatisticsService}.
+ */
+@RestController
+@RequestMapping("/api/mutations/matrix")
+public class MutationMatrixController {
+
+    /**
+     * Maximum number of genes paired up by one request (n * (n - 1) / 2 pairs).
+     */
+    private static final int MAX_PAIR_GENES = 100;
+
+    /**
+     * Maximum number of most frequently mutated genes considered for the top co-occurring pairs.
+     */
+    private static final int MAX_CANDIDATE_GENES = 1000;
+
+    private static final int MAX_ONCOPRINT_SAMPLES = 100_000;
+
+    private final MutationMatrix matrix;
+    private final PairStatisticsService pairStatistics;
+
+    public MutationMatrixController(MutationMatrix matrix, PairStatisticsService pairStatistics) {
+        this.matrix = matrix;
+        this.pairStatistics = pairStatistics;
+    }
+
+    /**
+     * Oncoprint of up to 64 genes: alteration frequency per gene and altered samples in memo-sort order.
+     */
+    @GetMapping("/oncoprint")
+    public Oncoprint oncoprint(@RequestParam List<String> genes,
+                               @RequestParam(defaultValue = "1000") int limit) {
+        requireLimit(limit, MAX_ONCOPRINT_SAMPLES);
+        requireReady();
+        return matrix.oncoprint(genes, limit);
+    }
+
+    /**
+     * Co-occurrence counts of every pair of the given genes.
+     */
+    @GetMapping("/cooccurrence")
+    public List<GenePairCounts> cooccurrence(@RequestParam List<String> genes) {
+        if (genes.size() < 2 || genes.size() > MAX_PAIR_GENES) {
+            throw new IllegalArgumentException("Between 2 and " + MAX_PAIR_GENES + " genes are required");
+        }
+        requireReady();
+        return matrix.pairs(genes);
+    }
+
+    /**
+     * The most co-occurring pairs among the most frequently mutated genes; the live equivalent of
+     * the {@code gene_cooccurrence} dashboard view.
+     */
+    @GetMapping("/cooccurrence/top")
+    public List<GenePairCounts> topCooccurring(@RequestParam(defaultValue = "100") int candidates,
+                                               @RequestParam(defaultValue = "5") int minCount,
+                                               @RequestParam(defaultValue = "50") int limit) {
+        requireLimit(candidates, MAX_CANDIDATE_GENES);
+        requireLimit(limit, MAX_PAIR_GENES * (MAX_PAIR_GENES - 1) / 2);
+        requireReady();
+        return matrix.topCooccurring(candidates, minCount, limit);
+    }
+
+    /**
+     * Fisher's exact test of every pair of the given genes, or of every gene mutated in at least
+     * {@code minSamples} samples, with q-values corrected over all pairs tested. Returns 503 while
+     * another run is using the test pool.
+     */
+    @GetMapping("/statistics")
+    public PairStatisticsReport statistics(@RequestParam(required = false) List<String> genes,
+                                           @RequestParam(defaultValue = "5") int minSamples,
+                                           @RequestParam(defaultValue = "0.05") double maxQ,
+                                           @RequestParam(defaultValue = "100") int limit,
+                                           @RequestParam(required = false) GenePairStatistics.Tendency tendency) {
+        requireReady();
+        return pairStatistics.test(genes, minSamples, maxQ, limit, tendency);
+    }
+
+    private void requireReady() {
+        if (!matrix.isReady()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Mutation matrix is still being built");
+        }
+    }
+
+    private static void requireLimit(int value, int max) {
+        if (value < 1 || value > max) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + max);
+        }
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("status", "error", "message", e.getMessage()));
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<Map<String, String>> handleBusy(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(Map.of("status", "error", "message", e.getMessage()));
+    }
+}
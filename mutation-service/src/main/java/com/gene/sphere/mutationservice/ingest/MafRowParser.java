@@ -0,0 +1,263 @@
+package com.gene.sphere.mutationservice.ingest;
+
+import com.gene.sphere.mutationservice.model.MutationDto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Parses tab-separated mutation rows into validated {@link MutationDto}s.
+ *
+ * <p>Columns are located by header name, so both cBioPortal/TCGA MAF files
+ * ({@code Hugo_Symbol}, {@code Start_Position}, {@code Tumor_Seq_Allele2}, ...) and TSV exports
+ * using the table's own column names ({@code gene_name}, {@code position}, ...) are accepted.
+ * Mapping follows {@code database/scripts/parse_maf_to_sql.py}:
+ * <ul>
+ *   <li>{@code chr} prefixes are stripped and {@code M} becomes {@code MT}</li>
+ *   <li>{@code Variant_Type} (SNP/DEL/INS) or else {@code Variant_Classification} gives the mutation type</li>
+ *   <li>Without a patient column, the tumor sample barcode is used as the patient id</li>
+ *   <li>Without an allele frequency column, it is computed from {@code t_alt_count / (t_alt_count + t_ref_count)}</li>
+ * </ul>
+ *
+ * <p>Every row goes through {@link MutationDto}'s compact constructor and then through the
+ * {@code mutations} table's CHECK constraints and column lengths, so a bad row is rejected here
+ * instead of failing a whole COPY batch. Rejections are reported as {@link IllegalArgumentException}.
+ */
+final class MafRowParser {
+
+    private static final Pattern CHROMOSOME = Pattern.compile("^([1-9]|1[0-9]|2[0-2]|X|Y|MT)$");
+
+    private static final Set<String> MUTATION_TYPES =
+            Set.of("SNV", "deletion", "insertion", "fusion", "CNV", "duplication");
+
+    private static final Set<String> CLINICAL_SIGNIFICANCES = Set.of(
+            "Pathogenic", "Likely Pathogenic", "Uncertain Significance", "Likely Benign", "Benign");
+
+    private static final Map<String, String> VARIANT_TYPES = Map.of(
+            "SNP", "SNV", "DNP", "SNV", "TNP", "SNV", "ONP", "SNV",
+            "DEL", "deletion", "INS", "insertion");
+
+    private static final Map<String, String> VARIANT_CLASSIFICATIONS = Map.of(
+            "Frame_Shift_Del", "deletion",
+            "In_Frame_Del", "deletion",
+            "Frame_Shift_Ins", "insertion",
+            "In_Frame_Ins", "insertion");
+
+    private final int gene;
+    private final int chromosome;
+    private final int position;
+    private final int referenceAllele;
+    private final int alternateAllele;
+    private final int mutationType;
+    private final int variantType;
+    private final int variantClassification;
+    private final int patient;
+    private final int sample;
+    private final int proteinChange;
+    private final int cancerType;
+    private final int clinicalSignificance;
+    private final int alleleFrequency;
+    private final int altCount;
+    private final int refCount;
+    private final String defaultCancerType;
+
+    private MafRowParser(Map<String, Integer> columns, String defaultCancerType) {
+        this.gene = column(columns, "gene_name", "hugo_symbol");
+        this.chromosome = column(columns, "chromosome");
+        this.position = column(columns, "position", "start_position");
+        this.referenceAllele = column(columns, "reference_allele");
+        this.alternateAllele = column(columns, "alternate_allele", "tumor_seq_allele2");
+        this.mutationType = column(columns, "mutation_type");
+        this.variantType = column(columns, "variant_type");
+        this.variantClassification = column(columns, "variant_classification");
+        this.patient = column(columns, "patient_id");
+        this.sample = column(columns, "sample_id", "tumor_sample_barcode");
+        this.proteinChange = column(columns, "protein_change", "hgvsp_short");
+        this.cancerType = column(columns, "cancer_type");
+        this.clinicalSignificance = column(columns, "clinical_significance");
+        this.alleleFrequency = column(columns, "allele_frequency");
+        this.altCount = column(columns, "t_alt_count");
+        this.refCount = column(columns, "t_ref_count");
+        this.defaultCancerType = defaultCancerType;
+
+        requireColumn(gene, "Hugo_Symbol or gene_name");
+        requireColumn(chromosome, "Chromosome");
+        requireColumn(position, "Start_Position or position");
+        requireColumn(referenceAllele, "Reference_Allele");
+        requireColumn(alternateAllele, "Tumor_Seq_Allele2 or alternate_allele");
+        if (mutationType < 0 && variantType < 0 && variantClassification < 0) {
+            throw new IllegalArgumentException("Missing column: Variant_Type, Variant_Classification or mutation_type");
+        }
+        if (patient < 0 && sample < 0) {
+            throw new IllegalArgumentException("Missing column: Tumor_Sample_Barcode or patient_id");
+        }
+    }
+
+    /**
+     * Creates a parser for the columns named in a header line.
+     *
+     * @param headerLine        the tab-separated header (column names are case-insensitive)
+     * @param defaultCancerType cancer type for files without a {@code cancer_type} column
+     * @throws IllegalArgumentException if a required column is missing
+     */
+    static MafRowParser forHeader(String headerLine, String defaultCancerType) {
+        String[] names = headerLine.split("\t", -1);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            columns.putIfAbsent(names[i].trim().toLowerCase(Locale.ROOT), i);
+        }
+        return new MafRowParser(columns, defaultCancerType);
+    }
+
+    /**
+     * Parses and validates one data line.
+     *
+     * @throws IllegalArgumentException if the row is malformed or violates a table constraint
+     */
+    MutationDto parse(String line) {
+        String[] fields = line.split("\t", -1);
+
+        String chromosomeName = normalizeChromosome(required(fields, chromosome, "chromosome"));
+        long start;
+        try {
+            start = Long.parseLong(required(fields, position, "position"));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Position is not a number");
+        }
+        String sampleId = value(fields, sample);
+        String patientId = value(fields, patient);
+
+        MutationDto mutation = new MutationDto(
+                value(fields, gene),
+                chromosomeName,
+                start,
+                value(fields, referenceAllele),
+                value(fields, alternateAllele),
+                mutationType(fields),
+                patientId != null ? patientId : sampleId,
+                sampleId,
+                value(fields, proteinChange),
+                cancerType >= 0 && value(fields, cancerType) != null ? value(fields, cancerType) : defaultCancerType,
+                value(fields, clinicalSignificance),
+                alleleFrequency(fields));
+        checkTableConstraints(mutation);
+        return mutation;
+    }
+
+    private String mutationType(String[] fields) {
+        String explicit = value(fields, mutationType);
+        if (explicit != null) {
+            return explicit;
+        }
+        String type = value(fields, variantType);
+        if (type != null && VARIANT_TYPES.containsKey(type.toUpperCase(Locale.ROOT))) {
+            return VARIANT_TYPES.get(type.toUpperCase(Locale.ROOT));
+        }
+        String classification = value(fields, variantClassification);
+        if (classification != null) {
+            return VARIANT_CLASSIFICATIONS.getOrDefault(classification, "SNV");
+        }
+        return null;
+    }
+
+    private BigDecimal alleleFrequency(String[] fields) {
+        try {
+            String explicit = value(fields, alleleFrequency);
+            if (explicit != null) {
+                return new BigDecimal(explicit).setScale(4, RoundingMode.HALF_UP);
+            }
+            String alt = value(fields, altCount);
+            String ref = value(fields, refCount);
+            if (alt == null || ref == null) {
+                return null;
+            }
+            long altReads = Long.parseLong(alt);
+            long totalReads = altReads + Long.parseLong(ref);
+            return totalReads > 0
+                    ? BigDecimal.valueOf(altReads).divide(BigDecimal.valueOf(totalReads), 4, RoundingMode.HALF_UP)
+                    : null;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Allele frequency or read counts are not numbers");
+        }
+    }
+
+    /**
+     * Mirrors the CHECK constraints and column lengths of {@code create_mutations_table.sql}.
+     */
+    private static void checkTableConstraints(MutationDto mutation) {
+        if (!CHROMOSOME.matcher(mutation.chromosome()).matches()) {
+            throw new IllegalArgumentException("Unsupported chromosome: " + mutation.chromosome());
+        }
+        if (mutation.position() <= 0) {
+            throw new IllegalArgumentException("Position must be positive");
+        }
+        if (!MUTATION_TYPES.contains(mutation.mutationType())) {
+            throw new IllegalArgumentException("Unsupported mutation type: " + mutation.mutationType());
+        }
+        if (mutation.clinicalSignificance() != null && !CLINICAL_SIGNIFICANCES.contains(mutation.clinicalSignificance())) {
+            throw new IllegalArgumentException("Unsupported clinical significance: " + mutation.clinicalSignificance());
+        }
+        for (Object[] limit : List.of(
+                new Object[]{"gene_name", mutation.geneName(), 50},
+                new Object[]{"reference_allele", mutation.referenceAllele(), 1000},
+                new Object[]{"alternate_allele", mutation.alternateAllele(), 1000},
+                new Object[]{"patient_id", mutation.patientId(), 100},
+                new Object[]{"sample_id", mutation.sampleId(), 100},
+                new Object[]{"protein_change", mutation.proteinChange(), 100},
+                new Object[]{"cancer_type", mutation.cancerType(), 100})) {
+            String value = (String) limit[1];
+            if (value != null && value.length() > (int) limit[2]) {
+                throw new IllegalArgumentException(limit[0] + " exceeds " + limit[2] + " characters");
+            }
+        }
+    }
+
+    private static String normalizeChromosome(String chromosome) {
+        String normalized = chromosome.toUpperCase(Locale.ROOT);
+        if (normalized.startsWith("CHR")) {
+            normalized = normalized.substring(3);
+        }
+        return "M".equals(normalized) ? "MT" : normalized;
+    }
+
+    private static String required(String[] fields, int index, String name) {
+        String value = value(fields, index);
+        if (value == null) {
+            throw new IllegalArgumentException(name + " is missing");
+        }
+        return value;
+    }
+
+    /**
+     * Trimmed field value; blank fields and MAF placeholders ("NA", ".") are null.
+     */
+    private static String value(String[] fields, int index) {
+        if (index < 0 || index >= fields.length) {
+            return null;
+        }
+        String value = fields[index].trim();
+        return value.isEmpty() || "NA".equals(value) || ".".equals(value) ? null : value;
+    }
+
+    private static int column(Map<String, Integer> columns, String... names) {
+        for (String name : names) {
+            Integer index = columns.get(name);
+            if (index != null) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static void requireColumn(int index, String name) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Missing column: " + name);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.gene.sphere.mutationservice.ingest;
+
+import java.util.List;
+
+/**
+ * Snapshot of a bulk ingestion job, as returned to pollers.
+ *
+ * <p>While the job is {@code RUNNING}, the counters grow after every line read and every
+ * committed batch; {@code bytesRead / totalBytes} gives the progress through the file (for
+ * {@code .gz} files, through the compressed bytes).
+ *
+ * @param id               job identifier
+ * @param file             the file being ingested, relative to the ingest directory
+ * @param state            current job state
+ * @param totalBytes       size of the file in bytes
+ * @param bytesRead        bytes of the file consumed so far
+ * @param linesRead        lines read so far, including lines skipped when resuming
+ * @param rowsUpserted     mutation rows inserted or updated by this run's committed batches
+ * @param rowsRejected     lines rejected by validation in this run
+ * @param resumedFromLine  last line committed by a previous run (0 if the job started from the beginning)
+ * @param rejectedSamples  the first rejections, as "line N: reason"
+ * @param startedAt        Unix timestamp (milliseconds) when the job was submitted
+ * @param finishedAt       Unix timestamp (milliseconds) when the job ended, null while running
+ * @param error            failure reason, null unless the job FAILED
+ */
+public record MutationIngestJob(
+        String id,
+        String file,
+        State state,
+        long totalBytes,
+        long bytesRead,
+        long linesRead,
+        long rowsUpserted,
+        long rowsRejected,
+        long resumedFromLine,
+        List<String> rejectedSamples,
+        long startedAt,
+        Long finishedAt,
+        String error
+) {
+
+    /**
+     * Lifecycle of an ingestion job.
+     */
+    public enum State {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    /**
+     * Checks if the job has ended (successfully or not).
+     *
+     * @return true if the job is COMPLETED or FAILED
+     */
+    public boolean isFinished() {
+        return state == State.COMPLETED || state == State.FAILED;
+    }
+}
@@ -0,0 +1,12 @@
+package com.gene.sphere.mutationservice.ingest;
+
+/**
+ * Request to ingest a MAF/TSV file.
+ *
+ * @param file       path of the file, relative to {@code ingest.directory}; {@code .gz} files are decompressed on the fly
+ * @param cancerType cancer type for files without a {@code cancer_type} column (default: "Lung Adenocarcinoma", as in the table)
+ * @param batchSize  lines per COPY batch and checkpoint (default: {@code ingest.batch-size})
+ * @param restart    true to ignore a previous checkpoint for the same file and start from the first line
+ */
+public record MutationIngestRequest(String file, String cancerType, Integer batchSize, boolean restart) {
+}
@@ -0,0 +1,598 @@
+package com.gene.sphere.mutationservice.ingest;
+
+import com.gene.sphere.mutationservice.model.MutationDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Bulk-loads MAF/TSV mutation files into the {@code mutations} table.
+ *
+ * <p>Inserting through JPA cannot batch ({@code GenerationType.IDENTITY} forces one round trip per
+ * row), so ingestion bypasses it entirely. Per job, on a single connection:
+ * <ul>
+ *   <li><strong>Streaming:</strong> The file is read line by line ({@code .gz} decompressed on the fly);
+ *       memory use is bounded by one line and the driver's COPY buffer, whatever the file size</li>
+ *   <li><strong>Validation:</strong> Each line is parsed by {@link MafRowParser} into a {@link MutationDto};
+ *       rejected lines are counted and sampled instead of failing the job</li>
+ *   <li><strong>COPY:</strong> Every {@code batch-size} lines, valid rows are streamed in binary
+ *       {@code COPY} format through the driver's {@code CopyManager} into a temporary staging table
+ *       (session-local and not WAL-logged)</li>
+ *   <li><strong>Upsert:</strong> One {@code INSERT ... SELECT ... ON CONFLICT ON CONSTRAINT unique_mutation}
+ *       merges the batch; duplicates within a batch keep the last line, and unchanged rows are not rewritten</li>
+ *   <li><strong>Checkpoint:</strong> The number of lines consumed is saved in {@code mutation_ingest_checkpoints}
+ *       in the same transaction as the upsert, so a job that fails or is interrupted resumes after the
+ *       last committed batch without loading any line twice</li>
+ * </ul>
+ *
+ * <p>Batches commit with {@code synchronous_commit} off: a crash can lose the last few commits, but
+ * their checkpoints are lost with them, so a re-run loads those lines again.
+ *
+ * <p>Jobs run one at a time on a background thread, as they compete for the same table and WAL.
+ * Like cache clear jobs in gene-service, job state is kept in memory on the node that accepted the
+ * job; only the most recent {@code ingest.retained-jobs} finished jobs are retained. Checkpoints are
+ * in the database, so a job can be resumed from any node.
+ */
+@Service
+public class MutationIngestService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MutationIngestService.class);
+
+    private static final String DEFAULT_CANCER_TYPE = "Lung Adenocarcinoma";
+
+    private static final int MAX_BATCH_SIZE = 1_000_000;
+
+    private static final int MAX_REJECTED_SAMPLES = 20;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final String CREATE_CHECKPOINT_TABLE = """
+            CREATE TABLE IF NOT EXISTS mutation_ingest_checkpoints (
+                source_key VARCHAR(1000) PRIMARY KEY,
+                lines_committed BIGINT NOT NULL,
+                rows_upserted BIGINT NOT NULL,
+                rows_rejected BIGINT NOT NULL,
+                completed BOOLEAN NOT NULL,
+                updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+            )""";
+
+    private static final String CREATE_STAGING_TABLE = """
+            CREATE TEMPORARY TABLE IF NOT EXISTS mutation_ingest_staging (
+                line_number BIGINT,
+                gene_name TEXT,
+                chromosome TEXT,
+                position BIGINT,
+                reference_allele TEXT,
+                alternate_allele TEXT,
+                mutation_type TEXT,
+                patient_id TEXT,
+                sample_id TEXT,
+                protein_change TEXT,
+                cancer_type TEXT,
+                clinical_significance TEXT,
+                allele_frequency NUMERIC
+            ) ON COMMIT DELETE ROWS""";
+
+    private static final int STAGING_COLUMNS = 13;
+
+    private static final String COPY_STAGING = "COPY mutation_ingest_staging FROM STDIN (FORMAT binary)";
+
+    private static final String UPSERT_FROM_STAGING = """
+            INSERT INTO mutations (gene_name, chromosome, position, reference_allele, alternate_allele,
+                                   mutation_type, patient_id, sample_id, protein_change, cancer_type,
+                                   clinical_significance, allele_frequency)
+            SELECT DISTINCT ON (gene_name, chromosome, position, alternate_allele, patient_id)
+                   gene_name, chromosome, position, reference_allele, alternate_allele,
+                   mutation_type, patient_id, sample_id, protein_change, cancer_type,
+                   clinical_significance, allele_frequency
+            FROM mutation_ingest_staging
+            ORDER BY gene_name, chromosome, position, alternate_allele, patient_id, line_number DESC
+            ON CONFLICT ON CONSTRAINT unique_mutation DO UPDATE SET
+                reference_allele = EXCLUDED.reference_allele,
+                mutation_type = EXCLUDED.mutation_type,
+                sample_id = COALESCE(EXCLUDED.sample_id, mutations.sample_id),
+                protein_change = COALESCE(EXCLUDED.protein_change, mutations.protein_change),
+                cancer_type = EXCLUDED.cancer_type,
+                clinical_significance = COALESCE(EXCLUDED.clinical_significance, mutations.clinical_significance),
+                allele_frequency = COALESCE(EXCLUDED.allele_frequency, mutations.allele_frequency),
+                updated_at = CURRENT_TIMESTAMP
+            WHERE (mutations.reference_allele, mutations.mutation_type, mutations.sample_id,
+                   mutations.protein_change, mutations.cancer_type, mutations.clinical_significance,
+                   mutations.allele_frequency)
+                IS DISTINCT FROM
+                  (EXCLUDED.reference_allele, EXCLUDED.mutation_type,
+                   COALESCE(EXCLUDED.sample_id, mutations.sample_id),
+                   COALESCE(EXCLUDED.protein_change, mutations.protein_change), EXCLUDED.cancer_type,
+                   COALESCE(EXCLUDED.clinical_significance, mutations.clinical_significance),
+                   COALESCE(EXCLUDED.allele_frequency, mutations.allele_frequency))""";
+
+    private static final String SELECT_CHECKPOINT = """
+            SELECT lines_committed, rows_upserted, rows_rejected, completed
+            FROM mutation_ingest_checkpoints WHERE source_key = ?""";
+
+    private static final String UPSERT_CHECKPOINT = """
+            INSERT INTO mutation_ingest_checkpoints (source_key, lines_committed, rows_upserted, rows_rejected, completed)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (source_key) DO UPDATE SET
+                lines_committed = EXCLUDED.lines_committed,
+                rows_upserted = EXCLUDED.rows_upserted,
+                rows_rejected = EXCLUDED.rows_rejected,
+                completed = EXCLUDED.completed,
+                updated_at = CURRENT_TIMESTAMP""";
+
+    private final DataSource dataSource;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Path directory;
+
+    private final int defaultBatchSize;
+
+    private final int retainedJobs;
+
+    private final Counter linesRead;
+
+    private final Counter rowsRejected;
+
+    private final Counter rowsUpserted;
+
+    private final Timer batchTimer;
+
+    private final Map<String, TrackedJob> jobs = new ConcurrentHashMap<>();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "mutation-ingest");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * @param dataSource       PostgreSQL data source
+     * @param eventPublisher   publisher for {@link MutationsImportedEvent}
+     * @param meterRegistry    registry for ingestion metrics
+     * @param directory        directory ingested files must be in (default: data/ingest)
+     * @param defaultBatchSize lines per COPY batch and checkpoint (default: 50000)
+     * @param retainedJobs     number of finished jobs kept for polling (default: 50)
+     */
+    public MutationIngestService(
+            DataSource dataSource,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${ingest.directory:data/ingest}") String directory,
+            @Value("${ingest.batch-size:50000}") int defaultBatchSize,
+            @Value("${ingest.retained-jobs:50}") int retainedJobs) {
+        this.dataSource = dataSource;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+        this.defaultBatchSize = defaultBatchSize;
+        this.retainedJobs = retainedJobs;
+        this.linesRead = meterRegistry.counter("ingest.lines.read");
+        this.rowsRejected = meterRegistry.counter("ingest.rows.rejected");
+        this.rowsUpserted = meterRegistry.counter("ingest.rows.upserted");
+        this.batchTimer = meterRegistry.timer("ingest.batch");
+    }
+
+    /**
+     * Submits a file for ingestion.
+     *
+     * @param request the file and options
+     * @return the PENDING job snapshot
+     * @throws IllegalArgumentException if the file is outside the ingest directory, missing, or the batch size is invalid
+     */
+    public MutationIngestJob submit(MutationIngestRequest request) {
+        if (request.file() == null || request.file().isBlank()) {
+            throw new IllegalArgumentException("File cannot be null or blank");
+        }
+        Path path = directory.resolve(request.file()).normalize();
+        if (!path.startsWith(directory)) {
+            throw new IllegalArgumentException("File must be inside the ingest directory");
+        }
+        if (!Files.isRegularFile(path)) {
+            throw new IllegalArgumentException("File not found: " + request.file());
+        }
+        int batchSize = request.batchSize() != null ? request.batchSize() : defaultBatchSize;
+        if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch size must be between 1 and " + MAX_BATCH_SIZE);
+        }
+        String cancerType = request.cancerType() == null || request.cancerType().isBlank()
+                ? DEFAULT_CANCER_TYPE : request.cancerType().trim();
+
+        pruneFinishedJobs();
+
+        TrackedJob job = new TrackedJob(UUID.randomUUID().toString(), directory.relativize(path).toString(),
+                path, cancerType, batchSize, request.restart(), System.currentTimeMillis());
+        jobs.put(job.id, job);
+        meterRegistry.counter("ingest.jobs.submitted").increment();
+
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            job.finish(MutationIngestJob.State.FAILED, "Ingest executor is shut down");
+        }
+        LOGGER.info("Submitted ingest job {} for file: {}", job.id, job.file);
+        return job.snapshot();
+    }
+
+    /**
+     * Returns the current snapshot of a job.
+     *
+     * @param id the job identifier
+     * @return the job, or empty if unknown (never submitted here, or pruned)
+     */
+    public Optional<MutationIngestJob> getJob(String id) {
+        return Optional.ofNullable(jobs.get(id)).map(TrackedJob::snapshot);
+    }
+
+    // ==================== JOB EXECUTION ====================
+
+    private void run(TrackedJob job) {
+        job.state = MutationIngestJob.State.RUNNING;
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                ingest(connection, job);
+                job.finish(MutationIngestJob.State.COMPLETED, null);
+                LOGGER.info("Ingest job {} finished: {} lines, {} rows upserted, {} rejected",
+                        job.id, job.linesRead.get(), job.rowsUpserted.get(), job.rowsRejected.get());
+            } catch (Exception e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (Exception e) {
+            LOGGER.error("Ingest job {} failed after line {}", job.id, job.linesRead.get(), e);
+            job.finish(MutationIngestJob.State.FAILED, String.valueOf(e.getMessage()));
+        }
+        meterRegistry.counter("ingest.jobs.finished", "state", job.state.name()).increment();
+
+        if (job.rowsUpserted.get() > 0) {
+            eventPublisher.publishEvent(new MutationsImportedEvent(job.file, job.rowsUpserted.get()));
+        }
+    }
+
+    private void ingest(Connection connection, TrackedJob job) throws IOException, SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_CHECKPOINT_TABLE);
+            statement.execute(CREATE_STAGING_TABLE);
+        }
+        String sourceKey = sourceKey(job);
+        Checkpoint checkpoint = job.restart ? Checkpoint.NONE : loadCheckpoint(connection, sourceKey);
+        connection.commit();
+
+        if (checkpoint.completed()) {
+            LOGGER.info("Ingest job {}: {} was already ingested, skipping", job.id, job.file);
+            job.resumedFromLine = checkpoint.linesCommitted();
+            job.linesRead.set(checkpoint.linesCommitted());
+            job.bytesRead.set(job.totalBytes);
+            return;
+        }
+        job.resumedFromLine = checkpoint.linesCommitted();
+        BatchLoader batch = new BatchLoader(connection, job, sourceKey, checkpoint);
+
+        try (InputStream file = new CountingInputStream(Files.newInputStream(job.path), job.bytesRead);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(
+                     job.file.endsWith(".gz") ? new GZIPInputStream(file, BUFFER_SIZE) : file,
+                     StandardCharsets.UTF_8), BUFFER_SIZE)) {
+
+            MafRowParser parser = null;
+            String line;
+            while (parser == null && (line = reader.readLine()) != null) {
+                job.linesRead.incrementAndGet();
+                if (!line.isBlank() && !line.startsWith("#")) {
+                    parser = MafRowParser.forHeader(line, job.cancerType);
+                }
+            }
+            if (parser == null) {
+                throw new IllegalArgumentException("File has no header line");
+            }
+            while (job.linesRead.get() < checkpoint.linesCommitted() && reader.readLine() != null) {
+                job.linesRead.incrementAndGet();
+            }
+            if (checkpoint.linesCommitted() > 0) {
+                LOGGER.info("Ingest job {}: resuming {} after line {}", job.id, job.file, checkpoint.linesCommitted());
+            }
+
+            boolean endOfFile = false;
+            while (!endOfFile) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new IllegalStateException("Ingestion interrupted");
+                }
+                endOfFile = batch.load(reader, parser);
+            }
+        }
+    }
+
+    private Checkpoint loadCheckpoint(Connection connection, String sourceKey) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_CHECKPOINT)) {
+            statement.setString(1, sourceKey);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return Checkpoint.NONE;
+                }
+                return new Checkpoint(resultSet.getLong(1), resultSet.getLong(2), resultSet.getLong(3),
+                        resultSet.getBoolean(4));
+            }
+        }
+    }
+
+    /**
+     * Identifies a file version: a file that is replaced or appended to does not resume from
+     * the checkpoint of its previous content.
+     */
+    private static String sourceKey(TrackedJob job) throws IOException {
+        return job.file + "|" + job.totalBytes + "|" + Files.getLastModifiedTime(job.path).toMillis();
+    }
+
+    /**
+     * Loads one batch at a time: COPY into staging, upsert, checkpoint, commit.
+     */
+    private final class BatchLoader {
+        private final Connection connection;
+        private final TrackedJob job;
+        private final String sourceKey;
+        private long totalUpserted;
+        private long totalRejected;
+
+        private BatchLoader(Connection connection, TrackedJob job, String sourceKey, Checkpoint checkpoint) {
+            this.connection = connection;
+            this.job = job;
+            this.sourceKey = sourceKey;
+            this.totalUpserted = checkpoint.rowsUpserted();
+            this.totalRejected = checkpoint.rowsRejected();
+        }
+
+        /**
+         * @return true once the end of the file has been reached
+         */
+        private boolean load(BufferedReader reader, MafRowParser parser) throws IOException, SQLException {
+            long start = System.nanoTime();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET LOCAL synchronous_commit TO OFF");
+            }
+
+            long lines = 0;
+            long rejected = 0;
+            boolean endOfFile = false;
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_STAGING);
+            try {
+                PGCopyOutputStream out = new PGCopyOutputStream(copyIn, BUFFER_SIZE);
+                PgBinaryCopyWriter writer = new PgBinaryCopyWriter(out);
+                while (lines < job.batchSize) {
+                    String line = reader.readLine();
+                    if (line == null) {
+                        endOfFile = true;
+                        break;
+                    }
+                    lines++;
+                    long lineNumber = job.linesRead.incrementAndGet();
+                    if (line.isBlank() || line.startsWith("#")) {
+                        continue;
+                    }
+                    try {
+                        writeRow(writer, lineNumber, parser.parse(line));
+                    } catch (IllegalArgumentException e) {
+                        rejected++;
+                        job.reject(lineNumber, e.getMessage());
+                    }
+                }
+                writer.finish();
+                out.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+
+            long upserted;
+            try (Statement statement = connection.createStatement()) {
+                upserted = statement.executeUpdate(UPSERT_FROM_STAGING);
+            }
+            try (PreparedStatement statement = connection.prepareStatement(UPSERT_CHECKPOINT)) {
+                statement.setString(1, sourceKey);
+                statement.setLong(2, job.linesRead.get());
+                statement.setLong(3, totalUpserted + upserted);
+                statement.setLong(4, totalRejected + rejected);
+                statement.setBoolean(5, endOfFile);
+                statement.executeUpdate();
+            }
+            connection.commit();
+
+            totalUpserted += upserted;
+            totalRejected += rejected;
+            job.rowsUpserted.addAndGet(upserted);
+            linesRead.increment(lines);
+            rowsRejected.increment(rejected);
+            rowsUpserted.increment(upserted);
+            batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            LOGGER.debug("Ingest job {}: committed through line {} ({} upserted, {} rejected)",
+                    job.id, job.linesRead.get(), upserted, rejected);
+            return endOfFile;
+        }
+    }
+
+    private static void writeRow(PgBinaryCopyWriter writer, long lineNumber, MutationDto mutation) throws IOException {
+        writer.startRow(STAGING_COLUMNS);
+        writer.writeBigint(lineNumber);
+        writer.writeText(mutation.geneName());
+        writer.writeText(mutation.chromosome());
+        writer.writeBigint(mutation.position());
+        writer.writeText(mutation.referenceAllele());
+        writer.writeText(mutation.alternateAllele());
+        writer.writeText(mutation.mutationType());
+        writer.writeText(mutation.patientId());
+        writer.writeText(mutation.sampleId());
+        writer.writeText(mutation.proteinChange());
+        writer.writeText(mutation.cancerType());
+        writer.writeText(mutation.clinicalSignificance());
+        writer.writeNumeric(mutation.alleleFrequency());
+    }
+
+    private void pruneFinishedJobs() {
+        long finished = jobs.values().stream().filter(job -> job.finishedAt != null).count();
+        if (finished < retainedJobs) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(job -> job.finishedAt != null)
+                .sorted((a, b) -> Long.compare(a.startedAt, b.startedAt))
+                .limit(finished - retainedJobs + 1)
+                .forEach(job -> jobs.remove(job.id));
+    }
+
+    /**
+     * Stops accepting jobs; a running job stops after its current batch, which is rolled back
+     * and reloaded when the file is submitted again.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Progress saved by previous runs for the same file version.
+     */
+    private record Checkpoint(long linesCommitted, long rowsUpserted, long rowsRejected, boolean completed) {
+        private static final Checkpoint NONE = new Checkpoint(0, 0, 0, false);
+    }
+
+    /**
+     * Counts the (compressed) bytes consumed from the file, for progress reporting.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private final AtomicLong count;
+
+        private CountingInputStream(InputStream in, AtomicLong count) {
+            super(in);
+            this.count = count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count.incrementAndGet();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count.addAndGet(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count.addAndGet(skipped);
+            return skipped;
+        }
+    }
+
+    /**
+     * Mutable job state shared between the worker thread and pollers.
+     */
+    private static final class TrackedJob {
+        private final String id;
+        private final String file;
+        private final Path path;
+        private final String cancerType;
+        private final int batchSize;
+        private final boolean restart;
+        private final long startedAt;
+        private final long totalBytes;
+        private final AtomicLong bytesRead = new AtomicLong();
+        private final AtomicLong linesRead = new AtomicLong();
+        private final AtomicLong rowsUpserted = new AtomicLong();
+        private final AtomicLong rowsRejected = new AtomicLong();
+        private final List<String> rejectedSamples = new ArrayList<>();
+        private volatile long resumedFromLine;
+        private volatile MutationIngestJob.State state = MutationIngestJob.State.PENDING;
+        private volatile Long finishedAt;
+        private volatile String error;
+
+        private TrackedJob(String id, String file, Path path, String cancerType, int batchSize, boolean restart,
+                           long startedAt) {
+            this.id = id;
+            this.file = file;
+            this.path = path;
+            this.cancerType = cancerType;
+            this.batchSize = batchSize;
+            this.restart = restart;
+            this.startedAt = startedAt;
+            long size;
+            try {
+                size = Files.size(path);
+            } catch (IOException e) {
+                size = 0;
+            }
+            this.totalBytes = size;
+        }
+
+        private void reject(long lineNumber, String reason) {
+            rowsRejected.incrementAndGet();
+            synchronized (rejectedSamples) {
+                if (rejectedSamples.size() < MAX_REJECTED_SAMPLES) {
+                    rejectedSamples.add("line " + lineNumber + ": " + reason);
+                }
+            }
+        }
+
+        private void finish(MutationIngestJob.State finalState, String finalError) {
+            this.finishedAt = System.currentTimeMillis();
+            this.error = finalError;
+            this.state = finalState;
+        }
+
+        private MutationIngestJob snapshot() {
+            List<String> samples;
+            synchronized (rejectedSamples) {
+                samples = List.copyOf(rejectedSamples);
+            }
+            return new MutationIngestJob(id, file, state, totalBytes, bytesRead.get(), linesRead.get(),
+                    rowsUpserted.get(), rowsRejected.get(), resumedFromLine, samples, startedAt, finishedAt, error);
+        }
+    }
+}
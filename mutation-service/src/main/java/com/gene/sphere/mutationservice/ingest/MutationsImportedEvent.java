@@ -0,0 +1,13 @@
+package com.gene.sphere.mutationservice.ingest;
+
+/**
+ * Published by {@link MutationIngestService} after a bulk ingestion job has committed rows.
+ * Bulk loads bypass JPA and do not publish a
+ * {@link com.gene.sphere.mutationservice.service.MutationChangedEvent} per row, so listeners
+ * maintaining caches or in-memory views should rebuild or evict wholesale.
+ *
+ * @param source       the ingested file, relative to the ingest directory
+ * @param rowsUpserted number of mutation rows inserted or updated
+ */
+public record MutationsImportedEvent(String source, long rowsUpserted) {
+}
@@ -0,0 +1,161 @@
+package com.gene.sphere.mutationservice.ingest;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes rows in PostgreSQL's binary {@code COPY} format.
+ *
+ * <p>Binary COPY skips the server-side text parsing of every field and needs no quoting or
+ * escaping of alleles and protein changes. Layout (all integers big-endian):
+ * <ul>
+ *   <li>Header: the 11-byte signature, a 32-bit flags field and a 32-bit extension length</li>
+ *   <li>Row: a 16-bit field count, then per field a 32-bit byte length ({@code -1} for NULL)
+ *       followed by the value in the type's binary send format</li>
+ *   <li>Trailer: a field count of {@code -1}</li>
+ * </ul>
+ * Only the types used by the staging table are supported: {@code text}, {@code bigint} and
+ * {@code numeric}.
+ */
+final class PgBinaryCopyWriter {
+
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+
+    private static final int NUMERIC_POSITIVE = 0x0000;
+
+    private static final int NUMERIC_NEGATIVE = 0x4000;
+
+    private final DataOutputStream out;
+
+    /**
+     * Writes the header to {@code out}.
+     */
+    PgBinaryCopyWriter(OutputStream out) throws IOException {
+        this.out = new DataOutputStream(out);
+        this.out.write(SIGNATURE);
+        this.out.writeInt(0); // flags: no OIDs
+        this.out.writeInt(0); // header extension length
+    }
+
+    void startRow(int fieldCount) throws IOException {
+        out.writeShort(fieldCount);
+    }
+
+    void writeText(String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    void writeBigint(Long value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(Long.BYTES);
+        out.writeLong(value);
+    }
+
+    /**
+     * Writes a {@code numeric}: digit count, weight, sign and display scale, followed by the
+     * base-10000 digits, most significant first, without leading or trailing zero digits.
+     */
+    void writeNumeric(BigDecimal value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        short[] digits = numericDigits(value);
+        int weight = numericWeight(value);
+        out.writeInt(8 + 2 * digits.length);
+        out.writeShort(digits.length);
+        out.writeShort(digits.length == 0 ? 0 : weight);
+        out.writeShort(value.signum() < 0 ? NUMERIC_NEGATIVE : NUMERIC_POSITIVE);
+        out.writeShort(Math.max(value.scale(), 0));
+        for (short digit : digits) {
+            out.writeShort(digit);
+        }
+    }
+
+    /**
+     * Writes the trailer and flushes; the underlying stream is left open.
+     */
+    void finish() throws IOException {
+        out.writeShort(-1);
+        out.flush();
+    }
+
+    // ==================== NUMERIC ENCODING ====================
+
+    /**
+     * Base-10000 digits of |value|, with leading and trailing zero groups removed.
+     */
+    static short[] numericDigits(BigDecimal value) {
+        String groups = groupedDigits(value);
+        int first = 0;
+        int last = groups.length() / 4;
+        while (first < last && isZeroGroup(groups, first)) {
+            first++;
+        }
+        while (last > first && isZeroGroup(groups, last - 1)) {
+            last--;
+        }
+        short[] digits = new short[last - first];
+        for (int i = first; i < last; i++) {
+            digits[i - first] = Short.parseShort(groups.substring(i * 4, i * 4 + 4));
+        }
+        return digits;
+    }
+
+    /**
+     * Power of 10000 of the first non-zero digit group.
+     */
+    static int numericWeight(BigDecimal value) {
+        String groups = groupedDigits(value);
+        int weight = integerGroupCount(value) - 1;
+        for (int i = 0; i < groups.length() / 4 && isZeroGroup(groups, i); i++) {
+            weight--;
+        }
+        return weight;
+    }
+
+    /**
+     * |value| as decimal digits, the integer part left-padded and the fraction right-padded
+     * to whole groups of four around the decimal point.
+     */
+    private static String groupedDigits(BigDecimal value) {
+        String plain = value.abs().setScale(Math.max(value.scale(), 0)).toPlainString();
+        int dot = plain.indexOf('.');
+        String integerPart = stripLeadingZeros(dot < 0 ? plain : plain.substring(0, dot));
+        String fractionPart = dot < 0 ? "" : plain.substring(dot + 1);
+        int integerGroups = (integerPart.length() + 3) / 4;
+        int fractionGroups = (fractionPart.length() + 3) / 4;
+        return "0".repeat(integerGroups * 4 - integerPart.length()) + integerPart
+                + fractionPart + "0".repeat(fractionGroups * 4 - fractionPart.length());
+    }
+
+    private static int integerGroupCount(BigDecimal value) {
+        String plain = value.abs().setScale(Math.max(value.scale(), 0)).toPlainString();
+        int dot = plain.indexOf('.');
+        return (stripLeadingZeros(dot < 0 ? plain : plain.substring(0, dot)).length() + 3) / 4;
+    }
+
+    private static String stripLeadingZeros(String digits) {
+        int i = 0;
+        while (i < digits.length() && digits.charAt(i) == '0') {
+            i++;
+        }
+        return digits.substring(i);
+    }
+
+    private static boolean isZeroGroup(String groups, int index) {
+        return groups.regionMatches(index * 4, "0000", 0, 4);
+    }
+}
@@ -0,0 +1,38 @@
+package com.gene.sphere.mutationservice.model;
+
+import java.util.List;
+
+/**
+ * Aggregates of the mutations matching a cohort filter.
+ *
+ * @param totalMutations   number of mutations in the snapshot
+ * @param matchedMutations number of mutations matching the filter
+ * @param matchedSamples   distinct samples among them (the patient id for mutations without a sample)
+ * @param groups           matching mutations per value of the grouping column, most frequent first
+ * @param alleleFrequency  distribution of the matching mutations' variant allele frequencies
+ * @param snapshotVersion  version of the columnar snapshot the scan ran on
+ */
+public record CohortSummary(
+        long totalMutations,
+        long matchedMutations,
+        int matchedSamples,
+        List<GroupCount> groups,
+        AlleleFrequencyDistribution alleleFrequency,
+        long snapshotVersion
+) {
+
+    /**
+     * @param value grouping column value; {@code null} groups mutations without one
+     * @param count number of matching mutations with this value
+     */
+    public record GroupCount(String value, long count) {
+    }
+
+    /**
+     * @param mutations number of matching mutations with an allele frequency
+     * @param mean      mean allele frequency, 0 if there are none
+     * @param bins      mutations per equal-width bin of [0, 1], the last bin including 1
+     */
+    public record AlleleFrequencyDistribution(long mutations, double mean, List<Long> bins) {
+    }
+}
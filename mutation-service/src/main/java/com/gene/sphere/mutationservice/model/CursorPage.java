@@ -0,0 +1,68 @@
+package com.gene.sphere.mutationservice.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated result.
+ *
+ * <p>The cursor is an opaque token encoding the id of the last item returned; passing it back
+ * continues after that item. Clients must not parse it.
+ *
+ * <p>Each service keeps its own copy of its API models; the copy in gene-service must stay identical
+ * so cursors behave the same across the two APIs. Both copies are covered by a {@code CursorPageTest}.
+ *
+ * @param items      the items of this page, in id order
+ * @param nextCursor token for the next page, or {@code null} if this is the last page
+ * @param <T>        item type
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    private static final String CURSOR_PREFIX = "id:";
+
+    /**
+     * @return true if another page follows
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Encodes the id of the last item of a page as a cursor.
+     *
+     * @param lastId id of the last item returned
+     * @return opaque, URL-safe cursor token
+     */
+    public static String encodeCursor(int lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor into the id to continue after.
+     *
+     * @param cursor token from {@link #nextCursor()}, or {@code null}/blank for the first page
+     * @return the id to continue after (0 for the first page)
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static int decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(CURSOR_PREFIX)) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            int lastId = Integer.parseInt(decoded.substring(CURSOR_PREFIX.length()));
+            if (lastId < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return lastId;
+        } catch (IllegalArgumentException e) {
+            // Also covers Base64 and number format errors
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.gene.sphere.mutationservice.model;
+
+/**
+ * Cohort totals used as the denominators of the dashboard percentages,
+ * e.g. { "totalMutations": 184210, "totalSamples": 1053, "totalGenes": 17822 }
+ *
+ * @param totalMutations number of mutations
+ * @param totalSamples   number of distinct samples (the patient id for mutations without a sample)
+ * @param totalGenes     number of distinct mutated genes
+ */
+public record DashboardSummary(long totalMutations, long totalSamples, long totalGenes) {
+}
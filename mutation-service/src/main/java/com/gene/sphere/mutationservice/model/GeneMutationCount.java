@@ -0,0 +1,11 @@
+package com.gene.sphere.mutationservice.model;
+
+/**
+ * Number of mutations recorded for a gene,
+ * e.g. { "geneName": "TP53", "count": 561 }
+ *
+ * @param geneName HGNC gene symbol
+ * @param count    number of mutations in the gene
+ */
+public record GeneMutationCount(String geneName, long count) {
+}
@@ -0,0 +1,24 @@
+package com.gene.sphere.mutationservice.model;
+
+/**
+ * 2x2 contingency table of two genes across samples, for co-occurrence and mutual exclusivity.
+ *
+ * @param geneA        first gene
+ * @param geneB        second gene
+ * @param both         samples with mutations in both genes
+ * @param onlyA        samples with a mutation in {@code geneA} but not {@code geneB}
+ * @param onlyB        samples with a mutation in {@code geneB} but not {@code geneA}
+ * @param neither      samples with mutations in neither gene
+ * @param logOddsRatio log2 odds ratio (with 0.5 added to every cell); positive values indicate
+ *                     co-occurrence, negative values mutual exclusivity
+ */
+public record GenePairCounts(
+        String geneA,
+        String geneB,
+        int both,
+        int onlyA,
+        int onlyB,
+        int neither,
+        double logOddsRatio
+) {
+}
@@ -0,0 +1,37 @@
+package com.gene.sphere.mutationservice.model;
+
+/**
+ * Fisher's exact test of one gene pair for co-occurrence or mutual exclusivity.
+ *
+ * @param geneA        first gene (alphabetically)
+ * @param geneB        second gene
+ * @param both         samples with mutations in both genes
+ * @param onlyA        samples with a mutation in {@code geneA} but not {@code geneB}
+ * @param onlyB        samples with a mutation in {@code geneB} but not {@code geneA}
+ * @param neither      samples with mutations in neither gene
+ * @param logOddsRatio log2 odds ratio (with 0.5 added to every cell)
+ * @param pValue       two-sided Fisher's exact test p-value
+ * @param qValue       Benjamini-Hochberg adjusted p-value across every pair tested in the same run
+ * @param tendency     direction of the association
+ */
+public record GenePairStatistics(
+        String geneA,
+        String geneB,
+        int both,
+        int onlyA,
+        int onlyB,
+        int neither,
+        double logOddsRatio,
+        double pValue,
+        double qValue,
+        Tendency tendency
+) {
+
+    /**
+     * Direction of a gene pair association, from the sign of the log odds ratio.
+     */
+    public enum Tendency {
+        CO_OCCURRENCE,
+        MUTUAL_EXCLUSIVITY
+    }
+}
@@ -0,0 +1,21 @@
+package com.gene.sphere.mutationservice.model;
+
+import java.util.Map;
+
+/**
+ * Mutation statistics of one gene, as shown by the dashboard's gene table and bar charts.
+ *
+ * @param geneName         HGNC gene symbol
+ * @param mutationCount    number of mutations in the gene
+ * @param sampleCount      number of distinct samples with a mutation in the gene
+ * @param samplePercentage {@code sampleCount} as a percentage of all samples, rounded to 2 decimals
+ * @param mutationTypes    number of mutations per mutation type, most frequent first
+ */
+public record GeneRollup(
+        String geneName,
+        long mutationCount,
+        long sampleCount,
+        double samplePercentage,
+        Map<String, Long> mutationTypes
+) {
+}
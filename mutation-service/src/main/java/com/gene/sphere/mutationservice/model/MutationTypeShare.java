@@ -0,0 +1,12 @@
+package com.gene.sphere.mutationservice.model;
+
+/**
+ * Share of one mutation type among all mutations,
+ * e.g. { "mutationType": "SNV", "count": 151200, "percentage": 82.08 }
+ *
+ * @param mutationType mutation type (SNV, deletion, insertion, ...)
+ * @param count        number of mutations of this type
+ * @param percentage   {@code count} as a percentage of all mutations, rounded to 2 decimals
+ */
+public record MutationTypeShare(String mutationType, long count, double percentage) {
+}
@@ -0,0 +1,39 @@
+package com.gene.sphere.mutationservice.model;
+
+import java.util.List;
+
+/**
+ * Sample x gene alteration matrix for an oncoprint.
+ *
+ * <p>Genes are ordered by the number of altered samples. Samples are ordered so that those altered
+ * in the first gene come first, then, within each group, those altered in the second gene, and so
+ * on (the usual oncoprint "memo sort"), which makes mutual exclusivity visible as a staircase.
+ * Only altered samples are listed.
+ *
+ * @param totalSamples   number of samples with at least one mutation in any gene
+ * @param alteredSamples number of samples with a mutation in at least one of the requested genes
+ * @param genes          requested genes with their alteration frequency
+ * @param samples        altered samples in oncoprint order, at most the requested limit
+ */
+public record Oncoprint(
+        int totalSamples,
+        int alteredSamples,
+        List<GeneAlteration> genes,
+        List<SampleAlterations> samples
+) {
+
+    /**
+     * @param gene           gene name
+     * @param alteredSamples number of samples with at least one mutation in the gene
+     * @param frequency      {@code alteredSamples / totalSamples}
+     */
+    public record GeneAlteration(String gene, int alteredSamples, double frequency) {
+    }
+
+    /**
+     * @param sampleId sample identifier (the patient id for mutations without a sample)
+     * @param genes    altered genes of the sample, in gene order
+     */
+    public record SampleAlterations(String sampleId, List<String> genes) {
+    }
+}
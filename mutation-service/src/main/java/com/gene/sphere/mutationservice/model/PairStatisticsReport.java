@@ -0,0 +1,21 @@
+package com.gene.sphere.mutationservice.model;
+
+import java.util.List;
+
+/**
+ * Result of a co-occurrence / mutual exclusivity run over a gene set.
+ *
+ * @param genes        number of genes tested
+ * @param samples      number of samples in the contingency tables
+ * @param tests        number of gene pairs tested (the Benjamini-Hochberg family size)
+ * @param significant  number of pairs with a q-value at or below the requested threshold
+ * @param pairs        the most significant pairs, by ascending p-value, at most the requested limit
+ */
+public record PairStatisticsReport(
+        int genes,
+        int samples,
+        long tests,
+        long significant,
+        List<GenePairStatistics> pairs
+) {
+}
@@ -0,0 +1,11 @@
+package com.gene.sphere.mutationservice.model;
+
+/**
+ * Number of occurrences of a protein change within a gene (hotspot frequency),
+ * e.g. { "proteinChange": "p.G12C", "count": 87 }
+ *
+ * @param proteinChange HGVS protein notation
+ * @param count         number of mutations with this protein change
+ */
+public record ProteinChangeCount(String proteinChange, long count) {
+}
@@ -0,0 +1,14 @@
+package com.gene.sphere.mutationservice.model;
+
+/**
+ * Number of mutations with a protein change in a gene, exact for hotspots and estimated for the long tail,
+ * e.g. { "geneName": "KRAS", "proteinChange": "p.G12C", "count": 87, "maxError": 0, "exact": true }
+ *
+ * @param geneName      HGNC gene symbol
+ * @param proteinChange HGVS protein notation
+ * @param count         the count, or an upper bound of it when not exact
+ * @param maxError      how far {@code count} may exceed the true count (0 when exact)
+ * @param exact         whether {@code count} is exact
+ */
+public record ProteinChangeEstimate(String geneName, String proteinChange, long count, long maxError, boolean exact) {
+}
@@ -0,0 +1,39 @@
+package com.gene.sphere.mutationservice.model;
+
+import java.util.List;
+
+/**
+ * Most frequent protein changes of a gene and, optionally, mutation counts along the protein, for a
+ * lollipop plot.
+ *
+ * <p>Hotspot counts are exact. Positions are the first residue number in the protein change
+ * (746 for {@code p.E746_A750del}); changes without one (e.g. splice sites) are left out of the bins.
+ *
+ * @param geneName       HGNC gene symbol
+ * @param totalMutations number of mutations of the gene with a protein change
+ * @param hotspots       most frequent protein changes, by descending count then name
+ * @param bins           non-empty residue bins in protein order; empty unless a bin size was requested
+ */
+public record ProteinChangeHotspots(
+        String geneName,
+        long totalMutations,
+        List<Hotspot> hotspots,
+        List<PositionBin> bins
+) {
+
+    /**
+     * @param proteinChange HGVS protein notation
+     * @param position      residue number, or {@code null} if the change has none
+     * @param count         number of mutations with this protein change
+     */
+    public record Hotspot(String proteinChange, Integer position, long count) {
+    }
+
+    /**
+     * @param start first residue of the bin (1-based)
+     * @param end   last residue of the bin
+     * @param count number of mutations at residues {@code start..end}
+     */
+    public record PositionBin(int start, int end, long count) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.gene.sphere.mutationservice.model;
+
+/**
+ * Mutation burden of one sample,
+ * e.g. { "sampleId": "TCGA-05-4244-01", "mutationCount": 412, "genesAffected": 398 }
+ *
+ * @param sampleId      sample identifier (the patient id for mutations without a sample)
+ * @param mutationCount number of mutations in the sample
+ * @param genesAffected number of distinct genes mutated in the sample
+ */
+public record SampleBurden(String sampleId, long mutationCount, long genesAffected) {
+}
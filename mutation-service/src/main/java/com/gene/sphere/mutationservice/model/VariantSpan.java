@@ -0,0 +1,12 @@
+package com.gene.sphere.mutationservice.model;
+
+/**
+ * Genomic span of a mutation, as held by the interval index.
+ *
+ * @param id    mutation id
+ * @param start 1-based position of the first reference base
+ * @param end   position of the last reference base (inclusive); equals {@code start} for SNVs and
+ *              insertions, and spans the deleted bases for deletions
+ */
+public record VariantSpan(int id, long start, long end) {
+}
@@ -1,22 +1,44 @@
 package com.gene.sphere.mutationservice.repository;
 
 import com.gene.sphere.mutationservice.model.Mutation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 /**
  * Repository interface for accessing mutation data from the database.
  * Provides CRUD operations and custom query methods for the Mutation entity.
  * 
  * <p>Data source: TCGA (The Cancer Genome Atlas) lung cancer mutation data from cBioPortal.</p>
+ *
+ * <p>The {@code List} queries load every match at once, which for a common gene or a whole
+ * chromosome means hundreds of thousands of entities. Each of them therefore also has:</p>
+ * <ul>
+ *   <li>a keyset-paginated {@link Slice} variant: rows with {@code id > afterId} in id order,
+ *       so every page costs the same regardless of depth (no {@code OFFSET})</li>
+ *   <li>a {@link Stream} variant that fetches {@value #STREAM_FETCH_SIZE} rows per round-trip;
+ *       it must be consumed and closed inside a read-only transaction</li>
+ * </ul>
  */
 @Repository
-public interface MutationRepository extends JpaRepository<Mutation, Integer> {
+public interface MutationRepository extends JpaRepository<Mutation, Integer>, MutationSearchRepository {
+
+    /**
+     * Rows fetched per database round-trip by the streaming queries.
+     */
+    String STREAM_FETCH_SIZE = "1000";
     /**
      * Finds all mutations for a specific gene case-insensitive.
      * @param geneName HGNC gene symbol (e.g., "EGFR", "KRAS", "TP53")
@@ -27,6 +49,7 @@ public interface MutationRepository extends JpaRepository<Mutation, Integer> {
 
     /**
      * Finds all mutations where the gene name contains the given substring, case-insensitive.
+     * Unbounded; prefer {@link #searchByGeneName(String, int)} for user-facing search.
      * @param partialGene partial or full gene symbol (e.g., "TP", "egfr")
      * @return list of mutations with gene names containing the substring
      */
@@ -43,6 +66,7 @@ public interface MutationRepository extends JpaRepository<Mutation, Integer> {
 
     /**
      * Finds all mutations where the cancer type contains the given substring, case-insensitive.
+     * Unbounded; prefer {@link #searchByCancerType(String, int)} for user-facing search.
      * @param partialCancerType partial or full cancer type string (e.g., "lung", "adenocarcinoma")
      * @return list of mutations with cancer types containing the substring
      */
@@ -161,4 +185,165 @@ public interface MutationRepository extends JpaRepository<Mutation, Integer> {
      */
     @Query("SELECT m FROM Mutation m WHERE m.geneName IN ?1 AND m.clinicalSignificance IN ?2")
     List<Mutation> findActionableMutations(List<String> geneNames, List<String> significances);
+
+    // ==================== KEYSET PAGINATION ====================
+
+    /**
+     * Keyset page of {@link #findByGeneNameCaseInsensitive(String)}.
+     * @param geneName HGNC gene symbol, case-insensitive
+     * @param afterId id of the last mutation of the previous page (0 for the first page)
+     * @param pageable page size (the page number must be 0)
+     * @return the next mutations in id order
+     */
+    @Query("SELECT m FROM Mutation m WHERE LOWER(m.geneName) = LOWER(:geneName) AND m.id > :afterId ORDER BY m.id")
+    Slice<Mutation> findSliceByGeneNameCaseInsensitive(@Param("geneName") String geneName, @Param("afterId") Integer afterId, Pageable pageable);
+
+    /**
+     * Keyset page of {@link #findByGeneNameIn(List)}.
+     * @param geneNames list of gene symbols
+     * @param afterId id of the last mutation of the previous page (0 for the first page)
+     * @param pageable page size (the page number must be 0)
+     * @return the next mutations in id order
+     */
+    Slice<Mutation> findByGeneNameInAndIdGreaterThanOrderByIdAsc(List<String> geneNames, Integer afterId, Pageable pageable);
+
+    /**
+     * Keyset page of {@link #findByChromosome(String)}.
+     * @param chromosome chromosome number (e.g., "7", "X")
+     * @param afterId id of the last mutation of the previous page (0 for the first page)
+     * @param pageable page size (the page number must be 0)
+     * @return the next mutations in id order
+     */
+    Slice<Mutation> findByChromosomeAndIdGreaterThanOrderByIdAsc(String chromosome, Integer afterId, Pageable pageable);
+
+    /**
+     * Keyset page of {@link #findByChromosomeAndPositionBetween(String, Long, Long)}.
+     * @param chromosome chromosome number
+     * @param startPosition start position (bp)
+     * @param endPosition end position (bp)
+     * @param afterId id of the last mutation of the previous page (0 for the first page)
+     * @param pageable page size (the page number must be 0)
+     * @return the next mutations in id order
+     */
+    Slice<Mutation> findByChromosomeAndPositionBetweenAndIdGreaterThanOrderByIdAsc(String chromosome, Long startPosition, Long endPosition, Integer afterId, Pageable pageable);
+
+    /**
+     * Keyset page of {@link #findByMutationType(String)}.
+     * @param mutationType type (e.g., "SNV", "deletion", "insertion")
+     * @param afterId id of the last mutation of the previous page (0 for the first page)
+     * @param pageable page size (the page number must be 0)
+     * @return the next mutations in id order
+     */
+    Slice<Mutation> findByMutationTypeAndIdGreaterThanOrderByIdAsc(String mutationType, Integer afterId, Pageable pageable);
+
+    /**
+     * Keyset page of {@link #findByPatientId(String)}.
+     * @param patientId TCGA patient identifier
+     * @param afterId id of the last mutation of the previous page (0 for the first page)
+     * @param pageable page size (the page number must be 0)
+     * @return the next mutations in id order
+     */
+    Slice<Mutation> findByPatientIdAndIdGreaterThanOrderByIdAsc(String patientId, Integer afterId, Pageable pageable);
+
+    /**
+     * Keyset page of {@link #findBySampleId(String)}.
+     * @param sampleId TCGA sample barcode
+     * @param afterId id of the last mutation of the previous page (0 for the first page)
+     * @param pageable page size (the page number must be 0)
+     * @return the next mutations in id order
+     */
+    Slice<Mutation> findBySampleIdAndIdGreaterThanOrderByIdAsc(String sampleId, Integer afterId, Pageable pageable);
+
+    /**
+     * Keyset page of {@link #findByClinicalSignificance(String)}.
+     * @param significance clinical classification, case-insensitive
+     * @param afterId id of the last mutation of the previous page (0 for the first page)
+     * @param pageable page size (the page number must be 0)
+     * @return the next mutations in id order
+     */
+    @Query("SELECT m FROM Mutation m WHERE LOWER(m.clinicalSignificance) = LOWER(:significance) AND m.id > :afterId ORDER BY m.id")
+    Slice<Mutation> findSliceByClinicalSignificance(@Param("significance") String significance, @Param("afterId") Integer afterId, Pageable pageable);
+
+    // ==================== STREAMING ====================
+
+    /**
+     * Streaming variant of {@link #findByGeneNameCaseInsensitive(String)}.
+     * @param geneName HGNC gene symbol, case-insensitive
+     * @return mutations in id order; close after use, within a read-only transaction
+     */
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("SELECT m FROM Mutation m WHERE LOWER(m.geneName) = LOWER(:geneName) ORDER BY m.id")
+    Stream<Mutation> streamByGeneNameCaseInsensitive(@Param("geneName") String geneName);
+
+    /**
+     * Streaming variant of {@link #findByGeneNameIn(List)}.
+     * @param geneNames list of gene symbols
+     * @return mutations in id order; close after use, within a read-only transaction
+     */
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE), @QueryHint(name = HINT_READONLY, value = "true")})
+    Stream<Mutation> streamByGeneNameInOrderByIdAsc(List<String> geneNames);
+
+    /**
+     * Streaming variant of {@link #findByChromosome(String)}.
+     * @param chromosome chromosome number (e.g., "7", "X")
+     * @return mutations in id order; close after use, within a read-only transaction
+     */
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE), @QueryHint(name = HINT_READONLY, value = "true")})
+    Stream<Mutation> streamByChromosomeOrderByIdAsc(String chromosome);
+
+    /**
+     * Streaming variant of {@link #findByChromosomeAndPositionBetween(String, Long, Long)}.
+     * @param chromosome chromosome number
+     * @param startPosition start position (bp)
+     * @param endPosition end position (bp)
+     * @return mutations in id order; close after use, within a read-only transaction
+     */
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE), @QueryHint(name = HINT_READONLY, value = "true")})
+    Stream<Mutation> streamByChromosomeAndPositionBetweenOrderByIdAsc(String chromosome, Long startPosition, Long endPosition);
+
+    /**
+     * Streaming variant of {@link #findByMutationType(String)}.
+     * @param mutationType type (e.g., "SNV", "deletion", "insertion")
+     * @return mutations in id order; close after use, within a read-only transaction
+     */
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE), @QueryHint(name = HINT_READONLY, value = "true")})
+    Stream<Mutation> streamByMutationTypeOrderByIdAsc(String mutationType);
+
+    /**
+     * Streaming variant of {@link #findByPatientId(String)}.
+     * @param patientId TCGA patient identifier
+     * @return mutations in id order; close after use, within a read-only transaction
+     */
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE), @QueryHint(name = HINT_READONLY, value = "true")})
+    Stream<Mutation> streamByPatientIdOrderByIdAsc(String patientId);
+
+    /**
+     * Streaming variant of {@link #findBySampleId(String)}.
+     * @param sampleId TCGA sample barcode
+     * @return mutations in id order; close after use, within a read-only transaction
+     */
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE), @QueryHint(name = HINT_READONLY, value = "true")})
+    Stream<Mutation> streamBySampleIdOrderByIdAsc(String sampleId);
+
+    /**
+     * Streaming variant of {@link #findByClinicalSignificance(String)}.
+     * @param significance clinical classification, case-insensitive
+     * @return mutations in id order; close after use, within a read-only transaction
+     */
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("SELECT m FROM Mutation m WHERE LOWER(m.clinicalSignificance) = LOWER(:significance) ORDER BY m.id")
+    Stream<Mutation> streamByClinicalSignificance(@Param("significance") String significance);
+
+    /**
+     * Streams every mutation as {@code [id, geneName, chromosome, position, referenceAllele,
+     * alternateAllele, mutationType, patientId, sampleId, proteinChange, cancerType,
+     * clinicalSignificance, alleleFrequency]}, ordered by id. Read once per rebuild of every in-memory
+     * snapshot by {@code MutationSnapshotMaintainer}.
+     * @return a stream of projection rows; must be consumed and closed inside a transaction
+     */
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("SELECT m.id, m.geneName, m.chromosome, m.position, m.referenceAllele, m.alternateAllele, m.mutationType, "
+            + "m.patientId, m.sampleId, m.proteinChange, m.cancerType, m.clinicalSignificance, m.alleleFrequency "
+            + "FROM Mutation m ORDER BY m.id")
+    Stream<Object[]> streamColumns();
 }
@@ -0,0 +1,203 @@
+package com.gene.sphere.mutationservice.repository;
+
+import com.gene.sphere.mutationservice.model.DashboardSummary;
+import com.gene.sphere.mutationservice.model.GeneRollup;
+import com.gene.sphere.mutationservice.model.MutationTypeShare;
+import com.gene.sphere.mutationservice.model.SampleBurden;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Read access to the dashboard rollup tables.
+ *
+ * <p>The tables are created and backfilled by {@code database/scripts/create_mutation_rollups.sql}
+ * and kept current by statement-level triggers on {@code mutations}, so every write path (JPA
+ * saves and deletes, COPY ingestion) updates them in the writer's own transaction. Reads are
+ * primary-key lookups or walks of a {@code (count DESC)} index, instead of the full-table
+ * aggregations of the dashboard views.
+ *
+ * <p>Percentages are computed against the single {@code mutation_rollup_totals} row and rounded
+ * to 2 decimals, like the views. Samples are keyed by {@code COALESCE(sample_id, patient_id)}.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class MutationRollupRepository {
+
+    /**
+     * Maximum number of rows a single top-N read may return.
+     */
+    public static final int MAX_ROLLUP_LIMIT = 1000;
+
+    private static final String TOTALS =
+            "SELECT mutation_count, sample_count, gene_count FROM mutation_rollup_totals";
+
+    // The order column is fixed by GeneOrder, never taken from user input
+    private static final String TOP_GENES =
+            "SELECT r.gene_name, r.mutation_count, r.sample_count, "
+                    + "ROUND(r.sample_count * 100.0 / NULLIF(t.sample_count, 0), 2) "
+                    + "FROM mutation_gene_rollup r LEFT JOIN mutation_rollup_totals t ON TRUE "
+                    + "ORDER BY r.%s DESC, r.gene_name";
+
+    private static final String GENE =
+            "SELECT r.gene_name, r.mutation_count, r.sample_count, "
+                    + "ROUND(r.sample_count * 100.0 / NULLIF(t.sample_count, 0), 2) "
+                    + "FROM mutation_gene_rollup r LEFT JOIN mutation_rollup_totals t ON TRUE "
+                    + "WHERE r.gene_name = :gene";
+
+    private static final String GENE_TYPES =
+            "SELECT gene_name, mutation_type, mutation_count FROM mutation_gene_type_counts "
+                    + "WHERE gene_name IN (:genes) ORDER BY gene_name, mutation_count DESC, mutation_type";
+
+    private static final String TYPE_DISTRIBUTION =
+            "SELECT r.mutation_type, r.mutation_count, "
+                    + "ROUND(r.mutation_count * 100.0 / NULLIF(t.mutation_count, 0), 2) "
+                    + "FROM mutation_type_rollup r LEFT JOIN mutation_rollup_totals t ON TRUE "
+                    + "ORDER BY r.mutation_count DESC, r.mutation_type";
+
+    private static final String SAMPLE_BURDEN =
+            "SELECT sample_id, mutation_count, gene_count FROM mutation_sample_rollup "
+                    + "ORDER BY mutation_count DESC, sample_id";
+
+    private static final String SAMPLE =
+            "SELECT sample_id, mutation_count, gene_count FROM mutation_sample_rollup WHERE sample_id = :sample";
+
+    /**
+     * Ranking of the top genes, each backed by its own index.
+     */
+    public enum GeneOrder {
+        MUTATIONS("mutation_count"),
+        SAMPLES("sample_count");
+
+        private final String column;
+
+        GeneOrder(String column) {
+            this.column = column;
+        }
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Cohort totals; empty until the rollups have been backfilled.
+     */
+    public Optional<DashboardSummary> findSummary() {
+        List<?> rows = entityManager.createNativeQuery(TOTALS).getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] row = (Object[]) rows.get(0);
+        return Optional.of(new DashboardSummary(toLong(row[0]), toLong(row[1]), toLong(row[2])));
+    }
+
+    /**
+     * The most frequently mutated genes; the indexed equivalent of {@code top_mutated_genes}.
+     * @param order rank by mutation count or by number of mutated samples
+     * @param limit maximum number of genes to return (1 to {@value #MAX_ROLLUP_LIMIT})
+     */
+    public List<GeneRollup> findTopGenes(GeneOrder order, int limit) {
+        requireLimit(limit);
+        List<?> rows = entityManager.createNativeQuery(String.format(TOP_GENES, order.column))
+                .setMaxResults(limit)
+                .getResultList();
+        return withMutationTypes(rows);
+    }
+
+    /**
+     * Statistics of one gene; the indexed equivalent of a {@code gene_mutation_stats} row.
+     * @param geneName exact gene symbol
+     * @return empty if the gene has no mutations
+     */
+    public Optional<GeneRollup> findGene(String geneName) {
+        List<?> rows = entityManager.createNativeQuery(GENE)
+                .setParameter("gene", geneName)
+                .getResultList();
+        return withMutationTypes(rows).stream().findFirst();
+    }
+
+    /**
+     * Mutation counts per type, most frequent first; the equivalent of {@code mutation_type_distribution}.
+     */
+    public List<MutationTypeShare> findTypeDistribution() {
+        List<?> rows = entityManager.createNativeQuery(TYPE_DISTRIBUTION).getResultList();
+        return rows.stream()
+                .map(Object[].class::cast)
+                .map(row -> new MutationTypeShare((String) row[0], toLong(row[1]), toPercentage(row[2])))
+                .toList();
+    }
+
+    /**
+     * Samples with the most mutations; the equivalent of {@code sample_mutation_burden}.
+     * @param limit maximum number of samples to return (1 to {@value #MAX_ROLLUP_LIMIT})
+     */
+    public List<SampleBurden> findTopSampleBurden(int limit) {
+        requireLimit(limit);
+        List<?> rows = entityManager.createNativeQuery(SAMPLE_BURDEN)
+                .setMaxResults(limit)
+                .getResultList();
+        return rows.stream().map(Object[].class::cast).map(MutationRollupRepository::toSampleBurden).toList();
+    }
+
+    /**
+     * Mutation burden of one sample.
+     * @return empty if the sample has no mutations
+     */
+    public Optional<SampleBurden> findSampleBurden(String sampleId) {
+        List<?> rows = entityManager.createNativeQuery(SAMPLE)
+                .setParameter("sample", sampleId)
+                .getResultList();
+        return rows.stream().map(Object[].class::cast).map(MutationRollupRepository::toSampleBurden).findFirst();
+    }
+
+    /**
+     * Maps gene rows and attaches their per-type counts, fetched for all genes in one query.
+     */
+    private List<GeneRollup> withMutationTypes(List<?> geneRows) {
+        if (geneRows.isEmpty()) {
+            return List.of();
+        }
+        List<String> genes = geneRows.stream().map(row -> (String) ((Object[]) row)[0]).toList();
+        List<?> typeRows = entityManager.createNativeQuery(GENE_TYPES)
+                .setParameter("genes", genes)
+                .getResultList();
+
+        Map<String, Map<String, Long>> typesByGene = new HashMap<>();
+        for (Object row : typeRows) {
+            Object[] columns = (Object[]) row;
+            typesByGene.computeIfAbsent((String) columns[0], gene -> new LinkedHashMap<>())
+                    .put((String) columns[1], toLong(columns[2]));
+        }
+        return geneRows.stream()
+                .map(Object[].class::cast)
+                .map(row -> new GeneRollup((String) row[0], toLong(row[1]), toLong(row[2]), toPercentage(row[3]),
+                        typesByGene.getOrDefault((String) row[0], Map.of())))
+                .toList();
+    }
+
+    private static SampleBurden toSampleBurden(Object[] row) {
+        return new SampleBurden((String) row[0], toLong(row[1]), toLong(row[2]));
+    }
+
+    private static long toLong(Object value) {
+        return ((Number) value).longValue();
+    }
+
+    // NULL when the totals row is missing or zero
+    private static double toPercentage(Object value) {
+        return value == null ? 0.0 : ((Number) value).doubleValue();
+    }
+
+    private static void requireLimit(int limit) {
+        if (limit < 1 || limit > MAX_ROLLUP_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_ROLLUP_LIMIT);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.gene.sphere.mutationservice.repository;
+
+import com.gene.sphere.mutationservice.model.Mutation;
+
+import java.util.List;
+
+/**
+ * Ranked, index-backed substring search over mutations.
+ *
+ * <p>On PostgreSQL with {@code pg_trgm} the queries are served by the trigram GIN indexes from
+ * {@code database/scripts/add_search_indexes.sql} and ranked by trigram similarity. On other
+ * databases (H2 in tests) a portable query with the same filter is used, ranked by name length.
+ */
+public interface MutationSearchRepository {
+
+    /**
+     * Maximum number of rows a single search may return.
+     */
+    int MAX_SEARCH_LIMIT = 1000;
+
+    /**
+     * Finds mutations whose gene name contains {@code fragment}, case-insensitive, best matches first.
+     * @param fragment partial gene symbol (e.g., "TP5", "egfr")
+     * @param limit maximum number of mutations to return (1 to {@value #MAX_SEARCH_LIMIT})
+     * @return matching mutations, most similar gene names first; empty if the fragment is blank
+     */
+    List<Mutation> searchByGeneName(String fragment, int limit);
+
+    /**
+     * Finds mutations whose cancer type contains {@code fragment}, case-insensitive, best matches first.
+     * @param fragment partial cancer type (e.g., "adeno", "squamous")
+     * @param limit maximum number of mutations to return (1 to {@value #MAX_SEARCH_LIMIT})
+     * @return matching mutations, most similar cancer types first; empty if the fragment is blank
+     */
+    List<Mutation> searchByCancerType(String fragment, int limit);
+}
@@ -0,0 +1,126 @@
+package com.gene.sphere.mutationservice.repository;
+
+import com.gene.sphere.mutationservice.model.Mutation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Native implementation of {@link MutationSearchRepository}.
+ *
+ * <p>The derived {@code ... LIKE '%x%'} queries force a sequential scan of the mutations table.
+ * Here, the filter is written as {@code lower(column) LIKE :pattern}, so it matches the
+ * expression of the {@code gin_trgm_ops} indexes and PostgreSQL can answer it with a bitmap
+ * index scan. Only the matching rows are then ranked by {@code similarity()} and cut to the limit.
+ *
+ * <p>Whether {@code pg_trgm} is available is checked once, on the first search. Keep this class in
+ * step with {@code GeneSearchRepositoryImpl} in gene-service, which implements the same query
+ * shape for the genes table.
+ */
+public class MutationSearchRepositoryImpl implements MutationSearchRepository {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MutationSearchRepositoryImpl.class);
+
+    // Column names are fixed by the calling method, never taken from user input
+    private static final String TRIGRAM_SEARCH =
+            "SELECT * FROM mutations WHERE lower(%1$s) LIKE :pattern ESCAPE '!' "
+                    + "ORDER BY similarity(lower(%1$s), :fragment) DESC, %1$s, id";
+
+    // Portable fallback: a shorter value containing the fragment is the closer match
+    private static final String PORTABLE_SEARCH =
+            "SELECT * FROM mutations WHERE lower(%1$s) LIKE :pattern ESCAPE '!' "
+                    + "ORDER BY LENGTH(%1$s), %1$s, id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final DataSource dataSource;
+
+    private volatile Boolean trigramAvailable;
+
+    public MutationSearchRepositoryImpl(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public List<Mutation> searchByGeneName(String fragment, int limit) {
+        return search("gene_name", fragment, limit);
+    }
+
+    @Override
+    public List<Mutation> searchByCancerType(String fragment, int limit) {
+        return search("cancer_type", fragment, limit);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Mutation> search(String column, String fragment, int limit) {
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+        if (fragment == null || fragment.isBlank()) {
+            return List.of();
+        }
+        String normalized = fragment.trim().toLowerCase(Locale.ROOT);
+        boolean trigram = isTrigramAvailable();
+
+        Query query = entityManager.createNativeQuery(
+                        String.format(trigram ? TRIGRAM_SEARCH : PORTABLE_SEARCH, column), Mutation.class)
+                .setParameter("pattern", "%" + escapeLike(normalized) + "%")
+                .setMaxResults(limit);
+        if (trigram) {
+            query.setParameter("fragment", normalized);
+        }
+        return query.getResultList();
+    }
+
+    /**
+     * Escapes LIKE wildcards so the fragment is matched literally. {@code !} is used as the escape
+     * character because backslashes are treated differently by each database and query parser.
+     */
+    static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    private boolean isTrigramAvailable() {
+        Boolean available = trigramAvailable;
+        if (available != null) {
+            return available;
+        }
+        try {
+            available = detectTrigram();
+            trigramAvailable = available;
+            return available;
+        } catch (SQLException e) {
+            // Not cached: detection is retried on the next search
+            LOGGER.warn("Could not detect pg_trgm support, using portable search query", e);
+            return false;
+        }
+    }
+
+    private boolean detectTrigram() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!"PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+                return false;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm'")) {
+                if (resultSet.next()) {
+                    return true;
+                }
+            }
+            LOGGER.warn("pg_trgm is not installed; mutation searches will not be ranked by similarity. "
+                    + "Run database/scripts/add_search_indexes.sql");
+            return false;
+        }
+    }
+}
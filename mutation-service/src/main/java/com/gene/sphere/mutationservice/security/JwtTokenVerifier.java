@@ -0,0 +1,77 @@
+package com.gene.sphere.mutationservice.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Verifies the JWTs issued by gene-service's {@code POST /auth/login}.
+ *
+ * <p>This service issues no tokens and keeps no user store: a token signed with the shared
+ * {@code app.security.jwt.secret} is trusted as is, and its {@code roles} claim becomes the
+ * request's authorities.
+ */
+@Component
+public class JwtTokenVerifier {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JwtTokenVerifier.class);
+
+    static final String ROLES_CLAIM = "roles";
+
+    // Thread-safe and immutable, so it is built once instead of on every parse
+    private final JwtParser parser;
+
+    /**
+     * @param secret HMAC secret shared with gene-service
+     */
+    public JwtTokenVerifier(@Value("${app.security.jwt.secret}") String secret) {
+        this.parser = Jwts.parserBuilder().setSigningKey(secret.getBytes(StandardCharsets.UTF_8)).build();
+    }
+
+    /**
+     * Verifies the signature and expiry of a token.
+     *
+     * @param token the compact JWS
+     * @return the verified claims, or empty if the token is invalid or expired
+     */
+    public Optional<Claims> parseClaims(String token) {
+        try {
+            return Optional.of(parser.parseClaimsJws(token).getBody());
+        } catch (JwtException | IllegalArgumentException e) {
+            LOGGER.debug("Rejected JWT: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reads the authorities from the comma-separated {@code roles} claim.
+     *
+     * @param claims verified token claims
+     * @return the granted authorities, empty if the claim is missing
+     */
+    public static List<GrantedAuthority> getAuthorities(Claims claims) {
+        String roles = claims.get(ROLES_CLAIM, String.class);
+        if (roles == null || roles.isBlank()) {
+            return List.of();
+        }
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        for (String role : roles.split(",")) {
+            if (!role.isBlank()) {
+                authorities.add(new SimpleGrantedAuthority(role.trim()));
+            }
+        }
+        return authorities;
+    }
+}
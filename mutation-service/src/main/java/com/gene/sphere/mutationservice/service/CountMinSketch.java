@@ -0,0 +1,90 @@
+package com.gene.sphere.mutationservice.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Count-Min sketch of string keys: {@code depth} rows of {@code width} counters, each key adding
+ * to one counter per row. The estimate of a key is its smallest counter.
+ *
+ * <p>Both increments and decrements are supported, as long as no key's true count goes negative
+ * (the "turnstile" model). Estimates then never undercount, and overcount by at most
+ * {@code e / width * total} with probability {@code 1 - e^-depth}, where {@code total} is the sum
+ * of all counts. Counters are atomic, so estimates can be read while another thread updates.
+ */
+final class CountMinSketch {
+
+    private final int width;
+
+    private final int depth;
+
+    private final AtomicIntegerArray counters;
+
+    private final AtomicLong total = new AtomicLong();
+
+    CountMinSketch(int width, int depth) {
+        if (width < 1 || depth < 1) {
+            throw new IllegalArgumentException("Sketch width and depth must be positive");
+        }
+        this.width = width;
+        this.depth = depth;
+        this.counters = new AtomicIntegerArray(Math.multiplyExact(width, depth));
+    }
+
+    void add(String key, int delta) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int row = 0; row < depth; row++) {
+            counters.addAndGet(row * width + Math.floorMod(h1 + row * h2, width), delta);
+        }
+        total.addAndGet(delta);
+    }
+
+    /**
+     * Upper bound of the key's count (with high probability, at most {@link #errorBound()} above it).
+     */
+    long estimate(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters.get(row * width + Math.floorMod(h1 + row * h2, width)));
+        }
+        return Math.max(min, 0);
+    }
+
+    /**
+     * Sum of all counts added.
+     */
+    long total() {
+        return total.get();
+    }
+
+    /**
+     * Maximum overcount of an estimate, {@code ceil(e / width * total)}.
+     */
+    long errorBound() {
+        return (long) Math.ceil(Math.E / width * Math.max(total.get(), 0));
+    }
+
+    /**
+     * 64-bit FNV-1a of the UTF-8 bytes, finished with the MurmurHash3 mixer so that both halves
+     * are usable as independent hashes (Kirsch-Mitzenmacher double hashing).
+     */
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
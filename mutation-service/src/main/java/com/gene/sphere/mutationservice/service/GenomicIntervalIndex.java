@@ -0,0 +1,487 @@
+package com.gene.sphere.mutationservice.service;
+
+import com.gene.sphere.mutationservice.model.MutationDto;
+import com.gene.sphere.mutationservice.model.VariantSpan;
+import com.gene.sphere.mutationservice.repository.MutationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * In-memory index of mutation spans per chromosome for genome-browser range queries.
+ *
+ * <p>{@link MutationRepository#findByChromosomeAndPositionBetween(String, Long, Long)} walks the
+ * {@code (chromosome, position)} B-tree and materializes full entities for every window the
+ * browser asks for. This index answers from primitive arrays instead, without touching Postgres:
+ * <ul>
+ *   <li><strong>Layout:</strong> Per chromosome, parallel {@code long[] starts}, {@code long[] ends}
+ *       and {@code int[] ids} sorted by start (28 bytes per mutation, plus a running maximum of
+ *       ends)</li>
+ *   <li><strong>Spans:</strong> A mutation covers {@code position .. position + len(reference_allele) - 1},
+ *       so deletions span every deleted base while SNVs and insertions cover one</li>
+ *   <li><strong>Region:</strong> Mutations starting in {@code [start, end]} - two binary searches</li>
+ *   <li><strong>Overlap:</strong> Mutations whose span intersects {@code [start, end]}. The running
+ *       maximum of ends is non-decreasing, so a binary search finds the first entry that can still
+ *       reach {@code start} - O(log n + candidates), as with an augmented interval tree</li>
+ *   <li><strong>Nearest:</strong> The {@code k} mutations whose start is closest to a position,
+ *       by expanding outward from its insertion point</li>
+ * </ul>
+ *
+ * <p><strong>Updates:</strong> Each chromosome's arrays are immutable and replaced on change
+ * (copy-on-write), so readers never lock. The index is updated from committed
+ * {@link MutationChangedEvent}s and rebuilt by the {@link MutationSnapshotMaintainer} to pick up
+ * writes made on other nodes or by bulk loads.
+ */
+@Component
+public class GenomicIntervalIndex implements MutationSnapshot {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenomicIntervalIndex.class);
+
+    /**
+     * Positions are packed with a 32-bit array offset into one {@code long} for sorting.
+     */
+    private static final long MAX_POSITION = Integer.MAX_VALUE;
+
+    private volatile Map<String, ChromosomeIndex> chromosomes = Map.of();
+
+    private volatile boolean ready;
+
+    /**
+     * Changes applied while a rebuild is reading the table, replayed onto the rebuilt index.
+     * Guarded by {@code this}; {@code null} when no rebuild is running.
+     */
+    private List<MutationChangedEvent> changesDuringRebuild;
+
+    /**
+     * @param maintainer    rebuilds the index from the mutations table
+     * @param meterRegistry registry for index metrics
+     */
+    public GenomicIntervalIndex(MutationSnapshotMaintainer maintainer, MeterRegistry meterRegistry) {
+        meterRegistry.gauge("interval.index.size", this, GenomicIntervalIndex::size);
+        maintainer.register(this);
+    }
+
+    // ==================== MAINTENANCE ====================
+
+    @Override
+    public String snapshotName() {
+        return "genomic-interval-index";
+    }
+
+    /**
+     * Starts a rebuild of the index from {@code (id, chromosome, position, len(reference_allele))}
+     * of every mutation.
+     */
+    @Override
+    public synchronized Rebuild startRebuild() {
+        changesDuringRebuild = new ArrayList<>();
+        return new IndexRebuild();
+    }
+
+    /**
+     * Applies a committed create, update or delete.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onMutationChanged(MutationChangedEvent event) {
+        apply(event);
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(event);
+        }
+    }
+
+    private void apply(MutationChangedEvent event) {
+        if (event.before() != null) {
+            remove(event.id(), event.before());
+        }
+        if (event.after() != null) {
+            add(event.id(), event.after());
+        }
+    }
+
+    private void add(int id, MutationDto mutation) {
+        long position = mutation.position();
+        if (position < 0 || position > MAX_POSITION) {
+            return;
+        }
+        String chromosome = normalizeChromosome(mutation.chromosome());
+        ChromosomeIndex current = chromosomes.getOrDefault(chromosome, ChromosomeIndex.EMPTY);
+        ChromosomeIndex updated = current.with(id, position, spanEnd(position, mutation.referenceAllele().length()));
+        if (updated != current) {
+            chromosomes = replace(chromosomes, chromosome, updated);
+        }
+    }
+
+    private void remove(int id, MutationDto mutation) {
+        String chromosome = normalizeChromosome(mutation.chromosome());
+        ChromosomeIndex current = chromosomes.get(chromosome);
+        if (current == null) {
+            return;
+        }
+        ChromosomeIndex updated = current.without(id, mutation.position());
+        if (updated != current) {
+            chromosomes = replace(chromosomes, chromosome, updated);
+        }
+    }
+
+    private static Map<String, ChromosomeIndex> replace(Map<String, ChromosomeIndex> map, String key, ChromosomeIndex value) {
+        Map<String, ChromosomeIndex> copy = new HashMap<>(map);
+        if (value.size() == 0) {
+            copy.remove(key);
+        } else {
+            copy.put(key, value);
+        }
+        return Map.copyOf(copy);
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * @return true once the first build has completed
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Number of indexed mutations across all chromosomes.
+     */
+    public int size() {
+        return chromosomes.values().stream().mapToInt(ChromosomeIndex::size).sum();
+    }
+
+    /**
+     * Mutations whose position lies in {@code [start, end]}, in position order; same semantics as
+     * {@link MutationRepository#findByChromosomeAndPositionBetween(String, Long, Long)}.
+     *
+     * @param chromosome chromosome name, with or without a {@code chr} prefix
+     * @param start      first position (inclusive)
+     * @param end        last position (inclusive)
+     * @param limit      maximum number of spans returned
+     * @return matching spans, at most {@code limit}
+     */
+    public List<VariantSpan> findInRegion(String chromosome, long start, long end, int limit) {
+        ChromosomeIndex index = chromosomes.get(normalizeChromosome(chromosome));
+        return index == null ? List.of() : index.region(start, end, limit);
+    }
+
+    /**
+     * Number of mutations whose position lies in {@code [start, end]}, without materializing them.
+     */
+    public int countInRegion(String chromosome, long start, long end) {
+        ChromosomeIndex index = chromosomes.get(normalizeChromosome(chromosome));
+        return index == null ? 0 : index.count(start, end);
+    }
+
+    /**
+     * Mutations whose span intersects {@code [start, end]}, in start order. Unlike
+     * {@link #findInRegion}, this includes deletions that begin before {@code start}.
+     */
+    public List<VariantSpan> findOverlapping(String chromosome, long start, long end, int limit) {
+        ChromosomeIndex index = chromosomes.get(normalizeChromosome(chromosome));
+        return index == null ? List.of() : index.overlapping(start, end, limit);
+    }
+
+    /**
+     * The {@code k} mutations whose start is closest to {@code position}, closest first
+     * (ties favour the lower position).
+     */
+    public List<VariantSpan> findNearest(String chromosome, long position, int k) {
+        ChromosomeIndex index = chromosomes.get(normalizeChromosome(chromosome));
+        return index == null ? List.of() : index.nearest(position, k);
+    }
+
+    /**
+     * Last base covered by a mutation; a reference allele of "-" (insertion) covers one base.
+     */
+    static long spanEnd(long position, int referenceLength) {
+        return position + Math.max(referenceLength, 1) - 1;
+    }
+
+    /**
+     * Maps "chr7", "7" and " 7 " to the same key; "chrX" and "x" to "X".
+     */
+    static String normalizeChromosome(String chromosome) {
+        if (chromosome == null) {
+            return "";
+        }
+        String normalized = chromosome.trim().toUpperCase(Locale.ROOT);
+        return normalized.startsWith("CHR") ? normalized.substring(3) : normalized;
+    }
+
+    // ==================== STORAGE ====================
+
+    /**
+     * Collects the spans of one rebuild per chromosome; replaces the whole index on publish.
+     */
+    private final class IndexRebuild implements MutationSnapshot.Rebuild {
+
+        private final Map<String, ChromosomeBuilder> builders = new HashMap<>();
+
+        @Override
+        public void add(MutationRow row) {
+            if (row.chromosome() == null || row.position() == null) {
+                return;
+            }
+            long position = row.position();
+            if (position < 0 || position > MAX_POSITION) {
+                LOGGER.warn("Skipping mutation {} with out-of-range position {}", row.id(), position);
+                return;
+            }
+            int referenceLength = row.referenceAllele() == null ? 1 : row.referenceAllele().length();
+            builders.computeIfAbsent(normalizeChromosome(row.chromosome()), key -> new ChromosomeBuilder())
+                    .add(row.id(), position, spanEnd(position, referenceLength));
+        }
+
+        @Override
+        public void publish() {
+            GenomicIntervalIndex index = GenomicIntervalIndex.this;
+            try {
+                Map<String, ChromosomeIndex> built = new HashMap<>();
+                builders.forEach((chromosome, builder) -> built.put(chromosome, builder.build()));
+                synchronized (index) {
+                    chromosomes = Map.copyOf(built);
+                    changesDuringRebuild.forEach(index::apply);
+                    ready = true;
+                }
+                LOGGER.info("Genomic interval index built with {} mutations on {} chromosomes", size(), built.size());
+            } finally {
+                discard();
+            }
+        }
+
+        @Override
+        public void discard() {
+            synchronized (GenomicIntervalIndex.this) {
+                changesDuringRebuild = null;
+            }
+        }
+    }
+
+    /**
+     * Immutable sorted arrays for one chromosome.
+     */
+    static final class ChromosomeIndex {
+
+        static final ChromosomeIndex EMPTY = new ChromosomeIndex(new long[0], new long[0], new int[0]);
+
+        private final long[] starts;
+        private final long[] ends;
+        private final int[] ids;
+
+        /**
+         * {@code maxEnds[i] = max(ends[0..i])}; non-decreasing, so it can be binary searched.
+         */
+        private final long[] maxEnds;
+
+        ChromosomeIndex(long[] starts, long[] ends, int[] ids) {
+            this.starts = starts;
+            this.ends = ends;
+            this.ids = ids;
+            this.maxEnds = new long[ends.length];
+            long max = Long.MIN_VALUE;
+            for (int i = 0; i < ends.length; i++) {
+                max = Math.max(max, ends[i]);
+                maxEnds[i] = max;
+            }
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        List<VariantSpan> region(long start, long end, int limit) {
+            int from = lowerBound(starts, start);
+            int to = (int) Math.min(upperBound(starts, end), (long) from + Math.max(limit, 0));
+            List<VariantSpan> spans = new ArrayList<>(Math.max(to - from, 0));
+            for (int i = from; i < to; i++) {
+                spans.add(span(i));
+            }
+            return spans;
+        }
+
+        int count(long start, long end) {
+            return Math.max(upperBound(starts, end) - lowerBound(starts, start), 0);
+        }
+
+        List<VariantSpan> overlapping(long start, long end, int limit) {
+            // First entry whose span, or an earlier one, reaches start; nothing before it can overlap
+            int from = lowerBound(maxEnds, start);
+            int to = upperBound(starts, end);
+            List<VariantSpan> spans = new ArrayList<>();
+            for (int i = from; i < to && spans.size() < limit; i++) {
+                if (ends[i] >= start) {
+                    spans.add(span(i));
+                }
+            }
+            return spans;
+        }
+
+        List<VariantSpan> nearest(long position, int k) {
+            int right = lowerBound(starts, position);
+            int left = right - 1;
+            List<VariantSpan> spans = new ArrayList<>(Math.min(Math.max(k, 0), ids.length));
+            while (spans.size() < k && (left >= 0 || right < ids.length)) {
+                boolean takeLeft = right >= ids.length
+                        || (left >= 0 && position - starts[left] <= starts[right] - position);
+                spans.add(span(takeLeft ? left-- : right++));
+            }
+            return spans;
+        }
+
+        /**
+         * @return a copy with the span inserted after any equal starts, or {@code this} if the id
+         * is already indexed at that position
+         */
+        ChromosomeIndex with(int id, long start, long end) {
+            if (indexOf(id, start) >= 0) {
+                return this;
+            }
+            int at = upperBound(starts, start);
+            return new ChromosomeIndex(insert(starts, at, start), insert(ends, at, end), insert(ids, at, id));
+        }
+
+        /**
+         * @return a copy without the span, or {@code this} if it is not indexed
+         */
+        ChromosomeIndex without(int id, long start) {
+            int at = indexOf(id, start);
+            if (at < 0) {
+                return this;
+            }
+            return new ChromosomeIndex(delete(starts, at), delete(ends, at), delete(ids, at));
+        }
+
+        private int indexOf(int id, long start) {
+            for (int i = lowerBound(starts, start); i < starts.length && starts[i] == start; i++) {
+                if (ids[i] == id) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private VariantSpan span(int i) {
+            return new VariantSpan(ids[i], starts[i], ends[i]);
+        }
+
+        /**
+         * First index whose value is {@code >= key}.
+         */
+        static int lowerBound(long[] sorted, long key) {
+            int low = 0;
+            int high = sorted.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sorted[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * First index whose value is {@code > key}.
+         */
+        static int upperBound(long[] sorted, long key) {
+            int low = 0;
+            int high = sorted.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sorted[mid] <= key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private static long[] insert(long[] array, int at, long value) {
+            long[] copy = new long[array.length + 1];
+            System.arraycopy(array, 0, copy, 0, at);
+            copy[at] = value;
+            System.arraycopy(array, at, copy, at + 1, array.length - at);
+            return copy;
+        }
+
+        private static int[] insert(int[] array, int at, int value) {
+            int[] copy = new int[array.length + 1];
+            System.arraycopy(array, 0, copy, 0, at);
+            copy[at] = value;
+            System.arraycopy(array, at, copy, at + 1, array.length - at);
+            return copy;
+        }
+
+        private static long[] delete(long[] array, int at) {
+            long[] copy = new long[array.length - 1];
+            System.arraycopy(array, 0, copy, 0, at);
+            System.arraycopy(array, at + 1, copy, at, array.length - at - 1);
+            return copy;
+        }
+
+        private static int[] delete(int[] array, int at) {
+            int[] copy = new int[array.length - 1];
+            System.arraycopy(array, 0, copy, 0, at);
+            System.arraycopy(array, at + 1, copy, at, array.length - at - 1);
+            return copy;
+        }
+    }
+
+    /**
+     * Growable parallel arrays for one chromosome during a rebuild.
+     */
+    static final class ChromosomeBuilder {
+
+        private long[] starts = new long[1024];
+        private long[] ends = new long[1024];
+        private int[] ids = new int[1024];
+        private int size;
+
+        void add(int id, long start, long end) {
+            if (size == ids.length) {
+                int capacity = size + (size >> 1);
+                starts = Arrays.copyOf(starts, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+                ids = Arrays.copyOf(ids, capacity);
+            }
+            starts[size] = start;
+            ends[size] = end;
+            ids[size] = id;
+            size++;
+        }
+
+        /**
+         * Sorts by start with a primitive sort: each start (below 2^31) is packed with its
+         * offset into one {@code long}, so no boxed comparator is needed.
+         */
+        ChromosomeIndex build() {
+            long[] keys = new long[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = (starts[i] << 32) | i;
+            }
+            Arrays.parallelSort(keys);
+            long[] sortedStarts = new long[size];
+            long[] sortedEnds = new long[size];
+            int[] sortedIds = new int[size];
+            for (int i = 0; i < size; i++) {
+                int offset = (int) keys[i];
+                sortedStarts[i] = starts[offset];
+                sortedEnds[i] = ends[offset];
+                sortedIds[i] = ids[offset];
+            }
+            return new ChromosomeIndex(sortedStarts, sortedEnds, sortedIds);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.gene.sphere.mutationservice.service;
+
+import com.gene.sphere.mutationservice.model.MutationDto;
+
+/**
+ * Published by {@link MutationService} when a mutation is created, updated or deleted.
+ * Listeners that maintain in-memory views should use
+ * {@code @TransactionalEventListener} so they only see committed changes.
+ *
+ * @param id     mutation id
+ * @param before the mutation before the change, or {@code null} if it was created
+ * @param after  the mutation after the change, or {@code null} if it was deleted
+ */
+public record MutationChangedEvent(int id, MutationDto before, MutationDto after) {
+}
@@ -0,0 +1,508 @@
+package com.gene.sphere.mutationservice.service;
+
+import com.gene.sphere.mutationservice.model.GenePairCounts;
+import com.gene.sphere.mutationservice.model.MutationDto;
+import com.gene.sphere.mutationservice.model.Oncoprint;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * In-memory sample x gene mutation matrix for oncoprints and co-occurrence analysis.
+ *
+ * <p>The {@code gene_cooccurrence} dashboard view self-joins {@code mutations} on the sample and
+ * counts distinct samples for every gene pair, which takes minutes on TCGA-scale data. This matrix
+ * keeps, per gene, a compressed {@link RoaringBitmap} of the samples with at least one mutation in
+ * it, so every count is a bitmap operation without touching Postgres:
+ * <ul>
+ *   <li><strong>Samples:</strong> Each sample (the sample id, or the patient id for mutations without
+ *       one) gets a dense ordinal, so the bitmaps of a study's samples stay compact</li>
+ *   <li><strong>Co-occurrence:</strong> Samples mutated in both genes - {@code AND} cardinality</li>
+ *   <li><strong>Mutual exclusivity:</strong> Samples mutated in only one of the genes -
+ *       {@code ANDNOT} cardinality in each direction</li>
+ *   <li><strong>Oncoprint:</strong> The {@code OR} of the requested genes gives the altered samples,
+ *       which are then ordered by their alteration pattern</li>
+ * </ul>
+ *
+ * <p><strong>Updates:</strong> Bitmaps are never modified once published; a change copies the affected
+ * gene's bitmap and replaces the gene map (copy-on-write), so readers never lock. A sample stays set for
+ * a gene until its last mutation in that gene is deleted, which is tracked by counting the extra
+ * mutations of (gene, sample) pairs mutated more than once. The matrix is updated from committed
+ * {@link MutationChangedEvent}s and rebuilt by the {@link MutationSnapshotMaintainer} to pick up
+ * writes made on other nodes. Samples whose last mutation was deleted are still counted until the
+ * next rebuild.
+ */
+@Component
+public class MutationMatrix implements MutationSnapshot {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MutationMatrix.class);
+
+    /**
+     * Oncoprint sample order is computed from one bit per gene in a {@code long}.
+     */
+    public static final int MAX_ONCOPRINT_GENES = Long.SIZE;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    private volatile boolean ready;
+
+    /**
+     * Sample ordinals and multiplicities backing the current snapshot. Guarded by {@code this}.
+     */
+    private Samples samples = new Samples();
+
+    /**
+     * Changes applied while a rebuild is reading the table, replayed onto the rebuilt matrix.
+     * Bits are idempotent, but a replayed create the stream already saw is counted as an extra
+     * mutation until the next rebuild, so deleting it later leaves the sample set.
+     * Guarded by {@code this}; {@code null} when no rebuild is running.
+     */
+    private List<MutationChangedEvent> changesDuringRebuild;
+
+    /**
+     * @param maintainer    rebuilds the matrix from the mutations table
+     * @param meterRegistry registry for matrix metrics
+     */
+    public MutationMatrix(MutationSnapshotMaintainer maintainer, MeterRegistry meterRegistry) {
+        meterRegistry.gauge("mutation.matrix.genes", this, MutationMatrix::geneCount);
+        meterRegistry.gauge("mutation.matrix.samples", this, MutationMatrix::sampleCount);
+        maintainer.register(this);
+    }
+
+    // ==================== MAINTENANCE ====================
+
+    @Override
+    public String snapshotName() {
+        return "mutation-matrix";
+    }
+
+    /**
+     * Starts a rebuild of the matrix from the (gene, sample) pair of every mutation.
+     */
+    @Override
+    public synchronized Rebuild startRebuild() {
+        changesDuringRebuild = new ArrayList<>();
+        return new MatrixRebuild();
+    }
+
+    /**
+     * Applies a committed create, update or delete.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onMutationChanged(MutationChangedEvent event) {
+        apply(event);
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(event);
+        }
+    }
+
+    private void apply(MutationChangedEvent event) {
+        if (event.before() != null) {
+            remove(event.before());
+        }
+        if (event.after() != null) {
+            add(event.after());
+        }
+    }
+
+    private void add(MutationDto mutation) {
+        String gene = normalizeGene(mutation.geneName());
+        String sample = normalizeSample(sampleOf(mutation));
+        if (gene.isEmpty() || sample.isEmpty()) {
+            return;
+        }
+        Snapshot current = snapshot;
+        RoaringBitmap bitmap = current.genes().getOrDefault(gene, new RoaringBitmap()).clone();
+        samples.add(bitmap, gene, sample);
+        snapshot = new Snapshot(replace(current.genes(), gene, bitmap), samples.ids, samples.count,
+                current.version() + 1);
+    }
+
+    private void remove(MutationDto mutation) {
+        String gene = normalizeGene(mutation.geneName());
+        Snapshot current = snapshot;
+        RoaringBitmap existing = current.genes().get(gene);
+        if (existing == null) {
+            return;
+        }
+        RoaringBitmap bitmap = existing.clone();
+        if (samples.remove(bitmap, gene, normalizeSample(sampleOf(mutation)))) {
+            snapshot = new Snapshot(replace(current.genes(), gene, bitmap), current.sampleIds(), current.sampleCount(),
+                    current.version() + 1);
+        }
+    }
+
+    private static Map<String, RoaringBitmap> replace(Map<String, RoaringBitmap> map, String gene, RoaringBitmap bitmap) {
+        Map<String, RoaringBitmap> copy = new HashMap<>(map);
+        if (bitmap.isEmpty()) {
+            copy.remove(gene);
+        } else {
+            copy.put(gene, bitmap);
+        }
+        return Map.copyOf(copy);
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * @return true once the first build has completed
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Number of genes with at least one mutation.
+     */
+    public int geneCount() {
+        return snapshot.genes().size();
+    }
+
+    /**
+     * Number of samples with at least one mutation (up to the deletions since the last rebuild).
+     */
+    public int sampleCount() {
+        return snapshot.sampleCount();
+    }
+
+    /**
+     * Version of the matrix, incremented by every change and rebuild; results derived from the
+     * matrix can be cached until it changes.
+     */
+    public long version() {
+        return snapshot.version();
+    }
+
+    /**
+     * Per-gene sample sets of one consistent version of the matrix, for bulk analyses.
+     *
+     * @param genes      gene names, case-insensitive; {@code null} or empty for every gene
+     * @param minSamples genes mutated in fewer samples are left out
+     * @return the genes in alphabetical order with their (read-only) sample bitmaps
+     */
+    public SampleSets sampleSets(Collection<String> genes, int minSamples) {
+        Snapshot current = snapshot;
+        Stream<String> candidates = genes == null || genes.isEmpty()
+                ? current.genes().keySet().stream()
+                : normalizeGenes(genes).stream();
+        List<String> selected = candidates
+                .filter(gene -> current.genes().getOrDefault(gene, Snapshot.NO_SAMPLES).getCardinality() >= minSamples)
+                .sorted()
+                .toList();
+        List<RoaringBitmap> bitmaps = selected.stream()
+                .map(gene -> current.genes().getOrDefault(gene, Snapshot.NO_SAMPLES))
+                .toList();
+        return new SampleSets(current.version(), current.sampleCount(), selected, bitmaps);
+    }
+
+    /**
+     * Number of samples with at least one mutation in {@code gene}.
+     */
+    public int mutatedSamples(String gene) {
+        RoaringBitmap bitmap = snapshot.genes().get(normalizeGene(gene));
+        return bitmap == null ? 0 : bitmap.getCardinality();
+    }
+
+    /**
+     * Co-occurrence counts of two genes.
+     *
+     * @param geneA first gene, case-insensitive
+     * @param geneB second gene, case-insensitive
+     * @return the 2x2 table of samples mutated in both, either or neither gene
+     */
+    public GenePairCounts pair(String geneA, String geneB) {
+        Snapshot current = snapshot;
+        return counts(current, normalizeGene(geneA), normalizeGene(geneB));
+    }
+
+    /**
+     * Co-occurrence counts of every pair of the given genes, in the order given
+     * ({@code (g0, g1), (g0, g2), ..., (g1, g2), ...}).
+     *
+     * @param genes gene names, case-insensitive; duplicates are ignored
+     */
+    public List<GenePairCounts> pairs(Collection<String> genes) {
+        Snapshot current = snapshot;
+        List<String> normalized = normalizeGenes(genes);
+        List<GenePairCounts> result = new ArrayList<>(normalized.size() * (normalized.size() - 1) / 2);
+        for (int i = 0; i < normalized.size(); i++) {
+            for (int j = i + 1; j < normalized.size(); j++) {
+                result.add(counts(current, normalized.get(i), normalized.get(j)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The most co-occurring pairs among the {@code candidates} most frequently mutated genes, which
+     * is what the {@code gene_cooccurrence} dashboard view computes.
+     *
+     * @param candidates number of most frequently mutated genes to pair up
+     * @param minBoth    minimum number of samples mutated in both genes
+     * @param limit      maximum number of pairs returned
+     * @return pairs by descending co-occurrence count, each with the genes in alphabetical order
+     */
+    public List<GenePairCounts> topCooccurring(int candidates, int minBoth, int limit) {
+        Snapshot current = snapshot;
+        List<String> genes = current.genes().entrySet().stream()
+                .sorted(Comparator.<Map.Entry<String, RoaringBitmap>>comparingInt(entry -> entry.getValue().getCardinality())
+                        .reversed()
+                        .thenComparing(Map.Entry::getKey))
+                .limit(candidates)
+                .map(Map.Entry::getKey)
+                .toList();
+        List<GenePairCounts> result = new ArrayList<>();
+        for (int i = 0; i < genes.size(); i++) {
+            RoaringBitmap a = current.genes().get(genes.get(i));
+            for (int j = i + 1; j < genes.size(); j++) {
+                // Cheap AND cardinality first; only qualifying pairs need the full table
+                if (RoaringBitmap.andCardinality(a, current.genes().get(genes.get(j))) >= minBoth) {
+                    String first = genes.get(i);
+                    String second = genes.get(j);
+                    result.add(first.compareTo(second) < 0
+                            ? counts(current, first, second)
+                            : counts(current, second, first));
+                }
+            }
+        }
+        result.sort(Comparator.comparingInt(GenePairCounts::both).reversed()
+                .thenComparing(GenePairCounts::geneA)
+                .thenComparing(GenePairCounts::geneB));
+        return result.size() > limit ? List.copyOf(result.subList(0, limit)) : result;
+    }
+
+    /**
+     * Oncoprint of the given genes.
+     *
+     * @param genes      gene names, case-insensitive; at most {@value #MAX_ONCOPRINT_GENES}
+     * @param maxSamples maximum number of samples listed
+     * @return genes by descending alteration count (then by name), and altered samples in oncoprint order
+     * @throws IllegalArgumentException if more than {@value #MAX_ONCOPRINT_GENES} genes are requested
+     */
+    public Oncoprint oncoprint(Collection<String> genes, int maxSamples) {
+        List<String> normalized = normalizeGenes(genes);
+        if (normalized.size() > MAX_ONCOPRINT_GENES) {
+            throw new IllegalArgumentException("At most " + MAX_ONCOPRINT_GENES + " genes are supported");
+        }
+        Snapshot current = snapshot;
+        RoaringBitmap empty = new RoaringBitmap();
+        List<String> ordered = normalized.stream()
+                .sorted(Comparator.<String>comparingInt(gene -> current.genes().getOrDefault(gene, empty).getCardinality())
+                        .reversed()
+                        .thenComparing(Comparator.naturalOrder()))
+                .toList();
+
+        RoaringBitmap altered = RoaringBitmap.or(ordered.stream()
+                .map(gene -> current.genes().getOrDefault(gene, empty))
+                .iterator());
+        int[] ordinals = altered.toArray();
+
+        // One bit per gene, most frequent gene in the highest bit: descending masks give the memo sort
+        long[] masks = new long[ordinals.length];
+        for (int rank = 0; rank < ordered.size(); rank++) {
+            long bit = 1L << (Long.SIZE - 1 - rank);
+            PeekableIntIterator iterator = current.genes().getOrDefault(ordered.get(rank), empty).getIntIterator();
+            int index = 0;
+            while (iterator.hasNext()) {
+                int ordinal = iterator.next();
+                while (ordinals[index] != ordinal) {
+                    index++;
+                }
+                masks[index] |= bit;
+            }
+        }
+        Integer[] order = new Integer[ordinals.length];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, (x, y) -> {
+            int byMask = Long.compareUnsigned(masks[y], masks[x]);
+            return byMask != 0 ? byMask : current.sampleIds()[ordinals[x]].compareTo(current.sampleIds()[ordinals[y]]);
+        });
+
+        int total = current.sampleCount();
+        List<Oncoprint.GeneAlteration> geneAlterations = ordered.stream()
+                .map(gene -> {
+                    int count = current.genes().getOrDefault(gene, empty).getCardinality();
+                    return new Oncoprint.GeneAlteration(gene, count, total == 0 ? 0.0 : (double) count / total);
+                })
+                .toList();
+        List<Oncoprint.SampleAlterations> sampleAlterations = new ArrayList<>(Math.min(order.length, maxSamples));
+        for (int i = 0; i < order.length && i < maxSamples; i++) {
+            long mask = masks[order[i]];
+            List<String> sampleGenes = new ArrayList<>(Long.bitCount(mask));
+            for (int rank = 0; rank < ordered.size(); rank++) {
+                if ((mask & (1L << (Long.SIZE - 1 - rank))) != 0) {
+                    sampleGenes.add(ordered.get(rank));
+                }
+            }
+            sampleAlterations.add(new Oncoprint.SampleAlterations(current.sampleIds()[ordinals[order[i]]], sampleGenes));
+        }
+        return new Oncoprint(total, ordinals.length, geneAlterations, sampleAlterations);
+    }
+
+    private static GenePairCounts counts(Snapshot current, String geneA, String geneB) {
+        RoaringBitmap a = current.genes().getOrDefault(geneA, Snapshot.NO_SAMPLES);
+        RoaringBitmap b = current.genes().getOrDefault(geneB, Snapshot.NO_SAMPLES);
+        int both = RoaringBitmap.andCardinality(a, b);
+        int onlyA = (int) RoaringBitmap.andNotCardinality(a, b);
+        int onlyB = (int) RoaringBitmap.andNotCardinality(b, a);
+        int neither = Math.max(current.sampleCount() - both - onlyA - onlyB, 0);
+        return new GenePairCounts(geneA, geneB, both, onlyA, onlyB, neither, logOddsRatio(both, onlyA, onlyB, neither));
+    }
+
+    /**
+     * log2 of the odds ratio {@code (both * neither) / (onlyA * onlyB)}, with 0.5 added to every
+     * cell so that empty cells give a finite value.
+     */
+    static double logOddsRatio(int both, int onlyA, int onlyB, int neither) {
+        double ratio = ((both + 0.5) * (neither + 0.5)) / ((onlyA + 0.5) * (onlyB + 0.5));
+        return Math.log(ratio) / Math.log(2);
+    }
+
+    private static String sampleOf(MutationDto mutation) {
+        return sampleOf(mutation.sampleId(), mutation.patientId());
+    }
+
+    private static String sampleOf(String sampleId, String patientId) {
+        return sampleId != null && !sampleId.isBlank() ? sampleId : patientId;
+    }
+
+    private static List<String> normalizeGenes(Collection<String> genes) {
+        return genes.stream().map(MutationMatrix::normalizeGene).filter(gene -> !gene.isEmpty()).distinct().toList();
+    }
+
+    private static String normalizeGene(String gene) {
+        return gene == null ? "" : gene.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static String normalizeSample(String sample) {
+        return sample == null ? "" : sample.trim();
+    }
+
+    // ==================== STORAGE ====================
+
+    /**
+     * Collects the bitmaps and sample ordinals of one rebuild; replaces the whole matrix on publish.
+     */
+    private final class MatrixRebuild implements MutationSnapshot.Rebuild {
+
+        private final Samples built = new Samples();
+        private final Map<String, RoaringBitmap> bitmaps = new HashMap<>();
+
+        @Override
+        public void add(MutationRow row) {
+            String gene = normalizeGene(row.geneName());
+            String sample = normalizeSample(sampleOf(row.sampleId(), row.patientId()));
+            if (!gene.isEmpty() && !sample.isEmpty()) {
+                built.add(bitmaps.computeIfAbsent(gene, key -> new RoaringBitmap()), gene, sample);
+            }
+        }
+
+        @Override
+        public void publish() {
+            MutationMatrix matrix = MutationMatrix.this;
+            try {
+                bitmaps.values().forEach(RoaringBitmap::runOptimize);
+                synchronized (matrix) {
+                    samples = built;
+                    snapshot = new Snapshot(Map.copyOf(bitmaps), built.ids, built.count, snapshot.version() + 1);
+                    changesDuringRebuild.forEach(matrix::apply);
+                    ready = true;
+                }
+                LOGGER.info("Mutation matrix built with {} genes and {} samples", geneCount(), sampleCount());
+            } finally {
+                discard();
+            }
+        }
+
+        @Override
+        public void discard() {
+            synchronized (MutationMatrix.this) {
+                changesDuringRebuild = null;
+            }
+        }
+    }
+
+    /**
+     * Immutable view read by queries. {@code sampleIds} may be longer than {@code sampleCount};
+     * entries past it are appended later and never read through this snapshot. The version grows
+     * with every change.
+     */
+    private record Snapshot(Map<String, RoaringBitmap> genes, String[] sampleIds, int sampleCount, long version) {
+        private static final RoaringBitmap NO_SAMPLES = new RoaringBitmap();
+        private static final Snapshot EMPTY = new Snapshot(Map.of(), new String[0], 0, 0);
+    }
+
+    /**
+     * Sample sets returned by {@link #sampleSets}. The bitmaps are shared with the matrix and must
+     * not be modified.
+     *
+     * @param version      matrix version the sets were taken from
+     * @param totalSamples number of samples in the matrix
+     * @param genes        gene names
+     * @param bitmaps      sample ordinals mutated in each gene, parallel to {@code genes}
+     */
+    public record SampleSets(long version, int totalSamples, List<String> genes, List<RoaringBitmap> bitmaps) {
+    }
+
+    /**
+     * Sample ordinals (append-only) and the extra mutations of (gene, sample) pairs mutated more
+     * than once. Only used by writers, under the matrix lock.
+     */
+    private static final class Samples {
+        private final Map<String, Integer> ordinals = new HashMap<>();
+        private final Map<String, Integer> extraMutations = new HashMap<>();
+        private String[] ids = new String[1024];
+        private int count;
+
+        private void add(RoaringBitmap bitmap, String gene, String sample) {
+            int ordinal = ordinals.computeIfAbsent(sample, this::append);
+            if (!bitmap.checkedAdd(ordinal)) {
+                extraMutations.merge(gene + '\t' + ordinal, 1, Integer::sum);
+            }
+        }
+
+        /**
+         * @return true if the sample was cleared from the bitmap
+         */
+        private boolean remove(RoaringBitmap bitmap, String gene, String sample) {
+            Integer ordinal = ordinals.get(sample);
+            if (ordinal == null) {
+                return false;
+            }
+            String key = gene + '\t' + ordinal;
+            Integer extra = extraMutations.get(key);
+            if (extra != null) {
+                if (extra == 1) {
+                    extraMutations.remove(key);
+                } else {
+                    extraMutations.put(key, extra - 1);
+                }
+                return false;
+            }
+            return bitmap.checkedRemove(ordinal);
+        }
+
+        private int append(String sample) {
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+            ids[count] = sample;
+            return count++;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.gene.sphere.mutationservice.service;
+
+import java.util.List;
+
+/**
+ * Filter of a paginated or streamed mutation query; one per list query of the repository.
+ *
+ * @param kind          which filter applies
+ * @param value         the single filter value (gene, chromosome, type, patient, sample or significance)
+ * @param values        gene symbols for {@link Kind#GENES}
+ * @param startPosition region start for {@link Kind#REGION}
+ * @param endPosition   region end for {@link Kind#REGION}
+ */
+public record MutationQuery(Kind kind, String value, List<String> values, Long startPosition, Long endPosition) {
+
+    public enum Kind {
+        GENE, GENES, CHROMOSOME, REGION, MUTATION_TYPE, PATIENT, SAMPLE, CLINICAL_SIGNIFICANCE
+    }
+
+    public MutationQuery {
+        if (kind == null) {
+            throw new IllegalArgumentException("Query kind cannot be null");
+        }
+        if (kind == Kind.GENES) {
+            if (values == null || values.isEmpty()) {
+                throw new IllegalArgumentException("Gene names cannot be empty");
+            }
+            values = List.copyOf(values);
+        } else if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Filter value cannot be null or blank");
+        }
+        if (kind == Kind.REGION && (startPosition == null || endPosition == null || startPosition > endPosition)) {
+            throw new IllegalArgumentException("Region requires a start position not after the end position");
+        }
+    }
+
+    public static MutationQuery byGene(String geneName) {
+        return new MutationQuery(Kind.GENE, geneName, null, null, null);
+    }
+
+    public static MutationQuery byGenes(List<String> geneNames) {
+        return new MutationQuery(Kind.GENES, null, geneNames, null, null);
+    }
+
+    public static MutationQuery byChromosome(String chromosome) {
+        return new MutationQuery(Kind.CHROMOSOME, chromosome, null, null, null);
+    }
+
+    public static MutationQuery byRegion(String chromosome, Long startPosition, Long endPosition) {
+        return new MutationQuery(Kind.REGION, chromosome, null, startPosition, endPosition);
+    }
+
+    public static MutationQuery byMutationType(String mutationType) {
+        return new MutationQuery(Kind.MUTATION_TYPE, mutationType, null, null, null);
+    }
+
+    public static MutationQuery byPatient(String patientId) {
+        return new MutationQuery(Kind.PATIENT, patientId, null, null, null);
+    }
+
+    public static MutationQuery bySample(String sampleId) {
+        return new MutationQuery(Kind.SAMPLE, sampleId, null, null, null);
+    }
+
+    public static MutationQuery byClinicalSignificance(String significance) {
+        return new MutationQuery(Kind.CLINICAL_SIGNIFICANCE, significance, null, null, null);
+    }
+}
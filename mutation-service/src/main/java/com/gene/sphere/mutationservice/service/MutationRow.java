@@ -0,0 +1,48 @@
+package com.gene.sphere.mutationservice.service;
+
+import java.math.BigDecimal;
+
+/**
+ * One row of {@code MutationRepository#streamColumns()}, as handed to every {@link MutationSnapshot}
+ * during a rebuild. Unlike {@link com.gene.sphere.mutationservice.model.MutationDto} nothing is
+ * validated: any column except the id may be {@code null}, and each snapshot skips the rows it cannot use.
+ *
+ * @param id                   mutation id
+ * @param geneName             gene name
+ * @param chromosome           chromosome identifier
+ * @param position             genomic position
+ * @param referenceAllele      reference nucleotide(s)
+ * @param alternateAllele      mutated nucleotide(s)
+ * @param mutationType         type of mutation
+ * @param patientId            de-identified patient identifier
+ * @param sampleId             TCGA sample ID
+ * @param proteinChange        protein-level change
+ * @param cancerType           cancer type
+ * @param clinicalSignificance clinical impact
+ * @param alleleFrequency      frequency of the alternate allele
+ */
+public record MutationRow(
+        int id,
+        String geneName,
+        String chromosome,
+        Long position,
+        String referenceAllele,
+        String alternateAllele,
+        String mutationType,
+        String patientId,
+        String sampleId,
+        String proteinChange,
+        String cancerType,
+        String clinicalSignificance,
+        BigDecimal alleleFrequency) {
+
+    /**
+     * Maps a {@code streamColumns()} projection row.
+     */
+    static MutationRow of(Object[] row) {
+        return new MutationRow(((Number) row[0]).intValue(), (String) row[1], (String) row[2],
+                row[3] == null ? null : ((Number) row[3]).longValue(), (String) row[4], (String) row[5],
+                (String) row[6], (String) row[7], (String) row[8], (String) row[9], (String) row[10],
+                (String) row[11], (BigDecimal) row[12]);
+    }
+}
@@ -0,0 +1,299 @@
+package com.gene.sphere.mutationservice.service;
+
+import com.gene.sphere.mutationservice.config.CacheConfig;
+import com.gene.sphere.mutationservice.factory.MutationFactory;
+import com.gene.sphere.mutationservice.ingest.MutationsImportedEvent;
+import com.gene.sphere.mutationservice.model.CursorPage;
+import com.gene.sphere.mutationservice.model.GeneMutationCount;
+import com.gene.sphere.mutationservice.model.Mutation;
+import com.gene.sphere.mutationservice.model.MutationDto;
+import com.gene.sphere.mutationservice.model.ProteinChangeCount;
+import com.gene.sphere.mutationservice.repository.MutationRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Service layer encapsulating business logic for Mutation operations.
+ * - Uses Repository for persistence and Factory for mapping Entity <-> DTO
+ * - Keyset pages: a fixed number of mutations per call, continued with a cursor token
+ * - Streams: every match, handed to a consumer one at a time while the rows are fetched
+ *   in batches, so memory stays flat no matter how large the result is
+ * - Aggregations: cached in Redis (see {@link CacheConfig}) and evicted on every write, so
+ *   dashboards do not re-run the GROUP BY queries
+ */
+@Service
+@Transactional(readOnly = true)
+public class MutationService {
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final MutationRepository mutationRepository;
+    private final MutationFactory factory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public MutationService(MutationRepository mutationRepository, MutationFactory factory,
+                           ApplicationEventPublisher eventPublisher) {
+        this.mutationRepository = mutationRepository;
+        this.factory = factory;
+        this.eventPublisher = eventPublisher;
+    }
+
+    // ==================== LOOKUPS ====================
+
+    /**
+     * Get a mutation by id.
+     *
+     * @param id mutation id
+     * @return API DTO wrapped in Optional
+     */
+    public Optional<MutationDto> getMutation(Integer id) {
+        return mutationRepository.findById(id).map(factory::toDto);
+    }
+
+    /**
+     * Get every occurrence of a protein change across patients (case insensitive).
+     */
+    public List<MutationDto> getByProteinChange(String proteinChange) {
+        return toDtos(mutationRepository.findByProteinChange(proteinChange));
+    }
+
+    /**
+     * Get mutations of a gene with the given clinical significance (case insensitive).
+     */
+    public List<MutationDto> getByGeneAndSignificance(String geneName, String significance) {
+        return toDtos(mutationRepository.findByGeneNameAndClinicalSignificance(geneName, significance));
+    }
+
+    /**
+     * Get mutations of a gene with an allele frequency above {@code minimumFrequency}.
+     */
+    public List<MutationDto> getHighFrequencyMutations(String geneName, BigDecimal minimumFrequency) {
+        return toDtos(mutationRepository.findHighFrequencyMutations(geneName, minimumFrequency));
+    }
+
+    /**
+     * Get mutations of a gene within one sample.
+     */
+    public List<MutationDto> getByGeneAndSample(String geneName, String sampleId) {
+        return toDtos(mutationRepository.findByGeneNameAndSampleId(geneName, sampleId));
+    }
+
+    /**
+     * Check whether a protein change has been observed in a gene (case insensitive).
+     */
+    public boolean exists(String geneName, String proteinChange) {
+        return mutationRepository.existsByGeneNameAndProteinChange(geneName, proteinChange);
+    }
+
+    // ==================== CACHED AGGREGATIONS ====================
+
+    /**
+     * Count mutations per gene, most mutated first.
+     * Cached as a single entry until the next write.
+     */
+    @Cacheable(cacheNames = CacheConfig.GENE_COUNTS_CACHE, key = "'all'", sync = true)
+    public List<GeneMutationCount> countMutationsPerGene() {
+        return mutationRepository.countMutationsPerGene().stream()
+                .map(row -> new GeneMutationCount((String) row[0], ((Number) row[1]).longValue()))
+                .toList();
+    }
+
+    /**
+     * Count occurrences of each protein change in a gene (hotspots), most frequent first.
+     * Cached per gene symbol until the next write.
+     */
+    @Cacheable(cacheNames = CacheConfig.PROTEIN_CHANGE_COUNTS_CACHE, key = "#geneName", sync = true)
+    public List<ProteinChangeCount> countMutationsByProteinChange(String geneName) {
+        return mutationRepository.countMutationsByProteinChange(geneName).stream()
+                .map(row -> new ProteinChangeCount((String) row[0], ((Number) row[1]).longValue()))
+                .toList();
+    }
+
+    /**
+     * Find actionable mutations: the given driver genes with one of the given significances.
+     * Cached per normalized gene and significance lists until the next write.
+     *
+     * @param geneNames     driver gene symbols (e.g., EGFR, KRAS, ALK)
+     * @param significances clinical significances (e.g., "Pathogenic")
+     */
+    @Cacheable(cacheNames = CacheConfig.ACTIONABLE_CACHE,
+            key = "T(com.gene.sphere.mutationservice.service.MutationService).actionableCacheKey(#geneNames, #significances)",
+            sync = true)
+    public List<MutationDto> findActionableMutations(Collection<String> geneNames, Collection<String> significances) {
+        List<String> genes = normalize(geneNames);
+        List<String> clinicalSignificances = normalize(significances);
+        if (genes.isEmpty() || clinicalSignificances.isEmpty()) {
+            return List.of();
+        }
+        return toDtos(mutationRepository.findActionableMutations(genes, clinicalSignificances));
+    }
+
+    /**
+     * Cache key of {@link #findActionableMutations(Collection, Collection)}: both lists sorted
+     * and deduplicated, so argument order does not create separate entries.
+     */
+    public static String actionableCacheKey(Collection<String> geneNames, Collection<String> significances) {
+        return String.join(",", normalize(geneNames)) + "|" + String.join(",", normalize(significances));
+    }
+
+    private static List<String> normalize(Collection<String> values) {
+        return values.stream().map(String::trim).filter(value -> !value.isEmpty()).distinct().sorted().toList();
+    }
+
+    // ==================== WRITES ====================
+
+    /**
+     * Create and save a new mutation.
+     * Evicts every cached aggregation and publishes a {@link MutationChangedEvent} once the
+     * transaction commits.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.GENE_COUNTS_CACHE, CacheConfig.PROTEIN_CHANGE_COUNTS_CACHE,
+            CacheConfig.ACTIONABLE_CACHE}, allEntries = true)
+    public MutationDto createMutation(MutationDto dto) {
+        Mutation saved = mutationRepository.save(factory.fromDto(dto));
+        MutationDto created = factory.toDto(saved);
+        eventPublisher.publishEvent(new MutationChangedEvent(saved.getId(), null, created));
+        return created;
+    }
+
+    /**
+     * Update an existing mutation.
+     * Throws NoSuchElementException if not found.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.GENE_COUNTS_CACHE, CacheConfig.PROTEIN_CHANGE_COUNTS_CACHE,
+            CacheConfig.ACTIONABLE_CACHE}, allEntries = true)
+    public MutationDto updateMutation(Integer id, MutationDto dto) {
+        Mutation mutation = mutationRepository.findById(id).orElseThrow();
+        // Captured before save, which merges the new values into the managed entity
+        MutationDto before = factory.toDto(mutation);
+        Mutation updated = factory.fromDto(dto);
+        updated.setId(mutation.getId());
+        MutationDto after = factory.toDto(mutationRepository.save(updated));
+        eventPublisher.publishEvent(new MutationChangedEvent(id, before, after));
+        return after;
+    }
+
+    /**
+     * Delete a mutation by id.
+     * Throws NoSuchElementException if not found.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.GENE_COUNTS_CACHE, CacheConfig.PROTEIN_CHANGE_COUNTS_CACHE,
+            CacheConfig.ACTIONABLE_CACHE}, allEntries = true)
+    public void deleteMutation(Integer id) {
+        Mutation mutation = mutationRepository.findById(id)
+                .orElseThrow(() -> new NoSuchElementException("Mutation not found: " + id));
+        MutationDto before = factory.toDto(mutation);
+        mutationRepository.delete(mutation);
+        eventPublisher.publishEvent(new MutationChangedEvent(id, before, null));
+    }
+
+    /**
+     * Evicts every cached aggregation after a bulk import committed rows.
+     */
+    @EventListener
+    @CacheEvict(cacheNames = {CacheConfig.GENE_COUNTS_CACHE, CacheConfig.PROTEIN_CHANGE_COUNTS_CACHE,
+            CacheConfig.ACTIONABLE_CACHE}, allEntries = true)
+    public void onMutationsImported(MutationsImportedEvent event) {
+        // Eviction is done by the annotation
+    }
+
+    // ==================== PAGES AND STREAMS ====================
+
+    /**
+     * Returns one keyset page of mutations matching the query.
+     *
+     * @param query  the filter
+     * @param cursor token from the previous page, or {@code null} for the first page
+     * @param size   page size (1 to {@value #MAX_PAGE_SIZE})
+     * @return the page, in id order
+     * @throws IllegalArgumentException if the cursor or the size is invalid
+     */
+    public CursorPage<MutationDto> findPage(MutationQuery query, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        int afterId = CursorPage.decodeCursor(cursor);
+        Pageable pageable = PageRequest.of(0, size);
+
+        Slice<Mutation> slice = switch (query.kind()) {
+            case GENE -> mutationRepository.findSliceByGeneNameCaseInsensitive(query.value(), afterId, pageable);
+            case GENES -> mutationRepository.findByGeneNameInAndIdGreaterThanOrderByIdAsc(query.values(), afterId, pageable);
+            case CHROMOSOME -> mutationRepository.findByChromosomeAndIdGreaterThanOrderByIdAsc(query.value(), afterId, pageable);
+            case REGION -> mutationRepository.findByChromosomeAndPositionBetweenAndIdGreaterThanOrderByIdAsc(
+                    query.value(), query.startPosition(), query.endPosition(), afterId, pageable);
+            case MUTATION_TYPE -> mutationRepository.findByMutationTypeAndIdGreaterThanOrderByIdAsc(query.value(), afterId, pageable);
+            case PATIENT -> mutationRepository.findByPatientIdAndIdGreaterThanOrderByIdAsc(query.value(), afterId, pageable);
+            case SAMPLE -> mutationRepository.findBySampleIdAndIdGreaterThanOrderByIdAsc(query.value(), afterId, pageable);
+            case CLINICAL_SIGNIFICANCE -> mutationRepository.findSliceByClinicalSignificance(query.value(), afterId, pageable);
+        };
+
+        List<Mutation> mutations = slice.getContent();
+        String nextCursor = slice.hasNext() && !mutations.isEmpty()
+                ? CursorPage.encodeCursor(mutations.get(mutations.size() - 1).getId())
+                : null;
+        return new CursorPage<>(mutations.stream().map(factory::toDto).toList(), nextCursor);
+    }
+
+    /**
+     * Streams every mutation matching the query to {@code consumer}, in id order.
+     * Each entity is detached once consumed, so the persistence context does not grow.
+     *
+     * @param query    the filter
+     * @param consumer receives each mutation; runs inside the read-only transaction
+     * @return the number of mutations streamed
+     */
+    public long forEach(MutationQuery query, Consumer<MutationDto> consumer) {
+        long count = 0;
+        try (Stream<Mutation> mutations = openStream(query)) {
+            for (Mutation mutation : (Iterable<Mutation>) mutations::iterator) {
+                consumer.accept(factory.toDto(mutation));
+                entityManager.detach(mutation);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private Stream<Mutation> openStream(MutationQuery query) {
+        return switch (query.kind()) {
+            case GENE -> mutationRepository.streamByGeneNameCaseInsensitive(query.value());
+            case GENES -> mutationRepository.streamByGeneNameInOrderByIdAsc(query.values());
+            case CHROMOSOME -> mutationRepository.streamByChromosomeOrderByIdAsc(query.value());
+            case REGION -> mutationRepository.streamByChromosomeAndPositionBetweenOrderByIdAsc(
+                    query.value(), query.startPosition(), query.endPosition());
+            case MUTATION_TYPE -> mutationRepository.streamByMutationTypeOrderByIdAsc(query.value());
+            case PATIENT -> mutationRepository.streamByPatientIdOrderByIdAsc(query.value());
+            case SAMPLE -> mutationRepository.streamBySampleIdOrderByIdAsc(query.value());
+            case CLINICAL_SIGNIFICANCE -> mutationRepository.streamByClinicalSignificance(query.value());
+        };
+    }
+
+    private List<MutationDto> toDtos(List<Mutation> mutations) {
+        return mutations.stream().map(factory::toDto).toList();
+    }
+}
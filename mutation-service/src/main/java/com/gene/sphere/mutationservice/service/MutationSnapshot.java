@@ -0,0 +1,44 @@
+package com.gene.sphere.mutationservice.service;
+
+/**
+ * An in-memory view of the mutations table that is rebuilt by {@link MutationSnapshotMaintainer}.
+ *
+ * <p>The maintainer streams the table once per rebuild and feeds every row to every registered
+ * snapshot, so the indexes never read the table concurrently. A snapshot keeps applying committed
+ * {@link MutationChangedEvent}s itself; between {@link #startRebuild()} and the end of its
+ * {@link Rebuild} it records them to replay onto the rebuilt view.
+ */
+public interface MutationSnapshot {
+
+    /**
+     * Name used in logs and metric tags.
+     */
+    String snapshotName();
+
+    /**
+     * Starts recording changes and returns an empty rebuild to feed.
+     */
+    Rebuild startRebuild();
+
+    /**
+     * One rebuild in progress. Exactly one of {@link #publish()} and {@link #discard()} is called,
+     * after which the snapshot stops recording changes.
+     */
+    interface Rebuild {
+
+        /**
+         * Adds one row of the table; rows arrive in id order.
+         */
+        void add(MutationRow row);
+
+        /**
+         * Replaces the published view with the rebuilt one and replays the recorded changes.
+         */
+        void publish();
+
+        /**
+         * Drops the rebuild after a failure, keeping the current view.
+         */
+        void discard();
+    }
+}
@@ -0,0 +1,195 @@
+package com.gene.sphere.mutationservice.service;
+
+import com.gene.sphere.mutationservice.ingest.MutationsImportedEvent;
+import com.gene.sphere.mutationservice.repository.MutationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Rebuilds every {@link MutationSnapshot} from a single pass over the mutations table.
+ *
+ * <p>{@link GenomicIntervalIndex}, {@link MutationMatrix}, {@link ProteinChangeHotspotIndex} and
+ * {@code MutationColumnStore} each need the whole table. Rebuilding them separately meant four
+ * schedules, four threads and four concurrent full scans at startup and after every import. Here:
+ * <ul>
+ *   <li><strong>One scan:</strong> {@link MutationRepository#streamColumns()} is read once per rebuild
+ *       and every row is handed to every snapshot</li>
+ *   <li><strong>One thread:</strong> Rebuilds, and other background work submitted by the snapshots
+ *       such as hotspot recounts, run one at a time on a single executor</li>
+ *   <li><strong>Triggers:</strong> When the application is ready, after a bulk import, every
+ *       {@code mutation-snapshots.rebuild-interval}, and on request; requests made before a pending
+ *       rebuild starts are coalesced into it</li>
+ *   <li><strong>Isolation:</strong> A snapshot that fails to take a row or to publish is discarded and
+ *       keeps its previous view; the others still publish. If the scan itself fails, all keep theirs</li>
+ * </ul>
+ */
+@Component
+public class MutationSnapshotMaintainer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MutationSnapshotMaintainer.class);
+
+    private final MutationRepository mutationRepository;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Duration rebuildInterval;
+
+    private final List<MutationSnapshot> snapshots = new CopyOnWriteArrayList<>();
+
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+
+    private final ScheduledExecutorService rebuildExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "mutation-snapshots");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * @param mutationRepository repository the snapshots are built from
+     * @param transactionManager transaction manager for the read-only build stream
+     * @param meterRegistry      registry for rebuild metrics
+     * @param rebuildInterval    period of full rebuilds from the database (default: 30 minutes, zero disables)
+     */
+    public MutationSnapshotMaintainer(
+            MutationRepository mutationRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${mutation-snapshots.rebuild-interval:30m}") Duration rebuildInterval) {
+        this.mutationRepository = mutationRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.rebuildInterval = rebuildInterval;
+    }
+
+    /**
+     * Adds a snapshot to every following rebuild; snapshots register themselves on construction.
+     */
+    public void register(MutationSnapshot snapshot) {
+        snapshots.add(snapshot);
+    }
+
+    /**
+     * Builds every snapshot when the application is ready and schedules periodic rebuilds.
+     * The build runs in the background; snapshots report not ready until it completes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        requestRebuild();
+        if (!rebuildInterval.isZero() && !rebuildInterval.isNegative()) {
+            long periodMillis = rebuildInterval.toMillis();
+            rebuildExecutor.scheduleWithFixedDelay(this::rebuild, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Schedules a rebuild unless one is already pending.
+     */
+    public void requestRebuild() {
+        if (rebuildRequested.compareAndSet(false, true)) {
+            rebuildExecutor.execute(this::rebuild);
+        }
+    }
+
+    /**
+     * Runs background work for a snapshot on the rebuild thread, so it never overlaps a rebuild.
+     */
+    public void submit(Runnable task) {
+        rebuildExecutor.execute(task);
+    }
+
+    /**
+     * Rebuilds after a bulk import, which publishes no per-row changes.
+     */
+    @EventListener
+    public void onMutationsImported(MutationsImportedEvent event) {
+        requestRebuild();
+    }
+
+    /**
+     * Streams the mutations table once and rebuilds every registered snapshot from it.
+     */
+    public void rebuild() {
+        rebuildRequested.set(false);
+        Map<MutationSnapshot, MutationSnapshot.Rebuild> rebuilds = new LinkedHashMap<>();
+        for (MutationSnapshot snapshot : snapshots) {
+            rebuilds.put(snapshot, snapshot.startRebuild());
+        }
+        long start = System.nanoTime();
+        long[] rows = {0};
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Object[]> stream = mutationRepository.streamColumns()) {
+                    Iterator<Object[]> iterator = stream.iterator();
+                    while (iterator.hasNext()) {
+                        MutationRow row = MutationRow.of(iterator.next());
+                        rows[0]++;
+                        rebuilds.entrySet().removeIf(entry -> !feed(entry.getKey(), entry.getValue(), row));
+                    }
+                }
+            });
+        } catch (Exception e) {
+            LOGGER.warn("Failed to read mutations for snapshot rebuild", e);
+            meterRegistry.counter("mutation.snapshots.errors", "snapshot", "all").increment();
+            rebuilds.values().forEach(MutationSnapshot.Rebuild::discard);
+            return;
+        }
+        int published = 0;
+        for (Map.Entry<MutationSnapshot, MutationSnapshot.Rebuild> entry : rebuilds.entrySet()) {
+            try {
+                entry.getValue().publish();
+                published++;
+            } catch (RuntimeException e) {
+                fail(entry.getKey(), e);
+            }
+        }
+        LOGGER.info("Rebuilt {} of {} mutation snapshots from {} rows in {} ms", published, snapshots.size(),
+                rows[0], TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private boolean feed(MutationSnapshot snapshot, MutationSnapshot.Rebuild rebuild, MutationRow row) {
+        try {
+            rebuild.add(row);
+            return true;
+        } catch (RuntimeException e) {
+            fail(snapshot, e);
+            rebuild.discard();
+            return false;
+        }
+    }
+
+    private void fail(MutationSnapshot snapshot, RuntimeException e) {
+        LOGGER.warn("Failed to rebuild {}", snapshot.snapshotName(), e);
+        meterRegistry.counter("mutation.snapshots.errors", "snapshot", snapshot.snapshotName()).increment();
+    }
+
+    /**
+     * Stops periodic and pending rebuilds.
+     */
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+}
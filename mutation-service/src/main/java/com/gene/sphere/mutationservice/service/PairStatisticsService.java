@@ -0,0 +1,420 @@
+package com.gene.sphere.mutationservice.service;
+
+import com.gene.sphere.mutationservice.model.GenePairStatistics;
+import com.gene.sphere.mutationservice.model.PairStatisticsReport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Fisher's exact test for co-occurrence and mutual exclusivity of every gene pair in a gene set,
+ * with Benjamini-Hochberg correction.
+ *
+ * <p>Contingency tables come from the per-gene sample bitmaps of {@link MutationMatrix}, so a run
+ * never touches the database. For {@code n} genes, all {@code n * (n - 1) / 2} pairs are tested:
+ * <ul>
+ *   <li><strong>Parallelism:</strong> The triangle of pairs is split into row ranges of roughly equal
+ *       pair counts and tested on a dedicated fork-join pool, each pair writing its p-value to its
+ *       own slot of a primitive array</li>
+ *   <li><strong>Fisher's exact test:</strong> Two-sided, summing the hypergeometric probabilities of
+ *       every table with the same margins that is at most as likely as the observed one. Probabilities
+ *       are computed in log space from a log-factorial table built once per run</li>
+ *   <li><strong>Correction:</strong> q-values are computed over every pair tested, then only the most
+ *       significant pairs are materialized</li>
+ * </ul>
+ *
+ * <p><strong>Caching:</strong> Reports are cached in memory per matrix {@link MutationMatrix#version()
+ * version}, so a cached report is dropped as soon as a write or an import changes the matrix. The
+ * cache is local to the node because the matrix it is derived from is.
+ *
+ * <p><strong>Concurrency:</strong> A run at {@value #MAX_GENES} genes holds about 192 MB and every
+ * core of the pool, so concurrent identical requests join the run already in progress, and at most
+ * {@code pair-statistics.max-concurrent-runs} different runs execute at once; further requests are
+ * rejected with a {@link RejectedExecutionException} instead of queueing.
+ */
+@Service
+public class PairStatisticsService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PairStatisticsService.class);
+
+    /**
+     * Upper bound on the genes of one run: about 8 million pairs, each with a p-value, its sorted
+     * copy and a q-value, so about 192 MB of {@code double[]} per run.
+     */
+    public static final int MAX_GENES = 4000;
+
+    public static final int MAX_RESULTS = 10_000;
+
+    private static final int MAX_CACHED_REPORTS = 32;
+
+    /**
+     * Pairs below which a task is not split further.
+     */
+    private static final int PAIRS_PER_TASK = 8192;
+
+    /**
+     * Tables this much more likely than the observed one (relatively) still count as "as extreme",
+     * so floating-point noise does not drop ties from the two-sided sum.
+     */
+    private static final double LOG_TOLERANCE = 1e-7;
+
+    private final MutationMatrix matrix;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ForkJoinPool pool;
+
+    private final Map<ReportKey, PairStatisticsReport> reports = new ConcurrentHashMap<>();
+
+    /**
+     * Runs in progress, joined by identical requests.
+     */
+    private final Map<ReportKey, CompletableFuture<PairStatisticsReport>> runs = new ConcurrentHashMap<>();
+
+    private final Semaphore runPermits;
+
+    /**
+     * @param matrix            source of the per-gene sample sets
+     * @param meterRegistry     registry for run metrics
+     * @param parallelism       worker threads of the test pool (default: 0, one per available processor)
+     * @param maxConcurrentRuns different runs allowed at once (default: 1)
+     */
+    public PairStatisticsService(
+            MutationMatrix matrix,
+            MeterRegistry meterRegistry,
+            @Value("${pair-statistics.parallelism:0}") int parallelism,
+            @Value("${pair-statistics.max-concurrent-runs:1}") int maxConcurrentRuns) {
+        if (maxConcurrentRuns < 1) {
+            throw new IllegalArgumentException("pair-statistics.max-concurrent-runs must be positive");
+        }
+        this.matrix = matrix;
+        this.meterRegistry = meterRegistry;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.runPermits = new Semaphore(maxConcurrentRuns);
+    }
+
+    /**
+     * Tests every pair of the given genes.
+     *
+     * @param genes      gene names, case-insensitive; {@code null} or empty for every gene in the matrix
+     * @param minSamples genes mutated in fewer samples are not tested
+     * @param maxQ       q-value threshold for reported pairs
+     * @param limit      maximum number of pairs reported
+     * @param tendency   only report pairs with this tendency, or {@code null} for both
+     * @return the report; q-values are corrected over every pair tested, whatever the tendency filter
+     * @throws IllegalArgumentException   if a parameter is out of range or more than {@value #MAX_GENES} genes qualify
+     * @throws RejectedExecutionException if {@code pair-statistics.max-concurrent-runs} other runs are in progress
+     */
+    public PairStatisticsReport test(Collection<String> genes, int minSamples, double maxQ, int limit,
+                                     GenePairStatistics.Tendency tendency) {
+        if (minSamples < 1) {
+            throw new IllegalArgumentException("Minimum samples must be at least 1");
+        }
+        if (!(maxQ > 0 && maxQ <= 1)) {
+            throw new IllegalArgumentException("q-value threshold must be in (0, 1]");
+        }
+        if (limit < 1 || limit > MAX_RESULTS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_RESULTS);
+        }
+        List<String> requested = genes == null ? List.of() : genes.stream()
+                .map(gene -> gene == null ? "" : gene.trim().toUpperCase(Locale.ROOT))
+                .filter(gene -> !gene.isEmpty())
+                .distinct()
+                .sorted()
+                .toList();
+
+        long version = matrix.version();
+        reports.keySet().removeIf(key -> key.version() != version);
+        ReportKey key = new ReportKey(version, requested, minSamples, maxQ, limit, tendency);
+        PairStatisticsReport cached = reports.get(key);
+        if (cached != null) {
+            meterRegistry.counter("pair.statistics.cache", "result", "hit").increment();
+            return cached;
+        }
+
+        CompletableFuture<PairStatisticsReport> flight = new CompletableFuture<>();
+        CompletableFuture<PairStatisticsReport> existing = runs.putIfAbsent(key, flight);
+        if (existing != null) {
+            meterRegistry.counter("pair.statistics.cache", "result", "joined").increment();
+            return await(existing);
+        }
+        meterRegistry.counter("pair.statistics.cache", "result", "miss").increment();
+        try {
+            PairStatisticsReport report = runExclusively(key);
+            flight.complete(report);
+            return report;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            runs.remove(key, flight);
+        }
+    }
+
+    private PairStatisticsReport runExclusively(ReportKey key) {
+        if (!runPermits.tryAcquire()) {
+            meterRegistry.counter("pair.statistics.rejected").increment();
+            throw new RejectedExecutionException("Another pair statistics run is in progress; retry later");
+        }
+        try {
+            MutationMatrix.SampleSets sets = matrix.sampleSets(key.genes(), key.minSamples());
+            if (sets.genes().size() > MAX_GENES) {
+                throw new IllegalArgumentException(sets.genes().size() + " genes qualify, at most " + MAX_GENES
+                        + " are supported; raise minSamples or list the genes");
+            }
+            Timer.Sample sample = Timer.start(meterRegistry);
+            PairStatisticsReport report = run(sets, key.maxQ(), key.limit(), key.tendency());
+            long nanos = sample.stop(meterRegistry.timer("pair.statistics.run"));
+            LOGGER.info("Tested {} gene pairs over {} samples in {} ms ({} significant at q <= {})",
+                    report.tests(), report.samples(), nanos / 1_000_000, report.significant(), key.maxQ());
+
+            if (reports.size() >= MAX_CACHED_REPORTS) {
+                reports.clear();
+            }
+            reports.put(new ReportKey(sets.version(), key.genes(), key.minSamples(), key.maxQ(), key.limit(),
+                    key.tendency()), report);
+            return report;
+        } finally {
+            runPermits.release();
+        }
+    }
+
+    /**
+     * Waits for a run started by another request, rethrowing its failure as is.
+     */
+    private static PairStatisticsReport await(CompletableFuture<PairStatisticsReport> run) {
+        try {
+            return run.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // ==================== RUN ====================
+
+    private PairStatisticsReport run(MutationMatrix.SampleSets sets, double maxQ, int limit,
+                                     GenePairStatistics.Tendency tendency) {
+        int n = sets.genes().size();
+        int samples = sets.totalSamples();
+        long tests = (long) n * (n - 1) / 2;
+        if (tests == 0) {
+            return new PairStatisticsReport(n, samples, 0, 0, List.of());
+        }
+        RoaringBitmap[] bitmaps = sets.bitmaps().toArray(RoaringBitmap[]::new);
+        int[] cardinalities = Arrays.stream(bitmaps).mapToInt(RoaringBitmap::getCardinality).toArray();
+        double[] logFactorials = logFactorials(samples);
+        double[] pValues = new double[(int) tests];
+
+        pool.invoke(new PairTask(bitmaps, cardinalities, samples, logFactorials, pValues, 0, n));
+
+        double[] sorted = pValues.clone();
+        Arrays.parallelSort(sorted);
+        double[] qSorted = benjaminiHochberg(sorted);
+        // q-values are monotone in p, so the significant pairs are a prefix of the sorted p-values
+        int significant = 0;
+        while (significant < qSorted.length && qSorted[significant] <= maxQ) {
+            significant++;
+        }
+        if (significant == 0) {
+            return new PairStatisticsReport(n, samples, tests, 0, List.of());
+        }
+        double pCutoff = sorted[significant - 1];
+
+        Comparator<GenePairStatistics> leastSignificantFirst = Comparator
+                .comparingDouble(GenePairStatistics::pValue).reversed()
+                .thenComparing(GenePairStatistics::geneA, Comparator.reverseOrder())
+                .thenComparing(GenePairStatistics::geneB, Comparator.reverseOrder());
+        PriorityQueue<GenePairStatistics> best = new PriorityQueue<>(limit + 1, leastSignificantFirst);
+        int index = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++, index++) {
+                double p = pValues[index];
+                if (p > pCutoff || (best.size() == limit && p > best.peek().pValue())) {
+                    continue;
+                }
+                GenePairStatistics pair = statistics(sets.genes().get(i), sets.genes().get(j), bitmaps[i], bitmaps[j],
+                        samples, p, qSorted[Arrays.binarySearch(sorted, p)]);
+                if (tendency == null || pair.tendency() == tendency) {
+                    best.offer(pair);
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                }
+            }
+        }
+        List<GenePairStatistics> pairs = new ArrayList<>(best);
+        pairs.sort(leastSignificantFirst.reversed());
+        return new PairStatisticsReport(n, samples, tests, significant, pairs);
+    }
+
+    private static GenePairStatistics statistics(String geneA, String geneB, RoaringBitmap a, RoaringBitmap b,
+                                                 int samples, double pValue, double qValue) {
+        int both = RoaringBitmap.andCardinality(a, b);
+        int onlyA = a.getCardinality() - both;
+        int onlyB = b.getCardinality() - both;
+        int neither = Math.max(samples - both - onlyA - onlyB, 0);
+        double logOddsRatio = MutationMatrix.logOddsRatio(both, onlyA, onlyB, neither);
+        return new GenePairStatistics(geneA, geneB, both, onlyA, onlyB, neither, logOddsRatio, pValue, qValue,
+                logOddsRatio > 0 ? GenePairStatistics.Tendency.CO_OCCURRENCE : GenePairStatistics.Tendency.MUTUAL_EXCLUSIVITY);
+    }
+
+    /**
+     * Tests the pairs {@code (i, j > i)} of rows {@code [rowStart, rowEnd)}, splitting the range until it
+     * holds at most {@link #PAIRS_PER_TASK} pairs.
+     */
+    private static final class PairTask extends RecursiveAction {
+        private final RoaringBitmap[] bitmaps;
+        private final int[] cardinalities;
+        private final int samples;
+        private final double[] logFactorials;
+        private final double[] pValues;
+        private final int rowStart;
+        private final int rowEnd;
+
+        private PairTask(RoaringBitmap[] bitmaps, int[] cardinalities, int samples, double[] logFactorials,
+                         double[] pValues, int rowStart, int rowEnd) {
+            this.bitmaps = bitmaps;
+            this.cardinalities = cardinalities;
+            this.samples = samples;
+            this.logFactorials = logFactorials;
+            this.pValues = pValues;
+            this.rowStart = rowStart;
+            this.rowEnd = rowEnd;
+        }
+
+        @Override
+        protected void compute() {
+            int n = bitmaps.length;
+            long pairs = pairOffset(rowEnd, n) - pairOffset(rowStart, n);
+            if (pairs <= PAIRS_PER_TASK || rowEnd - rowStart == 1) {
+                testRows();
+                return;
+            }
+            // Rows get shorter towards the end of the triangle: split on pair count, not row count
+            long half = pairOffset(rowStart, n) + pairs / 2;
+            int split = rowStart + 1;
+            while (split < rowEnd - 1 && pairOffset(split + 1, n) <= half) {
+                split++;
+            }
+            invokeAll(new PairTask(bitmaps, cardinalities, samples, logFactorials, pValues, rowStart, split),
+                    new PairTask(bitmaps, cardinalities, samples, logFactorials, pValues, split, rowEnd));
+        }
+
+        private void testRows() {
+            int n = bitmaps.length;
+            for (int i = rowStart; i < rowEnd; i++) {
+                int index = (int) pairOffset(i, n);
+                for (int j = i + 1; j < n; j++, index++) {
+                    int both = RoaringBitmap.andCardinality(bitmaps[i], bitmaps[j]);
+                    pValues[index] = fisherExact(both, cardinalities[i], cardinalities[j], samples, logFactorials);
+                }
+            }
+        }
+    }
+
+    // ==================== STATISTICS ====================
+
+    /**
+     * Index of the first pair of row {@code i} in the row-major upper triangle of {@code n} genes.
+     */
+    static long pairOffset(int i, int n) {
+        return (long) i * (n - 1) - (long) i * (i - 1) / 2;
+    }
+
+    /**
+     * {@code ln(k!)} for {@code k = 0..n}.
+     */
+    static double[] logFactorials(int n) {
+        double[] table = new double[n + 1];
+        for (int k = 2; k <= n; k++) {
+            table[k] = table[k - 1] + Math.log(k);
+        }
+        return table;
+    }
+
+    /**
+     * Two-sided Fisher's exact test of a 2x2 table given by its top-left cell and margins.
+     *
+     * @param both          samples mutated in both genes
+     * @param mutatedA      samples mutated in the first gene
+     * @param mutatedB      samples mutated in the second gene
+     * @param samples       total samples
+     * @param logFactorials table from {@link #logFactorials(int)} covering {@code samples}
+     * @return the p-value
+     */
+    static double fisherExact(int both, int mutatedA, int mutatedB, int samples, double[] logFactorials) {
+        int low = Math.max(0, mutatedA + mutatedB - samples);
+        int high = Math.min(mutatedA, mutatedB);
+        if (low == high) {
+            return 1.0;
+        }
+        double[] lf = logFactorials;
+        // ln of C(mutatedA, x) * C(samples - mutatedA, mutatedB - x) / C(samples, mutatedB), without the x terms
+        double margins = lf[mutatedA] + lf[samples - mutatedA] + lf[mutatedB] + lf[samples - mutatedB] - lf[samples];
+        double observed = margins - lf[both] - lf[mutatedA - both] - lf[mutatedB - both]
+                - lf[samples - mutatedA - mutatedB + both];
+        double threshold = observed + LOG_TOLERANCE;
+        double p = 0;
+        for (int x = low; x <= high; x++) {
+            double logProbability = margins - lf[x] - lf[mutatedA - x] - lf[mutatedB - x]
+                    - lf[samples - mutatedA - mutatedB + x];
+            if (logProbability <= threshold) {
+                p += Math.exp(logProbability);
+            }
+        }
+        return Math.min(p, 1.0);
+    }
+
+    /**
+     * Benjamini-Hochberg q-values of ascending p-values: {@code q(i) = min over k >= i of p(k) * m / k}.
+     */
+    static double[] benjaminiHochberg(double[] sortedPValues) {
+        int m = sortedPValues.length;
+        double[] q = new double[m];
+        double min = 1.0;
+        for (int i = m - 1; i >= 0; i--) {
+            min = Math.min(min, sortedPValues[i] * m / (i + 1));
+            q[i] = min;
+        }
+        return q;
+    }
+
+    /**
+     * Stops the test pool.
+     */
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private record ReportKey(long version, List<String> genes, int minSamples, double maxQ, int limit,
+                             GenePairStatistics.Tendency tendency) {
+    }
+}
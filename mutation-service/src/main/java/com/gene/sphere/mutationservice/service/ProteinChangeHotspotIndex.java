@@ -0,0 +1,511 @@
+package com.gene.sphere.mutationservice.service;
+
+import com.gene.sphere.mutationservice.model.MutationDto;
+import com.gene.sphere.mutationservice.model.ProteinChangeEstimate;
+import com.gene.sphere.mutationservice.model.ProteinChangeHotspots;
+import com.gene.sphere.mutationservice.repository.MutationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory protein change hotspots per gene, for lollipop plots.
+ *
+ * <p>{@link MutationRepository#countMutationsByProteinChange} groups every mutation of a gene on
+ * each call. This index keeps, per gene, the result a lollipop plot needs, so a page view reads
+ * precomputed values instead of scanning the gene's mutations:
+ * <ul>
+ *   <li><strong>Hotspots:</strong> The {@code hotspots.top-n} most frequent protein changes with exact
+ *       counts, kept ranked</li>
+ *   <li><strong>Positions:</strong> Exact mutation counts per residue, binned on request</li>
+ *   <li><strong>Long tail:</strong> A {@link CountMinSketch} over every (gene, protein change) pair
+ *       answers counts of changes outside the top N, as an upper bound with a known maximum error.
+ *       Tail counts are also capped by the gene's exact tail size, so small genes stay precise</li>
+ * </ul>
+ *
+ * <p><strong>Updates:</strong> The index is updated from committed {@link MutationChangedEvent}s and
+ * rebuilt by the {@link MutationSnapshotMaintainer}, counting (gene, protein change) pairs as the
+ * rows stream past. Top-N counts are updated exactly. When a tail change's
+ * estimate passes the smallest hotspot, or a hotspot drops out while the gene has a tail, the
+ * gene alone is recounted exactly on the maintainer's thread, so a rising protein change is promoted with
+ * its exact count rather than an estimate. As in {@link MutationMatrix}, a change replayed after a
+ * rebuild or recount that already saw it is counted twice until the next rebuild.
+ */
+@Component
+public class ProteinChangeHotspotIndex implements MutationSnapshot {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProteinChangeHotspotIndex.class);
+
+    // First residue number: p.G12C -> 12, p.E746_A750del -> 746, p.Gly12Cys -> 12, p.(R273H) -> 273
+    private static final Pattern PROTEIN_POSITION = Pattern.compile("^(?:p\\.)?\\(?[A-Za-z*]*(\\d{1,9})");
+
+    private static final Comparator<Map.Entry<String, Long>> RANKING =
+            Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.<String, Long>comparingByKey());
+
+    private final MutationRepository mutationRepository;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final MeterRegistry meterRegistry;
+
+    private final MutationSnapshotMaintainer maintainer;
+
+    private final int topN;
+
+    private final int sketchWidth;
+
+    private final int sketchDepth;
+
+    private volatile State state;
+
+    private volatile boolean ready;
+
+    /**
+     * Genes queued for an exact recount. Guarded by {@code this}.
+     */
+    private final Set<String> pendingRecounts = new HashSet<>();
+
+    /**
+     * Changes applied while a rebuild or recount is reading the table, replayed onto its result.
+     * Guarded by {@code this}; {@code null} when neither is running.
+     */
+    private List<MutationChangedEvent> changesDuringLoad;
+
+    /**
+     * @param mutationRepository repository genes are recounted from
+     * @param transactionManager transaction manager for the read-only recount query
+     * @param meterRegistry      registry for index metrics
+     * @param maintainer         rebuilds the index from the mutations table and runs recounts
+     * @param topN               number of hotspots counted exactly per gene (default: 50)
+     * @param sketchWidth        counters per row of the long-tail sketch (default: 524288)
+     * @param sketchDepth        rows of the long-tail sketch (default: 4)
+     */
+    public ProteinChangeHotspotIndex(
+            MutationRepository mutationRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            MutationSnapshotMaintainer maintainer,
+            @Value("${hotspots.top-n:50}") int topN,
+            @Value("${hotspots.sketch-width:524288}") int sketchWidth,
+            @Value("${hotspots.sketch-depth:4}") int sketchDepth) {
+        if (topN < 1) {
+            throw new IllegalArgumentException("hotspots.top-n must be positive");
+        }
+        this.mutationRepository = mutationRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.maintainer = maintainer;
+        this.topN = topN;
+        this.sketchWidth = sketchWidth;
+        this.sketchDepth = sketchDepth;
+        this.state = new State(new ConcurrentHashMap<>(), new CountMinSketch(sketchWidth, sketchDepth));
+        meterRegistry.gauge("mutation.hotspots.genes", this, ProteinChangeHotspotIndex::geneCount);
+        maintainer.register(this);
+    }
+
+    // ==================== MAINTENANCE ====================
+
+    @Override
+    public String snapshotName() {
+        return "protein-change-hotspots";
+    }
+
+    /**
+     * Starts a rebuild of the index from the (gene, protein change) pair of every mutation.
+     */
+    @Override
+    public synchronized Rebuild startRebuild() {
+        changesDuringLoad = new ArrayList<>();
+        return new HotspotRebuild();
+    }
+
+    /**
+     * Recounts one gene exactly from the database, replacing its hotspots and positions. The sketch
+     * is left alone: it already holds every change. On failure the gene's current entry is kept.
+     */
+    void recount(String gene) {
+        synchronized (this) {
+            pendingRecounts.remove(gene);
+            changesDuringLoad = new ArrayList<>();
+        }
+        try {
+            List<Object[]> rows = readOnlyTransaction.execute(status -> mutationRepository.countMutationsByProteinChange(gene));
+            Map<String, Long> counts = new HashMap<>();
+            for (Object[] row : rows == null ? List.<Object[]>of() : rows) {
+                counts.merge((String) row[0], ((Number) row[1]).longValue(), Long::sum);
+            }
+            GeneHotspots recounted = GeneHotspots.of(counts, topN);
+
+            synchronized (this) {
+                Map<String, GeneHotspots> genes = state.genes();
+                store(genes, gene, recounted);
+                for (MutationChangedEvent event : changesDuringLoad) {
+                    replay(genes, gene, event.before(), -1);
+                    replay(genes, gene, event.after(), 1);
+                }
+            }
+            meterRegistry.counter("mutation.hotspots.recounts").increment();
+        } catch (Exception e) {
+            LOGGER.warn("Failed to recount protein change hotspots of {}", gene, e);
+            meterRegistry.counter("mutation.hotspots.errors", "operation", "recount").increment();
+        } finally {
+            synchronized (this) {
+                changesDuringLoad = null;
+            }
+        }
+    }
+
+    /**
+     * Applies a committed create, update or delete.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onMutationChanged(MutationChangedEvent event) {
+        apply(event, false);
+        if (changesDuringLoad != null) {
+            changesDuringLoad.add(event);
+        }
+    }
+
+    private void apply(MutationChangedEvent event, boolean replaying) {
+        if (event.before() != null) {
+            update(event.before(), -1, replaying);
+        }
+        if (event.after() != null) {
+            update(event.after(), 1, replaying);
+        }
+    }
+
+    private void update(MutationDto mutation, int delta, boolean replaying) {
+        String gene = mutation.geneName();
+        String proteinChange = mutation.proteinChange();
+        if (gene == null || proteinChange == null) {
+            return;
+        }
+        State current = state;
+        String key = key(gene, proteinChange);
+        current.sketch().add(key, delta);
+        GeneHotspots updated = current.genes().getOrDefault(gene, GeneHotspots.EMPTY).add(proteinChange, delta, topN);
+        store(current.genes(), gene, updated);
+        if (!replaying && updated.needsRecount(proteinChange, current.sketch().estimate(key), topN)) {
+            requestRecount(gene);
+        }
+    }
+
+    private void replay(Map<String, GeneHotspots> genes, String gene, MutationDto mutation, int delta) {
+        if (mutation != null && gene.equals(mutation.geneName()) && mutation.proteinChange() != null) {
+            store(genes, gene, genes.getOrDefault(gene, GeneHotspots.EMPTY).add(mutation.proteinChange(), delta, topN));
+        }
+    }
+
+    private static void store(Map<String, GeneHotspots> genes, String gene, GeneHotspots hotspots) {
+        if (hotspots.total() <= 0) {
+            genes.remove(gene);
+        } else {
+            genes.put(gene, hotspots);
+        }
+    }
+
+    private void requestRecount(String gene) {
+        if (pendingRecounts.add(gene)) {
+            maintainer.submit(() -> recount(gene));
+        }
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * @return true once the first build has completed
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Number of genes with at least one protein change.
+     */
+    public int geneCount() {
+        return state.genes().size();
+    }
+
+    /**
+     * Hotspots of a gene, optionally with binned residue counts; independent of the gene's mutation count.
+     *
+     * @param gene    exact gene symbol
+     * @param limit   maximum number of hotspots (at most {@code hotspots.top-n} are kept)
+     * @param binSize residues per bin, or {@code null} for no bins
+     * @throws IllegalArgumentException if {@code limit} or {@code binSize} is not positive
+     */
+    public ProteinChangeHotspots hotspots(String gene, int limit, Integer binSize) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        if (binSize != null && binSize < 1) {
+            throw new IllegalArgumentException("Bin size must be positive");
+        }
+        GeneHotspots hotspots = state.genes().getOrDefault(gene, GeneHotspots.EMPTY);
+        List<ProteinChangeHotspots.Hotspot> ranked = hotspots.ranked();
+        return new ProteinChangeHotspots(gene, hotspots.total(),
+                ranked.size() > limit ? ranked.subList(0, limit) : ranked,
+                binSize == null ? List.of() : hotspots.bins(binSize));
+    }
+
+    /**
+     * Number of mutations with a protein change in a gene: exact for hotspots and for genes whose
+     * changes all fit in the top N, otherwise an upper bound from the sketch.
+     */
+    public ProteinChangeEstimate estimate(String gene, String proteinChange) {
+        State current = state;
+        GeneHotspots hotspots = current.genes().getOrDefault(gene, GeneHotspots.EMPTY);
+        Long exact = hotspots.top().get(proteinChange);
+        if (exact != null) {
+            return new ProteinChangeEstimate(gene, proteinChange, exact, 0, true);
+        }
+        long tail = hotspots.tail();
+        if (tail <= 0) {
+            return new ProteinChangeEstimate(gene, proteinChange, 0, 0, true);
+        }
+        long estimate = Math.min(current.sketch().estimate(key(gene, proteinChange)), tail);
+        return new ProteinChangeEstimate(gene, proteinChange, estimate,
+                Math.min(estimate, current.sketch().errorBound()), false);
+    }
+
+    /**
+     * Residue number of a protein change ({@code p.G12C} gives 12), or {@code null} if it has none.
+     */
+    static Integer proteinPosition(String proteinChange) {
+        Matcher matcher = PROTEIN_POSITION.matcher(proteinChange);
+        if (!matcher.find()) {
+            return null;
+        }
+        int position = Integer.parseInt(matcher.group(1));
+        return position > 0 ? position : null;
+    }
+
+    private static String key(String gene, String proteinChange) {
+        return gene + '\t' + proteinChange;
+    }
+
+    // ==================== STORAGE ====================
+
+    /**
+     * Counts every (gene, protein change) pair of one rebuild; replaces the whole index on publish.
+     */
+    private final class HotspotRebuild implements MutationSnapshot.Rebuild {
+
+        private final Map<String, Map<String, Long>> counts = new HashMap<>();
+
+        @Override
+        public void add(MutationRow row) {
+            if (row.geneName() != null && row.proteinChange() != null) {
+                counts.computeIfAbsent(row.geneName(), gene -> new HashMap<>()).merge(row.proteinChange(), 1L, Long::sum);
+            }
+        }
+
+        @Override
+        public void publish() {
+            ProteinChangeHotspotIndex index = ProteinChangeHotspotIndex.this;
+            try {
+                Map<String, GeneHotspots> genes = new ConcurrentHashMap<>();
+                CountMinSketch sketch = new CountMinSketch(sketchWidth, sketchDepth);
+                counts.forEach((gene, geneCounts) -> {
+                    geneCounts.forEach((proteinChange, count) -> sketch.add(key(gene, proteinChange), Math.toIntExact(count)));
+                    genes.put(gene, GeneHotspots.of(geneCounts, topN));
+                });
+                synchronized (index) {
+                    state = new State(genes, sketch);
+                    changesDuringLoad.forEach(event -> apply(event, true));
+                    ready = true;
+                }
+                LOGGER.info("Protein change hotspot index built with {} genes", genes.size());
+            } finally {
+                discard();
+            }
+        }
+
+        @Override
+        public void discard() {
+            synchronized (ProteinChangeHotspotIndex.this) {
+                changesDuringLoad = null;
+            }
+        }
+    }
+
+    /**
+     * Gene entries (replaced, never modified, so readers never lock) and the sketch of every count.
+     */
+    private record State(Map<String, GeneHotspots> genes, CountMinSketch sketch) {
+    }
+
+    /**
+     * Immutable hotspots of one gene.
+     *
+     * @param total          mutations of the gene with a protein change
+     * @param top            exact counts of the top-N protein changes
+     * @param ranked         {@code top} by descending count, then name
+     * @param topSum         sum of {@code top}; {@code total - topSum} mutations are in the tail
+     * @param positions      mutated residues, ascending
+     * @param positionCounts mutations per residue, parallel to {@code positions}
+     */
+    private record GeneHotspots(long total, Map<String, Long> top, List<ProteinChangeHotspots.Hotspot> ranked,
+                                long topSum, int[] positions, long[] positionCounts) {
+
+        private static final GeneHotspots EMPTY = new GeneHotspots(0, Map.of(), List.of(), 0, new int[0], new long[0]);
+
+        static GeneHotspots of(Map<String, Long> counts, int topN) {
+            Map<String, Long> top = new HashMap<>();
+            counts.entrySet().stream().sorted(RANKING).limit(topN)
+                    .forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+            TreeMap<Integer, Long> histogram = new TreeMap<>();
+            counts.forEach((proteinChange, count) -> {
+                Integer position = proteinPosition(proteinChange);
+                if (position != null) {
+                    histogram.merge(position, count, Long::sum);
+                }
+            });
+            int[] positions = histogram.keySet().stream().mapToInt(Integer::intValue).toArray();
+            long[] positionCounts = histogram.values().stream().mapToLong(Long::longValue).toArray();
+            return new GeneHotspots(sum(counts), Map.copyOf(top), rank(top), sum(top), positions, positionCounts);
+        }
+
+        long tail() {
+            return total - topSum;
+        }
+
+        /**
+         * Applies one mutation more ({@code delta = 1}) or less ({@code -1}). A change outside the
+         * top N joins it only when the gene has no tail, i.e. its count is known to be exact.
+         */
+        GeneHotspots add(String proteinChange, int delta, int topN) {
+            Map<String, Long> updatedTop = top;
+            long updatedTopSum = topSum;
+            Long count = top.get(proteinChange);
+            if (count != null) {
+                updatedTop = new HashMap<>(top);
+                if (count + delta > 0) {
+                    updatedTop.put(proteinChange, count + delta);
+                    updatedTopSum += delta;
+                } else {
+                    updatedTop.remove(proteinChange);
+                    updatedTopSum -= count;
+                }
+            } else if (delta > 0 && tail() == 0 && top.size() < topN) {
+                updatedTop = new HashMap<>(top);
+                updatedTop.put(proteinChange, (long) delta);
+                updatedTopSum += delta;
+            }
+
+            int[] updatedPositions = positions;
+            long[] updatedCounts = positionCounts;
+            Integer position = proteinPosition(proteinChange);
+            if (position != null) {
+                int index = Arrays.binarySearch(positions, position);
+                if (index >= 0 && positionCounts[index] + delta > 0) {
+                    updatedCounts = positionCounts.clone();
+                    updatedCounts[index] += delta;
+                } else if (index >= 0) {
+                    updatedPositions = remove(positions, index);
+                    updatedCounts = remove(positionCounts, index);
+                } else if (delta > 0) {
+                    int insertAt = -index - 1;
+                    updatedPositions = insert(positions, insertAt, position);
+                    updatedCounts = insert(positionCounts, insertAt, delta);
+                }
+            }
+            return new GeneHotspots(total + delta, updatedTop == top ? top : Map.copyOf(updatedTop),
+                    updatedTop == top ? ranked : rank(updatedTop), updatedTopSum, updatedPositions, updatedCounts);
+        }
+
+        /**
+         * Whether the top N may no longer be the most frequent changes: a tail change may have
+         * passed the smallest hotspot, or a hotspot was dropped while tail changes wait to fill its place.
+         */
+        boolean needsRecount(String proteinChange, long sketchEstimate, int topN) {
+            if (tail() <= 0 || top.containsKey(proteinChange)) {
+                return false;
+            }
+            if (top.size() < topN) {
+                return true;
+            }
+            long smallestHotspot = ranked.get(ranked.size() - 1).count();
+            return Math.min(sketchEstimate, tail()) > smallestHotspot;
+        }
+
+        List<ProteinChangeHotspots.PositionBin> bins(int binSize) {
+            List<ProteinChangeHotspots.PositionBin> bins = new ArrayList<>();
+            int i = 0;
+            while (i < positions.length) {
+                int bin = (positions[i] - 1) / binSize;
+                long count = 0;
+                while (i < positions.length && (positions[i] - 1) / binSize == bin) {
+                    count += positionCounts[i++];
+                }
+                long start = (long) bin * binSize + 1;
+                bins.add(new ProteinChangeHotspots.PositionBin((int) start,
+                        (int) Math.min(start + binSize - 1, Integer.MAX_VALUE), count));
+            }
+            return bins;
+        }
+
+        private static List<ProteinChangeHotspots.Hotspot> rank(Map<String, Long> top) {
+            return top.entrySet().stream()
+                    .sorted(RANKING)
+                    .map(entry -> new ProteinChangeHotspots.Hotspot(
+                            entry.getKey(), proteinPosition(entry.getKey()), entry.getValue()))
+                    .toList();
+        }
+
+        private static long sum(Map<String, Long> counts) {
+            return counts.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        private static int[] insert(int[] values, int index, int value) {
+            int[] copy = new int[values.length + 1];
+            System.arraycopy(values, 0, copy, 0, index);
+            copy[index] = value;
+            System.arraycopy(values, index, copy, index + 1, values.length - index);
+            return copy;
+        }
+
+        private static long[] insert(long[] values, int index, long value) {
+            long[] copy = new long[values.length + 1];
+            System.arraycopy(values, 0, copy, 0, index);
+            copy[index] = value;
+            System.arraycopy(values, index, copy, index + 1, values.length - index);
+            return copy;
+        }
+
+        private static int[] remove(int[] values, int index) {
+            int[] copy = new int[values.length - 1];
+            System.arraycopy(values, 0, copy, 0, index);
+            System.arraycopy(values, index + 1, copy, index, values.length - index - 1);
+            return copy;
+        }
+
+        private static long[] remove(long[] values, int index) {
+            long[] copy = new long[values.length - 1];
+            System.arraycopy(values, 0, copy, 0, index);
+            System.arraycopy(values, index + 1, copy, index, values.length - index - 1);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.gene.sphere.mutationservice.columnar;
+
+import com.gene.sphere.mutationservice.model.CohortSummary;
+import com.gene.sphere.mutationservice.model.MutationDto;
+import com.gene.sphere.mutationservice.repository.MutationRepository;
+import com.gene.sphere.mutationservice.service.MutationChangedEvent;
+import com.gene.sphere.mutationservice.service.MutationSnapshotMaintainer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MutationColumnsTest {
+
+    private MutationRepository mutationRepository;
+    private MutationSnapshotMaintainer maintainer;
+    private MutationColumnStore store;
+
+    @BeforeEach
+    void setUp() {
+        mutationRepository = mock(MutationRepository.class);
+        maintainer = new MutationSnapshotMaintainer(mutationRepository, mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(), Duration.ZERO);
+        store = new MutationColumnStore(maintainer, new SimpleMeterRegistry(), 4);
+        when(mutationRepository.streamColumns()).thenReturn(Stream.of(
+                row(1, "TP53", "17", 7675088L, "C", "T", "SNV", "P1", "S1", "p.R175H", "LUAD", "Pathogenic", "0.4500"),
+                row(2, "KRAS", "chr12", 25245350L, "C", "A", "SNV", "P1", "S1", "p.G12C", "LUAD", "Pathogenic", "0.3100"),
+                row(3, "KRAS", "12", 25245347L, "C", "T", "SNV", "P2", null, "p.G13D", "COAD", null, null),
+                row(4, "EGFR", "7", 55191822L, "T", "G", "SNV", "P3", "S3", "p.L858R", "LUAD", "Pathogenic", "1.0000"),
+                row(5, "TP53", "17", 7674220L, "G", "A", "SNV", "P3", "S3", "p.R248Q", "COAD", "Likely pathogenic", "0.0200"),
+                row(6, null, "1", 100L, "A", "G", "SNV", "P4", "S4", null, "LUAD", null, null)));
+        maintainer.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        maintainer.shutdown();
+    }
+
+    @Test
+    void rebuild_shouldSkipRowsWithoutGene() {
+        // ACT
+        MutationColumns columns = store.current();
+
+        // ASSERT
+        assertTrue(store.isReady());
+        assertEquals(5, columns.rows());
+        assertEquals(1, columns.version());
+        assertTrue(columns.estimatedBytes() > 0);
+    }
+
+    @Test
+    void select_shouldCombineConditions_caseInsensitively() {
+        // ARRANGE
+        MutationColumns columns = store.current();
+        CohortFilter filter = new CohortFilter(List.of("kras", "tp53"), null, null, null, List.of("snv"),
+                List.of("luad"), null, null, null);
+
+        // ACT
+        MutationColumns.Selection selection = columns.select(filter);
+
+        // ASSERT
+        assertEquals(2, selection.count());
+        assertEquals(List.of("p.R175H", "p.G12C"), columns.rows(selection, 10).stream()
+                .map(MutationDto::proteinChange)
+                .toList());
+    }
+
+    @Test
+    void select_shouldMatchRegionWithOrWithoutChrPrefix() {
+        // ARRANGE
+        MutationColumns columns = store.current();
+
+        // ACT
+        MutationColumns.Selection selection = columns.select(
+                new CohortFilter(null, "chr12", 25245340L, 25245348L, null, null, null, null, null));
+
+        // ASSERT
+        assertEquals(1, selection.count());
+        assertEquals("p.G13D", columns.rows(selection, 10).get(0).proteinChange());
+    }
+
+    @Test
+    void select_shouldExcludeRowsWithoutAlleleFrequency_fromFrequencyRange() {
+        // ARRANGE
+        MutationColumns columns = store.current();
+
+        // ACT
+        MutationColumns.Selection selection = columns.select(
+                new CohortFilter(null, null, null, null, null, null, null, 0.3, 1.0));
+
+        // ASSERT
+        assertEquals(3, selection.count());
+    }
+
+    @Test
+    void countBy_shouldRankGroups_andBucketMissingValues() {
+        // ARRANGE
+        MutationColumns columns = store.current();
+        MutationColumns.Selection all = columns.select(CohortFilter.all());
+
+        // ACT
+        List<CohortSummary.GroupCount> significance = columns.countBy(MutationColumns.Column.CLINICAL_SIGNIFICANCE, all, 10);
+        List<CohortSummary.GroupCount> genes = columns.countBy(MutationColumns.Column.GENE, all, 2);
+
+        // ASSERT
+        assertEquals(List.of(
+                new CohortSummary.GroupCount("Pathogenic", 3),
+                new CohortSummary.GroupCount("Likely pathogenic", 1),
+                new CohortSummary.GroupCount(null, 1)), significance);
+        assertEquals(List.of(
+                new CohortSummary.GroupCount("KRAS", 2),
+                new CohortSummary.GroupCount("TP53", 2)), genes);
+    }
+
+    @Test
+    void distinctSamples_shouldFallBackToPatient() {
+        // ARRANGE
+        MutationColumns columns = store.current();
+
+        // ACT & ASSERT
+        assertEquals(3, columns.distinctSamples(columns.select(CohortFilter.all())));
+        assertEquals(2, columns.distinctSamples(columns.select(CohortFilter.byGenes(List.of("KRAS")))));
+    }
+
+    @Test
+    void alleleFrequencies_shouldPutOneInTheLastBin() {
+        // ARRANGE
+        MutationColumns columns = store.current();
+
+        // ACT
+        CohortSummary.AlleleFrequencyDistribution distribution =
+                columns.alleleFrequencies(columns.select(CohortFilter.all()), 4);
+
+        // ASSERT
+        assertEquals(4, distribution.mutations());
+        assertEquals(0.445, distribution.mean(), 1e-9);
+        assertEquals(List.of(1L, 2L, 0L, 1L), distribution.bins());
+    }
+
+    @Test
+    void rows_shouldRoundTripEveryField() {
+        // ARRANGE
+        MutationColumns columns = store.current();
+
+        // ACT
+        List<MutationDto> rows = columns.rows(columns.select(CohortFilter.byGenes(List.of("KRAS"))), 10);
+
+        // ASSERT
+        assertEquals(new MutationDto("KRAS", "chr12", 25245350L, "C", "A", "SNV", "P1", "S1", "p.G12C",
+                "LUAD", "Pathogenic", new BigDecimal("0.3100")), rows.get(0));
+        assertEquals(new MutationDto("KRAS", "12", 25245347L, "C", "T", "SNV", "P2", null, "p.G13D",
+                "COAD", null, null), rows.get(1));
+    }
+
+    @Test
+    void select_shouldHandleRowsAcrossSeveralWords() {
+        // ARRANGE
+        when(mutationRepository.streamColumns()).thenReturn(IntStream.range(0, 130)
+                .mapToObj(i -> row(i, i % 2 == 0 ? "TP53" : "KRAS", "17", i, "C", "T", "SNV", "P" + i, null,
+                        null, "LUAD", null, null)));
+        maintainer.rebuild();
+        MutationColumns columns = store.current();
+
+        // ACT
+        MutationColumns.Selection selection = columns.select(CohortFilter.byGenes(List.of("TP53")));
+
+        // ASSERT
+        assertEquals(2, columns.version());
+        assertEquals(65, selection.count());
+        assertEquals(130, columns.select(CohortFilter.all()).count());
+        assertEquals(129L, columns.rows(columns.select(CohortFilter.byGenes(List.of("KRAS"))), 100).get(64).position().longValue());
+    }
+
+    @Test
+    void rebuild_shouldKeepPreviousSnapshot_whenLoadFails() {
+        // ARRANGE
+        when(mutationRepository.streamColumns()).thenThrow(new IllegalStateException("connection lost"));
+
+        // ACT
+        maintainer.rebuild();
+
+        // ASSERT
+        assertEquals(1, store.current().version());
+        assertEquals(5, store.current().rows());
+    }
+
+    @Test
+    void onMutationChanged_shouldLayerUpdatesDeletesAndCreatesOverLoadedRows() {
+        // ARRANGE
+        MutationDto kras = new MutationDto("KRAS", "12", 25245350L, "C", "A", "SNV", "P1", "S1", "p.G12C",
+                "LUAD", "Pathogenic", new BigDecimal("0.3100"));
+        MutationDto updated = new MutationDto("KRAS", "12", 25245350L, "C", "A", "SNV", "P1", "S1", "p.G12C",
+                "LUAD", "Likely pathogenic", new BigDecimal("0.3100"));
+        MutationDto egfr = new MutationDto("EGFR", "7", 55191822L, "T", "G", "SNV", "P3", "S3", "p.L858R",
+                "LUAD", "Pathogenic", new BigDecimal("1.0000"));
+        MutationDto created = new MutationDto("BRAF", "7", 140753336L, "A", "T", "SNV", "P9", "S9", "p.V600E",
+                "SKCM", "Pathogenic", new BigDecimal("0.5000"));
+
+        // ACT
+        store.onMutationChanged(new MutationChangedEvent(2, kras, updated));
+        store.onMutationChanged(new MutationChangedEvent(4, egfr, null));
+        store.onMutationChanged(new MutationChangedEvent(7, null, created));
+        MutationColumns columns = store.current();
+        MutationColumns.Selection all = columns.select(CohortFilter.all());
+
+        // ASSERT
+        verify(mutationRepository, times(1)).streamColumns();
+        assertEquals(4, columns.version());
+        assertEquals(5, columns.rows());
+        assertEquals(5, all.count());
+        assertEquals(List.of("p.R175H", "p.G12C", "p.G13D", "p.R248Q", "p.V600E"),
+                columns.rows(all, 10).stream().map(MutationDto::proteinChange).toList());
+        assertEquals(updated, columns.rows(columns.select(CohortFilter.byGenes(List.of("KRAS"))), 1).get(0));
+        assertEquals(List.of(
+                new CohortSummary.GroupCount("Likely pathogenic", 2),
+                new CohortSummary.GroupCount("Pathogenic", 2),
+                new CohortSummary.GroupCount(null, 1)), columns.countBy(MutationColumns.Column.CLINICAL_SIGNIFICANCE, all, 10));
+        assertEquals(4, columns.distinctSamples(all));
+        assertEquals(0, columns.select(CohortFilter.byGenes(List.of("EGFR"))).count());
+        assertEquals(4, columns.alleleFrequencies(all, 4).mutations());
+    }
+
+    @Test
+    void onMutationChanged_shouldFoldOverlayIntoNextLoad_andReloadEarlyWhenFull() {
+        // ARRANGE
+        MutationDto created = new MutationDto("BRAF", "7", 140753336L, "A", "T", "SNV", "P9", "S9", "p.V600E",
+                "SKCM", "Pathogenic", null);
+        when(mutationRepository.streamColumns()).thenReturn(Stream.<Object[]>of(
+                row(1, "TP53", "17", 7675088L, "C", "T", "SNV", "P1", "S1", "p.R175H", "LUAD", "Pathogenic", "0.4500"),
+                row(7, "BRAF", "7", 140753336L, "A", "T", "SNV", "P9", "S9", "p.V600E", "SKCM", "Pathogenic", null)));
+
+        // ACT
+        store.onMutationChanged(new MutationChangedEvent(7, null, created));
+        store.onMutationChanged(new MutationChangedEvent(8, null, created));
+        store.onMutationChanged(new MutationChangedEvent(8, created, null));
+        store.onMutationChanged(new MutationChangedEvent(3, null, null));
+        assertEquals(1, store.current().select(CohortFilter.byGenes(List.of("KRAS"))).count());
+        store.onMutationChanged(new MutationChangedEvent(5, null, null));
+
+        // ASSERT - the fourth changed id fills the overlay (max-changes = 4) and triggers a reload
+        verify(mutationRepository, timeout(5000).times(2)).streamColumns();
+        await(() -> store.current().changedRows() == 0);
+        assertEquals(2, store.current().rows());
+        assertEquals(List.of("p.R175H", "p.V600E"), store.current().rows(store.current().select(CohortFilter.all()), 10)
+                .stream().map(MutationDto::proteinChange).toList());
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "condition not met in time");
+            Thread.onSpinWait();
+        }
+    }
+
+    private static Object[] row(int id, String gene, String chromosome, long position, String reference,
+                                String alternate, String type, String patient, String sample, String proteinChange,
+                                String cancerType, String significance, String alleleFrequency) {
+        return new Object[]{id, gene, chromosome, position, reference, alternate, type, patient, sample, proteinChange,
+                cancerType, significance, alleleFrequency == null ? null : new BigDecimal(alleleFrequency)};
+    }
+}
@@ -0,0 +1,57 @@
+package com.gene.sphere.mutationservice.controller;
+
+import com.gene.sphere.mutationservice.columnar.MutationColumnStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(CohortController.class)
+class CohortControllerTest {
+
+    @Autowired
+    private MockMvc mock;
+
+    @MockBean
+    private MutationColumnStore columnStore;
+
+    @Test
+    @WithMockUser
+    void summary_shouldReturnServiceUnavailable_whileSnapshotIsBuilding() throws Exception {
+        // ARRANGE
+        when(columnStore.isReady()).thenReturn(false);
+
+        // ACT & ASSERT
+        mock.perform(get("/api/mutations/cohort/summary").param("genes", "TP53"))
+                .andExpect(status().isServiceUnavailable());
+        verify(columnStore, never()).current();
+    }
+
+    @Test
+    @WithMockUser
+    void summary_shouldRejectRangeWithoutChromosome() throws Exception {
+        // ARRANGE
+        when(columnStore.isReady()).thenReturn(true);
+
+        // ACT & ASSERT
+        mock.perform(get("/api/mutations/cohort/summary")
+                        .param("start", "100")
+                        .param("end", "200"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("A position range requires a chromosome"));
+    }
+
+    @Test
+    @WithMockUser
+    void mutations_shouldRejectLimitOutOfRange() throws Exception {
+        mock.perform(get("/api/mutations/cohort/mutations").param("limit", "50000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Limit must be between 1 and 10000"));
+    }
+}
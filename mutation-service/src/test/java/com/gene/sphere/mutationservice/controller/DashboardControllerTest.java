@@ -0,0 +1,122 @@
+package com.gene.sphere.mutationservice.controller;
+
+import com.gene.sphere.mutationservice.model.DashboardSummary;
+import com.gene.sphere.mutationservice.model.GeneRollup;
+import com.gene.sphere.mutationservice.model.MutationTypeShare;
+import com.gene.sphere.mutationservice.repository.MutationRollupRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.SQLSyntaxErrorException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(DashboardController.class)
+class DashboardControllerTest {
+
+    @Autowired
+    private MockMvc mock;
+
+    @MockBean
+    private MutationRollupRepository rollups;
+
+    @Test
+    @WithMockUser
+    void topGenes_shouldReturnRollupsInRequestedOrder() throws Exception {
+        // ARRANGE
+        when(rollups.findTopGenes(MutationRollupRepository.GeneOrder.SAMPLES, 2)).thenReturn(List.of(
+                new GeneRollup("TP53", 561, 480, 45.58, Map.of("SNV", 530L, "deletion", 31L)),
+                new GeneRollup("KRAS", 310, 309, 29.34, Map.of("SNV", 310L))));
+
+        // ACT & ASSERT
+        mock.perform(get("/api/mutations/dashboard/genes/top")
+                        .param("limit", "2")
+                        .param("orderBy", "SAMPLES"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].geneName").value("TP53"))
+                .andExpect(jsonPath("$[0].samplePercentage").value(45.58))
+                .andExpect(jsonPath("$[0].mutationTypes.deletion").value(31))
+                .andExpect(jsonPath("$[1].sampleCount").value(309));
+    }
+
+    @Test
+    @WithMockUser
+    void topGenes_shouldRejectLimitOutOfRange() throws Exception {
+        // ARRANGE
+        when(rollups.findTopGenes(any(), anyInt()))
+                .thenThrow(new IllegalArgumentException("Limit must be between 1 and 1000"));
+
+        // ACT & ASSERT
+        mock.perform(get("/api/mutations/dashboard/genes/top").param("limit", "5000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Limit must be between 1 and 1000"));
+    }
+
+    @Test
+    @WithMockUser
+    void gene_shouldReturnNotFound_forGeneWithoutMutations() throws Exception {
+        when(rollups.findGene("NOTAGENE")).thenReturn(Optional.empty());
+
+        mock.perform(get("/api/mutations/dashboard/genes/NOTAGENE"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser
+    void types_shouldReturnDistribution() throws Exception {
+        // ARRANGE
+        when(rollups.findTypeDistribution()).thenReturn(List.of(
+                new MutationTypeShare("SNV", 900, 90.0),
+                new MutationTypeShare("deletion", 100, 10.0)));
+
+        // ACT & ASSERT
+        mock.perform(get("/api/mutations/dashboard/types"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].mutationType").value("SNV"))
+                .andExpect(jsonPath("$[1].percentage").value(10.0));
+    }
+
+    @Test
+    @WithMockUser
+    void summary_shouldReturnTotals() throws Exception {
+        when(rollups.findSummary()).thenReturn(Optional.of(new DashboardSummary(184210, 1053, 17822)));
+
+        mock.perform(get("/api/mutations/dashboard/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalSamples").value(1053));
+    }
+
+    @Test
+    @WithMockUser
+    void summary_shouldReturnServiceUnavailable_beforeRollupsAreBuilt() throws Exception {
+        when(rollups.findSummary()).thenReturn(Optional.empty());
+
+        mock.perform(get("/api/mutations/dashboard/summary"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @WithMockUser
+    void topGenes_shouldReturnServiceUnavailable_whenRollupTablesAreMissing() throws Exception {
+        // ARRANGE
+        when(rollups.findTopGenes(any(), anyInt())).thenThrow(new InvalidDataAccessResourceUsageException(
+                "could not extract ResultSet",
+                new SQLSyntaxErrorException("relation \"mutation_gene_rollup\" does not exist", "42P01")));
+
+        // ACT & ASSERT
+        mock.perform(get("/api/mutations/dashboard/genes/top"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.message").value(
+                        "Mutation rollup tables are not installed; run database/scripts/create_mutation_rollups.sql"));
+    }
+}
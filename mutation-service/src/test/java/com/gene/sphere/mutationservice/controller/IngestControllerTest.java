@@ -0,0 +1,73 @@
+package com.gene.sphere.mutationservice.controller;
+
+import com.gene.sphere.mutationservice.config.SecurityConfig;
+import com.gene.sphere.mutationservice.ingest.MutationIngestJob;
+import com.gene.sphere.mutationservice.ingest.MutationIngestRequest;
+import com.gene.sphere.mutationservice.ingest.MutationIngestService;
+import com.gene.sphere.mutationservice.security.JwtTokenVerifier;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(IngestController.class)
+@Import({SecurityConfig.class, JwtTokenVerifier.class})
+@TestPropertySource(properties = "app.security.jwt.secret=ingest-controller-test-secret-ingest-controller-test-secret-0123456789")
+class IngestControllerTest {
+
+    private static final String REQUEST = "{\"file\": \"luad_tcga/data_mutations.txt\", \"batchSize\": 50000}";
+
+    @Autowired
+    private MockMvc mock;
+
+    @MockBean
+    private MutationIngestService ingestService;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void ingestMutations_shouldStartJob_withoutCsrfToken() throws Exception {
+        // ARRANGE
+        when(ingestService.submit(any())).thenReturn(new MutationIngestJob("job-1", "luad_tcga/data_mutations.txt",
+                MutationIngestJob.State.PENDING, 1024, 0, 0, 0, 0, 0, List.of(), 1L, null, null));
+
+        // ACT & ASSERT
+        mock.perform(post("/api/ingest/mutations").contentType(MediaType.APPLICATION_JSON).content(REQUEST))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value("job-1"))
+                .andExpect(jsonPath("$.state").value("PENDING"));
+
+        verify(ingestService).submit(new MutationIngestRequest("luad_tcga/data_mutations.txt", null, 50000, false));
+    }
+
+    @Test
+    void ingest_shouldRejectAnonymousRequests() throws Exception {
+        mock.perform(post("/api/ingest/mutations").contentType(MediaType.APPLICATION_JSON).content(REQUEST))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(ingestService);
+    }
+
+    @Test
+    @WithMockUser
+    void ingest_shouldRequireAdminRole_includingJobPolling() throws Exception {
+        mock.perform(post("/api/ingest/mutations").contentType(MediaType.APPLICATION_JSON).content(REQUEST))
+                .andExpect(status().isForbidden());
+        mock.perform(get("/api/ingest/jobs/job-1"))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(ingestService);
+    }
+}
@@ -0,0 +1,209 @@
+package com.gene.sphere.mutationservice.controller;
+
+import com.gene.sphere.mutationservice.config.SecurityConfig;
+import com.gene.sphere.mutationservice.model.GeneMutationCount;
+import com.gene.sphere.mutationservice.model.ProteinChangeHotspots;
+import com.gene.sphere.mutationservice.model.VariantSpan;
+import com.gene.sphere.mutationservice.security.JwtTokenVerifier;
+import com.gene.sphere.mutationservice.service.GenomicIntervalIndex;
+import com.gene.sphere.mutationservice.service.MutationQuery;
+import com.gene.sphere.mutationservice.service.MutationService;
+import com.gene.sphere.mutationservice.service.ProteinChangeHotspotIndex;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(MutationController.class)
+@Import({SecurityConfig.class, JwtTokenVerifier.class})
+@TestPropertySource(properties = "app.security.jwt.secret=" + MutationControllerTest.JWT_SECRET)
+class MutationControllerTest {
+
+    // HS512 needs a key of at least 64 bytes
+    static final String JWT_SECRET = "mutation-service-test-secret-mutation-service-test-secret-0123456789";
+
+    @Autowired
+    private MockMvc mock;
+
+    @MockBean
+    private MutationService mutationService;
+
+    @MockBean
+    private GenomicIntervalIndex intervalIndex;
+
+    @MockBean
+    private ProteinChangeHotspotIndex hotspotIndex;
+
+    @Test
+    @WithMockUser
+    void countMutationsPerGene_shouldReturnCounts() throws Exception {
+        // ARRANGE
+        when(mutationService.countMutationsPerGene())
+                .thenReturn(List.of(new GeneMutationCount("TP53", 561), new GeneMutationCount("KRAS", 210)));
+
+        // ACT & ASSERT
+        mock.perform(get("/api/mutations/stats/genes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].geneName").value("TP53"))
+                .andExpect(jsonPath("$[0].count").value(561))
+                .andExpect(jsonPath("$[1].geneName").value("KRAS"));
+    }
+
+    @Test
+    @WithMockUser
+    void findActionableMutations_shouldDefaultToPathogenicSignificances() throws Exception {
+        when(mutationService.findActionableMutations(any(), any())).thenReturn(List.of());
+
+        mock.perform(get("/api/mutations/actionable").param("genes", "EGFR,KRAS"))
+                .andExpect(status().isOk());
+
+        verify(mutationService).findActionableMutations(List.of("EGFR", "KRAS"), List.of("Pathogenic", "Likely Pathogenic"));
+    }
+
+    @Test
+    @WithMockUser
+    void getMutation_shouldReturnNotFound_whenMissing() throws Exception {
+        when(mutationService.getMutation(999)).thenReturn(Optional.empty());
+
+        mock.perform(get("/api/mutations/999"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void deleteMutation_shouldReturnNotFound_whenMissing() throws Exception {
+        doThrow(new NoSuchElementException()).when(mutationService).deleteMutation(999);
+
+        // No CSRF token: the API is stateless
+        mock.perform(delete("/api/mutations/999"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void writes_shouldRequireAuthentication() throws Exception {
+        mock.perform(post("/api/mutations").contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.error").value("Unauthorized"));
+        mock.perform(get("/api/mutations/999"))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(mutationService);
+    }
+
+    @Test
+    @WithMockUser
+    void writes_shouldRequireAdminRole() throws Exception {
+        mock.perform(delete("/api/mutations/999"))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(mutationService);
+    }
+
+    @Test
+    void deleteMutation_shouldAcceptAdminBearerToken() throws Exception {
+        // ARRANGE
+        String token = Jwts.builder()
+                .setSubject("admin")
+                .claim("roles", "ROLE_ADMIN,ROLE_USER")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(SignatureAlgorithm.HS512, JWT_SECRET.getBytes(StandardCharsets.UTF_8))
+                .compact();
+
+        // ACT & ASSERT
+        mock.perform(delete("/api/mutations/7").header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+        verify(mutationService).deleteMutation(7);
+
+        mock.perform(delete("/api/mutations/7").header("Authorization", "Bearer " + token + "x"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser
+    void byGene_shouldReturnBadRequest_forInvalidCursor() throws Exception {
+        when(mutationService.findPage(eq(MutationQuery.byGene("KRAS")), eq("bad"), anyInt()))
+                .thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+        mock.perform(get("/api/mutations/gene/KRAS").param("cursor", "bad"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid cursor"));
+    }
+
+    @Test
+    @WithMockUser
+    void intervals_shouldServeOverlapQueriesFromIndex() throws Exception {
+        // ARRANGE
+        when(intervalIndex.isReady()).thenReturn(true);
+        when(intervalIndex.findOverlapping("chr17", 7579000L, 7580000L, 1000))
+                .thenReturn(List.of(new VariantSpan(3, 7579472L, 7579472L)));
+
+        // ACT & ASSERT
+        mock.perform(get("/api/mutations/intervals/chr17")
+                        .param("start", "7579000").param("end", "7580000").param("overlap", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(3))
+                .andExpect(jsonPath("$[0].start").value(7579472));
+        verifyNoInteractions(mutationService);
+    }
+
+    @Test
+    @WithMockUser
+    void intervals_shouldRejectInvertedWindow_andReportUnavailableIndex() throws Exception {
+        mock.perform(get("/api/mutations/intervals/7").param("start", "10").param("end", "5"))
+                .andExpect(status().isBadRequest());
+
+        when(intervalIndex.isReady()).thenReturn(false);
+        mock.perform(get("/api/mutations/intervals/7").param("start", "5").param("end", "10"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @WithMockUser
+    void hotspots_shouldServeLollipopDataFromIndex() throws Exception {
+        // ARRANGE
+        when(hotspotIndex.isReady()).thenReturn(true);
+        when(hotspotIndex.hotspots("KRAS", 20, 10)).thenReturn(new ProteinChangeHotspots("KRAS", 310,
+                List.of(new ProteinChangeHotspots.Hotspot("p.G12C", 12, 87)),
+                List.of(new ProteinChangeHotspots.PositionBin(11, 20, 240))));
+
+        // ACT & ASSERT
+        mock.perform(get("/api/mutations/hotspots/KRAS").param("binSize", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hotspots[0].proteinChange").value("p.G12C"))
+                .andExpect(jsonPath("$.hotspots[0].position").value(12))
+                .andExpect(jsonPath("$.bins[0].start").value(11))
+                .andExpect(jsonPath("$.bins[0].count").value(240));
+        verifyNoInteractions(mutationService);
+    }
+
+    @Test
+    @WithMockUser
+    void hotspots_shouldReportUnavailableIndex() throws Exception {
+        when(hotspotIndex.isReady()).thenReturn(false);
+
+        mock.perform(get("/api/mutations/hotspots/KRAS"))
+                .andExpect(status().isServiceUnavailable());
+    }
+}
@@ -0,0 +1,101 @@
+package com.gene.sphere.mutationservice.controller;
+
+import com.gene.sphere.mutationservice.model.GenePairCounts;
+import com.gene.sphere.mutationservice.model.GenePairStatistics;
+import com.gene.sphere.mutationservice.model.PairStatisticsReport;
+import com.gene.sphere.mutationservice.service.MutationMatrix;
+import com.gene.sphere.mutationservice.service.PairStatisticsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(MutationMatrixController.class)
+class MutationMatrixControllerTest {
+
+    @Autowired
+    private MockMvc mock;
+
+    @MockBean
+    private MutationMatrix matrix;
+
+    @MockBean
+    private PairStatisticsService pairStatistics;
+
+    @Test
+    @WithMockUser
+    void cooccurrence_shouldReturnPairCounts() throws Exception {
+        // ARRANGE
+        when(matrix.isReady()).thenReturn(true);
+        when(matrix.pairs(List.of("EGFR", "KRAS")))
+                .thenReturn(List.of(new GenePairCounts("EGFR", "KRAS", 0, 120, 80, 300, -7.2)));
+
+        // ACT & ASSERT
+        mock.perform(get("/api/mutations/matrix/cooccurrence").param("genes", "EGFR,KRAS"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].both").value(0))
+                .andExpect(jsonPath("$[0].onlyA").value(120));
+    }
+
+    @Test
+    @WithMockUser
+    void cooccurrence_shouldRejectSingleGene() throws Exception {
+        mock.perform(get("/api/mutations/matrix/cooccurrence").param("genes", "EGFR"))
+                .andExpect(status().isBadRequest());
+
+        verify(matrix, never()).pairs(any());
+    }
+
+    @Test
+    @WithMockUser
+    void oncoprint_shouldReturnServiceUnavailable_whileMatrixIsBuilding() throws Exception {
+        when(matrix.isReady()).thenReturn(false);
+
+        mock.perform(get("/api/mutations/matrix/oncoprint").param("genes", "EGFR,KRAS"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @WithMockUser
+    void statistics_shouldPassFiltersToService() throws Exception {
+        // ARRANGE
+        when(matrix.isReady()).thenReturn(true);
+        when(pairStatistics.test(List.of("EGFR", "KRAS", "TP53"), 5, 0.01, 100,
+                GenePairStatistics.Tendency.MUTUAL_EXCLUSIVITY))
+                .thenReturn(new PairStatisticsReport(3, 500, 3, 1, List.of(new GenePairStatistics(
+                        "EGFR", "KRAS", 0, 120, 80, 300, -7.2, 1e-12, 3e-12,
+                        GenePairStatistics.Tendency.MUTUAL_EXCLUSIVITY))));
+
+        // ACT & ASSERT
+        mock.perform(get("/api/mutations/matrix/statistics")
+                        .param("genes", "EGFR,KRAS,TP53")
+                        .param("maxQ", "0.01")
+                        .param("tendency", "MUTUAL_EXCLUSIVITY"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tests").value(3))
+                .andExpect(jsonPath("$.pairs[0].tendency").value("MUTUAL_EXCLUSIVITY"));
+    }
+
+    @Test
+    @WithMockUser
+    void statistics_shouldReturnServiceUnavailable_whileAnotherRunIsInProgress() throws Exception {
+        // ARRANGE
+        when(matrix.isReady()).thenReturn(true);
+        when(pairStatistics.test(any(), anyInt(), anyDouble(), anyInt(), any()))
+                .thenThrow(new RejectedExecutionException("Another pair statistics run is in progress; retry later"));
+
+        // ACT & ASSERT
+        mock.perform(get("/api/mutations/matrix/statistics"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.message").value("Another pair statistics run is in progress; retry later"));
+    }
+}
@@ -0,0 +1,85 @@
+package com.gene.sphere.mutationservice.ingest;
+
+import com.gene.sphere.mutationservice.model.MutationDto;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MafRowParserTest {
+
+    private static final String MAF_HEADER = String.join("\t",
+            "Hugo_Symbol", "Chromosome", "Start_Position", "Variant_Classification", "Variant_Type",
+            "Reference_Allele", "Tumor_Seq_Allele2", "Tumor_Sample_Barcode", "HGVSp_Short",
+            "t_ref_count", "t_alt_count");
+
+    private final MafRowParser parser = MafRowParser.forHeader(MAF_HEADER, "Lung Adenocarcinoma");
+
+    @Test
+    void parse_shouldMapMafColumns() {
+        // ACT
+        MutationDto mutation = parser.parse(String.join("\t",
+                "EGFR", "chr7", "55191822", "Missense_Mutation", "SNP",
+                "T", "G", "TCGA-05-4244-01", "p.L858R", "60", "40"));
+
+        // ASSERT
+        assertEquals("EGFR", mutation.geneName());
+        assertEquals("7", mutation.chromosome());
+        assertEquals(55191822L, mutation.position());
+        assertEquals("SNV", mutation.mutationType());
+        assertEquals("TCGA-05-4244-01", mutation.patientId());
+        assertEquals("TCGA-05-4244-01", mutation.sampleId());
+        assertEquals("p.L858R", mutation.proteinChange());
+        assertEquals("Lung Adenocarcinoma", mutation.cancerType());
+        assertNull(mutation.clinicalSignificance());
+        assertEquals(new BigDecimal("0.4000"), mutation.alleleFrequency());
+    }
+
+    @Test
+    void parse_shouldMapVariantTypesAndMitochondrialChromosome() {
+        MutationDto deletion = parser.parse(String.join("\t",
+                "EGFR", "M", "100", "Frame_Shift_Del", "DEL", "AG", "-", "S1", "", "NA", "NA"));
+
+        assertEquals("MT", deletion.chromosome());
+        assertEquals("deletion", deletion.mutationType());
+        assertNull(deletion.proteinChange());
+        assertNull(deletion.alleleFrequency());
+    }
+
+    @Test
+    void parse_shouldAcceptTableColumnNames() {
+        MafRowParser tsv = MafRowParser.forHeader(String.join("\t",
+                "gene_name", "chromosome", "position", "reference_allele", "alternate_allele", "mutation_type",
+                "patient_id", "cancer_type", "clinical_significance", "allele_frequency"), "Lung Adenocarcinoma");
+
+        MutationDto mutation = tsv.parse(String.join("\t",
+                "KRAS", "12", "25245350", "C", "A", "SNV", "P-1", "Lung Squamous Cell Carcinoma", "Pathogenic", "0.25"));
+
+        assertEquals("P-1", mutation.patientId());
+        assertNull(mutation.sampleId());
+        assertEquals("Lung Squamous Cell Carcinoma", mutation.cancerType());
+        assertEquals("Pathogenic", mutation.clinicalSignificance());
+        assertEquals(new BigDecimal("0.2500"), mutation.alleleFrequency());
+    }
+
+    @Test
+    void parse_shouldRejectRowsViolatingTableConstraints() {
+        assertThrows(IllegalArgumentException.class, () -> parser.parse(String.join("\t",
+                "EGFR", "chr23", "100", "Missense_Mutation", "SNP", "T", "G", "S1", "", "", "")));
+        assertThrows(IllegalArgumentException.class, () -> parser.parse(String.join("\t",
+                "EGFR", "7", "abc", "Missense_Mutation", "SNP", "T", "G", "S1", "", "", "")));
+        assertThrows(IllegalArgumentException.class, () -> parser.parse(String.join("\t",
+                "EGFR", "7", "0", "Missense_Mutation", "SNP", "T", "G", "S1", "", "", "")));
+        assertThrows(IllegalArgumentException.class, () -> parser.parse(String.join("\t",
+                "", "7", "100", "Missense_Mutation", "SNP", "T", "G", "S1", "", "", "")));
+        assertThrows(IllegalArgumentException.class, () -> parser.parse(String.join("\t",
+                "A".repeat(51), "7", "100", "Missense_Mutation", "SNP", "T", "G", "S1", "", "", "")));
+    }
+
+    @Test
+    void forHeader_shouldRejectFilesWithoutRequiredColumns() {
+        assertThrows(IllegalArgumentException.class,
+                () -> MafRowParser.forHeader("Hugo_Symbol\tChromosome", "Lung Adenocarcinoma"));
+    }
+}
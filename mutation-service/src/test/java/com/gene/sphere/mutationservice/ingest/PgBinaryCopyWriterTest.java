@@ -0,0 +1,82 @@
+package com.gene.sphere.mutationservice.ingest;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PgBinaryCopyWriterTest {
+
+    @Test
+    void numericDigits_shouldGroupBaseTenThousandDigits_aroundTheDecimalPoint() {
+        assertArrayEquals(new short[]{6523}, PgBinaryCopyWriter.numericDigits(new BigDecimal("0.6523")));
+        assertEquals(-1, PgBinaryCopyWriter.numericWeight(new BigDecimal("0.6523")));
+
+        assertArrayEquals(new short[]{500}, PgBinaryCopyWriter.numericDigits(new BigDecimal("0.0500")));
+        assertEquals(-1, PgBinaryCopyWriter.numericWeight(new BigDecimal("0.0500")));
+
+        assertArrayEquals(new short[]{1, 2345, 5000}, PgBinaryCopyWriter.numericDigits(new BigDecimal("12345.5")));
+        assertEquals(1, PgBinaryCopyWriter.numericWeight(new BigDecimal("12345.5")));
+    }
+
+    @Test
+    void numericDigits_shouldStripZeroGroups() {
+        assertArrayEquals(new short[]{1}, PgBinaryCopyWriter.numericDigits(new BigDecimal("10000")));
+        assertEquals(1, PgBinaryCopyWriter.numericWeight(new BigDecimal("10000")));
+
+        assertArrayEquals(new short[]{1}, PgBinaryCopyWriter.numericDigits(new BigDecimal("1.0000")));
+        assertEquals(0, PgBinaryCopyWriter.numericWeight(new BigDecimal("1.0000")));
+
+        assertArrayEquals(new short[]{5}, PgBinaryCopyWriter.numericDigits(new BigDecimal("0.00000005")));
+        assertEquals(-2, PgBinaryCopyWriter.numericWeight(new BigDecimal("0.00000005")));
+
+        assertArrayEquals(new short[0], PgBinaryCopyWriter.numericDigits(new BigDecimal("0.0000")));
+    }
+
+    @Test
+    void writer_shouldEmitHeaderRowsAndTrailer() throws Exception {
+        // ARRANGE
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PgBinaryCopyWriter writer = new PgBinaryCopyWriter(bytes);
+
+        // ACT
+        writer.startRow(4);
+        writer.writeText("TP53");
+        writer.writeBigint(7675088L);
+        writer.writeText(null);
+        writer.writeNumeric(new BigDecimal("-0.5000"));
+        writer.finish();
+
+        // ASSERT
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        byte[] signature = new byte[11];
+        in.readFully(signature);
+        assertArrayEquals(new byte[]{'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0}, signature);
+        assertEquals(0, in.readInt());
+        assertEquals(0, in.readInt());
+
+        assertEquals(4, in.readShort());
+        assertEquals(4, in.readInt());
+        byte[] gene = new byte[4];
+        in.readFully(gene);
+        assertEquals("TP53", new String(gene));
+        assertEquals(8, in.readInt());
+        assertEquals(7675088L, in.readLong());
+        assertEquals(-1, in.readInt());
+
+        // numeric: length, ndigits, weight, sign, dscale, digits
+        assertEquals(10, in.readInt());
+        assertEquals(1, in.readShort());
+        assertEquals(-1, in.readShort());
+        assertEquals(0x4000, in.readShort());
+        assertEquals(4, in.readShort());
+        assertEquals(5000, in.readShort());
+
+        assertEquals(-1, in.readShort());
+        assertEquals(0, in.available());
+    }
+}
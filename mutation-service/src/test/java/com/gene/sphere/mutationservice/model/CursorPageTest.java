@@ -0,0 +1,37 @@
+package com.gene.sphere.mutationservice.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorPageTest {
+
+    @Test
+    void encodeCursor_shouldRoundTripThroughDecode() {
+        String cursor = CursorPage.encodeCursor(123456);
+
+        assertEquals(123456, CursorPage.decodeCursor(cursor));
+        assertFalse(cursor.contains("123456"), "cursor should be opaque");
+    }
+
+    @Test
+    void decodeCursor_shouldStartAtBeginning_whenCursorIsMissing() {
+        assertEquals(0, CursorPage.decodeCursor(null));
+        assertEquals(0, CursorPage.decodeCursor(" "));
+    }
+
+    @Test
+    void decodeCursor_shouldRejectMalformedTokens() {
+        assertThrows(IllegalArgumentException.class, () -> CursorPage.decodeCursor("%%%"));
+        assertThrows(IllegalArgumentException.class, () -> CursorPage.decodeCursor("MTIz")); // "123" without prefix
+        assertThrows(IllegalArgumentException.class, () -> CursorPage.decodeCursor(CursorPage.encodeCursor(-1)));
+    }
+
+    @Test
+    void hasNext_shouldReflectNextCursor() {
+        assertTrue(new CursorPage<>(List.of("a"), "x").hasNext());
+        assertFalse(new CursorPage<>(List.of("a"), null).hasNext());
+    }
+}
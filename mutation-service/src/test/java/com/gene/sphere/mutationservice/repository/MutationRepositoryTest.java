@@ -7,9 +7,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -688,4 +691,90 @@ class MutationRepositoryTest {
         assertNotNull(r175hCount);
         assertEquals(2L, r175hCount[1]);
     }
-}
\ No newline at end of file
+
+    // ===== TESTS FOR ranked substring search (portable query on H2) =====
+
+    @Test
+    void searchByGeneName_shouldRankCloserNamesFirst_andApplyLimit() {
+        // ARRANGE
+        persistMutation(createMutation(
+                "TP53BP1", "15", 43403000L, "A", "G", "SNV",
+                "PATIENT-70", "SAMPLE-70", "p.K12E",
+                "Lung Squamous Cell Carcinoma", "Uncertain Significance", new BigDecimal("0.30")
+        ));
+
+        // ACT
+        List<Mutation> result = mutationRepository.searchByGeneName("tp53", 10);
+        List<Mutation> limited = mutationRepository.searchByGeneName("tp53", 1);
+
+        // ASSERT
+        assertEquals(2, result.size());
+        assertEquals("TP53", result.get(0).getGeneName());
+        assertEquals("TP53BP1", result.get(1).getGeneName());
+        assertEquals(1, limited.size());
+        assertEquals("TP53", limited.get(0).getGeneName());
+    }
+
+    @Test
+    void searchByCancerType_shouldMatchSubstringIgnoringCase() {
+        List<Mutation> result = mutationRepository.searchByCancerType("ADENO", 10);
+
+        assertEquals(3, result.size());
+    }
+
+    @Test
+    void searchByGeneName_shouldMatchWildcardsLiterally_andIgnoreBlankFragments() {
+        assertTrue(mutationRepository.searchByGeneName("%", 10).isEmpty());
+        assertTrue(mutationRepository.searchByGeneName("_", 10).isEmpty());
+        assertTrue(mutationRepository.searchByGeneName("  ", 10).isEmpty());
+        assertTrue(mutationRepository.searchByGeneName(null, 10).isEmpty());
+    }
+
+    @Test
+    void searchByGeneName_shouldRejectInvalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> mutationRepository.searchByGeneName("TP53", 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> mutationRepository.searchByGeneName("TP53", MutationSearchRepository.MAX_SEARCH_LIMIT + 1));
+    }
+
+    // ===== TESTS FOR keyset pages and streams =====
+
+    @Test
+    void findSliceByClinicalSignificance_shouldPageInIdOrder_untilLastPage() {
+        // ACT
+        Slice<Mutation> first = mutationRepository.findSliceByClinicalSignificance("Pathogenic", 0, PageRequest.of(0, 2));
+        Integer lastId = first.getContent().get(1).getId();
+        Slice<Mutation> second = mutationRepository.findSliceByClinicalSignificance("Pathogenic", lastId, PageRequest.of(0, 2));
+
+        // ASSERT
+        assertEquals(List.of("EGFR", "KRAS"), first.map(Mutation::getGeneName).getContent());
+        assertTrue(first.hasNext());
+        assertEquals(List.of("TP53"), second.map(Mutation::getGeneName).getContent());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    void findByChromosomeAndPositionBetweenAndIdGreaterThan_shouldOnlyReturnRegion() {
+        Slice<Mutation> result = mutationRepository.findByChromosomeAndPositionBetweenAndIdGreaterThanOrderByIdAsc(
+                "17", 7570000L, 7590000L, 0, PageRequest.of(0, 10));
+
+        assertEquals(1, result.getNumberOfElements());
+        assertEquals("TP53", result.getContent().get(0).getGeneName());
+        assertFalse(result.hasNext());
+    }
+
+    @Test
+    void streamByGeneNameIn_shouldReturnAllMatchesInIdOrder() {
+        // DataJpaTest runs each test in a transaction, which streams require
+        try (Stream<Mutation> result = mutationRepository.streamByGeneNameInOrderByIdAsc(List.of("TP53", "EGFR"))) {
+            assertEquals(List.of("EGFR", "TP53"), result.map(Mutation::getGeneName).toList());
+        }
+    }
+
+    @Test
+    void streamByGeneNameCaseInsensitive_shouldMatchIgnoringCase() {
+        try (Stream<Mutation> result = mutationRepository.streamByGeneNameCaseInsensitive("kras")) {
+            assertEquals(1, result.count());
+        }
+    }
+}
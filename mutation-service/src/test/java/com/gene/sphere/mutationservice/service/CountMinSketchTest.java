@@ -0,0 +1,47 @@
+package com.gene.sphere.mutationservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountMinSketchTest {
+
+    @Test
+    void estimate_shouldNeverUndercount_andStayWithinErrorBound() {
+        // ARRANGE
+        CountMinSketch sketch = new CountMinSketch(256, 4);
+        for (int i = 0; i < 2000; i++) {
+            sketch.add("GENE" + (i % 500) + "\tp.X" + i % 500, 1);
+        }
+
+        // ACT & ASSERT
+        assertEquals(2000, sketch.total());
+        for (int i = 0; i < 500; i++) {
+            long estimate = sketch.estimate("GENE" + i + "\tp.X" + i);
+            assertTrue(estimate >= 4, "undercount for key " + i);
+        }
+        assertEquals((long) Math.ceil(Math.E / 256 * 2000), sketch.errorBound());
+    }
+
+    @Test
+    void add_shouldSupportDecrements() {
+        // ARRANGE
+        CountMinSketch sketch = new CountMinSketch(1 << 16, 4);
+        sketch.add("KRAS\tp.G12C", 5);
+        sketch.add("KRAS\tp.G12D", 2);
+
+        // ACT
+        sketch.add("KRAS\tp.G12C", -3);
+
+        // ASSERT
+        assertEquals(2, sketch.estimate("KRAS\tp.G12C"));
+        assertEquals(2, sketch.estimate("KRAS\tp.G12D"));
+        assertEquals(0, sketch.estimate("EGFR\tp.L858R"));
+        assertEquals(4, sketch.total());
+    }
+
+    @Test
+    void constructor_shouldRejectEmptySketch() {
+        assertThrows(IllegalArgumentException.class, () -> new CountMinSketch(0, 4));
+    }
+}
@@ -0,0 +1,114 @@
+package com.gene.sphere.mutationservice.service;
+
+import com.gene.sphere.mutationservice.model.MutationDto;
+import com.gene.sphere.mutationservice.model.VariantSpan;
+import com.gene.sphere.mutationservice.repository.MutationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class GenomicIntervalIndexTest {
+
+    private MutationRepository mutationRepository;
+    private MutationSnapshotMaintainer maintainer;
+    private GenomicIntervalIndex index;
+
+    @BeforeEach
+    void setUp() {
+        mutationRepository = mock(MutationRepository.class);
+        maintainer = new MutationSnapshotMaintainer(mutationRepository, mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(), Duration.ZERO);
+        index = new GenomicIntervalIndex(maintainer, new SimpleMeterRegistry());
+        when(mutationRepository.streamColumns()).thenReturn(Stream.of(
+                row(1, "17", 7579472L, "C"),              // SNV
+                row(2, "17", 7579300L, "A".repeat(250)),  // 250 bp deletion reaching 7579549
+                row(3, "chr17", 7590000L, "G"),
+                row(4, "7", 55191822L, "-"),
+                row(5, "17", 7579472L, "CTG")));
+        maintainer.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        maintainer.shutdown();
+    }
+
+    @Test
+    void rebuild_shouldIndexEveryRow_andNormalizeChromosomes() {
+        assertTrue(index.isReady());
+        assertEquals(5, index.size());
+        assertEquals(4, index.countInRegion("CHR17", 0, Long.MAX_VALUE));
+    }
+
+    @Test
+    void findInRegion_shouldReturnMutationsStartingInWindow_inPositionOrder() {
+        List<VariantSpan> result = index.findInRegion("17", 7579400L, 7600000L, 10);
+
+        // Equal starts keep the order in which the rows were read
+        assertEquals(List.of(1, 5, 3), result.stream().map(VariantSpan::id).toList());
+        assertEquals(7590000L, result.get(2).start());
+        assertEquals(2, index.findInRegion("17", 7579400L, 7600000L, 2).size());
+    }
+
+    @Test
+    void findOverlapping_shouldIncludeDeletionsStartingBeforeWindow() {
+        List<VariantSpan> result = index.findOverlapping("17", 7579500L, 7579600L, 10);
+
+        assertEquals(List.of(new VariantSpan(2, 7579300L, 7579549L)), result);
+    }
+
+    @Test
+    void findNearest_shouldExpandOutwardFromPosition() {
+        List<Integer> ids = index.findNearest("17", 7589000L, 2).stream().map(VariantSpan::id).toList();
+
+        assertEquals(List.of(3, 5), ids);
+        assertEquals(4, index.findNearest("17", 0L, 10).size());
+        assertTrue(index.findNearest("Y", 0L, 10).isEmpty());
+    }
+
+    @Test
+    void onMutationChanged_shouldApplyCreatesUpdatesAndDeletes() {
+        MutationDto created = mutation("12", 25398284L, "G");
+        MutationDto moved = mutation("12", 25398290L, "GGT");
+
+        index.onMutationChanged(new MutationChangedEvent(6, null, created));
+        index.onMutationChanged(new MutationChangedEvent(6, null, created));
+        assertEquals(List.of(new VariantSpan(6, 25398284L, 25398284L)), index.findInRegion("12", 0, Long.MAX_VALUE, 10));
+
+        index.onMutationChanged(new MutationChangedEvent(6, created, moved));
+        assertEquals(List.of(new VariantSpan(6, 25398290L, 25398292L)), index.findInRegion("12", 0, Long.MAX_VALUE, 10));
+
+        index.onMutationChanged(new MutationChangedEvent(6, moved, null));
+        assertEquals(0, index.countInRegion("12", 0, Long.MAX_VALUE));
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    void rebuild_shouldKeepPreviousIndex_whenRepositoryFails() {
+        when(mutationRepository.streamColumns()).thenThrow(new IllegalStateException("db down"));
+
+        maintainer.rebuild();
+
+        assertEquals(5, index.size());
+    }
+
+    private static Object[] row(int id, String chromosome, long position, String referenceAllele) {
+        return new Object[]{id, "TP53", chromosome, position, referenceAllele, "T", "SNV", "PATIENT-1", "SAMPLE-1",
+                null, null, null, null};
+    }
+
+    private static MutationDto mutation(String chromosome, long position, String referenceAllele) {
+        return new MutationDto("KRAS", chromosome, position, referenceAllele, "T", "SNV",
+                "PATIENT-1", "SAMPLE-1", "p.G12C", "Lung Adenocarcinoma", "Pathogenic", new BigDecimal("0.5"));
+    }
+}
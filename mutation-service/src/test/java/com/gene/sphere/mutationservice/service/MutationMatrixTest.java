@@ -0,0 +1,162 @@
+package com.gene.sphere.mutationservice.service;
+
+import com.gene.sphere.mutationservice.model.GenePairCounts;
+import com.gene.sphere.mutationservice.model.MutationDto;
+import com.gene.sphere.mutationservice.model.Oncoprint;
+import com.gene.sphere.mutationservice.repository.MutationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MutationMatrixTest {
+
+    private MutationRepository mutationRepository;
+    private MutationSnapshotMaintainer maintainer;
+    private MutationMatrix matrix;
+
+    @BeforeEach
+    void setUp() {
+        mutationRepository = mock(MutationRepository.class);
+        maintainer = new MutationSnapshotMaintainer(mutationRepository, mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(), Duration.ZERO);
+        matrix = new MutationMatrix(maintainer, new SimpleMeterRegistry());
+        // EGFR and KRAS are mutually exclusive; TP53 co-occurs with both
+        when(mutationRepository.streamColumns()).thenReturn(Stream.of(
+                row(1, "EGFR", "S1"),
+                row(2, "EGFR", "S1"),       // second EGFR mutation in S1
+                row(3, "egfr", "S2"),
+                row(4, "KRAS", "S3"),
+                row(5, "KRAS", "S4"),
+                row(6, "TP53", "S1"),
+                row(7, "TP53", "S3"),
+                row(8, "TP53", "S5"),
+                row(9, "STK11", "S6"),
+                row(10, "STK11", null)));
+        maintainer.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        maintainer.shutdown();
+    }
+
+    @Test
+    void rebuild_shouldSetOneBitPerGeneAndSample() {
+        assertTrue(matrix.isReady());
+        assertEquals(4, matrix.geneCount());
+        assertEquals(6, matrix.sampleCount());
+        assertEquals(2, matrix.mutatedSamples("egfr"));
+    }
+
+    @Test
+    void pair_shouldCountBothOnlyAndNeither() {
+        GenePairCounts exclusive = matrix.pair("EGFR", "KRAS");
+        assertEquals(0, exclusive.both());
+        assertEquals(2, exclusive.onlyA());
+        assertEquals(2, exclusive.onlyB());
+        assertEquals(2, exclusive.neither());
+        assertTrue(exclusive.logOddsRatio() < 0);
+
+        GenePairCounts cooccurring = matrix.pair("EGFR", "TP53");
+        assertEquals(1, cooccurring.both());
+        assertEquals(1, cooccurring.onlyA());
+        assertEquals(2, cooccurring.onlyB());
+        assertEquals(2, cooccurring.neither());
+    }
+
+    @Test
+    void pairs_shouldReturnEveryPairInRequestOrder() {
+        List<GenePairCounts> pairs = matrix.pairs(List.of("EGFR", "KRAS", "TP53", "egfr"));
+
+        assertEquals(List.of("EGFR/KRAS", "EGFR/TP53", "KRAS/TP53"),
+                pairs.stream().map(pair -> pair.geneA() + "/" + pair.geneB()).toList());
+    }
+
+    @Test
+    void topCooccurring_shouldFilterByMinimumAndSortByCount() {
+        List<GenePairCounts> top = matrix.topCooccurring(10, 1, 10);
+
+        assertEquals(List.of("EGFR/TP53", "KRAS/TP53"),
+                top.stream().map(pair -> pair.geneA() + "/" + pair.geneB()).toList());
+        assertEquals(1, matrix.topCooccurring(10, 1, 1).size());
+    }
+
+    @Test
+    void oncoprint_shouldOrderGenesByFrequencyAndSamplesByAlterationPattern() {
+        Oncoprint oncoprint = matrix.oncoprint(List.of("KRAS", "EGFR", "TP53"), 10);
+
+        assertEquals(6, oncoprint.totalSamples());
+        assertEquals(5, oncoprint.alteredSamples());
+        assertEquals("TP53", oncoprint.genes().get(0).gene());
+        assertEquals(0.5, oncoprint.genes().get(0).frequency());
+        // TP53 first (S1, S3, S5), then EGFR (S1 before S3), then KRAS
+        assertEquals(List.of("S1", "S3", "S5", "S2", "S4"),
+                oncoprint.samples().stream().map(Oncoprint.SampleAlterations::sampleId).toList());
+        assertEquals(List.of("TP53", "EGFR"), oncoprint.samples().get(0).genes());
+        assertEquals(2, matrix.oncoprint(List.of("KRAS", "EGFR", "TP53"), 2).samples().size());
+    }
+
+    @Test
+    void oncoprint_shouldRejectTooManyGenes() {
+        List<String> genes = Stream.iterate(0, i -> i + 1).limit(MutationMatrix.MAX_ONCOPRINT_GENES + 1)
+                .map(i -> "G" + i).toList();
+
+        assertThrows(IllegalArgumentException.class, () -> matrix.oncoprint(genes, 10));
+        assertEquals(0, matrix.oncoprint(Collections.emptyList(), 10).alteredSamples());
+    }
+
+    @Test
+    void onMutationChanged_shouldKeepSampleSetUntilLastMutationInGeneIsDeleted() {
+        MutationDto egfrS1 = mutation("EGFR", "S1");
+
+        matrix.onMutationChanged(new MutationChangedEvent(100, egfrS1, null));
+        assertEquals(2, matrix.mutatedSamples("EGFR"));
+
+        matrix.onMutationChanged(new MutationChangedEvent(101, egfrS1, null));
+        assertEquals(1, matrix.mutatedSamples("EGFR"));
+        assertEquals(0, matrix.pair("EGFR", "TP53").both());
+    }
+
+    @Test
+    void onMutationChanged_shouldAddNewSamples() {
+        matrix.onMutationChanged(new MutationChangedEvent(102, null, mutation("KRAS", "S7")));
+
+        assertEquals(7, matrix.sampleCount());
+        assertEquals(3, matrix.mutatedSamples("KRAS"));
+    }
+
+    @Test
+    void rebuild_shouldKeepPreviousMatrix_whenRepositoryFails() {
+        when(mutationRepository.streamColumns()).thenThrow(new IllegalStateException("db down"));
+
+        maintainer.rebuild();
+
+        assertEquals(4, matrix.geneCount());
+    }
+
+    @Test
+    void logOddsRatio_shouldBeZero_forIndependentGenes() {
+        assertEquals(0.0, MutationMatrix.logOddsRatio(10, 10, 10, 10), 1e-9);
+        assertTrue(MutationMatrix.logOddsRatio(10, 0, 0, 10) > 0);
+    }
+
+    private static Object[] row(int id, String gene, String sample) {
+        return new Object[]{id, gene, "7", 55191822L, "T", "G", "SNV", null, sample, null, "Lung Adenocarcinoma",
+                null, null};
+    }
+
+    private static MutationDto mutation(String gene, String sample) {
+        return new MutationDto(gene, "7", 55191822L, "T", "G", "SNV", sample, sample,
+                null, "Lung Adenocarcinoma", null, null);
+    }
+}
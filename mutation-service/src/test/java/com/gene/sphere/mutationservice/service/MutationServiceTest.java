@@ -0,0 +1,156 @@
+package com.gene.sphere.mutationservice.service;
+
+import com.gene.sphere.mutationservice.factory.MutationFactory;
+import com.gene.sphere.mutationservice.model.CursorPage;
+import com.gene.sphere.mutationservice.model.GeneMutationCount;
+import com.gene.sphere.mutationservice.model.Mutation;
+import com.gene.sphere.mutationservice.model.MutationDto;
+import com.gene.sphere.mutationservice.model.ProteinChangeCount;
+import com.gene.sphere.mutationservice.repository.MutationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MutationServiceTest {
+
+    @Mock
+    private MutationRepository mutationRepository;
+
+    @Mock
+    private MutationFactory factory;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private MutationService mutationService;
+
+    private Mutation krasMutation;
+    private MutationDto krasDto;
+
+    @BeforeEach
+    void setUp() {
+        krasMutation = new Mutation();
+        krasMutation.setId(42);
+        krasMutation.setGeneName("KRAS");
+        krasDto = new MutationDto("KRAS", "12", 25398284L, "G", "T", "SNV",
+                "TCGA-05-4244-02", "TCGA-05-4244-02", "p.G12C",
+                "Lung Adenocarcinoma (TCGA)", "Pathogenic", new BigDecimal("0.72"));
+    }
+
+    @Test
+    void countMutationsPerGene_shouldMapRowsToRecords() {
+        // ARRANGE
+        when(mutationRepository.countMutationsPerGene())
+                .thenReturn(List.of(new Object[]{"TP53", 561L}, new Object[]{"KRAS", 210L}));
+
+        // ACT
+        List<GeneMutationCount> result = mutationService.countMutationsPerGene();
+
+        // ASSERT
+        assertEquals(List.of(new GeneMutationCount("TP53", 561), new GeneMutationCount("KRAS", 210)), result);
+    }
+
+    @Test
+    void countMutationsByProteinChange_shouldMapRowsToRecords() {
+        when(mutationRepository.countMutationsByProteinChange("KRAS"))
+                .thenReturn(List.<Object[]>of(new Object[]{"p.G12C", 87L}));
+
+        assertEquals(List.of(new ProteinChangeCount("p.G12C", 87)), mutationService.countMutationsByProteinChange("KRAS"));
+    }
+
+    @Test
+    void findActionableMutations_shouldQueryNormalizedLists_andSkipEmptyInput() {
+        // ARRANGE
+        when(mutationRepository.findActionableMutations(List.of("EGFR", "KRAS"), List.of("Pathogenic")))
+                .thenReturn(List.of(krasMutation));
+        when(factory.toDto(krasMutation)).thenReturn(krasDto);
+
+        // ACT
+        List<MutationDto> result = mutationService.findActionableMutations(
+                List.of("KRAS", " EGFR", "KRAS"), List.of("Pathogenic"));
+        List<MutationDto> empty = mutationService.findActionableMutations(List.of(" "), List.of("Pathogenic"));
+
+        // ASSERT
+        assertEquals(List.of(krasDto), result);
+        assertTrue(empty.isEmpty());
+        verify(mutationRepository, times(1)).findActionableMutations(any(), any());
+    }
+
+    @Test
+    void actionableCacheKey_shouldNotDependOnArgumentOrder() {
+        assertEquals(
+                MutationService.actionableCacheKey(List.of("KRAS", "EGFR"), List.of("Pathogenic", "Likely Pathogenic")),
+                MutationService.actionableCacheKey(List.of("EGFR", "KRAS", "EGFR"), List.of("Likely Pathogenic", "Pathogenic")));
+        assertEquals("EGFR,KRAS|Pathogenic",
+                MutationService.actionableCacheKey(List.of("KRAS", "EGFR"), List.of("Pathogenic")));
+    }
+
+    @Test
+    void updateMutation_shouldKeepId_publishChange_andThrowWhenMissing() {
+        // ARRANGE
+        Mutation updated = new Mutation();
+        when(mutationRepository.findById(42)).thenReturn(Optional.of(krasMutation));
+        when(mutationRepository.findById(999)).thenReturn(Optional.empty());
+        when(factory.fromDto(krasDto)).thenReturn(updated);
+        when(mutationRepository.save(updated)).thenReturn(updated);
+        when(factory.toDto(krasMutation)).thenReturn(krasDto);
+        when(factory.toDto(updated)).thenReturn(krasDto);
+
+        // ACT
+        MutationDto result = mutationService.updateMutation(42, krasDto);
+
+        // ASSERT
+        assertEquals(krasDto, result);
+        assertEquals(42, updated.getId());
+        verify(eventPublisher).publishEvent(new MutationChangedEvent(42, krasDto, krasDto));
+        assertThrows(NoSuchElementException.class, () -> mutationService.updateMutation(999, krasDto));
+    }
+
+    @Test
+    void deleteMutation_shouldThrow_whenMutationDoesNotExist() {
+        when(mutationRepository.findById(999)).thenReturn(Optional.empty());
+
+        assertThrows(NoSuchElementException.class, () -> mutationService.deleteMutation(999));
+        verify(mutationRepository, never()).delete(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void findPage_shouldReturnCursorOfLastMutation_whenMorePagesFollow() {
+        // ARRANGE
+        when(mutationRepository.findByChromosomeAndIdGreaterThanOrderByIdAsc("12", 0, PageRequest.of(0, 1)))
+                .thenReturn(new SliceImpl<>(List.of(krasMutation), PageRequest.of(0, 1), true));
+        when(factory.toDto(krasMutation)).thenReturn(krasDto);
+
+        // ACT
+        CursorPage<MutationDto> page = mutationService.findPage(MutationQuery.byChromosome("12"), null, 1);
+
+        // ASSERT
+        assertEquals(List.of(krasDto), page.items());
+        assertEquals(42, CursorPage.decodeCursor(page.nextCursor()));
+    }
+
+    @Test
+    void findPage_shouldRejectInvalidPageSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> mutationService.findPage(MutationQuery.byGene("KRAS"), null, MutationService.MAX_PAGE_SIZE + 1));
+        verifyNoInteractions(mutationRepository);
+    }
+}
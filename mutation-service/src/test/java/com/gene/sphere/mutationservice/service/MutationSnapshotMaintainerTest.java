@@ -0,0 +1,103 @@
+package com.gene.sphere.mutationservice.service;
+
+import com.gene.sphere.mutationservice.repository.MutationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MutationSnapshotMaintainerTest {
+
+    private MutationRepository mutationRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private MutationSnapshotMaintainer maintainer;
+    private MutationSnapshot first;
+    private MutationSnapshot.Rebuild firstRebuild;
+    private MutationSnapshot second;
+    private MutationSnapshot.Rebuild secondRebuild;
+
+    @BeforeEach
+    void setUp() {
+        mutationRepository = mock(MutationRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        maintainer = new MutationSnapshotMaintainer(mutationRepository, mock(PlatformTransactionManager.class),
+                meterRegistry, Duration.ZERO);
+        first = snapshot("first");
+        firstRebuild = first.startRebuild();
+        second = snapshot("second");
+        secondRebuild = second.startRebuild();
+        maintainer.register(first);
+        maintainer.register(second);
+        when(mutationRepository.streamColumns()).thenReturn(Stream.of(
+                new Object[]{1, "KRAS", "12", 25245350L, "C", "A", "SNV", "P1", "S1", "p.G12C", "LUAD", "Pathogenic", null},
+                new Object[]{2, "TP53", "17", null, "C", "T", "SNV", "P2", null, null, "COAD", null, null}));
+    }
+
+    @AfterEach
+    void tearDown() {
+        maintainer.shutdown();
+    }
+
+    @Test
+    void rebuild_shouldFeedEveryRowToEverySnapshotFromOneScan() {
+        // ACT
+        maintainer.rebuild();
+
+        // ASSERT
+        verify(mutationRepository, times(1)).streamColumns();
+        MutationRow row = new MutationRow(2, "TP53", "17", null, "C", "T", "SNV", "P2", null, null, "COAD", null, null);
+        verify(firstRebuild).add(row);
+        verify(secondRebuild).add(row);
+        verify(firstRebuild, times(2)).add(any());
+        verify(firstRebuild).publish();
+        verify(secondRebuild).publish();
+        verify(firstRebuild, never()).discard();
+    }
+
+    @Test
+    void rebuild_shouldDiscardOnlyTheFailingSnapshot() {
+        // ARRANGE
+        doThrow(new IllegalStateException("bad row")).when(firstRebuild).add(any());
+
+        // ACT
+        maintainer.rebuild();
+
+        // ASSERT
+        verify(firstRebuild, times(1)).add(any());
+        verify(firstRebuild).discard();
+        verify(firstRebuild, never()).publish();
+        verify(secondRebuild, times(2)).add(any());
+        verify(secondRebuild).publish();
+        assertEquals(1, meterRegistry.counter("mutation.snapshots.errors", "snapshot", "first").count());
+    }
+
+    @Test
+    void rebuild_shouldDiscardEverySnapshot_whenScanFails() {
+        // ARRANGE
+        when(mutationRepository.streamColumns()).thenThrow(new IllegalStateException("db down"));
+
+        // ACT
+        maintainer.rebuild();
+
+        // ASSERT
+        verify(firstRebuild).discard();
+        verify(secondRebuild).discard();
+        verify(firstRebuild, never()).publish();
+        verify(secondRebuild, never()).publish();
+    }
+
+    private static MutationSnapshot snapshot(String name) {
+        MutationSnapshot snapshot = mock(MutationSnapshot.class);
+        MutationSnapshot.Rebuild rebuild = mock(MutationSnapshot.Rebuild.class);
+        when(snapshot.snapshotName()).thenReturn(name);
+        when(snapshot.startRebuild()).thenReturn(rebuild);
+        return snapshot;
+    }
+}
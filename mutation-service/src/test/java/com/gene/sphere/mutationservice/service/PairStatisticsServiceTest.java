@@ -0,0 +1,178 @@
+package com.gene.sphere.mutationservice.service;
+
+import com.gene.sphere.mutationservice.model.GenePairStatistics;
+import com.gene.sphere.mutationservice.model.MutationDto;
+import com.gene.sphere.mutationservice.model.PairStatisticsReport;
+import com.gene.sphere.mutationservice.repository.MutationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PairStatisticsServiceTest {
+
+    private MutationSnapshotMaintainer maintainer;
+    private MutationMatrix matrix;
+    private PairStatisticsService service;
+
+    @BeforeEach
+    void setUp() {
+        // 40 samples: EGFR in S0-S9, KRAS in S10-S19 (never together), TP53 in S0-S4 and S10-S14
+        List<Object[]> rows = new ArrayList<>();
+        for (int s = 0; s < 40; s++) {
+            String sample = "S" + s;
+            if (s < 10) {
+                rows.add(row(rows.size() + 1, "EGFR", sample));
+            } else if (s < 20) {
+                rows.add(row(rows.size() + 1, "KRAS", sample));
+            } else {
+                rows.add(row(rows.size() + 1, "STK11", sample));
+            }
+            if (s % 10 < 5 && s < 20) {
+                rows.add(row(rows.size() + 1, "TP53", sample));
+            }
+        }
+        MutationRepository mutationRepository = mock(MutationRepository.class);
+        when(mutationRepository.streamColumns()).thenReturn(rows.stream());
+        maintainer = new MutationSnapshotMaintainer(mutationRepository, mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(), Duration.ZERO);
+        matrix = new MutationMatrix(maintainer, new SimpleMeterRegistry());
+        maintainer.rebuild();
+        service = new PairStatisticsService(matrix, new SimpleMeterRegistry(), 2, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+        maintainer.shutdown();
+    }
+
+    @Test
+    void fisherExact_shouldMatchKnownTwoSidedPValues() {
+        double[] logFactorials = PairStatisticsService.logFactorials(8);
+
+        // Lady tasting tea: [[3, 1], [1, 3]] and [[4, 0], [0, 4]]
+        assertEquals(0.4857, PairStatisticsService.fisherExact(3, 4, 4, 8, logFactorials), 1e-4);
+        assertEquals(0.02857, PairStatisticsService.fisherExact(4, 4, 4, 8, logFactorials), 1e-5);
+        assertEquals(1.0, PairStatisticsService.fisherExact(0, 0, 4, 8, logFactorials));
+    }
+
+    @Test
+    void benjaminiHochberg_shouldEnforceMonotoneAdjustedValues() {
+        double[] q = PairStatisticsService.benjaminiHochberg(new double[]{0.01, 0.03, 0.04, 0.5});
+
+        assertArrayEquals(new double[]{0.04, 0.04 * 4 / 3, 0.04 * 4 / 3, 0.5}, q, 1e-12);
+    }
+
+    @Test
+    void pairOffset_shouldIndexTheUpperTriangleRowByRow() {
+        assertEquals(0, PairStatisticsService.pairOffset(0, 5));
+        assertEquals(4, PairStatisticsService.pairOffset(1, 5));
+        assertEquals(7, PairStatisticsService.pairOffset(2, 5));
+        assertEquals(10, PairStatisticsService.pairOffset(5, 5));
+    }
+
+    @Test
+    void test_shouldReportMostSignificantPairsFirst() {
+        PairStatisticsReport report = service.test(null, 1, 1.0, 10, null);
+
+        assertEquals(4, report.genes());
+        assertEquals(40, report.samples());
+        assertEquals(6, report.tests());
+        GenePairStatistics first = report.pairs().get(0);
+        assertTrue(first.pValue() <= report.pairs().get(1).pValue());
+        assertTrue(first.qValue() >= first.pValue());
+        GenePairStatistics egfrKras = report.pairs().stream()
+                .filter(pair -> pair.geneA().equals("EGFR") && pair.geneB().equals("KRAS"))
+                .findFirst().orElseThrow();
+        assertEquals(0, egfrKras.both());
+        assertEquals(GenePairStatistics.Tendency.MUTUAL_EXCLUSIVITY, egfrKras.tendency());
+    }
+
+    @Test
+    void test_shouldFilterByTendencyAndGeneSet() {
+        PairStatisticsReport report = service.test(List.of("egfr", "tp53", "kras"), 1, 1.0, 10,
+                GenePairStatistics.Tendency.CO_OCCURRENCE);
+
+        assertEquals(3, report.tests());
+        assertEquals(List.of("EGFR/TP53", "KRAS/TP53"),
+                report.pairs().stream().map(pair -> pair.geneA() + "/" + pair.geneB()).sorted().toList());
+    }
+
+    @Test
+    void test_shouldCacheReportsUntilMatrixChanges() {
+        PairStatisticsReport first = service.test(null, 1, 1.0, 10, null);
+        assertSame(first, service.test(null, 1, 1.0, 10, null));
+
+        matrix.onMutationChanged(new MutationChangedEvent(1, null, new MutationDto(
+                "KRAS", "12", 25245350L, "C", "A", "SNV", "S0", "S0", null, "Lung Adenocarcinoma", null, null)));
+
+        PairStatisticsReport second = service.test(null, 1, 1.0, 10, null);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void test_shouldRejectInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> service.test(null, 0, 0.05, 10, null));
+        assertThrows(IllegalArgumentException.class, () -> service.test(null, 1, 0, 10, null));
+        assertThrows(IllegalArgumentException.class, () -> service.test(null, 1, 0.05, 0, null));
+    }
+
+    @Test
+    void test_shouldShareOneRunBetweenIdenticalRequests_andRejectOthersWhileItRuns() throws Exception {
+        // ARRANGE - a matrix whose first sample set lookup blocks until released
+        MutationMatrix blockingMatrix = mock(MutationMatrix.class);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(blockingMatrix.sampleSets(anyList(), anyInt())).thenAnswer(invocation -> {
+            entered.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return new MutationMatrix.SampleSets(0, 10, List.of(), List.of());
+        });
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PairStatisticsService guarded = new PairStatisticsService(blockingMatrix, meterRegistry, 1, 1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            // ACT
+            Future<PairStatisticsReport> leader = callers.submit(() -> guarded.test(List.of("EGFR"), 1, 0.05, 10, null));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            Future<PairStatisticsReport> follower = callers.submit(() -> guarded.test(List.of("egfr"), 1, 0.05, 10, null));
+            long deadline = System.currentTimeMillis() + 5000;
+            while (meterRegistry.counter("pair.statistics.cache", "result", "joined").count() == 0) {
+                assertTrue(System.currentTimeMillis() < deadline, "follower did not join the run");
+                Thread.onSpinWait();
+            }
+            assertThrows(RejectedExecutionException.class, () -> guarded.test(List.of("KRAS"), 1, 0.05, 10, null));
+            release.countDown();
+
+            // ASSERT
+            PairStatisticsReport report = leader.get(5, TimeUnit.SECONDS);
+            assertSame(report, follower.get(5, TimeUnit.SECONDS));
+            verify(blockingMatrix, times(1)).sampleSets(anyList(), anyInt());
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+            guarded.shutdown();
+        }
+    }
+
+    private static Object[] row(int id, String gene, String sample) {
+        return new Object[]{id, gene, "7", 55191822L, "T", "G", "SNV", null, sample, null, "Lung Adenocarcinoma",
+                null, null};
+    }
+}
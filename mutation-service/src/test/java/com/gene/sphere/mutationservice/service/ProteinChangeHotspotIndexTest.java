@@ -0,0 +1,159 @@
+package com.gene.sphere.mutationservice.service;
+
+import com.gene.sphere.mutationservice.model.MutationDto;
+import com.gene.sphere.mutationservice.model.ProteinChangeEstimate;
+import com.gene.sphere.mutationservice.model.ProteinChangeHotspots;
+import com.gene.sphere.mutationservice.repository.MutationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProteinChangeHotspotIndexTest {
+
+    private MutationRepository mutationRepository;
+    private MutationSnapshotMaintainer maintainer;
+    private ProteinChangeHotspotIndex index;
+
+    @BeforeEach
+    void setUp() {
+        mutationRepository = mock(MutationRepository.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        maintainer = new MutationSnapshotMaintainer(mutationRepository, transactionManager,
+                new SimpleMeterRegistry(), Duration.ZERO);
+        // Two exact hotspots per gene
+        index = new ProteinChangeHotspotIndex(mutationRepository, transactionManager,
+                new SimpleMeterRegistry(), maintainer, 2, 1024, 4);
+        List<Object[]> rows = new ArrayList<>();
+        addRows(rows, "EGFR", "p.E746_A750del", 2);
+        addRows(rows, "EGFR", "p.L858R", 4);
+        addRows(rows, "KRAS", "p.G12C", 5);
+        addRows(rows, "KRAS", "p.G12D", 3);
+        addRows(rows, "KRAS", "p.G13D", 1);
+        addRows(rows, "KRAS", "p.Q61H", 1);
+        addRows(rows, "TP53", null, 3);
+        when(mutationRepository.streamColumns()).thenReturn(rows.stream());
+        maintainer.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        maintainer.shutdown();
+    }
+
+    @Test
+    void rebuild_shouldKeepExactTopNPerGene() {
+        // ACT
+        ProteinChangeHotspots kras = index.hotspots("KRAS", 20, null);
+
+        // ASSERT
+        assertTrue(index.isReady());
+        assertEquals(2, index.geneCount());
+        assertEquals(10, kras.totalMutations());
+        assertEquals(List.of(
+                new ProteinChangeHotspots.Hotspot("p.G12C", 12, 5),
+                new ProteinChangeHotspots.Hotspot("p.G12D", 12, 3)), kras.hotspots());
+        assertTrue(kras.bins().isEmpty());
+    }
+
+    @Test
+    void hotspots_shouldBinAllResidues_includingTheTail() {
+        // ACT
+        ProteinChangeHotspots kras = index.hotspots("KRAS", 1, 10);
+
+        // ASSERT
+        assertEquals(1, kras.hotspots().size());
+        assertEquals(List.of(
+                new ProteinChangeHotspots.PositionBin(11, 20, 9),
+                new ProteinChangeHotspots.PositionBin(61, 70, 1)), kras.bins());
+    }
+
+    @Test
+    void hotspots_shouldRejectNonPositiveBinSize() {
+        assertThrows(IllegalArgumentException.class, () -> index.hotspots("KRAS", 20, 0));
+    }
+
+    @Test
+    void estimate_shouldBeExactForHotspotsAndGenesWithoutTail() {
+        assertEquals(new ProteinChangeEstimate("KRAS", "p.G12C", 5, 0, true), index.estimate("KRAS", "p.G12C"));
+        assertEquals(new ProteinChangeEstimate("EGFR", "p.T790M", 0, 0, true), index.estimate("EGFR", "p.T790M"));
+        assertEquals(new ProteinChangeEstimate("BRAF", "p.V600E", 0, 0, true), index.estimate("BRAF", "p.V600E"));
+    }
+
+    @Test
+    void estimate_shouldBoundTailCountsBySketchAndTailSize() {
+        // ACT
+        ProteinChangeEstimate estimate = index.estimate("KRAS", "p.G13D");
+
+        // ASSERT
+        assertFalse(estimate.exact());
+        assertTrue(estimate.count() >= 1 && estimate.count() <= 2);
+        assertTrue(estimate.maxError() <= estimate.count());
+    }
+
+    @Test
+    void onMutationChanged_shouldUpdateCountsAndPositions() {
+        // ACT
+        index.onMutationChanged(new MutationChangedEvent(1, null, mutation("EGFR", "p.T790M")));
+        index.onMutationChanged(new MutationChangedEvent(2, mutation("KRAS", "p.G12C"), null));
+
+        // ASSERT
+        ProteinChangeHotspots egfr = index.hotspots("EGFR", 20, 1000);
+        assertEquals(7, egfr.totalMutations());
+        assertEquals(List.of("p.L858R", "p.E746_A750del"),
+                egfr.hotspots().stream().map(ProteinChangeHotspots.Hotspot::proteinChange).toList());
+        assertEquals(List.of(new ProteinChangeHotspots.PositionBin(1, 1000, 7)), egfr.bins());
+        assertEquals(new ProteinChangeEstimate("EGFR", "p.T790M", 1, 1, false), index.estimate("EGFR", "p.T790M"));
+        assertEquals(4, index.estimate("KRAS", "p.G12C").count());
+    }
+
+    @Test
+    void recount_shouldPromoteRisingTailChangeWithExactCount() {
+        // ARRANGE
+        when(mutationRepository.countMutationsByProteinChange("KRAS")).thenReturn(List.of(
+                new Object[]{"p.G13D", 6L},
+                new Object[]{"p.G12C", 5L},
+                new Object[]{"p.G12D", 3L},
+                new Object[]{"p.Q61H", 1L}));
+
+        // ACT
+        index.recount("KRAS");
+
+        // ASSERT
+        ProteinChangeHotspots kras = index.hotspots("KRAS", 20, null);
+        assertEquals(15, kras.totalMutations());
+        assertEquals(List.of(
+                new ProteinChangeHotspots.Hotspot("p.G13D", 13, 6),
+                new ProteinChangeHotspots.Hotspot("p.G12C", 12, 5)), kras.hotspots());
+    }
+
+    @Test
+    void proteinPosition_shouldParseFirstResidue() {
+        assertEquals(12, ProteinChangeHotspotIndex.proteinPosition("p.G12C"));
+        assertEquals(746, ProteinChangeHotspotIndex.proteinPosition("p.E746_A750del"));
+        assertEquals(12, ProteinChangeHotspotIndex.proteinPosition("p.Gly12Cys"));
+        assertEquals(123, ProteinChangeHotspotIndex.proteinPosition("p.X123_splice"));
+        assertNull(ProteinChangeHotspotIndex.proteinPosition("p.?"));
+    }
+
+    private static MutationDto mutation(String gene, String proteinChange) {
+        return new MutationDto(gene, "7", 55191822L, "G", "T", "SNV",
+                "TCGA-05-4244", "TCGA-05-4244-01", proteinChange,
+                "Lung Adenocarcinoma", "Pathogenic", null);
+    }
+
+    private static void addRows(List<Object[]> rows, String gene, String proteinChange, int count) {
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{rows.size() + 1, gene, "12", 25398284L, "C", "A", "SNV", "PATIENT-1", "SAMPLE-1",
+                    proteinChange, "Lung Adenocarcinoma", null, null});
+        }
+    }
+}